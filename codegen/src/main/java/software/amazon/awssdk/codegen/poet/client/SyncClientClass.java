@@ -58,6 +58,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
+import software.amazon.awssdk.core.metrics.ApiCallMetricCollectors;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricPublisher;
@@ -258,8 +259,9 @@ public class SyncClientClass implements ClassSpec {
                             List.class,
                             MetricPublisher.class,
                             opModel.getInput().getVariableName())
-              .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : $1T.create($3S)",
-                            MetricCollector.class, NoOpMetricCollector.class, "ApiCall");
+              .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : "
+                            + "$3T.create(clientConfiguration)",
+                            MetricCollector.class, NoOpMetricCollector.class, ApiCallMetricCollectors.class);
 
         method.beginControlFlow("try")
                 .addStatement("apiCallMetricCollector.reportMetric($T.$L, $S)",
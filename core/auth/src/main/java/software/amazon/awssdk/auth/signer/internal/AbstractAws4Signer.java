@@ -42,6 +42,7 @@ import software.amazon.awssdk.core.internal.util.HttpChecksumUtils;
 import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
@@ -60,10 +61,10 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final Comparator<Pair<String, List<String>>> CANONICAL_HEADER_ORDER = Comparator.comparing(Pair::left);
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -101,12 +102,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                                    contentChecksum.contentHash(),
                                                                    signingParams.doubleUrlEncode());
 
-        String canonicalRequestString = canonicalRequest.string();
-        String stringToSign = createStringToSign(canonicalRequestString, requestParams);
+        byte[] canonicalRequestHash = canonicalRequest.hash();
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(createStringToSign(canonicalRequestHash, requestParams), signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
                                  buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, canonicalRequest));
@@ -144,12 +144,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         addPreSignInformationToRequest(mutableRequest, canonicalRequest, sanitizedCredentials,
                                        requestParams, expirationInSeconds);
 
-        String string = canonicalRequest.string();
-        String stringToSign = createStringToSign(string, requestParams);
+        byte[] canonicalRequestHash = canonicalRequest.hash();
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(createStringToSign(canonicalRequestHash, requestParams), signingKey);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -214,11 +213,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        long daysSinceEpoch = DateUtils.numberOfDaysSinceEpoch(signingInstant.toEpochMilli());
+        byte[] cachedSigningKey = SIGNER_CACHE.get(credentials.secretAccessKey(), region, service, daysSinceEpoch);
 
-        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
-            return signerKey.getSigningKey();
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -227,7 +226,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 Aws4SignerUtils.formatDateStamp(signingInstant),
                 region,
                 service);
-        SIGNER_CACHE.add(cacheKey, new SignerKey(signingInstant, signingKey));
+        SIGNER_CACHE.put(credentials.secretAccessKey(), region, service, daysSinceEpoch, signingKey);
         return signingKey;
     }
 
@@ -247,39 +246,34 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * Step 2 of the AWS Signature version 4 calculation. Refer to
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
+     *
+     * <p>The string to sign is built in the current thread's {@link CanonicalizationBuffer}, so it must be signed before the
+     * buffer is used again.
      */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        String requestHash = BinaryUtils.toHex(hash(canonicalRequest));
-
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestParams.getFormattedRequestSigningDateTime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestParams.getScope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestHash;
+    private CanonicalizationBuffer createStringToSign(byte[] canonicalRequestHash,
+                                                      Aws4SignerRequestParams requestParams) {
+        CanonicalizationBuffer stringToSign = CanonicalizationBuffer.get();
+        stringToSign.chars()
+                    .append(requestParams.getSigningAlgorithm())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getFormattedRequestSigningDateTime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getScope())
+                    .append(SignerConstant.LINE_SEPARATOR);
+        stringToSign.appendHex(canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
      * http://docs.aws.amazon
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey,
-                    SigningAlgorithm.HmacSHA256);
+    private byte[] computeSignature(CanonicalizationBuffer stringToSign, byte[] signingKey) {
+        return sign(stringToSign, signingKey, SigningAlgorithm.HmacSHA256);
     }
 
     /**
@@ -458,7 +452,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         private final String contentSha256;
         private final boolean doubleUrlEncode;
 
-        private String canonicalRequestString;
         private StringBuilder signedHeaderStringBuilder;
         private List<Pair<String, List<String>>> canonicalHeaders;
         private String signedHeaderString;
@@ -469,23 +462,25 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             this.doubleUrlEncode = doubleUrlEncode;
         }
 
-        public String string() {
-            if (canonicalRequestString == null) {
-                StringBuilder canonicalRequest = new StringBuilder(512);
-                canonicalRequest.append(request.method().toString())
-                                .append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedResourcePath(canonicalRequest, request.encodedPath(), doubleUrlEncode);
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedQueryString(canonicalRequest, request);
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedHeaderString(canonicalRequest, canonicalHeaders());
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
-                                .append(signedHeaderStringBuilder())
-                                .append(SignerConstant.LINE_SEPARATOR)
-                                .append(contentSha256);
-                this.canonicalRequestString = canonicalRequest.toString();
-            }
-            return canonicalRequestString;
+        /**
+         * Returns the SHA-256 hash of the canonical request. The canonical request is built in the current thread's
+         * {@link CanonicalizationBuffer} and digested from there, without creating a {@link String} for it.
+         */
+        public byte[] hash() {
+            CanonicalizationBuffer buffer = CanonicalizationBuffer.get();
+            StringBuilder canonicalRequest = buffer.chars();
+            canonicalRequest.append(request.method().toString())
+                            .append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedResourcePath(canonicalRequest, request.encodedPath(), doubleUrlEncode);
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedQueryString(canonicalRequest, request);
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedHeaderString(canonicalRequest, canonicalHeaders());
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                            .append(signedHeaderStringBuilder())
+                            .append(SignerConstant.LINE_SEPARATOR)
+                            .append(contentSha256);
+            return AbstractAwsSigner.hash(buffer);
         }
 
         public StringBuilder signedHeaderStringBuilder() {
@@ -533,7 +528,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 }
             });
 
-            result.sort(Comparator.comparing(Pair::left));
+            result.sort(CANONICAL_HEADER_ORDER);
 
             return result;
         }
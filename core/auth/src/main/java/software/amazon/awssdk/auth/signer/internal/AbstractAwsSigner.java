@@ -153,6 +153,36 @@ public abstract class AbstractAwsSigner implements Signer {
         }
     }
 
+    /**
+     * Computes an RFC 2104-compliant HMAC signature of the UTF-8 encoding of the characters in the provided buffer.
+     */
+    byte[] sign(CanonicalizationBuffer data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
+        try {
+            Mac mac = algorithm.getMac();
+            mac.init(new SecretKeySpec(key, algorithm.toString()));
+            return data.sign(mac);
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * Hashes the UTF-8 encoding of the characters in the provided buffer using the SHA-256 algorithm.
+     */
+    static byte[] hash(CanonicalizationBuffer data) throws SdkClientException {
+        try {
+            return data.sha256(getMessageDigestInstance());
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to compute hash while signing request: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     /**
      * Hashes the string contents (assumed to be UTF-8) using the SHA-256
      * algorithm.
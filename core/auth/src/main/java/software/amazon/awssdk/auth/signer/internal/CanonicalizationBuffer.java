@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.MessageDigest;
+import javax.crypto.Mac;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A reusable, thread-confined buffer used to build the SigV4 canonical request and string to sign, and feed them to a
+ * {@link MessageDigest} or {@link Mac} without first materializing them as {@link String}s or UTF-8 byte arrays.
+ *
+ * <p>Each thread has a single buffer, which is cleared by {@link #get()}. Callers must finish with the buffer before
+ * calling {@link #get()} again on the same thread.
+ */
+@SdkInternalApi
+final class CanonicalizationBuffer {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Buffers that grew beyond this size for an unusually large request are replaced rather than retained by the thread.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<CanonicalizationBuffer> BUFFERS = ThreadLocal.withInitial(CanonicalizationBuffer::new);
+
+    private StringBuilder chars = new StringBuilder(INITIAL_CAPACITY);
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    private CanonicalizationBuffer() {
+    }
+
+    /**
+     * Returns the current thread's buffer, cleared of any previous content.
+     */
+    static CanonicalizationBuffer get() {
+        CanonicalizationBuffer buffer = BUFFERS.get();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * The characters to be digested or signed.
+     */
+    StringBuilder chars() {
+        return chars;
+    }
+
+    /**
+     * Appends the lower-case hex encoding of the provided bytes.
+     */
+    CanonicalizationBuffer appendHex(byte[] data) {
+        for (byte b : data) {
+            chars.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the UTF-8 encoding of the buffered characters, using the provided digest.
+     */
+    byte[] sha256(MessageDigest messageDigest) {
+        int length = encodeUtf8();
+        messageDigest.update(bytes, 0, length);
+        return messageDigest.digest();
+    }
+
+    /**
+     * Returns the MAC of the UTF-8 encoding of the buffered characters, using the provided initialized MAC.
+     */
+    byte[] sign(Mac mac) {
+        int length = encodeUtf8();
+        mac.update(bytes, 0, length);
+        return mac.doFinal();
+    }
+
+    @Override
+    public String toString() {
+        return chars.toString();
+    }
+
+    private void clear() {
+        if (chars.capacity() > MAX_RETAINED_CAPACITY) {
+            chars = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            chars.setLength(0);
+        }
+
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Encodes the buffered characters into {@link #bytes}, with the same result as {@link String#getBytes} with UTF-8: unpaired
+     * surrogates are replaced with '?'.
+     *
+     * @return The number of encoded bytes.
+     */
+    private int encodeUtf8() {
+        int length = chars.length();
+        // A char encodes to at most 3 bytes, and a surrogate pair (two chars) to 4 bytes
+        ensureByteCapacity(length * 3);
+
+        byte[] out = bytes;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out[position++] = '?';
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    private void ensureByteCapacity(int capacity) {
+        if (bytes.length < capacity) {
+            bytes = new byte[Math.max(capacity, bytes.length * 2)];
+        }
+    }
+}
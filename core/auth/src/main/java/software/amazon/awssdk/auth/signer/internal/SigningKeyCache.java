@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free cache of derived SigV4 signing keys, keyed by secret key, region, service and the day the key was
+ * derived for.
+ *
+ * <p>Entries are stored in a fixed-size table indexed by the hash of the secret key, region and service. Looking up a key is
+ * a single volatile read, and storing a key replaces whatever entry was previously in its slot. This bounds the size of the
+ * cache without locking or tracking insertion order: a collision only costs an additional key derivation, and a key derived
+ * for a new day replaces the key for the previous day.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+
+    /**
+     * @param capacity the minimum number of slots in the cache. This is rounded up to the next power of two.
+     */
+    public SigningKeyCache(int capacity) {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("capacity " + capacity + " must be between 1 and " + MAXIMUM_CAPACITY);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns a copy of the signing key cached for the given parameters, or null if there is no such key.
+     */
+    public byte[] get(String secretKey, String region, String service, long daysSinceEpoch) {
+        Entry entry = table.get(index(secretKey, region, service));
+        if (entry != null && entry.matches(secretKey, region, service, daysSinceEpoch)) {
+            return entry.signingKey.clone();
+        }
+        return null;
+    }
+
+    /**
+     * Caches a copy of the signing key derived for the given parameters, replacing any key that shares its slot.
+     */
+    public void put(String secretKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+        table.set(index(secretKey, region, service), new Entry(secretKey, region, service, daysSinceEpoch, signingKey.clone()));
+    }
+
+    /**
+     * Returns the number of slots in the cache.
+     */
+    public int capacity() {
+        return table.length();
+    }
+
+    private int index(String secretKey, String region, String service) {
+        int hash = 31 * (31 * Objects.hashCode(secretKey) + Objects.hashCode(region)) + Objects.hashCode(service);
+        // Spread the higher bits, which would otherwise never affect the slot
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final long daysSinceEpoch;
+        private final byte[] signingKey;
+
+        private Entry(String secretKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.signingKey = signingKey;
+        }
+
+        private boolean matches(String secretKey, String region, String service, long daysSinceEpoch) {
+            return this.daysSinceEpoch == daysSinceEpoch &&
+                   Objects.equals(this.secretKey, secretKey) &&
+                   Objects.equals(this.region, region) &&
+                   Objects.equals(this.service, service);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class CanonicalizationBufferTest {
+
+    @Test
+    public void sha256_MatchesDigestOfUtf8String() throws Exception {
+        String[] values = {"", "GET\n/\n\nhost:example.com\n", "café € 😀", "unpaired \ud83d and \ude00"};
+        for (String value : values) {
+            CanonicalizationBuffer buffer = CanonicalizationBuffer.get();
+            buffer.chars().append(value);
+
+            MessageDigest expected = MessageDigest.getInstance("SHA-256");
+            assertThat(buffer.sha256(MessageDigest.getInstance("SHA-256")))
+                .isEqualTo(expected.digest(value.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void sign_MatchesMacOfUtf8String() throws Exception {
+        byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+        String value = "AWS4-HMAC-SHA256\n20150830T123600Z\n20150830/us-east-1/iam/aws4_request\né";
+        CanonicalizationBuffer buffer = CanonicalizationBuffer.get();
+        buffer.chars().append(value);
+
+        assertThat(buffer.sign(mac(key))).isEqualTo(mac(key).doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void appendHex_MatchesBinaryUtils() {
+        byte[] data = {0, 1, 15, 16, 127, -128, -1};
+        CanonicalizationBuffer buffer = CanonicalizationBuffer.get();
+        buffer.appendHex(data);
+
+        assertThat(buffer.toString()).isEqualTo(BinaryUtils.toHex(data));
+    }
+
+    @Test
+    public void get_ClearsPreviousContent() {
+        CanonicalizationBuffer.get().chars().append("previous");
+
+        assertThat(CanonicalizationBuffer.get().toString()).isEmpty();
+    }
+
+    @Test
+    public void sha256_LargeContent_MatchesDigestOfUtf8String() throws Exception {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        CanonicalizationBuffer buffer = CanonicalizationBuffer.get();
+        buffer.chars().append(value);
+
+        MessageDigest expected = MessageDigest.getInstance("SHA-256");
+        assertThat(buffer.sha256(MessageDigest.getInstance("SHA-256")))
+            .isEqualTo(expected.digest(value.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Mac mac(byte[] key) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+    private static final byte[] KEY = {1, 2, 3};
+
+    @Test
+    public void get_MatchingEntry_ReturnsCopyOfKey() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-west-2", "s3", 100, KEY);
+
+        byte[] cached = cache.get("secret", "us-west-2", "s3", 100);
+        assertThat(cached).containsExactly(KEY);
+
+        cached[0] = 42;
+        assertThat(cache.get("secret", "us-west-2", "s3", 100)).containsExactly(KEY);
+    }
+
+    @Test
+    public void get_DifferentDay_ReturnsNull() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-west-2", "s3", 100, KEY);
+
+        assertThat(cache.get("secret", "us-west-2", "s3", 101)).isNull();
+    }
+
+    @Test
+    public void get_DifferentSecretRegionOrService_ReturnsNull() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("secret", "us-west-2", "s3", 100, KEY);
+
+        assertThat(cache.get("other-secret", "us-west-2", "s3", 100)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "s3", 100)).isNull();
+        assertThat(cache.get("secret", "us-west-2", "sqs", 100)).isNull();
+    }
+
+    @Test
+    public void put_NewDay_ReplacesPreviousDay() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-west-2", "s3", 100, KEY);
+        cache.put("secret", "us-west-2", "s3", 101, new byte[] {4});
+
+        assertThat(cache.get("secret", "us-west-2", "s3", 100)).isNull();
+        assertThat(cache.get("secret", "us-west-2", "s3", 101)).containsExactly(4);
+    }
+
+    @Test
+    public void put_NullRegionAndService_CanBeRetrieved() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", null, null, 100, KEY);
+
+        assertThat(cache.get("secret", null, null, 100)).containsExactly(KEY);
+    }
+
+    @Test
+    public void capacity_RoundedUpToPowerOfTwo() {
+        assertThat(new SigningKeyCache(1).capacity()).isEqualTo(1);
+        assertThat(new SigningKeyCache(300).capacity()).isEqualTo(512);
+        assertThat(new SigningKeyCache(512).capacity()).isEqualTo(512);
+    }
+
+    @Test
+    public void constructor_NonPositiveCapacity_Throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SigningKeyCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void concurrentAccess_NeverReturnsKeyForOtherParameters() throws Exception {
+        SigningKeyCache cache = new SigningKeyCache(4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String region = "region-" + (i % 16);
+                        byte[] expected = {(byte) (i % 16)};
+                        byte[] cached = cache.get("secret", region, "s3", 100);
+                        if (cached == null) {
+                            cache.put("secret", region, "s3", 100, expected);
+                        } else {
+                            assertThat(cached).containsExactly(expected);
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -111,6 +111,23 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Parse the value starting at the current token of the provided {@link JsonParser} into a {@link JsonNode}. When this
+     * returns, the parser is positioned on the last token of the parsed value.
+     *
+     * <p>This allows callers that are already streaming over a document to materialize a single value as a {@link JsonNode}.
+     */
+    public JsonNode parseCurrentValue(JsonParser parser) {
+        return invokeSafely(() -> {
+            try {
+                return parseToken(parser, parser.currentToken());
+            } catch (Exception e) {
+                removeErrorLocationsIfRequired(e);
+                throw e;
+            }
+        });
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
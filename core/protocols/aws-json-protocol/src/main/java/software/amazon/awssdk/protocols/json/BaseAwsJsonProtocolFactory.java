@@ -75,6 +75,7 @@ public abstract class BaseAwsJsonProtocolFactory {
             .parser(JsonNodeParser.builder()
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
+            .jsonFactory(getSdkFactory().getJsonFactory())
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
     }
@@ -16,9 +16,12 @@
 package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +34,7 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.ListTrait;
@@ -45,11 +49,19 @@ import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
  * Unmarshaller implementation for both JSON RPC and REST JSON services. This class is thread-safe and it is
  * recommended to reuse a single instance for best performance.
+ *
+ * <p>When a {@link JsonFactory} is configured, response payloads are bound to the POJO builders directly from the stream of
+ * JSON tokens, without first building a {@link JsonNode} tree of the whole response. Document members are still materialized
+ * as a {@link JsonNode} before being converted. Without a {@code JsonFactory}, the response is parsed into a {@link JsonNode}
+ * tree with the configured {@link JsonNodeParser}.
  */
 @SdkInternalApi
 @ThreadSafe
@@ -61,16 +73,21 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonFactory jsonFactory;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
+        this.jsonFactory = builder.jsonFactory;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
-        this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.registry = createUnmarshallerRegistry(instantStringToValue,
+                                                   parser != null ? parser : JsonNodeParser.create());
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
-        StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        StringToValueConverter.StringToValue<Instant> instantStringToValue,
+        JsonNodeParser documentParser) {
 
         return JsonUnmarshallerRegistry
             .builder()
@@ -100,6 +117,31 @@ public final class JsonProtocolUnmarshaller {
             .payloadUnmarshaller(MarshallingType.LIST, JsonProtocolUnmarshaller::unmarshallList)
             .payloadUnmarshaller(MarshallingType.MAP, JsonProtocolUnmarshaller::unmarshallMap)
             .payloadUnmarshaller(MarshallingType.DOCUMENT, JsonProtocolUnmarshaller::unmarshallDocument)
+
+            .streamingPayloadUnmarshaller(MarshallingType.STRING,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_STRING))
+            .streamingPayloadUnmarshaller(MarshallingType.INTEGER,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_INTEGER))
+            .streamingPayloadUnmarshaller(MarshallingType.LONG,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_LONG))
+            .streamingPayloadUnmarshaller(MarshallingType.SHORT,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_SHORT))
+            .streamingPayloadUnmarshaller(MarshallingType.FLOAT,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_FLOAT))
+            .streamingPayloadUnmarshaller(MarshallingType.DOUBLE,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
+            .streamingPayloadUnmarshaller(MarshallingType.BIG_DECIMAL,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_BIG_DECIMAL))
+            .streamingPayloadUnmarshaller(MarshallingType.BOOLEAN,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
+            .streamingPayloadUnmarshaller(MarshallingType.SDK_BYTES, JsonProtocolUnmarshaller::streamSdkBytes)
+            .streamingPayloadUnmarshaller(MarshallingType.INSTANT,
+                                          new StreamingSimpleTypeJsonUnmarshaller<>(instantStringToValue))
+            .streamingPayloadUnmarshaller(MarshallingType.SDK_POJO, JsonProtocolUnmarshaller::streamStructured)
+            .streamingPayloadUnmarshaller(MarshallingType.LIST, JsonProtocolUnmarshaller::streamList)
+            .streamingPayloadUnmarshaller(MarshallingType.MAP, JsonProtocolUnmarshaller::streamMap)
+            .streamingPayloadUnmarshaller(MarshallingType.DOCUMENT, (context, jsonParser, field) ->
+                unmarshallDocument(context, documentParser.parseCurrentValue(jsonParser), field))
                 .build();
     }
 
@@ -185,9 +227,124 @@ public final class JsonProtocolUnmarshaller {
         }
     }
 
+    private static SdkBytes streamSdkBytes(JsonUnmarshallerContext context,
+                                           JsonParser jsonParser,
+                                           SdkField<SdkBytes> field) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        // Binary protocols like CBOR may already have the raw bytes extracted.
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return SdkBytes.fromByteArray((byte[]) jsonParser.getEmbeddedObject());
+        } else {
+            // Otherwise decode the JSON string as Base64
+            return TO_SDK_BYTES.convert(scalarText(jsonParser), field);
+        }
+    }
+
+    private static SdkPojo streamStructured(JsonUnmarshallerContext context,
+                                            JsonParser jsonParser,
+                                            SdkField<SdkPojo> field) throws IOException {
+        if (jsonParser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        SdkPojo sdkPojo = field.constructor().get();
+        unmarshallNonPayloadMembers(sdkPojo, context);
+        streamPayloadMembers(sdkPojo, jsonParser, context);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private static Map<String, ?> streamMap(JsonUnmarshallerContext context,
+                                            JsonParser jsonParser,
+                                            SdkField<Map<String, ?>> field) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(JsonToken.START_OBJECT, token, field);
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        JsonStreamingUnmarshaller<Object> unmarshaller = context.getStreamingPayloadUnmarshaller(valueInfo.marshallingType());
+        Map<String, Object> map = new HashMap<>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            map.put(fieldName, unmarshaller.unmarshall(context, jsonParser, valueInfo));
+        }
+        return map;
+    }
+
+    private static List<?> streamList(JsonUnmarshallerContext context,
+                                      JsonParser jsonParser,
+                                      SdkField<List<?>> field) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(JsonToken.START_ARRAY, token, field);
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        JsonStreamingUnmarshaller<Object> unmarshaller = context.getStreamingPayloadUnmarshaller(memberInfo.marshallingType());
+        List<Object> list = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(unmarshaller.unmarshall(context, jsonParser, memberInfo));
+        }
+        return list;
+    }
+
+    private static void expectToken(JsonToken expected, JsonToken actual, SdkField<?> field) {
+        if (actual != expected) {
+            throw SdkClientException.create(String.format("Unable to unmarshall member %s. Expected JSON token %s but found %s.",
+                                                          field.locationName(), expected, actual));
+        }
+    }
+
+    /**
+     * Returns the same text a {@link JsonNode} would return for the current value: the text of scalar values and null for
+     * objects, arrays and embedded objects, whose tokens are skipped.
+     */
+    private static String scalarText(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case VALUE_STRING:
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return jsonParser.getText();
+            default:
+                jsonParser.skipChildren();
+                return null;
+        }
+    }
+
+    private static class StreamingSimpleTypeJsonUnmarshaller<T> implements JsonStreamingUnmarshaller<T> {
+
+        private final StringToValueConverter.StringToValue<T> stringToValue;
+
+        private StreamingSimpleTypeJsonUnmarshaller(StringToValueConverter.StringToValue<T> stringToValue) {
+            this.stringToValue = stringToValue;
+        }
+
+        @Override
+        public T unmarshall(JsonUnmarshallerContext context,
+                            JsonParser jsonParser,
+                            SdkField<T> field) throws IOException {
+            if (jsonParser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return stringToValue.convert(scalarText(jsonParser), field);
+        }
+    }
+
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembersOnUnmarshall(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo) && response.content().isPresent()) {
+            if (jsonFactory != null) {
+                return unmarshallStreaming(sdkPojo, response, response.content().get());
+            }
             JsonNode jsonNode = parser.parse(response.content().get());
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
@@ -222,6 +379,101 @@ public final class JsonProtocolUnmarshaller {
         return unmarshallStructured(sdkPojo, jsonContent, context);
     }
 
+    private <TypeT extends SdkPojo> TypeT unmarshallStreaming(SdkPojo sdkPojo,
+                                                             SdkHttpFullResponse response,
+                                                             InputStream content) {
+        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
+                                                                 .unmarshallerRegistry(registry)
+                                                                 .response(response)
+                                                                 .build();
+        return invokeSafely(() -> {
+            try (JsonParser jsonParser = jsonFactory.createParser(content)
+                                                    .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                return unmarshallStreaming(sdkPojo, jsonParser, context);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT unmarshallStreaming(SdkPojo sdkPojo,
+                                                                     JsonParser jsonParser,
+                                                                     JsonUnmarshallerContext context) throws IOException {
+        JsonToken token = jsonParser.nextToken();
+        unmarshallNonPayloadMembers(sdkPojo, context);
+        SdkField<Object> explicitPayloadMember = null;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isFieldExplicitlyTransferredAsJson(field)) {
+                explicitPayloadMember = (SdkField<Object>) field;
+            }
+        }
+
+        if (token != null) {
+            if (explicitPayloadMember != null) {
+                // The whole body is the value of the payload member
+                JsonStreamingUnmarshaller<Object> unmarshaller =
+                    context.getStreamingPayloadUnmarshaller(explicitPayloadMember.marshallingType());
+                explicitPayloadMember.set(sdkPojo, unmarshaller.unmarshall(context, jsonParser, explicitPayloadMember));
+            } else {
+                streamPayloadMembers(sdkPojo, jsonParser, context);
+            }
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Binds the members that are not read from the payload, e.g. headers and the status code.
+     */
+    @SuppressWarnings("unchecked")
+    private static void unmarshallNonPayloadMembers(SdkPojo sdkPojo, JsonUnmarshallerContext context) {
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        for (int i = 0; i < fields.size(); i++) {
+            SdkField<?> field = fields.get(i);
+            if (!isPayloadLocation(field.location())) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+    }
+
+    /**
+     * Binds the members of the JSON object the parser is positioned on to the payload fields of the given POJO. Unknown
+     * members are skipped. Values that are not JSON objects leave all payload fields unset.
+     */
+    @SuppressWarnings("unchecked")
+    private static void streamPayloadMembers(SdkPojo sdkPojo,
+                                             JsonParser jsonParser,
+                                             JsonUnmarshallerContext context) throws IOException {
+        if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+            jsonParser.skipChildren();
+            return;
+        }
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            SdkField<?> field = findPayloadField(fields, jsonParser.getCurrentName());
+            jsonParser.nextToken();
+            if (field == null) {
+                jsonParser.skipChildren();
+            } else {
+                JsonStreamingUnmarshaller<Object> unmarshaller = context.getStreamingPayloadUnmarshaller(field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, jsonParser, (SdkField<Object>) field));
+            }
+        }
+    }
+
+    private static SdkField<?> findPayloadField(List<SdkField<?>> fields, String locationName) {
+        for (int i = 0; i < fields.size(); i++) {
+            SdkField<?> field = fields.get(i);
+            if (locationName.equals(field.locationName()) && isPayloadLocation(field.location())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPayloadLocation(MarshallLocation location) {
+        return location == MarshallLocation.PAYLOAD || MarshallerUtil.locationInUri(location);
+    }
+
     @SuppressWarnings("unchecked")
     private static <TypeT extends SdkPojo> TypeT unmarshallStructured(SdkPojo sdkPojo,
                                                                       JsonNode jsonContent,
@@ -267,6 +519,7 @@ public final class JsonProtocolUnmarshaller {
     public static final class Builder {
 
         private JsonNodeParser parser;
+        private JsonFactory jsonFactory;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
 
         private Builder() {
@@ -281,6 +534,16 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param jsonFactory JSON factory used to stream response payloads directly into the POJO builders. If not set,
+         * responses are parsed into a {@link JsonNode} tree with the configured {@link #parser(JsonNodeParser)}.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
         /**
          * @param formats The default timestamp formats for each location in the HTTP response.
          * @return This builder for method chaining.
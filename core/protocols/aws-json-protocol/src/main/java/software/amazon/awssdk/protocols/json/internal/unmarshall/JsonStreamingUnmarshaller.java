@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.IOException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+
+/**
+ * Interface for unmarshalling a payload field directly from a stream of JSON tokens, without first building a
+ * {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree.
+ *
+ * @param <T> Type to unmarshall into.
+ */
+@SdkInternalApi
+public interface JsonStreamingUnmarshaller<T> {
+
+    /**
+     * @param context Context containing dependencies and unmarshaller registry.
+     * @param parser JSON parser positioned on the first token of the member's value. When this method returns the parser
+     * must be positioned on the last token of that value.
+     * @param field {@link SdkField} of member being unmarshalled.
+     * @return Unmarshalled value.
+     */
+    T unmarshall(JsonUnmarshallerContext context,
+                 JsonParser parser,
+                 SdkField<T> field) throws IOException;
+
+}
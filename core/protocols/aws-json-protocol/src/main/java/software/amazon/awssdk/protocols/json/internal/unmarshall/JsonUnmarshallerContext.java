@@ -60,6 +60,17 @@ public final class JsonUnmarshallerContext {
         return unmarshallerRegistry.getUnmarshaller(location, marshallingType);
     }
 
+    /**
+     * Lookup the streaming unmarshaller for a payload member of the given type.
+     *
+     * @param marshallingType {@link MarshallingType} of member.
+     * @return Streaming unmarshaller implementation.
+     * @throws SdkClientException if no streaming unmarshaller is found.
+     */
+    public JsonStreamingUnmarshaller<Object> getStreamingPayloadUnmarshaller(MarshallingType<?> marshallingType) {
+        return unmarshallerRegistry.getStreamingPayloadUnmarshaller(marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link JsonUnmarshallerContext}.
      */
@@ -15,19 +15,26 @@
 
 package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
+import java.util.HashMap;
+import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.protocols.core.AbstractMarshallingRegistry;
 
 /**
- * Registry of {@link JsonUnmarshaller} implementations by location and type.
+ * Registry of {@link JsonUnmarshaller} implementations by location and type, and of {@link JsonStreamingUnmarshaller}
+ * implementations for payload members by type.
  */
 @SdkInternalApi
 final class JsonUnmarshallerRegistry extends AbstractMarshallingRegistry {
 
+    private final Map<MarshallingType<?>, JsonStreamingUnmarshaller<?>> streamingPayloadUnmarshallers;
+
     private JsonUnmarshallerRegistry(Builder builder) {
         super(builder);
+        this.streamingPayloadUnmarshallers = new HashMap<>(builder.streamingPayloadUnmarshallers);
     }
 
     @SuppressWarnings("unchecked")
@@ -35,6 +42,24 @@ final class JsonUnmarshallerRegistry extends AbstractMarshallingRegistry {
         return (JsonUnmarshaller<Object>) get(marshallLocation, marshallingType);
     }
 
+    /**
+     * Get a registered streaming unmarshaller for a payload member of the given type.
+     *
+     * @param marshallingType Type of registered unmarshaller.
+     * @return Registered streaming unmarshaller.
+     * @throws SdkClientException if no streaming unmarshaller is registered for the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonStreamingUnmarshaller<Object> getStreamingPayloadUnmarshaller(MarshallingType<T> marshallingType) {
+        JsonStreamingUnmarshaller<?> unmarshaller = streamingPayloadUnmarshallers.get(marshallingType);
+        if (unmarshaller == null) {
+            throw SdkClientException.create(String.format("No streaming unmarshaller of type %s registered for location %s.",
+                                                          marshallingType,
+                                                          MarshallLocation.PAYLOAD.name()));
+        }
+        return (JsonStreamingUnmarshaller<Object>) unmarshaller;
+    }
+
     /**
      * @return Builder instance to construct a {@link JsonUnmarshallerRegistry}.
      */
@@ -47,6 +72,8 @@ final class JsonUnmarshallerRegistry extends AbstractMarshallingRegistry {
      */
     public static final class Builder extends AbstractMarshallingRegistry.Builder {
 
+        private final Map<MarshallingType<?>, JsonStreamingUnmarshaller<?>> streamingPayloadUnmarshallers = new HashMap<>();
+
         private Builder() {
         }
 
@@ -56,6 +83,12 @@ final class JsonUnmarshallerRegistry extends AbstractMarshallingRegistry {
             return this;
         }
 
+        public <T> Builder streamingPayloadUnmarshaller(MarshallingType<T> marshallingType,
+                                                        JsonStreamingUnmarshaller<T> unmarshaller) {
+            streamingPayloadUnmarshallers.put(marshallingType, unmarshaller);
+            return this;
+        }
+
         public <T> Builder headerUnmarshaller(MarshallingType<T> marshallingType,
                                               JsonUnmarshaller<T> marshaller) {
             register(MarshallLocation.HEADER, marshallingType, marshaller);
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonProtocolUnmarshallerTest {
+
+    private static final String JSON = "{\"String\":\"foo\",\"Integer\":42,\"Unknown\":{\"a\":[1,{\"b\":2}]},"
+                                       + "\"List\":[\"a\",null,\"b\"],\"Map\":{\"k1\":\"v1\",\"k2\":\"v2\"},"
+                                       + "\"Nested\":{\"String\":\"bar\",\"Nested\":null},"
+                                       + "\"Document\":{\"x\":[true,1.5,\"y\",null]}}";
+
+    private static final JsonProtocolUnmarshaller TREE_UNMARSHALLER =
+        JsonProtocolUnmarshaller.builder()
+                                .parser(JsonNodeParser.create())
+                                .defaultTimestampFormats(Collections.emptyMap())
+                                .build();
+
+    private static final JsonProtocolUnmarshaller STREAMING_UNMARSHALLER =
+        JsonProtocolUnmarshaller.builder()
+                                .parser(JsonNodeParser.create())
+                                .jsonFactory(JsonNodeParser.DEFAULT_JSON_FACTORY)
+                                .defaultTimestampFormats(Collections.emptyMap())
+                                .build();
+
+    @Test
+    public void streaming_bindsAllMemberTypes() throws Exception {
+        TestPojo pojo = STREAMING_UNMARSHALLER.unmarshall(new TestPojo(), response(JSON));
+
+        assertThat(pojo.stringMember).isEqualTo("foo");
+        assertThat(pojo.integerMember).isEqualTo(42);
+        assertThat(pojo.listMember).containsExactly("a", null, "b");
+        assertThat(pojo.mapMember).containsOnly(entry("k1", "v1"), entry("k2", "v2"));
+        assertThat(pojo.nestedMember.stringMember).isEqualTo("bar");
+        assertThat(pojo.nestedMember.nestedMember).isNull();
+        assertThat(pojo.documentMember.asMap().get("x").asList()).hasSize(4);
+        assertThat(pojo.headerMember).isEqualTo("header-value");
+    }
+
+    @Test
+    public void streaming_matchesTreeUnmarshalling() throws Exception {
+        TestPojo streamed = STREAMING_UNMARSHALLER.unmarshall(new TestPojo(), response(JSON));
+        TestPojo tree = TREE_UNMARSHALLER.unmarshall(new TestPojo(), response(JSON));
+
+        assertThat(streamed).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    @Test
+    public void streaming_emptyBody_onlyBindsHeaders() throws Exception {
+        TestPojo pojo = STREAMING_UNMARSHALLER.unmarshall(new TestPojo(), response(""));
+
+        assertThat(pojo.stringMember).isNull();
+        assertThat(pojo.listMember).isNull();
+        assertThat(pojo.headerMember).isEqualTo("header-value");
+    }
+
+    private static SdkHttpFullResponse response(String body) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(new StringInputStream(body)))
+                                  .build();
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+
+        private static final SdkField<String> STRING_FIELD = payloadField(MarshallingType.STRING, "String")
+            .setter((o, v) -> ((TestPojo) o).stringMember = v).build();
+
+        private static final SdkField<Integer> INTEGER_FIELD = payloadField(MarshallingType.INTEGER, "Integer")
+            .setter((o, v) -> ((TestPojo) o).integerMember = v).build();
+
+        private static final SdkField<List<String>> LIST_FIELD = TestPojo.<List<String>>payloadField(MarshallingType.LIST, "List")
+            .setter((o, v) -> ((TestPojo) o).listMember = v)
+            .traits(ListTrait.builder().memberFieldInfo(payloadField(MarshallingType.STRING, "member").build()).build())
+            .build();
+
+        private static final SdkField<Map<String, String>> MAP_FIELD =
+            TestPojo.<Map<String, String>>payloadField(MarshallingType.MAP, "Map")
+                .setter((o, v) -> ((TestPojo) o).mapMember = v)
+                .traits(MapTrait.builder().valueFieldInfo(payloadField(MarshallingType.STRING, "value").build()).build())
+                .build();
+
+        private static final SdkField<SdkPojo> NESTED_FIELD = payloadField(MarshallingType.SDK_POJO, "Nested")
+            .setter((o, v) -> ((TestPojo) o).nestedMember = (TestPojo) v)
+            .constructor(TestPojo::new)
+            .build();
+
+        private static final SdkField<Document> DOCUMENT_FIELD = payloadField(MarshallingType.DOCUMENT, "Document")
+            .setter((o, v) -> ((TestPojo) o).documentMember = v).build();
+
+        private static final SdkField<String> HEADER_FIELD =
+            SdkField.builder(MarshallingType.STRING)
+                    .memberName("x-amz-header")
+                    .getter(o -> null)
+                    .setter((o, v) -> ((TestPojo) o).headerMember = v)
+                    .traits(LocationTrait.builder().location(MarshallLocation.HEADER).locationName("x-amz-header").build())
+                    .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(
+            Arrays.asList(STRING_FIELD, INTEGER_FIELD, LIST_FIELD, MAP_FIELD, NESTED_FIELD, DOCUMENT_FIELD, HEADER_FIELD));
+
+        private String stringMember;
+        private Integer integerMember;
+        private List<String> listMember;
+        private Map<String, String> mapMember;
+        private TestPojo nestedMember;
+        private Document documentMember;
+        private String headerMember;
+
+        private static <T> SdkField.Builder<T> payloadField(MarshallingType<? super T> type, String locationName) {
+            return SdkField.<T>builder(type)
+                           .memberName(locationName)
+                           .getter(o -> null)
+                           .traits(LocationTrait.builder()
+                                                .location(MarshallLocation.PAYLOAD)
+                                                .locationName(locationName)
+                                                .build());
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+}
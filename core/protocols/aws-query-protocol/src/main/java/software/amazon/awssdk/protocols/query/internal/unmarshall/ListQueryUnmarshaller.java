@@ -23,9 +23,10 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 @SdkInternalApi
-public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>> {
+public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>>, QueryStreamingUnmarshaller<List<?>> {
 
     @Override
     public List<?> unmarshall(QueryUnmarshallerContext context, List<XmlElement> content, SdkField<List<?>> field) {
@@ -39,6 +40,28 @@ public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>> {
         return list;
     }
 
+    /**
+     * For flattened lists the parser is positioned on a single member and a list containing just that member is returned.
+     * The caller is responsible for concatenating the members of sibling elements.
+     */
+    @Override
+    public List<?> unmarshall(QueryUnmarshallerContext context, XmlStreamParser parser, SdkField<List<?>> field) {
+        ListTrait listTrait = field.getTrait(ListTrait.class);
+        SdkField<Object> memberField = listTrait.memberFieldInfo();
+        QueryStreamingUnmarshaller<Object> unmarshaller = context.getStreamingUnmarshaller(memberField.marshallingType());
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(unmarshaller.unmarshall(context, parser, memberField));
+            return list;
+        }
+
+        // As above, all direct children are members regardless of their name
+        while (parser.nextChildElement()) {
+            list.add(unmarshaller.unmarshall(context, parser, memberField));
+        }
+        return list;
+    }
+
     private List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
         return listTrait.isFlattened() ?
                content :
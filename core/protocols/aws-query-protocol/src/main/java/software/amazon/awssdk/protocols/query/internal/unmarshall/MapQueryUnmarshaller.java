@@ -24,9 +24,11 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 @SdkInternalApi
-public final class MapQueryUnmarshaller implements QueryUnmarshaller<Map<String, ?>> {
+public final class MapQueryUnmarshaller implements QueryUnmarshaller<Map<String, ?>>,
+                                                   QueryStreamingUnmarshaller<Map<String, ?>> {
 
     @Override
     public Map<String, ?> unmarshall(QueryUnmarshallerContext context, List<XmlElement> content, SdkField<Map<String, ?>> field) {
@@ -45,6 +47,49 @@ public final class MapQueryUnmarshaller implements QueryUnmarshaller<Map<String,
         return map;
     }
 
+    /**
+     * For flattened maps the parser is positioned on a single entry and a map containing just that entry is returned. The
+     * caller is responsible for merging the entries of sibling elements.
+     */
+    @Override
+    public Map<String, ?> unmarshall(QueryUnmarshallerContext context, XmlStreamParser parser,
+                                     SdkField<Map<String, ?>> field) {
+        Map<String, Object> map = new HashMap<>();
+        MapTrait mapTrait = field.getTrait(MapTrait.class);
+        if (mapTrait.isFlattened()) {
+            unmarshallEntry(context, parser, mapTrait, map);
+            return map;
+        }
+
+        while (parser.nextChildElement()) {
+            if ("entry".equals(parser.elementName())) {
+                unmarshallEntry(context, parser, mapTrait, map);
+            } else {
+                parser.skipElement();
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallEntry(QueryUnmarshallerContext context, XmlStreamParser parser, MapTrait mapTrait,
+                                 Map<String, Object> map) {
+        SdkField<Object> mapValueSdkField = mapTrait.valueFieldInfo();
+        String key = null;
+        Object value = null;
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            if (mapTrait.keyLocationName().equals(elementName)) {
+                key = parser.readText();
+            } else if (mapTrait.valueLocationName().equals(elementName)) {
+                value = context.getStreamingUnmarshaller(mapValueSdkField.marshallingType())
+                               .unmarshall(context, parser, mapValueSdkField);
+            } else {
+                parser.skipElement();
+            }
+        }
+        map.put(key, value);
+    }
+
     private List<XmlElement> getEntries(List<XmlElement> content, MapTrait mapTrait) {
         return mapTrait.isFlattened() ?
                content :
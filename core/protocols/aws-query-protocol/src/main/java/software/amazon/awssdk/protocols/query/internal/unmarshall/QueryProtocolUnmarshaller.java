@@ -19,6 +19,7 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,21 +27,27 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamFields;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.LookaheadInputStream;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
  * Unmarshaller implementation for AWS/Query and EC2 services.
+ *
+ * <p>Successful responses are bound directly from the XML event stream into the POJO builders. The {@link XmlElement} based
+ * path is still used for errors, which are located and parsed by {@link XmlErrorUnmarshaller} callers.
  */
 @SdkInternalApi
 public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
@@ -63,6 +70,25 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .unmarshaller(MarshallingType.NULL, (context, content, field) -> null)
         .unmarshaller(MarshallingType.SDK_POJO, (context, content, field) ->
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
+        .streamingUnmarshaller(MarshallingType.STRING, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_STRING))
+        .streamingUnmarshaller(MarshallingType.INTEGER, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_INTEGER))
+        .streamingUnmarshaller(MarshallingType.LONG, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_LONG))
+        .streamingUnmarshaller(MarshallingType.SHORT, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_SHORT))
+        .streamingUnmarshaller(MarshallingType.FLOAT, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_FLOAT))
+        .streamingUnmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
+        .streamingUnmarshaller(MarshallingType.BOOLEAN, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
+        .streamingUnmarshaller(MarshallingType.INSTANT,
+                               new SimpleTypeQueryUnmarshaller<>(StringToInstant.create(defaultTimestampFormats())))
+        .streamingUnmarshaller(MarshallingType.SDK_BYTES,
+                               new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_SDK_BYTES))
+        .streamingUnmarshaller(MarshallingType.LIST, new ListQueryUnmarshaller())
+        .streamingUnmarshaller(MarshallingType.MAP, new MapQueryUnmarshaller())
+        .streamingUnmarshaller(MarshallingType.NULL, (context, parser, field) -> {
+            parser.skipElement();
+            return null;
+        })
+        .streamingUnmarshaller(MarshallingType.SDK_POJO, (context, parser, field) ->
+            context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), parser, null))
         .build();
 
     private final boolean hasResultWrapper;
@@ -82,11 +108,81 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
-        XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
+        if (response.content().isPresent()) {
+            LookaheadInputStream content = new LookaheadInputStream(response.content().get());
+            if (!isEmpty(content)) {
+                return unmarshallStreaming(sdkPojo, content);
+            }
+        }
+
+        XmlElement document = XmlElement.empty();
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    private static boolean isEmpty(LookaheadInputStream content) {
+        try {
+            return content.peek() == -1;
+        } catch (IOException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                        LookaheadInputStream content) {
+        QueryUnmarshallerContext unmarshallerContext = QueryUnmarshallerContext.builder()
+                                                                               .registry(UNMARSHALLER_REGISTRY)
+                                                                               .protocolUnmarshaller(this)
+                                                                               .build();
+        XmlStreamParser parser = XmlStreamParser.create(content);
+        try {
+            Map<String, String> metadata = new HashMap<>();
+            if (!hasResultWrapper) {
+                return Pair.of((TypeT) unmarshall(unmarshallerContext, sdkPojo, parser, metadata), metadata);
+            }
+
+            SdkPojo result = null;
+            while (parser.nextChildElement()) {
+                if (readMetadata(parser, metadata)) {
+                    continue;
+                }
+                if (result == null) {
+                    result = unmarshall(unmarshallerContext, sdkPojo, parser, null);
+                } else {
+                    parser.skipElement();
+                }
+            }
+            if (result == null) {
+                result = unmarshall(unmarshallerContext, sdkPojo, (XmlElement) null);
+            }
+            return Pair.of((TypeT) result, metadata);
+        } finally {
+            parser.close();
+        }
+    }
+
+    /**
+     * Reads the element the parser is positioned on into the response metadata if it is a metadata element.
+     *
+     * @return True if the element was consumed as metadata.
+     */
+    private boolean readMetadata(XmlStreamParser parser, Map<String, String> metadata) {
+        String elementName = parser.elementName();
+        if ("ResponseMetadata".equals(elementName)) {
+            while (parser.nextChildElement()) {
+                String key = metadataKeyName(parser.elementName());
+                metadata.put(key, parser.readText());
+            }
+            return true;
+        }
+        if ("requestId".equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, parser.readText());
+            return true;
+        }
+        return false;
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -112,7 +208,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c.elementName()), c.textContent()));
         }
         XmlElement requestId = document.getElementByName("requestId");
         if (requestId != null) {
@@ -121,8 +217,8 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -145,6 +241,42 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    /**
+     * Binds the children of the element the parser is positioned on to the fields of the POJO. Like the {@link XmlElement}
+     * based path, the first element wins for non-flattened members while flattened lists and maps collect every matching
+     * element.
+     *
+     * @param metadata If non-null, response metadata elements that don't match a field are read into this map.
+     */
+    @SuppressWarnings("unchecked")
+    SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser,
+                       Map<String, String> metadata) {
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        Object[] values = new Object[fields.size()];
+        boolean[] bound = new boolean[fields.size()];
+        while (parser.nextChildElement()) {
+            int index = XmlStreamFields.fieldIndex(fields, parser.elementName());
+            if (index < 0 || (bound[index] && !XmlStreamFields.isFlattened(fields.get(index)))) {
+                if (metadata == null || !readMetadata(parser, metadata)) {
+                    parser.skipElement();
+                }
+                continue;
+            }
+
+            SdkField<Object> field = (SdkField<Object>) fields.get(index);
+            Object value = context.getStreamingUnmarshaller(field.marshallingType()).unmarshall(context, parser, field);
+            values[index] = bound[index] ? XmlStreamFields.merge(values[index], value) : value;
+            bound[index] = true;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (bound[i]) {
+                fields.get(i).set(sdkPojo, values[i]);
+            }
+        }
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
     /**
      * @return New {@link Builder} instance.
      */
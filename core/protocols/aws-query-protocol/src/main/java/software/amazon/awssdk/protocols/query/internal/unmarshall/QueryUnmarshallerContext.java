@@ -52,6 +52,17 @@ public final class QueryUnmarshallerContext {
         return registry.getUnmarshaller(marshallLocation, marshallingType);
     }
 
+    /**
+     * Convenience method to get a streaming unmarshaller from the registry.
+     *
+     * @param marshallingType Type of field being unmarshalled.
+     * @param <T> Type of field being unmarshalled.
+     * @return Streaming unmarshaller implementation.
+     */
+    public <T> QueryStreamingUnmarshaller<Object> getStreamingUnmarshaller(MarshallingType<T> marshallingType) {
+        return registry.getStreamingUnmarshaller(marshallingType);
+    }
+
     /**
      * @return New {@link Builder} instance.
      */
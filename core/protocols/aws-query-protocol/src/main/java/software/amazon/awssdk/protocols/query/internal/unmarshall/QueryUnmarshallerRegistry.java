@@ -15,19 +15,26 @@
 
 package software.amazon.awssdk.protocols.query.internal.unmarshall;
 
+import java.util.HashMap;
+import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.protocols.core.AbstractMarshallingRegistry;
 
 /**
- * Registry of {@link QueryUnmarshaller} implementations by location and type.
+ * Registry of {@link QueryUnmarshaller} implementations by location and type, and of {@link QueryStreamingUnmarshaller}
+ * implementations by type.
  */
 @SdkInternalApi
 public final class QueryUnmarshallerRegistry extends AbstractMarshallingRegistry {
 
+    private final Map<MarshallingType<?>, QueryStreamingUnmarshaller<?>> streamingUnmarshallers;
+
     private QueryUnmarshallerRegistry(Builder builder) {
         super(builder);
+        this.streamingUnmarshallers = new HashMap<>(builder.streamingUnmarshallers);
     }
 
     @SuppressWarnings("unchecked")
@@ -35,6 +42,24 @@ public final class QueryUnmarshallerRegistry extends AbstractMarshallingRegistry
         return (QueryUnmarshaller<Object>) super.get(marshallLocation, marshallingType);
     }
 
+    /**
+     * Get a registered streaming unmarshaller for the given type.
+     *
+     * @param marshallingType Type of registered unmarshaller.
+     * @return Registered streaming unmarshaller.
+     * @throws SdkClientException if no streaming unmarshaller is registered for the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> QueryStreamingUnmarshaller<Object> getStreamingUnmarshaller(MarshallingType<T> marshallingType) {
+        QueryStreamingUnmarshaller<?> unmarshaller = streamingUnmarshallers.get(marshallingType);
+        if (unmarshaller == null) {
+            throw SdkClientException.create(String.format("No streaming unmarshaller of type %s registered for location %s.",
+                                                          marshallingType,
+                                                          MarshallLocation.PAYLOAD.name()));
+        }
+        return (QueryStreamingUnmarshaller<Object>) unmarshaller;
+    }
+
     /**
      * @return Builder instance to construct a {@link QueryUnmarshallerRegistry}.
      */
@@ -47,6 +72,8 @@ public final class QueryUnmarshallerRegistry extends AbstractMarshallingRegistry
      */
     public static final class Builder extends AbstractMarshallingRegistry.Builder {
 
+        private final Map<MarshallingType<?>, QueryStreamingUnmarshaller<?>> streamingUnmarshallers = new HashMap<>();
+
         private Builder() {
         }
 
@@ -56,6 +83,12 @@ public final class QueryUnmarshallerRegistry extends AbstractMarshallingRegistry
             return this;
         }
 
+        public <T> Builder streamingUnmarshaller(MarshallingType<T> marshallingType,
+                                                 QueryStreamingUnmarshaller<T> unmarshaller) {
+            streamingUnmarshallers.put(marshallingType, unmarshaller);
+            return this;
+        }
+
         /**
          * @return An immutable {@link QueryUnmarshallerRegistry} object.
          */
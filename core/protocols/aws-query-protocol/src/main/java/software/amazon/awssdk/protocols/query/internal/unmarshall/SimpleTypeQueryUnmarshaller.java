@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 /**
  * Unmarshaller implementation for simple, scalar values.
@@ -27,7 +28,7 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
  * @param <T> Type being unmarshalled.
  */
 @SdkInternalApi
-public final class SimpleTypeQueryUnmarshaller<T> implements QueryUnmarshaller<T> {
+public final class SimpleTypeQueryUnmarshaller<T> implements QueryUnmarshaller<T>, QueryStreamingUnmarshaller<T> {
 
     private final StringToValueConverter.StringToValue<T> stringToValue;
 
@@ -42,4 +43,9 @@ public final class SimpleTypeQueryUnmarshaller<T> implements QueryUnmarshaller<T
         }
         return stringToValue.convert(content.get(0).textContent(), field);
     }
+
+    @Override
+    public T unmarshall(QueryUnmarshallerContext context, XmlStreamParser parser, SdkField<T> field) {
+        return stringToValue.convert(parser.readText(), field);
+    }
 }
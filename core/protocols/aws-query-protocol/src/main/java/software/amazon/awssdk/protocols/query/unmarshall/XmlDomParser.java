@@ -122,6 +122,13 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * @return The hardened {@link XMLInputFactory} for the current thread. Shared with {@link XmlStreamParser}.
+     */
+    static XMLInputFactory xmlInputFactory() {
+        return FACTORY.get();
+    }
+
     /**
      * Disables certain dangerous features that attempt to automatically fetch DTDs
      *
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+
+/**
+ * Helpers shared by the unmarshallers that bind the elements read by an {@link XmlStreamParser} to the fields of a POJO.
+ */
+@SdkProtectedApi
+public final class XmlStreamFields {
+
+    private XmlStreamFields() {
+    }
+
+    /**
+     * Returns the index of the field that is unmarshalled from the provided element, or -1 if there is none.
+     */
+    public static int fieldIndex(List<SdkField<?>> fields, String elementName) {
+        return fieldIndex(fields, elementName, field -> true);
+    }
+
+    /**
+     * Returns the index of the field that is unmarshalled from the provided element, or -1 if there is none.
+     *
+     * @param candidate Only fields matching this predicate are considered. It is evaluated once per field, so it should not
+     * capture the element name.
+     */
+    public static int fieldIndex(List<SdkField<?>> fields, String elementName, Predicate<SdkField<?>> candidate) {
+        // POJOs have few enough members that a linear scan is cheaper than building a lookup map per POJO
+        for (int i = 0; i < fields.size(); i++) {
+            SdkField<?> field = fields.get(i);
+            if (elementName.equals(field.unmarshallLocationName()) && candidate.test(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the field is a flattened list or map, which is unmarshalled from every matching element instead of only
+     * the first one.
+     */
+    public static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    /**
+     * Flattened lists and maps are unmarshalled one element at a time, so their partial values are combined here.
+     *
+     * @return The existing value, with the entries of the provided value added to it.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object merge(Object existing, Object value) {
+        if (existing instanceof List) {
+            ((List<Object>) existing).addAll((List<Object>) value);
+        } else {
+            ((Map<String, Object>) existing).putAll((Map<String, Object>) value);
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Reads an XML document element by element, without first parsing it into an {@link XmlElement} tree. Text content and
+ * attributes are read with the same semantics as {@link XmlDomParser}, so unmarshallers can bind the same values from either
+ * representation.
+ *
+ * <p>Unless stated otherwise, methods expect the parser to be positioned on the start of an element and leave it positioned
+ * on the end of that same element.
+ */
+@SdkProtectedApi
+public final class XmlStreamParser implements SdkAutoCloseable {
+
+    private final XMLStreamReader reader;
+
+    private XmlStreamParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Create a parser for the provided non-empty document, positioned on the start of its root element. Closing the parser
+     * does not close the provided stream.
+     */
+    public static XmlStreamParser create(InputStream inputStream) {
+        try {
+            XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(inputStream);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return new XmlStreamParser(reader);
+                }
+            }
+            throw SdkClientException.create("Could not parse XML response. The document has no root element.");
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * @return Tag name of the element the parser is positioned on.
+     */
+    public String elementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Advance to the next direct child element of the current element. The parser must be positioned either on the start
+     * of the parent element or on the end of a previous child element.
+     *
+     * @return True if the parser is now positioned on the start of a child element, false if it reached the end of the
+     * parent element.
+     */
+    public boolean nextChildElement() {
+        try {
+            while (true) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        return true;
+                    case XMLStreamConstants.END_ELEMENT:
+                        return false;
+                    default:
+                        break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Read the text content of the current element, skipping any nested elements. Like {@link XmlElement#textContent()},
+     * this is the last run of character data directly inside the element, or an empty string if there is none.
+     */
+    public String readText() {
+        try {
+            String text = "";
+            StringBuilder run = null;
+            boolean inRun = false;
+            while (true) {
+                int event = reader.next();
+                if (isCharacters(event)) {
+                    if (!inRun) {
+                        text = reader.getText();
+                        inRun = true;
+                    } else {
+                        // Only pay for a builder when the parser reports the run in several chunks
+                        if (run == null) {
+                            run = new StringBuilder(text);
+                        }
+                        run.append(reader.getText());
+                    }
+                    continue;
+                }
+
+                if (run != null) {
+                    text = run.toString();
+                    run = null;
+                }
+                inRun = false;
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    skipElement();
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    return text;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Skip the current element, including all of its nested elements.
+     */
+    public void skipElement() {
+        try {
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Retrieve an attribute of the current element, keyed the same way as
+     * {@link XmlElement#getOptionalAttributeByName(String)}. This does not move the parser.
+     *
+     * @return The attribute value or null if the element does not have the attribute.
+     */
+    public String getAttribute(String attribute) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (attribute.equals(attributeKey(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse the current element and any nested elements into an {@link XmlElement}. This can be used to fall back to the
+     * DOM representation for parts of a document.
+     */
+    public XmlElement readElement() {
+        try {
+            return parseElement();
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Release the resources of the underlying reader. This does not close the stream the parser was created from.
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Nothing to clean up beyond the parser state, which is discarded anyway
+        }
+    }
+
+    private XmlElement parseElement() throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.put(attributeKey(i), reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        StringBuilder run = null;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                if (run == null) {
+                    run = new StringBuilder();
+                }
+                run.append(reader.getText());
+                continue;
+            }
+
+            if (run != null) {
+                elementBuilder.textContent(run.toString());
+                run = null;
+            }
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementBuilder.addChildElement(parseElement());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return elementBuilder.build();
+            }
+        }
+    }
+
+    private String attributeKey(int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS ||
+               event == XMLStreamConstants.CDATA ||
+               event == XMLStreamConstants.SPACE;
+    }
+
+    private static SdkClientException parseFailure(XMLStreamException e) {
+        return SdkClientException.create("Could not parse XML response.", e);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamFields;
+
+public class XmlStreamFieldsTest {
+
+    private static final SdkField<String> STRING_FIELD = field(MarshallingType.STRING, "String", MarshallLocation.PAYLOAD)
+        .build();
+
+    private static final SdkField<String> HEADER_FIELD = field(MarshallingType.STRING, "Header", MarshallLocation.HEADER)
+        .build();
+
+    private static final SdkField<List<String>> LIST_FIELD =
+        XmlStreamFieldsTest.<List<String>>field(MarshallingType.LIST, "List", MarshallLocation.PAYLOAD)
+            .traits(ListTrait.builder()
+                             .memberFieldInfo(field(MarshallingType.STRING, "member", MarshallLocation.PAYLOAD).build())
+                             .build())
+            .build();
+
+    private static final SdkField<List<String>> FLATTENED_LIST_FIELD =
+        XmlStreamFieldsTest.<List<String>>field(MarshallingType.LIST, "FlattenedList", MarshallLocation.PAYLOAD)
+            .traits(ListTrait.builder()
+                             .isFlattened(true)
+                             .memberFieldInfo(field(MarshallingType.STRING, "member", MarshallLocation.PAYLOAD).build())
+                             .build())
+            .build();
+
+    private static final SdkField<Map<String, String>> FLATTENED_MAP_FIELD =
+        XmlStreamFieldsTest.<Map<String, String>>field(MarshallingType.MAP, "FlattenedMap", MarshallLocation.PAYLOAD)
+            .traits(MapTrait.builder()
+                            .isFlattened(true)
+                            .valueFieldInfo(field(MarshallingType.STRING, "value", MarshallLocation.PAYLOAD).build())
+                            .build())
+            .build();
+
+    private static final List<SdkField<?>> FIELDS =
+        Arrays.asList(STRING_FIELD, HEADER_FIELD, LIST_FIELD, FLATTENED_LIST_FIELD, FLATTENED_MAP_FIELD);
+
+    @Test
+    public void fieldIndex_ReturnsIndexOfFieldUnmarshalledFromElement() {
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "String")).isEqualTo(0);
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "Header")).isEqualTo(1);
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "FlattenedMap")).isEqualTo(4);
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "Unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    public void fieldIndex_SkipsFieldsNotMatchingCandidate() {
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "Header", f -> f.location() == MarshallLocation.PAYLOAD)).isEqualTo(-1);
+        assertThat(XmlStreamFields.fieldIndex(FIELDS, "String", f -> f.location() == MarshallLocation.PAYLOAD)).isEqualTo(0);
+    }
+
+    @Test
+    public void isFlattened_OnlyTrueForFlattenedListsAndMaps() {
+        assertThat(XmlStreamFields.isFlattened(STRING_FIELD)).isFalse();
+        assertThat(XmlStreamFields.isFlattened(LIST_FIELD)).isFalse();
+        assertThat(XmlStreamFields.isFlattened(FLATTENED_LIST_FIELD)).isTrue();
+        assertThat(XmlStreamFields.isFlattened(FLATTENED_MAP_FIELD)).isTrue();
+    }
+
+    @Test
+    public void merge_List_AppendsToExistingList() {
+        List<String> existing = new ArrayList<>(Arrays.asList("a", "b"));
+
+        Object merged = XmlStreamFields.merge(existing, Arrays.asList("c"));
+
+        assertThat(merged).isSameAs(existing);
+        assertThat(existing).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void merge_Map_PutsIntoExistingMap() {
+        Map<String, String> existing = new HashMap<>();
+        existing.put("a", "1");
+        Map<String, String> value = new HashMap<>();
+        value.put("b", "2");
+
+        Object merged = XmlStreamFields.merge(existing, value);
+
+        assertThat(merged).isSameAs(existing);
+        assertThat(existing).containsOnlyKeys("a", "b");
+    }
+
+    private static <T> SdkField.Builder<T> field(MarshallingType<? super T> marshallingType, String name,
+                                                 MarshallLocation location) {
+        return SdkField.<T>builder(marshallingType)
+                       .memberName(name)
+                       .getter(o -> null)
+                       .setter((o, v) -> { })
+                       .traits(LocationTrait.builder().location(location).locationName(name).build());
+    }
+}
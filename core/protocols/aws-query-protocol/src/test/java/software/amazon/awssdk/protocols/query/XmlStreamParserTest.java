@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamParserTest {
+
+    @Test
+    public void create_PositionedOnRootElement() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<!-- comment -->"
+                     + "<Struct><stringMember>stringVal</stringMember></Struct>";
+        XmlStreamParser parser = XmlStreamParser.create(new StringInputStream(xml));
+        assertThat(parser.elementName()).isEqualTo("Struct");
+    }
+
+    @Test
+    public void nextChildElement_VisitsDirectChildrenOnly() {
+        String xml = "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <nested><stringMember>nestedVal</stringMember></nested>"
+                     + " <integerMember>42</integerMember>"
+                     + "</Struct>";
+        XmlStreamParser parser = XmlStreamParser.create(new StringInputStream(xml));
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.elementName()).isEqualTo("stringMember");
+        assertThat(parser.readText()).isEqualTo("stringVal");
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.elementName()).isEqualTo("nested");
+        parser.skipElement();
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.elementName()).isEqualTo("integerMember");
+        assertThat(parser.readText()).isEqualTo("42");
+
+        assertThat(parser.nextChildElement()).isFalse();
+        assertThat(parser.elementName()).isEqualTo("Struct");
+    }
+
+    @Test
+    public void readText_MatchesDomTextContent() {
+        String[] elements = {
+            "<member></member>",
+            "<member>plain</member>",
+            "<member>a &amp; b &lt;c&gt;</member>",
+            "<member><![CDATA[<cdata>]]></member>",
+            "<member>before<child>ignored</child>after</member>",
+            "<member>text<child>ignored</child></member>",
+            "<member>one<!-- comment -->two</member>"
+        };
+
+        for (String element : elements) {
+            XmlElement dom = XmlDomParser.parse(new StringInputStream(element));
+            XmlStreamParser parser = XmlStreamParser.create(new StringInputStream(element));
+            assertThat(parser.readText()).as(element).isEqualTo(dom.textContent());
+        }
+    }
+
+    @Test
+    public void getAttribute_KeyedLikeDomAttributes() {
+        String xml = "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\" plain=\"bar\"/>";
+        XmlStreamParser parser = XmlStreamParser.create(new StringInputStream(xml));
+        XmlElement dom = XmlDomParser.parse(new StringInputStream(xml));
+
+        assertThat(parser.getAttribute("xsi:type")).isEqualTo("foo");
+        assertThat(parser.getAttribute(":plain")).isEqualTo(dom.getOptionalAttributeByName(":plain").get());
+        assertThat(parser.getAttribute("xsi:nil")).isNull();
+    }
+
+    @Test
+    public void readElement_ProducesSameTreeAsDomParser() {
+        String xml = "<Error>"
+                     + " <Code>NoSuchKey</Code>"
+                     + " <Message>The specified key does not exist.</Message>"
+                     + " <Details><Key>a</Key><Key>b</Key></Details>"
+                     + "</Error>";
+        XmlElement dom = XmlDomParser.parse(new StringInputStream(xml));
+        XmlStreamParser parser = XmlStreamParser.create(new StringInputStream(xml));
+        XmlElement streamed = parser.readElement();
+
+        assertThat(streamed.elementName()).isEqualTo(dom.elementName());
+        assertThat(streamed.children()).hasSameSizeAs(dom.children());
+        assertThat(streamed.getElementByName("Code").textContent()).isEqualTo("NoSuchKey");
+        assertThat(streamed.getElementByName("Message").textContent())
+            .isEqualTo(dom.getElementByName("Message").textContent());
+        assertThat(streamed.getElementByName("Details").getElementsByName("Key")).hasSize(2);
+    }
+}
@@ -30,7 +30,7 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -113,13 +113,26 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        XmlStreamParser parser = XmlResponseParserUtils.createStreamParser(sdkPojo, httpFullResponse);
+        if (parser == null) {
+            return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, httpFullResponse)).build();
+        }
+
+        if (!DecorateErrorFromResponseBodyUnmarshaller.ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(parser.elementName())) {
+            // The success response transformer binds the body directly from the parser
+            return context.xmlStreamParser(parser).build();
+        }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        // An error in the body of a 2xx response is unmarshalled from the parsed document, like any other error
+        try {
+            return context.parsedXml(parser.readElement()).build();
+        } finally {
+            parser.close();
+        }
     }
 
     /**
@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 /**
  * A transformer function that takes a parsed XML response and converts it into an {@link AwsResponse}. Used
@@ -51,13 +52,15 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
 
     @Override
     public T apply(AwsXmlUnmarshallingContext context) {
-        return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
+        return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml(), context.xmlStreamParser());
     }
 
     @SuppressWarnings("unchecked")
-    private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
+    private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml, XmlStreamParser xmlStreamParser) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
-        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        T result = xmlStreamParser != null ?
+                   unmarshaller.unmarshall(pojoSupplier.apply(response), xmlStreamParser, response) :
+                   unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
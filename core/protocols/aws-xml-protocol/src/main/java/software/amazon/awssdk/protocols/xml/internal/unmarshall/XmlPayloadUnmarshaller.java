@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 @SdkInternalApi
 public final class XmlPayloadUnmarshaller {
@@ -100,6 +101,86 @@ public final class XmlPayloadUnmarshaller {
                content.get(0).getElementsByName("entry");
     }
 
+    /**
+     * @return A streaming unmarshaller for a simple type that converts the text content of the element with the given converter.
+     */
+    public static <T> XmlStreamingUnmarshaller<T> streamingSimpleType(StringToValueConverter.StringToValue<T> converter) {
+        return (context, parser, field) -> converter.convert(parser.readText(), field);
+    }
+
+    public static SdkPojo streamSdkPojo(XmlUnmarshallerContext context, XmlStreamParser parser, SdkField<SdkPojo> field) {
+        return context.protocolUnmarshaller()
+                      .unmarshall(context, field.constructor().get(), parser);
+    }
+
+    /**
+     * For flattened lists the parser is positioned on a single member and a list containing just that member is returned.
+     * The caller is responsible for concatenating the members of sibling elements.
+     */
+    public static List<?> streamList(XmlUnmarshallerContext context, XmlStreamParser parser, SdkField<List<?>> field) {
+        ListTrait listTrait = field.getTrait(ListTrait.class);
+        SdkField<Object> memberField = listTrait.memberFieldInfo();
+        XmlStreamingUnmarshaller<Object> unmarshaller = context.getStreamingPayloadUnmarshaller(memberField.marshallingType());
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(unmarshaller.unmarshall(context, parser, memberField));
+            return list;
+        }
+
+        String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                       : memberField.locationName();
+        while (parser.nextChildElement()) {
+            if (memberLocation.equals(parser.elementName())) {
+                list.add(unmarshaller.unmarshall(context, parser, memberField));
+            } else {
+                parser.skipElement();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * For flattened maps the parser is positioned on a single entry and a map containing just that entry is returned. The
+     * caller is responsible for merging the entries of sibling elements.
+     */
+    public static Map<String, ?> streamMap(XmlUnmarshallerContext context, XmlStreamParser parser,
+                                           SdkField<Map<String, ?>> field) {
+        Map<String, Object> map = new HashMap<>();
+        MapTrait mapTrait = field.getTrait(MapTrait.class);
+        if (mapTrait.isFlattened()) {
+            streamMapEntry(context, parser, mapTrait, map);
+            return map;
+        }
+
+        while (parser.nextChildElement()) {
+            if ("entry".equals(parser.elementName())) {
+                streamMapEntry(context, parser, mapTrait, map);
+            } else {
+                parser.skipElement();
+            }
+        }
+        return map;
+    }
+
+    private static void streamMapEntry(XmlUnmarshallerContext context, XmlStreamParser parser, MapTrait mapTrait,
+                                       Map<String, Object> map) {
+        SdkField<Object> mapValueSdkField = mapTrait.valueFieldInfo();
+        String key = null;
+        Object value = null;
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            if (mapTrait.keyLocationName().equals(elementName)) {
+                key = parser.readText();
+            } else if (mapTrait.valueLocationName().equals(elementName)) {
+                value = context.getStreamingPayloadUnmarshaller(mapValueSdkField.marshallingType())
+                               .unmarshall(context, parser, mapValueSdkField);
+            } else {
+                parser.skipElement();
+            }
+        }
+        map.put(key, value);
+    }
+
     /**
      * Base payload unmarshaller for simple types of xml protocol
      * @param <T> Type to unmarshall
@@ -24,6 +24,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -38,9 +39,17 @@ import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamFields;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
+/**
+ * Unmarshaller implementation for REST-XML services.
+ *
+ * <p>Successful responses with a payload are bound directly from the XML event stream into the POJO builders. The
+ * {@link XmlElement} based path is used for errors and for responses without a payload to parse.
+ */
 @SdkInternalApi
 public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
@@ -49,6 +58,9 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
+    private static final Predicate<SdkField<?>> IS_PAYLOAD_ELEMENT =
+        field -> field.location() == MarshallLocation.PAYLOAD && !field.containsTrait(XmlAttributeTrait.class);
+
     private XmlProtocolUnmarshaller() {
     }
 
@@ -58,10 +70,49 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        XmlStreamParser parser = XmlResponseParserUtils.createStreamParser(sdkPojo, response);
+        if (parser != null) {
+            return unmarshall(sdkPojo, parser, response);
+        }
         XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshall a successful response from a parser positioned on the root element of its body, as returned by
+     * {@link XmlResponseParserUtils#createStreamParser(SdkPojo, SdkHttpFullResponse)}. The parser is closed once the
+     * document has been read.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XmlStreamParser parser,
+                                                    SdkHttpFullResponse response) {
+        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
+                                                                           .response(response)
+                                                                           .registry(REGISTRY)
+                                                                           .protocolUnmarshaller(this)
+                                                                           .build();
+        try {
+            Optional<SdkField<?>> explicitPayloadMember = sdkPojo.sdkFields().stream()
+                                                                 .filter(this::isExplicitPayloadMember)
+                                                                 .findFirst();
+            if (!explicitPayloadMember.isPresent()) {
+                return (TypeT) unmarshall(unmarshallerContext, sdkPojo, parser);
+            }
+
+            // The root element is the value of the payload member, and the remaining members are bound from elsewhere in
+            // the response
+            SdkField<Object> payloadField = (SdkField<Object>) explicitPayloadMember.get();
+            Object payload = REGISTRY.getStreamingPayloadUnmarshaller(payloadField.marshallingType())
+                                     .unmarshall(unmarshallerContext, parser, payloadField);
+            payloadField.set(sdkPojo, payload);
+            unmarshallNonPayloadMembers(unmarshallerContext, sdkPojo);
+            return (TypeT) build(sdkPojo);
+        } finally {
+            parser.close();
+        }
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -120,6 +171,10 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
@@ -127,6 +182,56 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    /**
+     * Binds the element the parser is positioned on to the POJO. Like the {@link XmlElement} based path, the first element
+     * wins for non-flattened members while flattened lists and maps collect every matching element.
+     */
+    @SuppressWarnings("unchecked")
+    SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser) {
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        unmarshallNonPayloadMembers(context, sdkPojo);
+        for (SdkField<?> field : fields) {
+            if (field.location() == MarshallLocation.PAYLOAD && isAttribute(field)) {
+                String attribute = parser.getAttribute(field.unmarshallLocationName());
+                if (attribute != null) {
+                    field.set(sdkPojo, attribute);
+                }
+            }
+        }
+
+        Object[] values = new Object[fields.size()];
+        boolean[] bound = new boolean[fields.size()];
+        while (parser.nextChildElement()) {
+            int index = XmlStreamFields.fieldIndex(fields, parser.elementName(), IS_PAYLOAD_ELEMENT);
+            if (index < 0 || (bound[index] && !XmlStreamFields.isFlattened(fields.get(index)))) {
+                parser.skipElement();
+                continue;
+            }
+
+            SdkField<Object> field = (SdkField<Object>) fields.get(index);
+            Object value = context.getStreamingPayloadUnmarshaller(field.marshallingType()).unmarshall(context, parser, field);
+            values[index] = bound[index] ? XmlStreamFields.merge(values[index], value) : value;
+            bound[index] = true;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (bound[i]) {
+                fields.get(i).set(sdkPojo, values[i]);
+            }
+        }
+        return build(sdkPojo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unmarshallNonPayloadMembers(XmlUnmarshallerContext context, SdkPojo sdkPojo) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+    }
+
     private boolean isAttribute(SdkField<?> field) {
         return field.containsTrait(XmlAttributeTrait.class);
     }
@@ -170,6 +275,30 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             .payloadUnmarshaller(MarshallingType.SDK_POJO, XmlPayloadUnmarshaller::unmarshallSdkPojo)
             .payloadUnmarshaller(MarshallingType.LIST, XmlPayloadUnmarshaller::unmarshallList)
             .payloadUnmarshaller(MarshallingType.MAP, XmlPayloadUnmarshaller::unmarshallMap)
+
+            .streamingPayloadUnmarshaller(MarshallingType.STRING,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_STRING))
+            .streamingPayloadUnmarshaller(MarshallingType.INTEGER,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_INTEGER))
+            .streamingPayloadUnmarshaller(MarshallingType.LONG,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_LONG))
+            .streamingPayloadUnmarshaller(MarshallingType.SHORT,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_SHORT))
+            .streamingPayloadUnmarshaller(MarshallingType.FLOAT,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_FLOAT))
+            .streamingPayloadUnmarshaller(MarshallingType.DOUBLE,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_DOUBLE))
+            .streamingPayloadUnmarshaller(MarshallingType.BIG_DECIMAL,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_BIG_DECIMAL))
+            .streamingPayloadUnmarshaller(MarshallingType.BOOLEAN,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_BOOLEAN))
+            .streamingPayloadUnmarshaller(MarshallingType.INSTANT,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(INSTANT_STRING_TO_VALUE))
+            .streamingPayloadUnmarshaller(MarshallingType.SDK_BYTES,
+                                          XmlPayloadUnmarshaller.streamingSimpleType(StringToValueConverter.TO_SDK_BYTES))
+            .streamingPayloadUnmarshaller(MarshallingType.SDK_POJO, XmlPayloadUnmarshaller::streamSdkPojo)
+            .streamingPayloadUnmarshaller(MarshallingType.LIST, XmlPayloadUnmarshaller::streamList)
+            .streamingPayloadUnmarshaller(MarshallingType.MAP, XmlPayloadUnmarshaller::streamMap)
             .build();
     }
 }
@@ -28,6 +28,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.LookaheadInputStream;
 
 /**
@@ -72,6 +73,36 @@ public final class XmlResponseParserUtils {
         }
     }
 
+    /**
+     * Open a streaming parser over the XML payload of a successful response, so that it can be unmarshalled without
+     * parsing it into an {@link XmlElement} first. The caller is responsible for closing the returned parser.
+     * @param sdkPojo the SDK builder object associated with the final response
+     * @param response the HTTP response
+     * @return A parser positioned on the root element of the payload, or null if there is no XML payload to read. In
+     * that case the response should be handled with {@link #parse(SdkPojo, SdkHttpFullResponse)}.
+     */
+    public static XmlStreamParser createStreamParser(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        Optional<AbortableInputStream> responseContent = response.content();
+
+        if (!responseContent.isPresent() ||
+            !response.isSuccessful() ||
+            !hasPayloadMembers(sdkPojo) ||
+            getBlobTypePayloadMemberToUnmarshal(sdkPojo).isPresent()) {
+            return null;
+        }
+
+        try {
+            // Make sure there is content in the stream before passing it to the parser.
+            LookaheadInputStream content = new LookaheadInputStream(responseContent.get());
+            if (content.peek() == -1) {
+                return null;
+            }
+            return XmlStreamParser.create(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Gets the Member which is a Payload and which is of Blob Type.
      * @param sdkPojo
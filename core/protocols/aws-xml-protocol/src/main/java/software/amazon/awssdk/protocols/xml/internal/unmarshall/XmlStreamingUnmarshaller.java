@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+
+/**
+ * Interface to unmarshall payload fields for Xml service directly from an {@link XmlStreamParser}. The parser is positioned
+ * on the start of the element holding the value, and must be left on the end of that element.
+ *
+ * @param <T> Type to unmarshall into
+ */
+@SdkInternalApi
+public interface XmlStreamingUnmarshaller<T> {
+
+    T unmarshall(XmlUnmarshallerContext context, XmlStreamParser parser, SdkField<T> field);
+}
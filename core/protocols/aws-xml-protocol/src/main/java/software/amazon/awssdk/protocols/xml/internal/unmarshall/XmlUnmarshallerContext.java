@@ -48,6 +48,10 @@ public final class XmlUnmarshallerContext {
         return registry.getUnmarshaller(marshallLocation, marshallingType);
     }
 
+    public <T> XmlStreamingUnmarshaller<Object> getStreamingPayloadUnmarshaller(MarshallingType<T> marshallingType) {
+        return registry.getStreamingPayloadUnmarshaller(marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link XmlUnmarshallerContext}.
      */
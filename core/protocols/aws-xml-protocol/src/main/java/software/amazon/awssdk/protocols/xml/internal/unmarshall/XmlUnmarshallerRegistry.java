@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import java.util.HashMap;
+import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.protocols.core.AbstractMarshallingRegistry;
@@ -23,8 +26,11 @@ import software.amazon.awssdk.protocols.core.AbstractMarshallingRegistry;
 @SdkInternalApi
 public final class XmlUnmarshallerRegistry extends AbstractMarshallingRegistry {
 
+    private final Map<MarshallingType<?>, XmlStreamingUnmarshaller<?>> streamingPayloadUnmarshallers;
+
     private XmlUnmarshallerRegistry(Builder builder) {
         super(builder);
+        this.streamingPayloadUnmarshallers = new HashMap<>(builder.streamingPayloadUnmarshallers);
     }
 
     @SuppressWarnings("unchecked")
@@ -32,6 +38,24 @@ public final class XmlUnmarshallerRegistry extends AbstractMarshallingRegistry {
         return (XmlUnmarshaller<Object>) get(marshallLocation, marshallingType);
     }
 
+    /**
+     * Get a registered streaming unmarshaller for a payload member of the given type.
+     *
+     * @param marshallingType Type of registered unmarshaller.
+     * @return Registered streaming unmarshaller.
+     * @throws SdkClientException if no streaming unmarshaller is registered for the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> XmlStreamingUnmarshaller<Object> getStreamingPayloadUnmarshaller(MarshallingType<T> marshallingType) {
+        XmlStreamingUnmarshaller<?> unmarshaller = streamingPayloadUnmarshallers.get(marshallingType);
+        if (unmarshaller == null) {
+            throw SdkClientException.create(String.format("No streaming unmarshaller of type %s registered for location %s.",
+                                                          marshallingType,
+                                                          MarshallLocation.PAYLOAD.name()));
+        }
+        return (XmlStreamingUnmarshaller<Object>) unmarshaller;
+    }
+
     /**
      * @return Builder instance to construct a {@link XmlUnmarshallerRegistry}.
      */
@@ -44,6 +68,8 @@ public final class XmlUnmarshallerRegistry extends AbstractMarshallingRegistry {
      */
     public static final class Builder extends AbstractMarshallingRegistry.Builder {
 
+        private final Map<MarshallingType<?>, XmlStreamingUnmarshaller<?>> streamingPayloadUnmarshallers = new HashMap<>();
+
         private Builder() {
         }
 
@@ -53,6 +79,12 @@ public final class XmlUnmarshallerRegistry extends AbstractMarshallingRegistry {
             return this;
         }
 
+        public <T> Builder streamingPayloadUnmarshaller(MarshallingType<T> marshallingType,
+                                                        XmlStreamingUnmarshaller<T> unmarshaller) {
+            streamingPayloadUnmarshallers.put(marshallingType, unmarshaller);
+            return this;
+        }
+
         public <T> Builder headerUnmarshaller(MarshallingType<T> marshallingType,
                                               XmlUnmarshaller<T> marshaller) {
             register(MarshallLocation.HEADER, marshallingType, marshaller);
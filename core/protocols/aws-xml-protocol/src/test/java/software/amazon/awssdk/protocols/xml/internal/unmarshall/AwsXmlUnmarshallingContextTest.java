@@ -27,6 +27,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.utils.StringInputStream;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AwsXmlUnmarshallingContextTest {
@@ -38,6 +40,8 @@ public class AwsXmlUnmarshallingContextTest {
         new ExecutionAttributes().putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, 1);
     private static final ExecutionAttributes EXECUTION_ATTRIBUTES_2 =
         new ExecutionAttributes().putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, 2);
+    private static final XmlStreamParser XML_STREAM_PARSER_1 = XmlStreamParser.create(new StringInputStream("<one/>"));
+    private static final XmlStreamParser XML_STREAM_PARSER_2 = XmlStreamParser.create(new StringInputStream("<two/>"));
 
     @Mock
     private SdkHttpFullResponse mockSdkHttpFullResponse;
@@ -53,6 +57,7 @@ public class AwsXmlUnmarshallingContextTest {
                                          .isResponseSuccess(true)
                                          .sdkHttpFullResponse(mockSdkHttpFullResponse)
                                          .executionAttributes(EXECUTION_ATTRIBUTES_1)
+                                         .xmlStreamParser(XML_STREAM_PARSER_1)
                                          .build();
     }
 
@@ -65,6 +70,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(result.parsedRootXml()).isNull();
         assertThat(result.executionAttributes()).isNull();
         assertThat(result.parsedErrorXml()).isNull();
+        assertThat(result.xmlStreamParser()).isNull();
     }
 
     @Test
@@ -76,6 +82,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(result.parsedRootXml()).isEqualTo(XML_ELEMENT_1);
         assertThat(result.executionAttributes()).isEqualTo(EXECUTION_ATTRIBUTES_1);
         assertThat(result.parsedErrorXml()).isEqualTo(XML_ERROR_ELEMENT_1);
+        assertThat(result.xmlStreamParser()).isEqualTo(XML_STREAM_PARSER_1);
     }
 
     @Test
@@ -105,6 +112,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(maximal().toBuilder().parsedXml(XML_ELEMENT_2).build()).isNotEqualTo(maximal());
         assertThat(maximal().toBuilder().parsedErrorXml(XML_ERROR_ELEMENT_2).build()).isNotEqualTo(maximal());
         assertThat(maximal().toBuilder().executionAttributes(EXECUTION_ATTRIBUTES_2).build()).isNotEqualTo(maximal());
+        assertThat(maximal().toBuilder().xmlStreamParser(XML_STREAM_PARSER_2).build()).isNotEqualTo(maximal());
     }
 
     @Test
@@ -129,6 +137,8 @@ public class AwsXmlUnmarshallingContextTest {
             .isNotEqualTo(maximal().hashCode());
         assertThat(maximal().toBuilder().executionAttributes(EXECUTION_ATTRIBUTES_2).build().hashCode())
             .isNotEqualTo(maximal().hashCode());
+        assertThat(maximal().toBuilder().xmlStreamParser(XML_STREAM_PARSER_2).build().hashCode())
+            .isNotEqualTo(maximal().hashCode());
     }
 
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package software.amazon.awssdk.core;
 
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Path;
+import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.utils.Validate;
@@ -36,10 +37,26 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
     FileTransformerConfiguration> {
     private final FileWriteOption fileWriteOption;
     private final FailureBehavior failureBehavior;
+    private final Long position;
+    private final boolean fsyncOnComplete;
 
     private FileTransformerConfiguration(DefaultBuilder builder) {
         this.fileWriteOption = Validate.paramNotNull(builder.fileWriteOption, "fileWriteOption");
-        this.failureBehavior = Validate.paramNotNull(builder.failureBehavior, "failureBehavior");
+        this.failureBehavior = Validate.paramNotNull(resolveFailureBehavior(builder), "failureBehavior");
+        Validate.isTrue(fileWriteOption != FileWriteOption.WRITE_TO_POSITION || failureBehavior == FailureBehavior.LEAVE,
+                        "The %s file write option can only be used with the %s failure behavior, because the file may be "
+                        + "shared with other writers", FileWriteOption.WRITE_TO_POSITION, FailureBehavior.LEAVE);
+        this.position = builder.position == null ? null : Validate.isNotNegative(builder.position, "position");
+        Validate.isTrue(position == null || fileWriteOption == FileWriteOption.WRITE_TO_POSITION,
+                        "position can only be configured with the %s file write option", FileWriteOption.WRITE_TO_POSITION);
+        this.fsyncOnComplete = Boolean.TRUE.equals(builder.fsyncOnComplete);
+    }
+
+    private static FailureBehavior resolveFailureBehavior(DefaultBuilder builder) {
+        if (builder.failureBehavior == null && builder.fileWriteOption == FileWriteOption.WRITE_TO_POSITION) {
+            return FailureBehavior.LEAVE;
+        }
+        return builder.failureBehavior;
     }
 
     /**
@@ -56,6 +73,22 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         return failureBehavior;
     }
 
+    /**
+     * The configured position in the file at which the SDK starts writing, used with {@link FileWriteOption#WRITE_TO_POSITION}.
+     * If not configured, this is null and the SDK writes {@link FileWriteOption#WRITE_TO_POSITION} content from the start of
+     * the file.
+     */
+    public Long position() {
+        return position;
+    }
+
+    /**
+     * Whether the SDK forces the written content to the storage device before completing the transfer.
+     */
+    public boolean fsyncOnComplete() {
+        return fsyncOnComplete;
+    }
+
     /**
      * Create a {@link Builder}, used to create a {@link FileTransformerConfiguration}.
      */
@@ -118,13 +151,21 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         if (fileWriteOption != that.fileWriteOption) {
             return false;
         }
-        return failureBehavior == that.failureBehavior;
+        if (failureBehavior != that.failureBehavior) {
+            return false;
+        }
+        if (fsyncOnComplete != that.fsyncOnComplete) {
+            return false;
+        }
+        return Objects.equals(position, that.position);
     }
 
     @Override
     public int hashCode() {
         int result = fileWriteOption != null ? fileWriteOption.hashCode() : 0;
         result = 31 * result + (failureBehavior != null ? failureBehavior.hashCode() : 0);
+        result = 31 * result + (position != null ? position.hashCode() : 0);
+        result = 31 * result + (fsyncOnComplete ? 1 : 0);
         return result;
     }
 
@@ -145,7 +186,19 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         /**
          * Create a new file if it doesn't exist, otherwise append to the existing file.
          */
-        CREATE_OR_APPEND_TO_EXISTING
+        CREATE_OR_APPEND_TO_EXISTING,
+
+        /**
+         * Write to the existing file at the configured {@link #position()}, leaving the rest of the file untouched. If the file
+         * does not exist, {@link java.nio.file.NoSuchFileException} will be thrown.
+         * <p>
+         * This allows several responses, for example ranged GETs of one large object, to be written to the same file
+         * concurrently. The file can be pre-allocated to its final size, for example with
+         * {@link java.io.RandomAccessFile#setLength(long)}. Because the file may be shared, this can only be combined with
+         * {@link FailureBehavior#LEAVE}, which is also the default failure behavior of this option: deleting the file when one
+         * response fails would also delete the content written by the others.
+         */
+        WRITE_TO_POSITION
     }
 
     /**
@@ -175,17 +228,39 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         Builder fileWriteOption(FileWriteOption fileWriteOption);
 
         /**
-         * Configures the {@link FailureBehavior} in the event of an error
+         * Configures the {@link FailureBehavior} in the event of an error. This must be configured, unless the file write option
+         * is {@link FileWriteOption#WRITE_TO_POSITION}, which defaults to, and only supports, {@link FailureBehavior#LEAVE}.
          *
          * @param failureBehavior the failure behavior
          * @return This object for method chaining.
          */
         Builder failureBehavior(FailureBehavior failureBehavior);
+
+        /**
+         * Configures the position in the file at which to start writing. This can only be configured with
+         * {@link FileWriteOption#WRITE_TO_POSITION}, and defaults to the start of the file.
+         *
+         * @param position the position in the file, in bytes
+         * @return This object for method chaining.
+         */
+        Builder position(Long position);
+
+        /**
+         * Configures whether the SDK should force the written content and file metadata to the storage device, like
+         * {@code fsync}, before completing the transfer. This makes the content durable once the transfer completes, at the
+         * cost of blocking the thread that finishes the write until the device has stored it. Defaults to false.
+         *
+         * @param fsyncOnComplete whether to force the written content to the storage device
+         * @return This object for method chaining.
+         */
+        Builder fsyncOnComplete(Boolean fsyncOnComplete);
     }
 
     private static class DefaultBuilder implements Builder {
         private FileWriteOption fileWriteOption;
         private FailureBehavior failureBehavior;
+        private Long position;
+        private Boolean fsyncOnComplete;
 
         private DefaultBuilder() {
         }
@@ -193,6 +268,8 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         private DefaultBuilder(FileTransformerConfiguration fileTransformerConfiguration) {
             this.fileWriteOption = fileTransformerConfiguration.fileWriteOption;
             this.failureBehavior = fileTransformerConfiguration.failureBehavior;
+            this.position = fileTransformerConfiguration.position;
+            this.fsyncOnComplete = fileTransformerConfiguration.fsyncOnComplete;
         }
 
         @Override
@@ -207,6 +284,18 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder position(Long position) {
+            this.position = position;
+            return this;
+        }
+
+        @Override
+        public Builder fsyncOnComplete(Boolean fsyncOnComplete) {
+            this.fsyncOnComplete = fsyncOnComplete;
+            return this;
+        }
+
         @Override
         public FileTransformerConfiguration build() {
             return new FileTransformerConfiguration(this);
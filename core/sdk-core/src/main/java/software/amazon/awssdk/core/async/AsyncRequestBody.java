@@ -16,16 +16,19 @@
 package software.amazon.awssdk.core.async;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.internal.async.ByteArrayAsyncRequestBody;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
+import software.amazon.awssdk.core.internal.async.InputStreamAsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.utils.BinaryUtils;
 
@@ -160,6 +163,39 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
         return fromBytes(BinaryUtils.copyAllBytesFrom(byteBuffer));
     }
 
+    /**
+     * Creates an {@link AsyncRequestBody} that streams data from an {@link InputStream}. The stream is read on the provided
+     * executor, one chunk at a time and only as fast as the HTTP client requests data, so the content is never buffered in
+     * memory as a whole. Reads from the stream may block the executor's threads.
+     *
+     * <p>The stream can only be read once, so requests using this body cannot be retried. The stream is not closed by the
+     * SDK.
+     *
+     * @param inputStream The stream to read the content from.
+     * @param contentLength The number of bytes to read from the stream, or null if the length is not known. If provided, the
+     * rest of the stream is not read, and the request fails if the stream ends earlier.
+     * @param executor The executor to read the stream on.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the provided stream.
+     */
+    static AsyncRequestBody fromInputStream(InputStream inputStream, Long contentLength, Executor executor) {
+        return new InputStreamAsyncRequestBody(inputStream, contentLength, executor);
+    }
+
+    /**
+     * Creates a {@link BlockingOutputStreamAsyncRequestBody} whose content is written to an {@link java.io.OutputStream} by
+     * the application, after the request has been started. Writes to the stream block until the HTTP client requests more
+     * data, so the content is never buffered in memory as a whole.
+     *
+     * <p>The content can only be written once, so requests using this body cannot be retried.
+     *
+     * @param contentLength The number of bytes that will be written, or null if the length is not known.
+     * @return A request body whose {@link BlockingOutputStreamAsyncRequestBody#outputStream()} the content is written to.
+     * @see BlockingOutputStreamAsyncRequestBody
+     */
+    static BlockingOutputStreamAsyncRequestBody forBlockingOutputStream(Long contentLength) {
+        return new BlockingOutputStreamAsyncRequestBody(contentLength);
+    }
+
     /**
      * Creates a {@link AsyncRequestBody} with no content.
      *
@@ -23,9 +23,11 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.internal.async.ByteArrayAsyncResponseTransformer;
 import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.core.internal.async.InputStreamResponseTransformer;
 import software.amazon.awssdk.core.internal.async.PublisherAsyncResponseTransformer;
 import software.amazon.awssdk.utils.Validate;
 
@@ -232,4 +234,39 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
     static <ResponseT extends SdkResponse> AsyncResponseTransformer<ResponseT, ResponsePublisher<ResponseT>> toPublisher() {
         return new PublisherAsyncResponseTransformer<>();
     }
+
+    /**
+     * Creates an {@link AsyncResponseTransformer} that allows reading the response body content as a blocking
+     * {@link ResponseInputStream}, which also contains a reference to the {@link SdkResponse} returned by the service.
+     * <p>
+     * Only a small, bounded number of buffers are requested from the service ahead of the reader, and more are requested only
+     * as the stream is read, so the memory used does not grow with the size of the response. This makes it possible to pass
+     * large responses to code that expects an {@link java.io.InputStream}, without buffering the whole body like
+     * {@link #toBytes()} does.
+     * <p>
+     * When this transformer is used with an async client, the {@link CompletableFuture} that the client returns will be completed
+     * once the {@link SdkResponse} is available and the response body <i>begins</i> streaming. Reads from the returned stream
+     * block until data is available, so the stream should not be read on the thread that completes the future, or on an
+     * event loop thread. The stream should be closed to release the underlying connection; closing it before it is fully read
+     * cancels the rest of the download.
+     * <p>
+     * Example usage:
+     * <pre>
+     * {@code
+     *     CompletableFuture<ResponseInputStream<GetObjectResponse>> responseFuture =
+     *         s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBlockingInputStream());
+     *     try (ResponseInputStream<GetObjectResponse> responseStream = responseFuture.join()) {
+     *         System.out.println(responseStream.response());
+     *         legacyParser.parse(responseStream);
+     *     }
+     * }
+     * </pre>
+     *
+     * @param <ResponseT> Pojo response type.
+     * @return AsyncResponseTransformer instance.
+     */
+    static <ResponseT extends SdkResponse>
+            AsyncResponseTransformer<ResponseT, ResponseInputStream<ResponseT>> toBlockingInputStream() {
+        return new InputStreamResponseTransformer<>();
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link AsyncRequestBody} whose content is written by the application to an {@link OutputStream}. This
+ * is created using {@link AsyncRequestBody#forBlockingOutputStream(Long)}.
+ * <p>
+ * Data written to the {@link #outputStream()} is sent in chunks of up to 16 KiB. Writing a chunk blocks until the HTTP client
+ * requests more data, so at most one chunk is buffered by the stream, regardless of the size of the content. The stream must
+ * be closed once all data has been written, to complete the request.
+ * <p>
+ * The request must be started before data is written: a write waits up to 10 seconds for the HTTP client to subscribe to the
+ * body, and fails with an {@link IllegalStateException} otherwise. If the request fails or is cancelled while data is being
+ * written, writes fail with an {@link IOException}. A write also fails the request, and throws an {@link IOException}, if the
+ * HTTP client does not request more data within 60 seconds. If a content length was given, closing the stream fails the
+ * request, and throws an {@link IOException}, unless exactly that many bytes were written.
+ * <p>
+ * The content can only be written once, so this body can only be subscribed to once, and the request cannot be retried.
+ *
+ * <pre>{@code
+ * BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+ * CompletableFuture<PutObjectResponse> response = s3.putObject(request, body);
+ * try (OutputStream outputStream = body.outputStream()) {
+ *     // Write the content to outputStream
+ * }
+ * response.join();
+ * }</pre>
+ */
+@SdkPublicApi
+public final class BlockingOutputStreamAsyncRequestBody implements AsyncRequestBody {
+    private static final Logger log = Logger.loggerFor(BlockingOutputStreamAsyncRequestBody.class);
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final Duration DEFAULT_SUBSCRIBE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_DEMAND_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Long contentLength;
+    private final Duration subscribeTimeout;
+    private final Duration demandTimeout;
+    private final AtomicBoolean subscribeCalled = new AtomicBoolean();
+    private final ChunkingOutputStream outputStream = new ChunkingOutputStream();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+
+    // Guarded by lock
+    private Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private boolean cancelled;
+    private RuntimeException pendingError;
+
+    BlockingOutputStreamAsyncRequestBody(Long contentLength) {
+        this(contentLength, DEFAULT_SUBSCRIBE_TIMEOUT, DEFAULT_DEMAND_TIMEOUT);
+    }
+
+    @SdkTestInternalApi
+    BlockingOutputStreamAsyncRequestBody(Long contentLength, Duration subscribeTimeout, Duration demandTimeout) {
+        this.contentLength = contentLength == null ? null : Validate.isNotNegative(contentLength, "contentLength");
+        this.subscribeTimeout = subscribeTimeout;
+        this.demandTimeout = demandTimeout;
+    }
+
+    /**
+     * @return The stream to write the content of the request to. Writes block until the HTTP client is ready for more data.
+     * The stream must be closed once all the content has been written. The stream is not thread safe.
+     */
+    public OutputStream outputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.ofNullable(contentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        // As per rule 1.9 we must throw NullPointerException if the subscriber parameter is null
+        if (s == null) {
+            throw new NullPointerException("Subscription MUST NOT be null.");
+        }
+
+        // As per 2.13, this method must return normally (i.e. not throw).
+        try {
+            if (!subscribeCalled.compareAndSet(false, true)) {
+                s.onSubscribe(new NoopSubscription(s));
+                s.onError(new IllegalStateException("The content of this request body can only be written once, so the "
+                                                    + "request cannot be retried."));
+                return;
+            }
+
+            s.onSubscribe(new OutputStreamSubscription());
+            lock.lock();
+            try {
+                subscriber = s;
+                stateChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        } catch (Throwable ex) {
+            log.error(() -> s + " violated the Reactive Streams rule 2.13 by throwing an exception from onSubscribe.", ex);
+        }
+    }
+
+    /**
+     * Wait until the subscriber can receive another signal. Only called by the writing thread, which is therefore the only
+     * thread that signals the subscriber.
+     *
+     * @param forChunk Whether the signal is a chunk, which requires demand, rather than completion.
+     * @return The subscriber to signal.
+     */
+    private Subscriber<? super ByteBuffer> awaitSubscriber(boolean forChunk) throws IOException {
+        Subscriber<? super ByteBuffer> s;
+        RuntimeException error = null;
+        lock.lock();
+        try {
+            long remaining = subscribeTimeout.toNanos();
+            while (subscriber == null) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException("The request was not started within " + subscribeTimeout + " of "
+                                                    + "writing to the output stream. The request must be started before "
+                                                    + "its content is written.");
+                }
+                remaining = stateChanged.awaitNanos(remaining);
+            }
+
+            // Bounded, because the HTTP client may fail the request without cancelling its subscription
+            remaining = demandTimeout.toNanos();
+            while (forChunk && demand == 0 && !cancelled && pendingError == null) {
+                if (remaining <= 0) {
+                    pendingError = new IllegalStateException("The HTTP client did not request more of the content within "
+                                                             + demandTimeout + ".");
+                    break;
+                }
+                remaining = stateChanged.awaitNanos(remaining);
+            }
+
+            if (pendingError != null) {
+                cancelled = true;
+                error = pendingError;
+                pendingError = null;
+            } else if (cancelled) {
+                throw new IOException("The request was cancelled before all of its content was written.");
+            } else if (forChunk) {
+                demand--;
+            }
+            s = subscriber;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the request to be ready for more data.");
+        } finally {
+            lock.unlock();
+        }
+
+        if (error != null) {
+            s.onError(error);
+            throw new IOException("The request was cancelled before all of its content was written.");
+        }
+        return s;
+    }
+
+    private final class OutputStreamSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    pendingError = new IllegalArgumentException("§3.9: non-positive requests are not allowed!");
+                } else {
+                    demand = Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+                }
+                stateChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                stateChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class ChunkingOutputStream extends OutputStream {
+        private byte[] chunk = new byte[CHUNK_SIZE];
+        private int position;
+        private long bytesWritten;
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            chunk[position++] = (byte) b;
+            if (position == chunk.length) {
+                sendChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            Validate.paramNotNull(b, "b");
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            while (len > 0) {
+                int copied = Math.min(len, chunk.length - position);
+                System.arraycopy(b, off, chunk, position, copied);
+                position += copied;
+                off += copied;
+                len -= copied;
+                if (position == chunk.length) {
+                    sendChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            if (position > 0) {
+                sendChunk();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            Subscriber<? super ByteBuffer> s = awaitSubscriber(false);
+            if (contentLength != null && bytesWritten != contentLength) {
+                String message = bytesWritten + " bytes were written to the output stream, but the expected content length "
+                                 + "is " + contentLength + " bytes.";
+                s.onError(new IllegalStateException(message));
+                throw new IOException(message);
+            }
+            s.onComplete();
+        }
+
+        private void sendChunk() throws IOException {
+            Subscriber<? super ByteBuffer> s = awaitSubscriber(true);
+            // The subscriber may hold on to the chunk, so it is handed over rather than reused
+            ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, position);
+            chunk = new byte[CHUNK_SIZE];
+            bytesWritten += position;
+            position = 0;
+            s.onNext(buffer);
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("The output stream is closed.");
+            }
+        }
+    }
+}
@@ -19,6 +19,9 @@ import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.LOW_OVERHEAD_METRIC_COLLECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.OPTIMIZE_FOR_VIRTUAL_THREADS;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SHARED_TIMEOUT_TIMER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.TOKEN_SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
@@ -54,9 +57,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -226,6 +229,12 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         builder.option(API_CALL_ATTEMPT_TIMEOUT, clientOverrideConfiguration.apiCallAttemptTimeout().orElse(null));
         builder.option(DISABLE_HOST_PREFIX_INJECTION,
                        clientOverrideConfiguration.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
+        builder.option(LOW_OVERHEAD_METRIC_COLLECTION,
+                       clientOverrideConfiguration.advancedOption(LOW_OVERHEAD_METRIC_COLLECTION).orElse(null));
+        builder.option(OPTIMIZE_FOR_VIRTUAL_THREADS,
+                       clientOverrideConfiguration.advancedOption(OPTIMIZE_FOR_VIRTUAL_THREADS).orElse(null));
+        builder.option(SHARED_TIMEOUT_TIMER,
+                       clientOverrideConfiguration.advancedOption(SHARED_TIMEOUT_TIMER).orElse(null));
         builder.option(PROFILE_FILE, clientOverrideConfiguration.defaultProfileFile().orElse(null));
         builder.option(PROFILE_NAME, clientOverrideConfiguration.defaultProfileName().orElse(null));
         builder.option(METRIC_PUBLISHERS, clientOverrideConfiguration.metricPublishers());
@@ -303,7 +312,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
         RetryPolicy retryPolicy = resolveRetryPolicy(config);
         return config.toBuilder()
-                     .option(SCHEDULED_EXECUTOR_SERVICE, resolveScheduledExecutorService())
+                     .option(SCHEDULED_EXECUTOR_SERVICE, resolveScheduledExecutorService(config))
                      .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
                      .option(RETRY_POLICY, retryPolicy)
                      .option(CLIENT_USER_AGENT, resolveClientUserAgent(config, retryPolicy))
@@ -403,9 +412,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such
      * as async retry attempts and timeout task.
      */
-    private ScheduledExecutorService resolveScheduledExecutorService() {
-        return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder()
+    private ScheduledExecutorService resolveScheduledExecutorService(SdkClientConfiguration config) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(5, new ThreadFactoryBuilder()
             .threadNamePrefix("sdk-ScheduledExecutor").build());
+
+        // Cancelled timeout tasks otherwise stay queued until their deadline. With many concurrent calls, e.g. from virtual
+        // threads, that is one queued task per recently completed call.
+        if (Boolean.TRUE.equals(config.option(OPTIMIZE_FOR_VIRTUAL_THREADS))) {
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        return executor;
     }
 
     /**
@@ -60,6 +60,45 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * When metrics are enabled, collect them with a collector that stores the metrics the SDK reports in preallocated slots
+     * without locking, instead of the default collector. This reduces the overhead that metric collection adds to each API
+     * call. Metric publishers receive the same metrics either way.
+     *
+     * <p>Customers can set this value to True to enable the behavior.
+     */
+    public static final SdkAdvancedClientOption<Boolean> LOW_OVERHEAD_METRIC_COLLECTION =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Tune the client for applications that make large numbers of concurrent synchronous calls from virtual threads (Java
+     * 21+). When enabled:
+     * <ul>
+     *     <li>Metrics are collected as if {@link #LOW_OVERHEAD_METRIC_COLLECTION} was enabled, so that reporting a metric
+     *     never blocks on a monitor, which would pin the virtual thread to its carrier thread.</li>
+     *     <li>The timeout tasks of API calls that complete before their timeout are removed from the client's scheduler
+     *     immediately, instead of remaining queued until their deadline.</li>
+     * </ul>
+     *
+     * <p>Customers can set this value to True to enable the behavior.
+     */
+    public static final SdkAdvancedClientOption<Boolean> OPTIMIZE_FOR_VIRTUAL_THREADS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Track API call and API call attempt timeouts with a timer wheel that is shared by all clients in the process, instead of
+     * the client's scheduled executor service. Scheduling and cancelling a timeout on the shared timer is a constant-time
+     * operation that does not take a lock, which reduces the overhead timeouts add to each API call when many calls run
+     * concurrently.
+     * <p>
+     * The shared timer checks for expired timeouts every 10 milliseconds, so a timeout can occur up to 10 milliseconds after
+     * it was configured to. It never occurs earlier.
+     *
+     * <p>Customers can set this value to True to enable the behavior.
+     */
+    public static final SdkAdvancedClientOption<Boolean> SHARED_TIMEOUT_TIMER =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
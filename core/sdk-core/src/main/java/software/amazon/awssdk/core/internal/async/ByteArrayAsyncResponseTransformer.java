@@ -15,18 +15,18 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
@@ -47,7 +47,8 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The array is created by the subscriber for this response only, so it does not need to be copied again
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -57,7 +58,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(cf));
+        publisher.subscribe(new BaosSubscriber(cf, contentLength(response)));
     }
 
     @Override
@@ -65,15 +66,63 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
+    /**
+     * Returns the Content-Length of the response, or -1 if it is unknown or too large to fit in an array.
+     */
+    private static long contentLength(Object response) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return -1;
+        }
+        try {
+            return ((SdkResponse) response).sdkHttpResponse()
+                                           .firstMatchingHeader("Content-Length")
+                                           .map(Long::parseLong)
+                                           .filter(length -> length >= 0 && length <= BaosSubscriber.MAX_ARRAY_SIZE)
+                                           .orElse(-1L);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
+        /**
+         * Some VMs reserve header words in an array, so larger arrays may fail to allocate.
+         */
+        static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        /**
+         * The array sized from the expected length, or null if the length is unknown or the content outgrew it.
+         */
+        private byte[] bytes;
+
+        /**
+         * The content received so far, when it is not written into {@link #bytes}. It is copied into a single array of the
+         * exact size once the stream completes.
+         */
+        private List<ByteBuffer> chunks;
+
+        private int size;
+        private boolean done;
 
         private Subscription subscription;
 
         BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
+            this(resultFuture, -1);
+        }
+
+        /**
+         * @param expectedLength The expected number of bytes, or -1 if unknown. When it is known, the content is written
+         * directly into a single array of that size. More or less content than expected is still handled correctly.
+         */
+        BaosSubscriber(CompletableFuture<byte[]> resultFuture, long expectedLength) {
             this.resultFuture = resultFuture;
+            if (expectedLength >= 0) {
+                this.bytes = new byte[(int) expectedLength];
+            } else {
+                this.chunks = new ArrayList<>();
+            }
         }
 
         @Override
@@ -88,19 +137,62 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            if (done) {
+                return;
+            }
+            int length = byteBuffer.remaining();
+            if (length > MAX_ARRAY_SIZE - size) {
+                subscription.cancel();
+                onError(new IllegalStateException("The response is too large to fit in a byte array."));
+                return;
+            }
+            // Read from a duplicate so that the position of the caller's buffer is left unchanged
+            if (bytes != null && length <= bytes.length - size) {
+                byteBuffer.duplicate().get(bytes, size, length);
+            } else {
+                if (chunks == null) {
+                    // More content than expected, so keep what was received and collect the rest alongside it
+                    chunks = new ArrayList<>();
+                    chunks.add(ByteBuffer.wrap(bytes, 0, size));
+                    bytes = null;
+                }
+                byte[] chunk = new byte[length];
+                byteBuffer.duplicate().get(chunk);
+                chunks.add(ByteBuffer.wrap(chunk));
+            }
+            size += length;
             subscription.request(1);
         }
 
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            done = true;
+            bytes = null;
+            chunks = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            if (done) {
+                return;
+            }
+            done = true;
+            resultFuture.complete(result());
+        }
+
+        private byte[] result() {
+            if (chunks == null) {
+                return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+            }
+            byte[] result = new byte[size];
+            int position = 0;
+            for (ByteBuffer chunk : chunks) {
+                int length = chunk.remaining();
+                chunk.get(result, position, length);
+                position += length;
+            }
+            return result;
         }
     }
 }
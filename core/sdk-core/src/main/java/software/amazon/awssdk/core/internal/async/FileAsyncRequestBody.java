@@ -28,6 +28,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -35,6 +37,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.http.async.ByteBufferLease;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
@@ -66,15 +69,42 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private final int chunkSizeInBytes;
 
+    /**
+     * Offset in the file at which reading starts.
+     */
+    private final long position;
+
+    /**
+     * Number of bytes to read, starting at {@link #position}.
+     */
+    private final long numBytesToRead;
+
+    /**
+     * Chunk buffers shared by every subscription of this body, or null if every chunk is read into a new buffer.
+     */
+    private final ChunkBufferPool bufferPool;
+
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
         this.fileLength = invokeSafely(() -> Files.size(path));
+        this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
+        Validate.isTrue(position <= fileLength, "position (%s) must not be greater than the file length (%s)",
+                        position, fileLength);
+        this.numBytesToRead = builder.numBytesToRead == null
+                              ? fileLength - position
+                              : Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        Validate.isTrue(numBytesToRead <= fileLength - position,
+                        "numBytesToRead (%s) must not read past the end of the file (length %s) when starting at position %s",
+                        numBytesToRead, fileLength, position);
+        int bufferPoolSize = builder.bufferPoolSize == null ? 0 : Validate.isNotNegative(builder.bufferPoolSize,
+                                                                                          "bufferPoolSize");
+        this.bufferPool = bufferPoolSize == 0 ? null : new ChunkBufferPool(chunkSizeInBytes, bufferPoolSize);
     }
 
     @Override
     public Optional<Long> contentLength() {
-        return Optional.of(fileLength);
+        return Optional.of(numBytesToRead);
     }
 
     @Override
@@ -91,7 +121,8 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             // We need to synchronize here because the subscriber could call
             // request() from within onSubscribe which would potentially
             // trigger onNext before onSubscribe is finished.
-            Subscription subscription = new FileSubscription(path, channel, s, chunkSizeInBytes);
+            Subscription subscription = new FileSubscription(path, channel, s, chunkSizeInBytes, position, numBytesToRead,
+                                                             bufferPool);
 
             synchronized (subscription) {
                 s.onSubscribe(subscription);
@@ -139,12 +170,54 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          */
         Builder chunkSizeInBytes(Integer chunkSize);
 
+        /**
+         * Sets the offset in the file at which reading starts. Together with {@link #numBytesToRead(Long)}, this allows
+         * several bodies to send different ranges of the same file concurrently, for example as the parts of a multipart
+         * upload.
+         *
+         * <p>By default, the file is read from the start.</p>
+         *
+         * @param position Offset in the file, in bytes. Must not be greater than the length of the file.
+         * @return This builder for method chaining.
+         */
+        Builder position(Long position);
+
+        /**
+         * Sets the number of bytes to read from the file, starting at the configured {@link #position(Long)}. This is the
+         * content length of the body.
+         *
+         * <p>By default, the file is read until its end.</p>
+         *
+         * @param numBytesToRead Number of bytes to read. Must not read past the end of the file.
+         * @return This builder for method chaining.
+         */
+        Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets the number of chunk buffers to keep for reuse, instead of reading every chunk into a newly allocated buffer.
+         * This bounds the memory retained between chunks to {@code bufferPoolSize * chunkSizeInBytes}, and reduces heap
+         * allocation when sending large files.
+         *
+         * <p>Pooled buffers are only delivered to subscribers that implement {@link ByteBufferLease.LeaseAwareSubscriber}, like
+         * the Netty HTTP client does. Such a buffer is reused as soon as the subscriber's {@code onNext} returns, unless the
+         * subscriber called {@link ByteBufferLease#retain()} while handling it. Other subscribers receive a copy of every
+         * chunk.</p>
+         *
+         * <p>By default, buffers are not pooled.</p>
+         *
+         * @param bufferPoolSize Maximum number of buffers to keep for reuse, or 0 to disable pooling.
+         * @return This builder for method chaining.
+         */
+        Builder bufferPoolSize(Integer bufferPoolSize);
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Path path;
         private Integer chunkSizeInBytes;
+        private Long position;
+        private Long numBytesToRead;
+        private Integer bufferPoolSize;
 
         @Override
         public Builder path(Path path) {
@@ -166,6 +239,36 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder position(Long position) {
+            this.position = position;
+            return this;
+        }
+
+        public void setPosition(Long position) {
+            position(position);
+        }
+
+        @Override
+        public Builder numBytesToRead(Long numBytesToRead) {
+            this.numBytesToRead = numBytesToRead;
+            return this;
+        }
+
+        public void setNumBytesToRead(Long numBytesToRead) {
+            numBytesToRead(numBytesToRead);
+        }
+
+        @Override
+        public Builder bufferPoolSize(Integer bufferPoolSize) {
+            this.bufferPoolSize = bufferPoolSize;
+            return this;
+        }
+
+        public void setBufferPoolSize(Integer bufferPoolSize) {
+            bufferPoolSize(bufferPoolSize);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -180,8 +283,9 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private final AsynchronousFileChannel inputChannel;
         private final Subscriber<? super ByteBuffer> subscriber;
         private final int chunkSize;
+        private final ChunkBufferPool bufferPool;
 
-        private final AtomicLong position = new AtomicLong(0);
+        private final AtomicLong position;
         private final AtomicLong remainingBytes = new AtomicLong(0);
         private final long sizeAtStart;
         private final FileTime modifiedTimeAtStart;
@@ -193,14 +297,20 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private FileSubscription(Path path,
                                  AsynchronousFileChannel inputChannel,
                                  Subscriber<? super ByteBuffer> subscriber,
-                                 int chunkSize) throws IOException {
+                                 int chunkSize,
+                                 long position,
+                                 long numBytesToRead,
+                                 ChunkBufferPool bufferPool) throws IOException {
             this.path = path;
             this.inputChannel = inputChannel;
             this.subscriber = subscriber;
             this.chunkSize = chunkSize;
+            this.bufferPool = bufferPool;
+            this.position = new AtomicLong(position);
             this.sizeAtStart = inputChannel.size();
             this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
-            this.remainingBytes.set(Validate.isNotNegative(sizeAtStart, "size"));
+            Validate.isNotNegative(sizeAtStart, "size");
+            this.remainingBytes.set(numBytesToRead);
         }
 
         @Override
@@ -255,7 +365,9 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            // Never read past the requested range, which may end before the end of the file
+            int readSize = (int) Math.min(chunkSize, remainingBytes.get());
+            ByteBuffer buffer = bufferPool == null ? ByteBuffer.allocate(readSize) : bufferPool.acquire(readSize);
             inputChannel.read(buffer, position.get(), buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -283,6 +395,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                                 }
                             }
                         } else {
+                            releaseBuffer(attachment);
                             // Reached the end of the file, notify the subscriber and cleanup
                             closeFile();
                             signalOnComplete();
@@ -295,6 +408,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseBuffer(attachment);
                     signalOnError(exc);
                     closeFile();
                 }
@@ -311,12 +425,22 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
         private void signalOnNext(ByteBuffer attachment) {
             synchronized (this) {
-                if (!done) {
+                if (done) {
+                    releaseBuffer(attachment);
+                } else if (bufferPool == null) {
                     subscriber.onNext(attachment);
+                } else {
+                    ByteBufferLease.publish(attachment, () -> bufferPool.release(attachment), subscriber);
                 }
             }
         }
 
+        private void releaseBuffer(ByteBuffer buffer) {
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+        }
+
         private void signalOnComplete() {
             try {
                 long sizeAtEnd = Files.size(path);
@@ -366,6 +490,36 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    /**
+     * A bounded pool of heap buffers of one chunk each. Buffers are allocated on demand when the pool is empty, and buffers
+     * released while the pool is full are left to the garbage collector.
+     */
+    private static final class ChunkBufferPool {
+        private final int chunkSize;
+        private final BlockingQueue<ByteBuffer> buffers;
+
+        private ChunkBufferPool(int chunkSize, int maxBuffers) {
+            this.chunkSize = chunkSize;
+            this.buffers = new ArrayBlockingQueue<>(maxBuffers);
+        }
+
+        private ByteBuffer acquire(int size) {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer == null) {
+                buffer = ByteBuffer.allocate(chunkSize);
+            }
+            buffer.limit(size);
+            return buffer;
+        }
+
+        private void release(ByteBuffer buffer) {
+            buffer.clear();
+            if (!buffers.offer(buffer)) {
+                log.trace(() -> "Chunk buffer pool is full, discarding buffer");
+            }
+        }
+    }
+
     private static AsynchronousFileChannel openInputChannel(Path path) throws IOException {
         return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
     }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.async;
 
 import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.CREATE_OR_APPEND_TO_EXISTING;
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.IOException;
@@ -37,6 +38,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ByteBufferLease;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -65,6 +67,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     }
 
     private long determineFilePositionToWrite(Path path) {
+        if (configuration.fileWriteOption() == WRITE_TO_POSITION) {
+            return configuration.position() == null ? 0L : configuration.position();
+        }
         if (configuration.fileWriteOption() == CREATE_OR_APPEND_TO_EXISTING) {
             try {
                 return Files.size(path);
@@ -86,6 +91,8 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                                                     StandardOpenOption.TRUNCATE_EXISTING);
             case CREATE_NEW:
                 return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+            case WRITE_TO_POSITION:
+                return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE);
             default:
                 throw new IllegalArgumentException("Unsupported file write option: " + configuration.fileWriteOption());
         }
@@ -112,7 +119,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         // onStream may be called multiple times so reset the file channel every time
         this.fileChannel = invokeSafely(() -> createChannel(path));
         publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
-                                               position));
+                                               position, configuration.fsyncOnComplete()));
     }
 
     @Override
@@ -132,12 +139,13 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
-    static class FileSubscriber implements Subscriber<ByteBuffer> {
+    static class FileSubscriber implements Subscriber<ByteBuffer>, ByteBufferLease.LeaseAwareSubscriber {
         private final AtomicLong position;
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
+        private final boolean fsyncOnComplete;
 
         private volatile boolean writeInProgress = false;
         private volatile boolean closeOnLastWrite = false;
@@ -145,11 +153,17 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod, long startingPosition) {
+            this(fileChannel, path, future, onErrorMethod, startingPosition, false);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
+                       Consumer<Throwable> onErrorMethod, long startingPosition, boolean fsyncOnComplete) {
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
             this.onErrorMethod = onErrorMethod;
             this.position = new AtomicLong(startingPosition);
+            this.fsyncOnComplete = fsyncOnComplete;
         }
 
         @Override
@@ -169,10 +183,11 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            // The write completes after onNext returns, so keep pooled response buffers alive until it does
+            performWrite(byteBuffer, ByteBufferLease.retain());
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable releaseBuffer) {
             writeInProgress = true;
 
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
@@ -181,8 +196,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, releaseBuffer);
                     } else {
+                        releaseBuffer.run();
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -196,6 +212,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseBuffer.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
@@ -222,7 +239,13 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private void close() {
             try {
                 if (fileChannel != null) {
-                    invokeSafely(fileChannel::close);
+                    try {
+                        if (fsyncOnComplete) {
+                            invokeSafely(() -> fileChannel.force(true));
+                        }
+                    } finally {
+                        invokeSafely(fileChannel::close);
+                    }
                 }
                 future.complete(null);
             } catch (RuntimeException exception) {
@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link AsyncRequestBody} that reads its data from an {@link InputStream}. This is created using
+ * {@link AsyncRequestBody#fromInputStream(InputStream, Long, Executor)}.
+ * <p>
+ * The stream is only read on the provided executor, and only when the subscriber has outstanding demand, one chunk of at most
+ * 16 KiB per requested element. At most one read is in progress at a time, so the memory used is bounded by the chunks the
+ * subscriber requested and has not yet released, regardless of the size of the stream.
+ * <p>
+ * The stream can only be read once, so this body can only be subscribed to once. The stream is not closed by this body.
+ */
+@SdkInternalApi
+public final class InputStreamAsyncRequestBody implements AsyncRequestBody {
+    private static final Logger log = Logger.loggerFor(InputStreamAsyncRequestBody.class);
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final InputStream inputStream;
+    private final Long contentLength;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public InputStreamAsyncRequestBody(InputStream inputStream, Long contentLength, Executor executor) {
+        this.inputStream = Validate.paramNotNull(inputStream, "inputStream");
+        this.contentLength = contentLength == null ? null : Validate.isNotNegative(contentLength, "contentLength");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.ofNullable(contentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        // As per rule 1.9 we must throw NullPointerException if the subscriber parameter is null
+        if (s == null) {
+            throw new NullPointerException("Subscription MUST NOT be null.");
+        }
+
+        // As per 2.13, this method must return normally (i.e. not throw).
+        try {
+            if (!subscribed.compareAndSet(false, true)) {
+                s.onSubscribe(new NoopSubscription(s));
+                s.onError(new IllegalStateException("The InputStream of this request body can only be read once, so the "
+                                                    + "request cannot be retried."));
+                return;
+            }
+            InputStreamSubscription subscription = new InputStreamSubscription(s);
+            s.onSubscribe(subscription);
+            subscription.start();
+        } catch (Throwable ex) {
+            log.error(() -> s + " violated the Reactive Streams rule 2.13 by throwing an exception from onSubscribe.", ex);
+        }
+    }
+
+    private final class InputStreamSubscription implements Subscription {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * Whether a drain task is scheduled or running. Only one drain task runs at a time, so the subscriber is signalled
+         * serially, as rule 1.3 requires. Starts as true so that nothing is signalled before onSubscribe returns.
+         */
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+
+        private volatile boolean done;
+        private volatile IllegalArgumentException invalidRequest;
+
+        /**
+         * The number of bytes left to read, or -1 if the content length is unknown. Only accessed by the drain task.
+         */
+        private long remaining;
+
+        private InputStreamSubscription(Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            this.remaining = contentLength == null ? -1 : contentLength;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("§3.9: non-positive requests are not allowed!");
+            } else {
+                demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        /**
+         * Called once onSubscribe has returned, to serve any demand requested from within it.
+         */
+        private void start() {
+            draining.set(false);
+            if (!done && (demand.get() > 0 || invalidRequest != null || remaining == 0)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                signalError(SdkClientException.create("The executor rejected the task to read the InputStream.", e));
+            }
+        }
+
+        private void drain() {
+            do {
+                try {
+                    drainDemand();
+                } finally {
+                    draining.set(false);
+                }
+                // Demand may have arrived after the last check of the loop, while the request() call saw draining as true
+            } while (!done && (demand.get() > 0 || invalidRequest != null) && draining.compareAndSet(false, true));
+        }
+
+        private void drainDemand() {
+            while (!done) {
+                if (invalidRequest != null) {
+                    signalError(invalidRequest);
+                    return;
+                }
+
+                if (remaining == 0) {
+                    signalComplete();
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ByteBuffer chunk;
+                try {
+                    chunk = readChunk();
+                } catch (IOException | RuntimeException e) {
+                    signalError(e);
+                    return;
+                }
+
+                if (chunk == null) {
+                    if (remaining > 0) {
+                        signalError(new IllegalStateException("The InputStream ended after " + (contentLength - remaining)
+                                                              + " bytes, before the expected content length of "
+                                                              + contentLength + " bytes."));
+                    } else {
+                        signalComplete();
+                    }
+                    return;
+                }
+
+                demand.decrementAndGet();
+                subscriber.onNext(chunk);
+            }
+        }
+
+        /**
+         * @return The next chunk of the stream, or null if the stream has ended.
+         */
+        private ByteBuffer readChunk() throws IOException {
+            int chunkSize = remaining < 0 ? CHUNK_SIZE : (int) Math.min(CHUNK_SIZE, remaining);
+            byte[] chunk = new byte[chunkSize];
+            int read = inputStream.read(chunk);
+            if (read < 0) {
+                return null;
+            }
+            if (remaining > 0) {
+                remaining -= read;
+            }
+            return ByteBuffer.wrap(chunk, 0, read);
+        }
+
+        private void signalComplete() {
+            done = true;
+            subscriber.onComplete();
+        }
+
+        private void signalError(Throwable t) {
+            if (!done) {
+                done = true;
+                subscriber.onError(t);
+            }
+        }
+    }
+}
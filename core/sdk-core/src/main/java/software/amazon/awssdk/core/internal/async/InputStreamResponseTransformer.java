@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.AbortableInputStream;
+
+/**
+ * Transforms a {@link ResponseT} and {@link ByteBuffer} {@link SdkPublisher} into a {@link ResponseInputStream} that is
+ * read from the publisher with bounded prefetch.
+ *
+ * @param <ResponseT> Pojo response type.
+ * @see AsyncResponseTransformer#toBlockingInputStream()
+ */
+@SdkInternalApi
+public final class InputStreamResponseTransformer<ResponseT extends SdkResponse>
+    implements AsyncResponseTransformer<ResponseT, ResponseInputStream<ResponseT>> {
+
+    /**
+     * The number of buffers requested ahead of the reader.
+     */
+    private static final int DEFAULT_PREFETCH = 8;
+
+    private final int prefetch;
+
+    private volatile CompletableFuture<ResponseInputStream<ResponseT>> future;
+    private volatile ResponseT response;
+
+    public InputStreamResponseTransformer() {
+        this(DEFAULT_PREFETCH);
+    }
+
+    public InputStreamResponseTransformer(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public CompletableFuture<ResponseInputStream<ResponseT>> prepare() {
+        CompletableFuture<ResponseInputStream<ResponseT>> f = new CompletableFuture<>();
+        this.future = f;
+        return f;
+    }
+
+    @Override
+    public void onResponse(ResponseT response) {
+        this.response = response;
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(prefetch);
+        publisher.subscribe(inputStream);
+        future.complete(new ResponseInputStream<>(response, AbortableInputStream.create(inputStream, inputStream)));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        future.completeExceptionally(error);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Abortable;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link Subscriber} that exposes the {@link ByteBuffer}s it receives as a blocking {@link InputStream}.
+ * <p>
+ * At most {@code prefetch} buffers are requested ahead of the reader, and one more buffer is only requested once the reader
+ * has consumed a buffer completely, so the memory held by this stream is bounded regardless of how large the content is.
+ * <p>
+ * Closing or aborting the stream cancels the subscription.
+ */
+@SdkInternalApi
+public final class InputStreamSubscriber extends InputStream implements Subscriber<ByteBuffer>, Abortable {
+    /**
+     * Marks the end of the stream in the queue. Compared by identity, so it cannot be confused with an empty buffer.
+     */
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+    private static final Logger log = Logger.loggerFor(InputStreamSubscriber.class);
+
+    private final int prefetch;
+    private final BlockingQueue<ByteBuffer> queue;
+    private final Object subscriptionLock = new Object();
+
+    private Subscription subscription;
+    private boolean cancelled;
+
+    private volatile Throwable error;
+    private volatile boolean closed;
+
+    // Only accessed by the reading thread
+    private ByteBuffer current;
+    private boolean done;
+
+    public InputStreamSubscriber(int prefetch) {
+        this.prefetch = Validate.isPositive(prefetch, "prefetch");
+        // One extra slot so that the end of the stream can always be queued
+        this.queue = new ArrayBlockingQueue<>(prefetch + 1);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (subscriptionLock) {
+            if (subscription != null || cancelled) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            s.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(ByteBuffer byteBuffer) {
+        Validate.paramNotNull(byteBuffer, "byteBuffer");
+        if (!queue.offer(byteBuffer)) {
+            // Only possible if the publisher ignores the requested demand
+            cancelSubscription();
+            error = new IllegalStateException("Received more data than was requested.");
+            queue.clear();
+            signalEnd();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        signalEnd();
+    }
+
+    @Override
+    public void onComplete() {
+        signalEnd();
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = nextBuffer();
+        return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Validate.paramNotNull(b, "b");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int read = Math.min(len, buffer.remaining());
+        buffer.get(b, off, read);
+        return read;
+    }
+
+    @Override
+    public int available() {
+        ByteBuffer buffer = current;
+        return buffer == null ? 0 : buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+        abort();
+    }
+
+    @Override
+    public void abort() {
+        closed = true;
+        cancelSubscription();
+        // Release the buffered data and wake up a reader that is waiting for more
+        queue.clear();
+        signalEnd();
+    }
+
+    /**
+     * Returns a buffer with remaining data, blocking until one is available, or {@code null} if the stream has ended.
+     */
+    private ByteBuffer nextBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed.");
+        }
+        while (current == null || !current.hasRemaining()) {
+            if (done) {
+                return endOfStream();
+            }
+            if (current != null) {
+                current = null;
+                requestMore();
+            }
+
+            ByteBuffer next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data.");
+            }
+
+            if (closed) {
+                throw new IOException("The stream is closed.");
+            }
+            if (next == END_OF_STREAM) {
+                done = true;
+                return endOfStream();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private ByteBuffer endOfStream() throws IOException {
+        Throwable t = error;
+        if (t == null) {
+            return null;
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        throw new IOException(t);
+    }
+
+    private void requestMore() {
+        synchronized (subscriptionLock) {
+            if (subscription != null && !cancelled) {
+                subscription.request(1);
+            }
+        }
+    }
+
+    private void cancelSubscription() {
+        synchronized (subscriptionLock) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    private void signalEnd() {
+        // The queue has room for the end of the stream, because at most prefetch buffers are requested ahead of the reader
+        if (!queue.offer(END_OF_STREAM)) {
+            log.warn(() -> "Unable to signal the end of the stream, because the publisher sent more data than was requested.");
+        }
+    }
+}
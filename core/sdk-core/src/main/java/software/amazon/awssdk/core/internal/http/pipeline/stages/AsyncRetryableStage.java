@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.util.OptionalDouble;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.Response;
@@ -40,6 +41,10 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Wrapper around the pipeline for a single request to provide retry, clockskew and request throttling functionality.
+ * <p>
+ * Backoff and the delay imposed by the adaptive retry mode rate limiter are never waited for on a thread. Instead, the next
+ * attempt is scheduled on the client's scheduled executor, so throttled requests do not hold on to any thread while they
+ * wait.
  */
 @SdkInternalApi
 public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
@@ -122,7 +127,8 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                 future.completeExceptionally(SdkClientException.create(errorMessage));
                 return;
             }
-            long tokenAcquireTimeMillis = (long) (tokenAcquireTimeSeconds.getAsDouble() * 1000);
+            // Round up, so that a wait shorter than a millisecond still gives the rate limiter time to refill the token
+            long tokenAcquireTimeMillis = (long) Math.ceil(tokenAcquireTimeSeconds.getAsDouble() * 1000);
 
             if (!backoffDelay.isZero()) {
                 retryableStageHelper.logBackingOff(backoffDelay);
@@ -131,12 +137,24 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             long totalDelayMillis = backoffDelay.toMillis() + tokenAcquireTimeMillis;
 
             if (totalDelayMillis > 0) {
-                scheduledExecutor.schedule(() -> attemptExecute(future), totalDelayMillis, MILLISECONDS);
+                scheduleAttemptExecute(future, totalDelayMillis);
             } else {
                 attemptExecute(future);
             }
         }
 
+        private void scheduleAttemptExecute(CompletableFuture<Response<OutputT>> future, long delayMillis) {
+            ScheduledFuture<?> scheduledAttempt = scheduledExecutor.schedule(() -> {
+                // The call may have been cancelled or timed out while it was waiting. Don't send a request nobody awaits.
+                if (!future.isDone()) {
+                    attemptExecute(future);
+                }
+            }, delayMillis, MILLISECONDS);
+
+            // Release the waiting attempt as soon as the call completes, instead of when its delay expires
+            future.whenComplete((r, t) -> scheduledAttempt.cancel(false));
+        }
+
         private void attemptExecute(CompletableFuture<Response<OutputT>> future) {
             CompletableFuture<Response<OutputT>> responseFuture;
             try {
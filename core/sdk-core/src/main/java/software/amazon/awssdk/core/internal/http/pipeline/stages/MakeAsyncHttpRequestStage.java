@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.SDK_HTTP_EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutScheduler;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
 import java.nio.ByteBuffer;
@@ -24,7 +25,6 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -41,6 +41,7 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
@@ -66,7 +67,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
     private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final Executor futureCompletionExecutor;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutScheduler timeoutScheduler;
     private final Duration apiCallAttemptTimeout;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
@@ -76,7 +77,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = resolveTimeoutScheduler(dependencies.clientConfiguration());
     }
 
     @Override
@@ -214,7 +215,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallAttemptTimeoutException.create(timeoutMillis);
 
         return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
-                                                timeoutExecutor,
+                                                timeoutScheduler,
                                                 exceptionSupplier,
                                                 timeoutMillis);
     }
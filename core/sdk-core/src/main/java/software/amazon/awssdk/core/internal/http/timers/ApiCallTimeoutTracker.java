@@ -15,24 +15,23 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
-import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture}.
+ * Api Call Timeout Tracker to track the {@link TimeoutTask} and its scheduled execution.
  */
 @SdkInternalApi
 public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final TimeoutScheduler.ScheduledTimeout scheduledTimeout;
 
-    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
+    public ApiCallTimeoutTracker(TimeoutTask timeout, TimeoutScheduler.ScheduledTimeout scheduledTimeout) {
         this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+        this.scheduledTimeout = Validate.paramNotNull(scheduledTimeout, "scheduledTimeout");
     }
 
     @Override
@@ -47,9 +46,9 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     @Override
     public void cancel() {
-        // Best-effort attempt to ensure that if the future hasn't started running already, don't run it.
-        future.cancel(false);
-        // Ensure that if the future hasn't executed its timeout logic already, it won't do so.
+        // Best-effort attempt to ensure that if the task hasn't started running already, don't run it.
+        scheduledTimeout.cancel();
+        // Ensure that if the task hasn't executed its timeout logic already, it won't do so.
         timeoutTask.cancel();
     }
 
@@ -0,0 +1,228 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TimeoutScheduler} that keeps timeouts in a hashed timer wheel, in the style of the timer described in "Hashed and
+ * Hierarchical Timing Wheels" by Varghese and Lauck.
+ * <p>
+ * Scheduling a timeout only appends it to a lock-free queue, and cancelling it only flips its state, so both are constant
+ * time and never contend on a lock, unlike the heap of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}. A single
+ * worker thread moves new timeouts into the bucket of the wheel they expire in, and advances the wheel one bucket per tick,
+ * dropping the cancelled timeouts and expiring the due ones in that bucket. Timeouts expire up to one tick late, and never
+ * early.
+ * <p>
+ * Expired tasks run on a separate executor, so that a task that blocks (for example while aborting a request) does not delay
+ * the expiry of other timeouts.
+ */
+@SdkInternalApi
+public final class HashedWheelTimer implements TimeoutScheduler {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final HashedWheelTimer SHARED =
+        new HashedWheelTimer(Duration.ofMillis(10), 512,
+                             Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-expiry")
+                                                                                     .build()));
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor expiryExecutor;
+    private final long startTime = System.nanoTime();
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * The number of ticks the worker has completed. Only accessed by the worker thread.
+     */
+    private long tick;
+
+    @SdkTestInternalApi
+    HashedWheelTimer(Duration tickDuration, int wheelSize, Executor expiryExecutor) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isTrue(wheelSize > 0 && Integer.bitCount(wheelSize) == 1, "wheelSize must be a power of 2");
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.expiryExecutor = Validate.paramNotNull(expiryExecutor, "expiryExecutor");
+    }
+
+    /**
+     * @return The timer shared by every client in the process. Its worker thread is started when the first timeout is
+     * scheduled, and is a daemon thread that runs for the lifetime of the process.
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    @Override
+    public ScheduledTimeout schedule(TimeoutTask task, long timeoutInMillis) {
+        startIfNecessary();
+        Timeout timeout = new Timeout(task, System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis));
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void startIfNecessary() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer")
+                                      .build()
+                                      .newThread(this::runWorker)
+                                      .start();
+        }
+    }
+
+    private void runWorker() {
+        while (true) {
+            try {
+                waitForNextTick();
+                transferNewTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(expiryExecutor);
+                tick++;
+            } catch (InterruptedException e) {
+                log.debug(() -> "Ignoring interrupt of the timeout timer thread.", e);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Unexpected failure in the timeout timer thread.", e);
+            }
+        }
+    }
+
+    private void waitForNextTick() throws InterruptedException {
+        long deadline = tickNanos * (tick + 1);
+        long remaining;
+        while ((remaining = deadline - (System.nanoTime() - startTime)) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) {
+                continue;
+            }
+
+            // Round up, so that a timeout never expires early
+            long expiryTick = Math.max((timeout.deadline + tickNanos - 1) / tickNanos - 1, tick);
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            wheel[(int) (expiryTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A timeout task scheduled on the wheel.
+     */
+    private static final class Timeout implements ScheduledTimeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimeoutTask task;
+        private final long deadline;
+
+        private volatile int state = PENDING;
+
+        // Only accessed by the worker thread
+        private long remainingRounds;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimeoutTask task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void cancel() {
+            STATE_UPDATER.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        private void expire(Executor expiryExecutor) {
+            if (STATE_UPDATER.compareAndSet(this, PENDING, EXPIRED)) {
+                expiryExecutor.execute(task);
+            }
+        }
+    }
+
+    /**
+     * The timeouts that expire in the same slot of the wheel, as a doubly-linked list. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        private void expireTimeouts(Executor expiryExecutor) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state != Timeout.PENDING) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire(expiryExecutor);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -15,23 +15,28 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * {@link TimeoutTask} to be scheduled for synchronous operations.
+ * <p>
+ * The state is guarded by a {@link ReentrantLock} rather than a monitor, so that a virtual thread cancelling this task while
+ * it runs parks instead of pinning its carrier thread.
  */
 @SdkInternalApi
 public final class SyncTimeoutTask implements TimeoutTask {
-    private final Thread threadToInterrupt;
-    private volatile boolean hasExecuted;
-    private volatile boolean isCancelled;
+    // Guards run(), cancel(), and hasExecuted().
+    private final Lock lock = new ReentrantLock();
 
-    // Synchronize calls to run(), cancel(), and hasExecuted().
-    private final Object lock = new Object();
+    private Thread threadToInterrupt;
+    private boolean hasExecuted;
+    private boolean isCancelled;
 
-    private Abortable abortable;
+    private volatile Abortable abortable;
 
     SyncTimeoutTask(Thread threadToInterrupt) {
         this.threadToInterrupt = Validate.paramNotNull(threadToInterrupt, "threadToInterrupt");
@@ -52,7 +57,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void run() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             if (isCancelled) {
                 return;
             }
@@ -62,6 +68,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
             if (abortable != null) {
                 abortable.abort();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -71,8 +79,13 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void cancel() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             isCancelled = true;
+            // The scheduler may keep this task until its deadline, which should not keep the thread reachable
+            threadToInterrupt = null;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -83,8 +96,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public boolean hasExecuted() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             return hasExecuted;
+        } finally {
+            lock.unlock();
         }
     }
 }
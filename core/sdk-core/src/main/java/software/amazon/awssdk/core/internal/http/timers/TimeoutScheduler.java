@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Schedules the {@link TimeoutTask}s that enforce API call and API call attempt timeouts.
+ */
+@SdkInternalApi
+@FunctionalInterface
+public interface TimeoutScheduler {
+
+    /**
+     * Schedule the task to run once the timeout elapses.
+     *
+     * @return A handle that prevents the task from running, if it has not started yet.
+     */
+    ScheduledTimeout schedule(TimeoutTask task, long timeoutInMillis);
+
+    /**
+     * Create a scheduler that schedules each task on the provided executor.
+     */
+    static TimeoutScheduler fromExecutor(ScheduledExecutorService executor) {
+        return (task, timeoutInMillis) -> {
+            ScheduledFuture<?> future = executor.schedule(task, timeoutInMillis, TimeUnit.MILLISECONDS);
+            return () -> future.cancel(false);
+        };
+    }
+
+    /**
+     * A scheduled {@link TimeoutTask}.
+     */
+    @FunctionalInterface
+    interface ScheduledTimeout {
+        /**
+         * Prevent the task from running, if it has not started yet. Has no effect if the task has already started or was
+         * already cancelled.
+         */
+        void cancel();
+    }
+}
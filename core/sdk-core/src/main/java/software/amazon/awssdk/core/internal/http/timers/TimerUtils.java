@@ -18,11 +18,11 @@ package software.amazon.awssdk.core.internal.http.timers;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.OptionalUtils;
 
@@ -37,14 +37,14 @@ public final class TimerUtils {
      * if not otherwise completed before the given timeout.
      *
      * @param completableFuture the completableFuture to be timed
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutScheduler the scheduler to execute the {@link TimeoutTask}
      * @param exceptionSupplier the exception to thrown after timeout
      * @param timeoutInMills the timeout in milliseconds.
      * @param <T> the type of the {@link CompletableFuture}
      * @return a {@link TimeoutTracker}
      */
     public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
-                                                           ScheduledExecutorService timeoutExecutor,
+                                                           TimeoutScheduler timeoutScheduler,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
         if (timeoutInMills <= 0) {
@@ -53,11 +53,8 @@ public final class TimerUtils {
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutScheduler.ScheduledTimeout scheduledTimeout = timeoutScheduler.schedule(timeoutTask, timeoutInMills);
+        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledTimeout);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -67,12 +64,12 @@ public final class TimerUtils {
     /**
      * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
      *
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutScheduler the scheduler to execute the {@link TimeoutTask}
      * @param timeoutInMills the timeout in milliseconds.
      * @param threadToInterrupt the thread to interrupt
      * @return a {@link TimeoutTracker}
      */
-    public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
+    public static TimeoutTracker timeSyncTaskIfNeeded(TimeoutScheduler timeoutScheduler,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
@@ -81,11 +78,19 @@ public final class TimerUtils {
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        return new ApiCallTimeoutTracker(timeoutTask, timeoutScheduler.schedule(timeoutTask, timeoutInMills));
+    }
+
+    /**
+     * Resolve the {@link TimeoutScheduler} a client uses for its API call and API call attempt timeouts.
+     *
+     * @see SdkAdvancedClientOption#SHARED_TIMEOUT_TIMER
+     */
+    public static TimeoutScheduler resolveTimeoutScheduler(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.SHARED_TIMEOUT_TIMER))) {
+            return HashedWheelTimer.shared();
+        }
+        return TimeoutScheduler.fromExecutor(clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE));
     }
 
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
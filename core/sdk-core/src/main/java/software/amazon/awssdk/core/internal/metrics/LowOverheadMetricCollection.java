@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The {@link MetricCollection} created by {@link LowOverheadMetricCollector}. The values of metrics with a slot are indexed by
+ * slot, and they are only copied into lists when they are read.
+ */
+@SdkInternalApi
+final class LowOverheadMetricCollection implements MetricCollection {
+    private final String name;
+    private final Object[] slotValues;
+    private final Map<SdkMetric<?>, List<Object>> otherMetrics;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    LowOverheadMetricCollection(String name,
+                                Object[] slotValues,
+                                Map<SdkMetric<?>, List<Object>> otherMetrics,
+                                List<MetricCollection> children) {
+        this.name = name;
+        this.slotValues = slotValues;
+        this.otherMetrics = otherMetrics;
+        this.children = Collections.unmodifiableList(children);
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        int slot = MetricSlots.slot(metric);
+        if (slot >= 0) {
+            return (List<T>) LowOverheadMetricCollector.slotValues(slotValues[slot]);
+        }
+        List<Object> values = otherMetrics.get(metric);
+        return values == null ? Collections.emptyList() : (List<T>) values;
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return children;
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return records().iterator();
+    }
+
+    private List<MetricRecord<?>> records() {
+        List<MetricRecord<?>> records = new ArrayList<>();
+        for (int i = 0; i < slotValues.length; i++) {
+            if (slotValues[i] != null) {
+                addRecords(records, MetricSlots.metric(i), LowOverheadMetricCollector.slotValues(slotValues[i]));
+            }
+        }
+        otherMetrics.forEach((metric, values) -> addRecords(records, metric, values));
+        return records;
+    }
+
+    private static void addRecords(List<MetricRecord<?>> records, SdkMetric<?> metric, List<Object> values) {
+        for (Object value : values) {
+            records.add(new Record(metric, value));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", records())
+                       .add("children", children)
+                       .build();
+    }
+
+    /**
+     * A collected value. The metric and value types are only known to match because the value was reported for the metric.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class Record implements MetricRecord {
+        private final SdkMetric<?> metric;
+        private final Object value;
+
+        private Record(SdkMetric<?> metric, Object value) {
+            this.metric = metric;
+            this.value = value;
+        }
+
+        @Override
+        public SdkMetric metric() {
+            return metric;
+        }
+
+        @Override
+        public Object value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricRecord")
+                           .add("metric", metric.name())
+                           .add("value", value)
+                           .build();
+        }
+    }
+}
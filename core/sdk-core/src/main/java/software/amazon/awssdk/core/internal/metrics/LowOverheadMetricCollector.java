@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that stores the metrics the SDK reports for most API calls in preallocated slots, updated with
+ * compare-and-set instead of a lock. Values are kept as reported, and only wrapped in
+ * {@link software.amazon.awssdk.metrics.MetricRecord}s if a publisher iterates over the collected records.
+ *
+ * <p>Metrics that do not have a slot are kept in a concurrent map, so any metric can be reported.
+ *
+ * @see SdkAdvancedClientOption#LOW_OVERHEAD_METRIC_COLLECTION
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LowOverheadMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(LowOverheadMetricCollector.class);
+
+    /**
+     * Stands in for null values, so that an empty slot can be told apart from a slot holding null.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final String name;
+    private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(MetricSlots.count());
+    private final Map<SdkMetric<?>, Queue<Object>> otherMetrics = new ConcurrentHashMap<>();
+    private final Queue<MetricCollector> children = new ConcurrentLinkedQueue<>();
+
+    private LowOverheadMetricCollector(String name) {
+        this.name = name;
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new LowOverheadMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        Object value = data == null ? NULL_VALUE : data;
+        int slot = MetricSlots.slot(metric);
+        if (slot < 0) {
+            otherMetrics.computeIfAbsent(metric, m -> new ConcurrentLinkedQueue<>()).add(value);
+            return;
+        }
+
+        while (true) {
+            Object current = slots.get(slot);
+            // Most metrics are reported once per collector, so a single value is stored as-is
+            Object updated = current == null ? value : MultipleValues.append(current, value);
+            if (slots.compareAndSet(slot, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = new LowOverheadMetricCollector(name);
+        children.add(child);
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        Object[] slotValues = new Object[slots.length()];
+        for (int i = 0; i < slotValues.length; i++) {
+            slotValues[i] = slots.get(i);
+        }
+
+        Map<SdkMetric<?>, List<Object>> collectedOtherMetrics = Collections.emptyMap();
+        if (!otherMetrics.isEmpty()) {
+            collectedOtherMetrics = new HashMap<>();
+            for (Map.Entry<SdkMetric<?>, Queue<Object>> entry : otherMetrics.entrySet()) {
+                List<Object> values = new ArrayList<>(entry.getValue().size());
+                entry.getValue().forEach(v -> values.add(unwrap(v)));
+                collectedOtherMetrics.put(entry.getKey(), Collections.unmodifiableList(values));
+            }
+        }
+
+        List<MetricCollection> collectedChildren = new ArrayList<>(children.size());
+        children.forEach(c -> collectedChildren.add(c.collect()));
+
+        MetricCollection collection = new LowOverheadMetricCollection(name, slotValues, collectedOtherMetrics,
+                                                                      collectedChildren);
+        log.debug(() -> "Collected metrics records: " + collection);
+        return collection;
+    }
+
+    /**
+     * @return The values stored in a slot, or an empty list if the slot is empty.
+     */
+    static List<Object> slotValues(Object slotValue) {
+        if (slotValue == null) {
+            return Collections.emptyList();
+        }
+        if (slotValue instanceof MultipleValues) {
+            return ((MultipleValues) slotValue).toList();
+        }
+        return Collections.singletonList(unwrap(slotValue));
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LowOverheadMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    /**
+     * The values of a metric that was reported more than once. Instances are immutable, so that they can be replaced in a
+     * slot with compare-and-set.
+     */
+    private static final class MultipleValues {
+        private final Object[] values;
+
+        private MultipleValues(Object[] values) {
+            this.values = values;
+        }
+
+        private static MultipleValues append(Object current, Object value) {
+            Object[] previous = current instanceof MultipleValues ? ((MultipleValues) current).values : new Object[] {current};
+            Object[] values = new Object[previous.length + 1];
+            System.arraycopy(previous, 0, values, 0, previous.length);
+            values[previous.length] = value;
+            return new MultipleValues(values);
+        }
+
+        private List<Object> toList() {
+            List<Object> list = new ArrayList<>(values.length);
+            for (Object value : values) {
+                list.add(unwrap(value));
+            }
+            return Collections.unmodifiableList(list);
+        }
+    }
+}
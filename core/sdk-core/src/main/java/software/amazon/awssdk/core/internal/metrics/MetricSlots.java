@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Assigns a fixed slot to each metric the SDK reports for most API calls, so {@link LowOverheadMetricCollector} can store
+ * them in an array instead of a map.
+ */
+@SdkInternalApi
+final class MetricSlots {
+    private static final List<SdkMetric<?>> METRICS = Collections.unmodifiableList(Arrays.asList(
+        CoreMetric.SERVICE_ID,
+        CoreMetric.OPERATION_NAME,
+        CoreMetric.API_CALL_SUCCESSFUL,
+        CoreMetric.RETRY_COUNT,
+        CoreMetric.API_CALL_DURATION,
+        CoreMetric.CREDENTIALS_FETCH_DURATION,
+        CoreMetric.TOKEN_FETCH_DURATION,
+        CoreMetric.BACKOFF_DELAY_DURATION,
+        CoreMetric.MARSHALLING_DURATION,
+        CoreMetric.SIGNING_DURATION,
+        CoreMetric.SERVICE_CALL_DURATION,
+        CoreMetric.UNMARSHALLING_DURATION,
+        CoreMetric.AWS_REQUEST_ID,
+        CoreMetric.AWS_EXTENDED_REQUEST_ID,
+        HttpMetric.HTTP_CLIENT_NAME,
+        HttpMetric.MAX_CONCURRENCY,
+        HttpMetric.AVAILABLE_CONCURRENCY,
+        HttpMetric.LEASED_CONCURRENCY,
+        HttpMetric.PENDING_CONCURRENCY_ACQUIRES,
+        HttpMetric.HTTP_STATUS_CODE,
+        HttpMetric.CONCURRENCY_ACQUIRE_DURATION,
+        Http2Metric.LOCAL_STREAM_WINDOW_SIZE_IN_BYTES,
+        Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES));
+
+    private static final Map<SdkMetric<?>, Integer> SLOTS = slotsByMetric();
+
+    private MetricSlots() {
+    }
+
+    /**
+     * @return The number of slots.
+     */
+    static int count() {
+        return METRICS.size();
+    }
+
+    /**
+     * @return The slot of the provided metric, or -1 if it does not have one.
+     */
+    static int slot(SdkMetric<?> metric) {
+        Integer slot = SLOTS.get(metric);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return The metric stored in the provided slot.
+     */
+    static SdkMetric<?> metric(int slot) {
+        return METRICS.get(slot);
+    }
+
+    private static Map<SdkMetric<?>, Integer> slotsByMetric() {
+        // Metrics are unique instances, so an identity lookup avoids calling their hashCode and equals
+        Map<SdkMetric<?>, Integer> slots = new IdentityHashMap<>();
+        for (int i = 0; i < METRICS.size(); i++) {
+            slots.put(METRICS.get(i), i);
+        }
+        return Collections.unmodifiableMap(slots);
+    }
+}
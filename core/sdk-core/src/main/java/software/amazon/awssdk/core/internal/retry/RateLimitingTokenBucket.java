@@ -16,10 +16,20 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter used by the adaptive retry mode.
+ * <p>
+ * This class is shared by every request made with a client, so it does not use a monitor. The token bucket and the CUBIC
+ * state are kept together in an immutable {@link BucketState} that is replaced with a compare-and-set, which keeps every
+ * update atomic without blocking callers while another thread holds a lock. Until the first throttling error is seen,
+ * acquiring capacity is a single volatile read.
+ */
 @SdkInternalApi
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
@@ -31,18 +41,7 @@ public class RateLimitingTokenBucket {
 
     private final Clock clock;
 
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
-
-    private double timeWindow;
+    private final AtomicReference<BucketState> state;
 
     public interface Clock {
         double time();
@@ -50,13 +49,13 @@ public class RateLimitingTokenBucket {
 
     public RateLimitingTokenBucket() {
         clock = new DefaultClock();
-        initialize();
+        state = new AtomicReference<>(initialState());
     }
 
     @SdkTestInternalApi
     RateLimitingTokenBucket(Clock clock) {
         this.clock = clock;
-        initialize();
+        state = new AtomicReference<>(initialState());
     }
 
     /**
@@ -151,32 +150,27 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
-
-        synchronized (this) {
-            // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
-                return OptionalDouble.of(0.0);
-            }
+        // If rate limiting is not enabled, we technically have an uncapped limit
+        if (!state.get().enabled) {
+            return OptionalDouble.of(0.0);
+        }
 
-            refill();
+        refill();
 
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+        while (true) {
+            BucketState current = state.get();
+            double unfulfilled = unfulfilledAmount(current, amount);
 
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
                 return OptionalDouble.empty();
             }
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
+            if (state.compareAndSet(current, current.withCurrentCapacity(current.currentCapacity - amount))) {
+                // If all the tokens couldn't be acquired immediately, wait enough
+                // time to fill the remainder.
+                return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / current.fillRate : 0.0);
             }
         }
-
-        return OptionalDouble.of(waitTime);
     }
 
     /**
@@ -185,27 +179,34 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
-        double result;
-        if (amount <= currentCapacity) {
-            result = 0;
-        } else {
-            result = amount - currentCapacity;
+        while (true) {
+            BucketState current = state.get();
+            if (state.compareAndSet(current, current.withCurrentCapacity(current.currentCapacity - amount))) {
+                return unfulfilledAmount(current, amount);
+            }
         }
-        currentCapacity = currentCapacity - amount;
-        return result;
     }
 
-    private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+    private static double unfulfilledAmount(BucketState state, double amount) {
+        if (amount <= state.currentCapacity) {
+            return 0;
+        }
+        return amount - state.currentCapacity;
+    }
+
+    private BucketState initialState() {
+        BucketState initial = new BucketState();
+        initial.fillRate = null;
+        initial.maxCapacity = null;
+        initial.currentCapacity = 0.0;
+        initial.lastTimestamp = null;
+        initial.enabled = false;
+        initial.measuredTxRate = 0.0;
+        initial.lastTxRateBucket = Math.floor(clock.time());
+        initial.requestCount = 0;
+        initial.lastMaxRate = 0.0;
+        initial.lastThrottleTime = clock.time();
+        return initial;
     }
 
     /**
@@ -221,16 +222,32 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void refill() {
-        double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
+    void refill() {
+        while (true) {
+            BucketState current = state.get();
+            // Read the time after the state, so that it is never earlier than the timestamp of the state we replace
+            double timestamp = clock.time();
+            if (current.lastTimestamp != null && current.lastTimestamp == timestamp) {
+                return;
+            }
+
+            BucketState refilled = current.copy();
+            refill(refilled, timestamp);
+            if (state.compareAndSet(current, refilled)) {
+                return;
+            }
+        }
+    }
+
+    private static void refill(BucketState state, double timestamp) {
+        if (state.lastTimestamp == null) {
+            state.lastTimestamp = timestamp;
             return;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - state.lastTimestamp) * state.fillRate;
+        state.currentCapacity = Math.min(state.maxCapacity, state.currentCapacity + fillAmount);
+        state.lastTimestamp = timestamp;
     }
 
     /**
@@ -245,11 +262,11 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private void updateRate(BucketState state, double newRps) {
+        refill(state, clock.time());
+        state.fillRate = Math.max(newRps, MIN_FILL_RATE);
+        state.maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        state.currentCapacity = Math.min(state.currentCapacity, state.maxCapacity);
     }
 
     /**
@@ -264,20 +281,20 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
+    private void updateMeasuredRate(BucketState state) {
         double t = clock.time();
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        state.requestCount = state.requestCount + 1;
+        if (timeBucket > state.lastTxRateBucket) {
+            double currentRate = state.requestCount / (timeBucket - state.lastTxRateBucket);
+            state.measuredTxRate = (currentRate * SMOOTH) + (state.measuredTxRate * (1 - SMOOTH));
+            state.requestCount = 0;
+            state.lastTxRateBucket = timeBucket;
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        updateState(s -> s.enabled = true);
     }
 
     /**
@@ -305,30 +322,39 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
-
-        double calculatedRate;
-        if (throttlingResponse) {
-            double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        while (true) {
+            BucketState current = state.get();
+            BucketState updated = current.copy();
+
+            updateMeasuredRate(updated);
+
+            double calculatedRate;
+            if (throttlingResponse) {
+                double rateToUse;
+                if (!updated.enabled) {
+                    rateToUse = updated.measuredTxRate;
+                } else {
+                    rateToUse = Math.min(updated.measuredTxRate, updated.fillRate);
+                }
+
+                updated.lastMaxRate = rateToUse;
+                calculateTimeWindow(updated);
+                updated.lastThrottleTime = clock.time();
+                calculatedRate = cubicThrottle(rateToUse);
+                updated.enabled = true;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                calculateTimeWindow(updated);
+                calculatedRate = cubicSuccess(updated, clock.time());
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
-            calculatedRate = cubicThrottle(rateToUse);
-            enable();
-        } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
-        }
+            double newRate = Math.min(calculatedRate, 2 * updated.measuredTxRate);
+            updateRate(updated, newRate);
 
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+            if (state.compareAndSet(current, updated)) {
+                return;
+            }
+        }
     }
 
     /**
@@ -340,8 +366,12 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    void calculateTimeWindow() {
+        updateState(RateLimitingTokenBucket::calculateTimeWindow);
+    }
+
+    private static void calculateTimeWindow(BucketState state) {
+        state.timeWindow = Math.pow((state.lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -381,12 +411,30 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
+    private static double cubicSuccess(BucketState state, double timestamp) {
+        double dt = timestamp - state.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - state.timeWindow, 3) + state.lastMaxRate;
         return calculatedRate;
     }
 
+    /**
+     * Apply a change to a copy of the current state and publish it, retrying if another thread published a state first.
+     */
+    private void updateState(Consumer<BucketState> mutation) {
+        while (true) {
+            BucketState current = state.get();
+            BucketState updated = current.copy();
+            mutation.accept(updated);
+            if (state.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
     static class DefaultClock implements Clock {
         @Override
         public double time() {
@@ -395,38 +443,79 @@ public class RateLimitingTokenBucket {
         }
     }
 
+    /**
+     * A snapshot of the token bucket and CUBIC state. Fields are only written on a fresh copy, before it is published through
+     * {@link #state}; a published snapshot is never modified.
+     */
+    private static final class BucketState {
+        private Double fillRate;
+        private Double maxCapacity;
+        private double currentCapacity;
+        private Double lastTimestamp;
+        private boolean enabled;
+        private double measuredTxRate;
+        private double lastTxRateBucket;
+        private long requestCount;
+        private double lastMaxRate;
+        private double lastThrottleTime;
+
+        private double timeWindow;
+
+        private BucketState copy() {
+            BucketState copy = new BucketState();
+            copy.fillRate = fillRate;
+            copy.maxCapacity = maxCapacity;
+            copy.currentCapacity = currentCapacity;
+            copy.lastTimestamp = lastTimestamp;
+            copy.enabled = enabled;
+            copy.measuredTxRate = measuredTxRate;
+            copy.lastTxRateBucket = lastTxRateBucket;
+            copy.requestCount = requestCount;
+            copy.lastMaxRate = lastMaxRate;
+            copy.lastThrottleTime = lastThrottleTime;
+            copy.timeWindow = timeWindow;
+            return copy;
+        }
+
+        private BucketState withCurrentCapacity(double currentCapacity) {
+            BucketState copy = copy();
+            copy.currentCapacity = currentCapacity;
+            return copy;
+        }
+    }
+
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        updateState(s -> s.lastMaxRate = lastMaxRate);
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    void setLastThrottleTime(double lastThrottleTime) {
+        updateState(s -> s.lastThrottleTime = lastThrottleTime);
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getMeasuredTxRate() {
+        return state.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    void setCurrentCapacity(double currentCapacity) {
+        updateState(s -> s.currentCapacity = currentCapacity);
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setFillRate(double fillRate) {
+        updateState(s -> s.fillRate = fillRate);
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.metrics.LowOverheadMetricCollector;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Creates the {@link MetricCollector} that generated clients use to collect the metrics of an API call.
+ */
+@SdkProtectedApi
+public final class ApiCallMetricCollectors {
+    private static final String API_CALL = "ApiCall";
+
+    private ApiCallMetricCollectors() {
+    }
+
+    /**
+     * Create the collector for an API call made by a client with the provided configuration.
+     *
+     * @see SdkAdvancedClientOption#LOW_OVERHEAD_METRIC_COLLECTION
+     * @see SdkAdvancedClientOption#OPTIMIZE_FOR_VIRTUAL_THREADS
+     */
+    public static MetricCollector create(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.LOW_OVERHEAD_METRIC_COLLECTION)) ||
+            Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.OPTIMIZE_FOR_VIRTUAL_THREADS))) {
+            return LowOverheadMetricCollector.create(API_CALL);
+        }
+        return MetricCollector.create(API_CALL);
+    }
+}
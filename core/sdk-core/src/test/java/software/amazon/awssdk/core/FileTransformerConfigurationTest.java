@@ -16,8 +16,11 @@
 package software.amazon.awssdk.core;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior.DELETE;
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior.LEAVE;
 import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.CREATE_NEW;
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -43,4 +46,60 @@ class FileTransformerConfigurationTest {
         FileTransformerConfiguration another = configuration.toBuilder().build();
         assertThat(configuration).isEqualTo(another);
     }
+
+    @Test
+    void toBuilder_writeToPosition_preservesPositionAndFsync() {
+        FileTransformerConfiguration configuration =
+            FileTransformerConfiguration.builder()
+                                        .failureBehavior(LEAVE)
+                                        .fileWriteOption(WRITE_TO_POSITION)
+                                        .position(1024L)
+                                        .fsyncOnComplete(true)
+                                        .build();
+
+        FileTransformerConfiguration another = configuration.toBuilder().build();
+        assertThat(another).isEqualTo(configuration);
+        assertThat(another.position()).isEqualTo(1024L);
+        assertThat(another.fsyncOnComplete()).isTrue();
+    }
+
+    @Test
+    void position_withoutWriteToPosition_throws() {
+        assertThatThrownBy(() -> FileTransformerConfiguration.builder()
+                                                             .failureBehavior(DELETE)
+                                                             .fileWriteOption(CREATE_NEW)
+                                                             .position(10L)
+                                                             .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void position_negative_throws() {
+        assertThatThrownBy(() -> FileTransformerConfiguration.builder()
+                                                             .failureBehavior(LEAVE)
+                                                             .fileWriteOption(WRITE_TO_POSITION)
+                                                             .position(-1L)
+                                                             .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void writeToPosition_deleteFailureBehavior_throws() {
+        assertThatThrownBy(() -> FileTransformerConfiguration.builder()
+                                                             .failureBehavior(DELETE)
+                                                             .fileWriteOption(WRITE_TO_POSITION)
+                                                             .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("LEAVE");
+    }
+
+    @Test
+    void writeToPosition_noFailureBehavior_defaultsToLeave() {
+        FileTransformerConfiguration configuration = FileTransformerConfiguration.builder()
+                                                                                 .fileWriteOption(WRITE_TO_POSITION)
+                                                                                 .position(10L)
+                                                                                 .build();
+
+        assertThat(configuration.failureBehavior()).isEqualTo(LEAVE);
+    }
 }
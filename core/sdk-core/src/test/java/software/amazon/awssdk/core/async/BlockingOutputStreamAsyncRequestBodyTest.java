@@ -0,0 +1,197 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class BlockingOutputStreamAsyncRequestBodyTest {
+    @Test
+    public void writtenContent_isPublished() throws Exception {
+        byte[] content = new byte[100_000];
+        new Random().nextBytes(content);
+
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream((long) content.length);
+        CompletableFuture<List<ByteBuffer>> published = CompletableFuture.supplyAsync(
+            () -> Flowable.fromPublisher(body).toList().blockingGet());
+
+        try (OutputStream outputStream = body.outputStream()) {
+            outputStream.write(content, 0, 10);
+            outputStream.write(content[10]);
+            outputStream.write(content, 11, content.length - 11);
+        }
+
+        List<ByteBuffer> chunks = published.get(5, TimeUnit.SECONDS);
+        ByteBuffer all = ByteBuffer.allocate(chunks.stream().mapToInt(ByteBuffer::remaining).sum());
+        chunks.forEach(all::put);
+
+        assertThat(body.contentLength()).hasValue((long) content.length);
+        assertThat(BinaryUtils.copyAllBytesFrom((ByteBuffer) all.flip())).isEqualTo(content);
+    }
+
+    @Test
+    public void close_withFewerBytesThanContentLength_signalsErrorAndThrows() {
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(10L);
+        CompletableFuture<List<ByteBuffer>> published = CompletableFuture.supplyAsync(
+            () -> Flowable.fromPublisher(body).toList().blockingGet());
+
+        OutputStream outputStream = body.outputStream();
+        assertThatThrownBy(() -> {
+            outputStream.write(new byte[5]);
+            outputStream.close();
+        }).isInstanceOf(IOException.class).hasMessageContaining("expected content length");
+
+        assertThatThrownBy(() -> published.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class)
+                                                                    .hasMessageContaining("5 bytes were written");
+    }
+
+    @Test
+    public void close_withMoreBytesThanContentLength_signalsErrorAndThrows() {
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(10L);
+        CompletableFuture<List<ByteBuffer>> published = CompletableFuture.supplyAsync(
+            () -> Flowable.fromPublisher(body).toList().blockingGet());
+
+        OutputStream outputStream = body.outputStream();
+        assertThatThrownBy(() -> {
+            outputStream.write(new byte[20]);
+            outputStream.close();
+        }).isInstanceOf(IOException.class).hasMessageContaining("expected content length");
+
+        assertThatThrownBy(() -> published.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class)
+                                                                    .hasMessageContaining("20 bytes were written");
+    }
+
+    @Test
+    public void write_blocksUntilDemand() throws Exception {
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicInteger received = new AtomicInteger();
+        body.subscribe(new RecordingSubscriber(subscription, received));
+
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                body.outputStream().write(new byte[16 * 1024]);
+                written.countDown();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(written.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(received.get()).isZero();
+
+        subscription.get().request(1);
+
+        writer.get(5, TimeUnit.SECONDS);
+        assertThat(received.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void write_afterCancel_throwsIOException() {
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        body.subscribe(new RecordingSubscriber(subscription, new AtomicInteger()));
+
+        subscription.get().cancel();
+
+        assertThatThrownBy(() -> body.outputStream().write(new byte[16 * 1024])).isInstanceOf(IOException.class)
+                                                                                 .hasMessageContaining("cancelled");
+    }
+
+    @Test
+    public void write_withoutSubscriber_timesOut() {
+        BlockingOutputStreamAsyncRequestBody body = new BlockingOutputStreamAsyncRequestBody(null, Duration.ofMillis(50),
+                                                                                             Duration.ofSeconds(60));
+
+        assertThatThrownBy(() -> body.outputStream().write(new byte[16 * 1024])).isInstanceOf(IllegalStateException.class)
+                                                                                 .hasMessageContaining("not started");
+    }
+
+    @Test
+    public void write_withoutDemand_timesOutAndSignalsError() {
+        BlockingOutputStreamAsyncRequestBody body = new BlockingOutputStreamAsyncRequestBody(null, Duration.ofSeconds(10),
+                                                                                             Duration.ofMillis(50));
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        body.subscribe(new RecordingSubscriber(new AtomicReference<>(), new AtomicInteger()) {
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+            }
+        });
+
+        assertThatThrownBy(() -> body.outputStream().write(new byte[16 * 1024])).isInstanceOf(IOException.class);
+        assertThat(error.get()).isInstanceOf(IllegalStateException.class)
+                               .hasMessageContaining("did not request more");
+        assertThatThrownBy(() -> body.outputStream().write(new byte[16 * 1024])).isInstanceOf(IOException.class)
+                                                                                 .hasMessageContaining("cancelled");
+    }
+
+    @Test
+    public void secondSubscription_signalsError() {
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+        body.subscribe(new RecordingSubscriber(new AtomicReference<>(), new AtomicInteger()));
+
+        assertThatThrownBy(() -> Flowable.fromPublisher(body).toList().blockingGet())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cannot be retried");
+    }
+
+    private static class RecordingSubscriber implements Subscriber<ByteBuffer> {
+        private final AtomicReference<Subscription> subscription;
+        private final AtomicInteger received;
+
+        private RecordingSubscriber(AtomicReference<Subscription> subscription, AtomicInteger received) {
+            this.subscription = subscription;
+            this.received = received;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription.set(s);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.AfterClass;
+import software.amazon.awssdk.core.internal.async.InputStreamAsyncRequestBody;
+
+/**
+ * TCK verification test for {@link InputStreamAsyncRequestBody}.
+ */
+public class InputStreamAsyncRequestBodyTckTest extends org.reactivestreams.tck.PublisherVerification<ByteBuffer> {
+
+    // same as `InputStreamAsyncRequestBody.CHUNK_SIZE`:
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_ELEMENTS = 1000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public InputStreamAsyncRequestBodyTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @AfterClass
+    public void teardown() {
+        executor.shutdown();
+    }
+
+    // prevent some tests from trying to create publishers with more elements
+    // than this since it would be impractical. For example, one test attempts
+    // to create a publisher with Long.MAX_VALUE elements
+    @Override
+    public long maxElementsFromPublisher() {
+        return MAX_ELEMENTS;
+    }
+
+    @Override
+    public Publisher<ByteBuffer> createPublisher(long elements) {
+        return AsyncRequestBody.fromInputStream(new ByteArrayInputStream(new byte[(int) elements * CHUNK_SIZE]), null,
+                                                executor);
+    }
+
+    @Override
+    public Publisher<ByteBuffer> createFailedPublisher() {
+        InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(inputStream, null, executor);
+        // The stream can only be read once, so subsequent subscriptions fail
+        body.subscribe(new DrainingSubscriber<>());
+        return body;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+class ByteArrayAsyncResponseTransformerTest {
+    private static final String CONTENT = "Hello World, this is the content of the response!";
+
+    @Test
+    void contentLengthMatches_returnsContent() throws Exception {
+        assertThat(transform(String.valueOf(CONTENT.length())).asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void contentLengthTooSmall_returnsContent() throws Exception {
+        assertThat(transform("5").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void contentLengthTooLarge_returnsContent() throws Exception {
+        assertThat(transform("1000").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void contentLengthMissing_returnsContent() throws Exception {
+        assertThat(transform(null).asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void contentLengthInvalid_returnsContent() throws Exception {
+        assertThat(transform("not-a-number").asUtf8String()).isEqualTo(CONTENT);
+        assertThat(transform("-1").asUtf8String()).isEqualTo(CONTENT);
+        assertThat(transform("99999999999").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void contentLengthMissing_manyBuffers_returnsContent() throws Exception {
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 'a');
+        ByteBuffer[] buffers = new ByteBuffer[100];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(content, i * 1000, 1000);
+        }
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response(null));
+        transformer.onStream(SdkPublisher.adapt(Flowable.fromArray(buffers)));
+
+        assertThat(future.get().asByteArrayUnsafe()).isEqualTo(content);
+    }
+
+    @Test
+    void contentLengthMissing_emptyStream_returnsEmptyBytes() throws Exception {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response(null));
+        transformer.onStream(SdkPublisher.adapt(Flowable.empty()));
+
+        assertThat(future.get().asByteArrayUnsafe()).isEmpty();
+    }
+
+    @Test
+    void emptyStream_returnsEmptyBytes() throws Exception {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response("0"));
+        transformer.onStream(SdkPublisher.adapt(Flowable.empty()));
+
+        assertThat(future.get().asByteArrayUnsafe()).isEmpty();
+    }
+
+    @Test
+    void streamFails_completesExceptionally() {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response(null));
+        transformer.onStream(SdkPublisher.adapt(Flowable.error(new IllegalStateException("Intentional exception"))));
+
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+                                       .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void bufferPositionIsNotModified() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8));
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response(null));
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(buffer)));
+
+        assertThat(future.get().asUtf8String()).isEqualTo(CONTENT);
+        assertThat(buffer.position()).isZero();
+    }
+
+    private static ResponseBytes<SdkResponse> transform(String contentLength) throws Exception {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response(contentLength));
+
+        byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        // Split the content so that it arrives in several buffers
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(content, 0, 10),
+                                                              ByteBuffer.wrap(content, 10, 20),
+                                                              ByteBuffer.wrap(content, 30, content.length - 30))));
+        return future.get();
+    }
+
+    private static SdkResponse response(String contentLength) {
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(200);
+        if (contentLength != null) {
+            httpResponse.putHeader("Content-Length", contentLength);
+        }
+        SdkHttpResponse builtHttpResponse = httpResponse.build();
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(builtHttpResponse);
+        return response;
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
@@ -28,6 +29,12 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -38,6 +45,7 @@ import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.async.ByteBufferLease;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.utils.BinaryUtils;
 
@@ -226,6 +234,163 @@ public class FileAsyncRequestBodyTest {
             .hasCauseInstanceOf(IOException.class);
     }
 
+    @Test
+    public void positionAndNumBytesToRead_readsOnlyThatRangeOfTheFile() throws Exception {
+        long position = 3 * MiB + 17;
+        long numBytesToRead = 2 * MiB + 5;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .position(position)
+                                                                .numBytesToRead(numBytesToRead)
+                                                                .build();
+
+        assertThat(asyncRequestBody.contentLength()).hasValue(numBytesToRead);
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        byte[] expected = Arrays.copyOfRange(Files.readAllBytes(testFile), (int) position, (int) (position + numBytesToRead));
+        assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void position_withoutNumBytesToRead_readsUntilEndOfFile() throws Exception {
+        long position = TEST_FILE_SIZE - 10;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .position(position)
+                                                                .build();
+
+        assertThat(asyncRequestBody.contentLength()).hasValue(10L);
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        byte[] expected = Arrays.copyOfRange(Files.readAllBytes(testFile), (int) position, (int) TEST_FILE_SIZE);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void numBytesToRead_zero_completesWithoutData() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .position(MiB)
+                                                                .numBytesToRead(0L)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.output.size()).isZero();
+    }
+
+    @Test
+    public void rangePastEndOfFile_throws() {
+        assertThatThrownBy(() -> FileAsyncRequestBody.builder().path(testFile).position(TEST_FILE_SIZE + 1).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FileAsyncRequestBody.builder()
+                                                     .path(testFile)
+                                                     .position(TEST_FILE_SIZE - 1)
+                                                     .numBytesToRead(2L)
+                                                     .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FileAsyncRequestBody.builder().path(testFile).numBytesToRead(-1L).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void bufferPoolSize_buffersConsumedInOnNext_areReused() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(64 * 1024)
+                                                                .bufferPoolSize(2)
+                                                                .build();
+
+        Set<ByteBuffer> distinctBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        ControllableSubscriber subscriber = new LeaseAwareControllableSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                distinctBuffers.add(byteBuffer);
+                super.onNext(byteBuffer);
+            }
+        };
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        assertThat(distinctBuffers).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void bufferPoolSize_retainedBuffers_areNotReusedUntilReleased() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(64 * 1024)
+                                                                .bufferPoolSize(2)
+                                                                .build();
+
+        List<ByteBuffer> retainedBuffers = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        ControllableSubscriber subscriber = new LeaseAwareControllableSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                retainedBuffers.add(byteBuffer);
+                releases.add(ByteBufferLease.retain());
+                super.onNext(byteBuffer);
+            }
+        };
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        // Every buffer was still retained when the next chunk was read, so none of them could be reused
+        Set<ByteBuffer> distinctBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctBuffers.addAll(retainedBuffers);
+        assertThat(distinctBuffers).hasSameSizeAs(retainedBuffers);
+
+        ByteArrayOutputStream retainedContent = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : retainedBuffers) {
+            retainedContent.write(BinaryUtils.copyAllBytesFrom(buffer));
+        }
+        assertThat(retainedContent.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        releases.forEach(Runnable::run);
+    }
+
+    @Test
+    public void bufferPoolSize_subscriberNotLeaseAware_receivesCopies() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(64 * 1024)
+                                                                .bufferPoolSize(2)
+                                                                .build();
+
+        List<ByteBuffer> keptBuffers = new ArrayList<>();
+        ControllableSubscriber subscriber = new ControllableSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                keptBuffers.add(byteBuffer);
+                super.onNext(byteBuffer);
+            }
+        };
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        // The buffers were kept without being retained, so they are only intact if they were not reused
+        ByteArrayOutputStream keptContent = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : keptBuffers) {
+            keptContent.write(BinaryUtils.copyAllBytesFrom(buffer));
+        }
+        assertThat(keptContent.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
@@ -253,4 +418,8 @@ public class FileAsyncRequestBodyTest {
             completed.complete(null);
         }
     }
+
+    private static class LeaseAwareControllableSubscriber extends ControllableSubscriber
+        implements ByteBufferLease.LeaseAwareSubscriber {
+    }
 }
@@ -28,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -174,6 +175,75 @@ class FileAsyncResponseTransformerTest {
         assertThat(testPath).hasContent(existingString + content);
     }
 
+    @Test
+    void writeToPosition_fileExists_shouldOnlyWriteAtPosition() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String existingString = RandomStringUtils.randomAlphanumeric(100);
+        Files.write(testPath, existingString.getBytes(StandardCharsets.UTF_8));
+        String content = RandomStringUtils.randomAlphanumeric(20);
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, writeToPosition(40L));
+        stubSuccessfulStreaming(content, transformer);
+        assertThat(testPath).hasContent(existingString.substring(0, 40) + content + existingString.substring(60));
+    }
+
+    @Test
+    void writeToPosition_concurrentResponses_shouldFillPreallocatedFile() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        int partSize = 1000;
+        int partCount = 8;
+        Files.write(testPath, new byte[partSize * partCount]);
+
+        List<String> parts = new ArrayList<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < partCount; i++) {
+            String part = RandomStringUtils.randomAlphanumeric(partSize);
+            parts.add(part);
+            FileAsyncResponseTransformer<String> transformer =
+                new FileAsyncResponseTransformer<>(testPath, writeToPosition((long) i * partSize));
+            CompletableFuture<String> future = transformer.prepare();
+            transformer.onResponse("foobar");
+            futures.add(future);
+            transformer.onStream(testPublisher(part));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertThat(testPath).hasContent(String.join("", parts));
+    }
+
+    @Test
+    void writeToPosition_fileDoesNotExist_shouldThrowException() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, writeToPosition(0L));
+
+        transformer.prepare();
+        transformer.onResponse("foobar");
+        assertThatThrownBy(() -> transformer.onStream(testPublisher("content")))
+            .hasRootCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void fsyncOnComplete_shouldWriteContent() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(500);
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, FileTransformerConfiguration.defaultCreateNew()
+                                                                                     .toBuilder()
+                                                                                     .fsyncOnComplete(true)
+                                                                                     .build());
+        stubSuccessfulStreaming(content, transformer);
+        assertThat(testPath).hasContent(content);
+    }
+
+    private static FileTransformerConfiguration writeToPosition(Long position) {
+        return FileTransformerConfiguration.builder()
+                                           .fileWriteOption(FileWriteOption.WRITE_TO_POSITION)
+                                           .failureBehavior(LEAVE)
+                                           .position(position)
+                                           .build();
+    }
+
     @ParameterizedTest
     @MethodSource("configurations")
     void exceptionOccurred_deleteFileBehavior(FileTransformerConfiguration configuration) throws Exception {
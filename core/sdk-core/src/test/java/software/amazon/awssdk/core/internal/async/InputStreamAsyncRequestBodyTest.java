@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class InputStreamAsyncRequestBodyTest {
+    private static final ExecutorService EXEC = Executors.newSingleThreadExecutor();
+
+    @AfterAll
+    public static void teardown() {
+        EXEC.shutdown();
+    }
+
+    @Test
+    public void unknownContentLength_readsWholeStream() {
+        byte[] content = randomBytes(100_000);
+
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(new ByteArrayInputStream(content), null, EXEC);
+
+        assertThat(body.contentLength()).isEmpty();
+        assertThat(readAll(body)).isEqualTo(content);
+    }
+
+    @Test
+    public void contentLength_readsOnlyContentLength() {
+        byte[] content = randomBytes(100_000);
+
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(new ByteArrayInputStream(content), 40_000L, EXEC);
+
+        assertThat(body.contentLength()).hasValue(40_000L);
+        assertThat(readAll(body)).isEqualTo(Arrays.copyOf(content, 40_000));
+    }
+
+    @Test
+    public void streamShorterThanContentLength_signalsError() {
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(new ByteArrayInputStream(new byte[10]), 20L, EXEC);
+
+        assertThatThrownBy(() -> readAll(body)).hasMessageContaining("expected content length of 20 bytes");
+    }
+
+    @Test
+    public void readFails_signalsError() {
+        InputStream failingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Read failed");
+            }
+        };
+
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(failingStream, null, EXEC);
+
+        assertThatThrownBy(() -> readAll(body)).hasRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void streamIsOnlyReadOnDemand() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        InputStream countingStream = new ByteArrayInputStream(randomBytes(100_000)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                reads.incrementAndGet();
+                return super.read(b, off, len);
+            }
+        };
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(countingStream, null, EXEC);
+        AtomicInteger received = new AtomicInteger();
+
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(2);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // Wait for the queued reads to finish, since the executor runs one task at a time
+        EXEC.submit(() -> { }).get();
+
+        assertThat(received.get()).isEqualTo(2);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void secondSubscription_signalsError() {
+        InputStreamAsyncRequestBody body = new InputStreamAsyncRequestBody(new ByteArrayInputStream(new byte[10]), null, EXEC);
+        readAll(body);
+
+        assertThatThrownBy(() -> readAll(body)).isInstanceOf(IllegalStateException.class)
+                                               .hasMessageContaining("cannot be retried");
+    }
+
+    private static byte[] readAll(InputStreamAsyncRequestBody body) {
+        List<ByteBuffer> chunks = Flowable.fromPublisher(body).toList().blockingGet();
+        ByteBuffer all = ByteBuffer.allocate(chunks.stream().mapToInt(ByteBuffer::remaining).sum());
+        chunks.forEach(all::put);
+        return BinaryUtils.copyAllBytesFrom((ByteBuffer) all.flip());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
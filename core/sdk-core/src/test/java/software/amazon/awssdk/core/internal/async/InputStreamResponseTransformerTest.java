@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.IoUtils;
+
+class InputStreamResponseTransformerTest {
+
+    private InputStreamResponseTransformer<SdkResponse> transformer;
+    private SdkResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        transformer = new InputStreamResponseTransformer<>();
+        response = Mockito.mock(SdkResponse.class);
+    }
+
+    @Test
+    void successfulResponseAndStream_returnsResponseInputStream() throws Exception {
+        String content = UUID.randomUUID().toString();
+
+        CompletableFuture<ResponseInputStream<SdkResponse>> responseFuture = transformer.prepare();
+        transformer.onResponse(response);
+        assertThat(responseFuture.isDone()).isFalse();
+        transformer.onStream(AsyncRequestBody.fromString(content));
+        assertThat(responseFuture.isDone()).isTrue();
+
+        try (ResponseInputStream<SdkResponse> inputStream = responseFuture.get()) {
+            assertThat(inputStream.response()).isEqualTo(response);
+            assertThat(IoUtils.toUtf8String(inputStream)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void failedResponse_completesExceptionally() {
+        CompletableFuture<ResponseInputStream<SdkResponse>> responseFuture = transformer.prepare();
+        transformer.exceptionOccurred(new RuntimeException("Intentional exception for testing purposes"));
+
+        assertThat(responseFuture.isDone()).isTrue();
+        assertThatThrownBy(responseFuture::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class InputStreamSubscriberTest {
+    @Test
+    public void read_returnsAllContent() throws IOException {
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(2);
+        Flowable.fromArray("Hello", "", " ", "World", "!")
+                .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))
+                .subscribe(inputStream);
+
+        assertThat(IoUtils.toUtf8String(inputStream)).isEqualTo("Hello World!");
+    }
+
+    @Test
+    public void read_requestsMoreOnlyAfterBufferConsumed() throws IOException {
+        Subscription subscription = mock(Subscription.class);
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(2);
+
+        inputStream.onSubscribe(subscription);
+        verify(subscription).request(2);
+
+        inputStream.onNext(ByteBuffer.wrap(new byte[] {1, 2}));
+        inputStream.onNext(ByteBuffer.wrap(new byte[] {3}));
+
+        assertThat(inputStream.read()).isEqualTo(1);
+        assertThat(inputStream.read()).isEqualTo(2);
+        verify(subscription, never()).request(1);
+
+        assertThat(inputStream.read()).isEqualTo(3);
+        verify(subscription).request(1);
+    }
+
+    @Test
+    public void read_afterError_throwsIOException() {
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(2);
+        inputStream.onSubscribe(mock(Subscription.class));
+        inputStream.onError(new IllegalStateException("Intentional exception for testing purposes"));
+
+        assertThatThrownBy(inputStream::read).isInstanceOf(IOException.class)
+                                             .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void close_cancelsSubscription() {
+        Subscription subscription = mock(Subscription.class);
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(2);
+        inputStream.onSubscribe(subscription);
+        inputStream.onNext(ByteBuffer.wrap(new byte[] {1}));
+
+        inputStream.close();
+
+        verify(subscription).cancel();
+        assertThatThrownBy(inputStream::read).isInstanceOf(IOException.class)
+                                             .hasMessageContaining("closed");
+    }
+
+    @Test
+    public void abort_wakesUpBlockedReader() throws Exception {
+        InputStreamSubscriber inputStream = new InputStreamSubscriber(2);
+        inputStream.onSubscribe(mock(Subscription.class));
+
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return inputStream.read();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(read).isNotDone();
+
+        inputStream.abort();
+
+        assertThatThrownBy(() -> read.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IOException.class);
+    }
+}
@@ -15,12 +15,14 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -35,6 +37,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -78,7 +81,7 @@ public class AsyncRetryableStageAdaptiveModeTest {
             .thenAnswer((Answer<ScheduledFuture<?>>) invocationOnMock -> {
                 Runnable runnable = invocationOnMock.getArgument(0, Runnable.class);
                 runnable.run();
-                return null;
+                return mock(ScheduledFuture.class);
             });
     }
 
@@ -104,6 +107,39 @@ public class AsyncRetryableStageAdaptiveModeTest {
         verify(scheduledExecutorService).schedule(any(Runnable.class), eq(waitTime.toMillis()), eq(TimeUnit.MILLISECONDS));
     }
 
+    @Test
+    public void execute_acquireReturnsSubMillisecondValue_waitsAtLeastOneMillisecond() throws Exception {
+        retryableStage = createStage(false);
+        mockChildResponse(createSuccessResponse());
+
+        when(tokenBucket.acquireNonBlocking(anyDouble(), anyBoolean())).thenReturn(OptionalDouble.of(0.0004));
+
+        retryableStage.execute(createHttpRequest(), createExecutionContext()).join();
+
+        verify(scheduledExecutorService).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void execute_callCompletesWhileWaitingForToken_cancelsAttempt() throws Exception {
+        retryableStage = createStage(false);
+
+        ScheduledFuture<?> scheduledAttempt = mock(ScheduledFuture.class);
+        ArgumentCaptor<Runnable> attempt = ArgumentCaptor.forClass(Runnable.class);
+        when(scheduledExecutorService.schedule(attempt.capture(), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(invocationOnMock -> scheduledAttempt);
+        when(tokenBucket.acquireNonBlocking(anyDouble(), anyBoolean())).thenReturn(OptionalDouble.of(3.0));
+
+        CompletableFuture<Response<Object>> result = retryableStage.execute(createHttpRequest(), createExecutionContext());
+        result.cancel(true);
+
+        verify(scheduledAttempt).cancel(false);
+
+        // Even if the attempt was already running when it was cancelled, it must not send the request
+        attempt.getValue().run();
+        verify(mockChildPipeline, never()).execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class));
+        assertThat(result).isCancelled();
+    }
+
     @Test
     public void execute_fastFailEnabled_propagatesSettingToBucket() throws Exception {
         retryableStage = createStage(true);
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelTimerTest {
+    private final HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8, Runnable::run);
+
+    @Test
+    public void schedule_taskRunsNoEarlierThanTimeout() throws InterruptedException {
+        RecordingTask task = new RecordingTask();
+        long start = System.nanoTime();
+
+        timer.schedule(task, 50);
+
+        assertThat(task.executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(task.executionTime - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void schedule_timeoutLongerThanOneRevolution_taskRunsNoEarlierThanTimeout() throws InterruptedException {
+        RecordingTask task = new RecordingTask();
+        long start = System.nanoTime();
+
+        // The wheel makes a revolution every 8 milliseconds
+        timer.schedule(task, 30);
+
+        assertThat(task.executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(task.executionTime - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void schedule_zeroTimeout_taskRuns() throws InterruptedException {
+        RecordingTask task = new RecordingTask();
+
+        timer.schedule(task, 0);
+
+        assertThat(task.executed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void cancel_beforeTimeout_taskDoesNotRun() throws InterruptedException {
+        RecordingTask cancelled = new RecordingTask();
+        RecordingTask later = new RecordingTask();
+
+        timer.schedule(cancelled, 20).cancel();
+        timer.schedule(later, 40);
+
+        // Tasks expire in the order of their deadlines, so the cancelled task would have run by now
+        assertThat(later.executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelled.executed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void wheelSizeNotPowerOfTwo_throwsException() {
+        assertThatThrownBy(() -> new HashedWheelTimer(Duration.ofMillis(1), 10, Runnable::run))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class RecordingTask implements TimeoutTask {
+        private final CountDownLatch executed = new CountDownLatch(1);
+        private volatile long executionTime;
+
+        @Override
+        public void run() {
+            executionTime = System.nanoTime();
+            executed.countDown();
+        }
+
+        @Override
+        public boolean hasExecuted() {
+            return executed.getCount() == 0;
+        }
+    }
+}
@@ -74,6 +74,21 @@ public class HttpClientApiCallTimeoutTest {
             .isInstanceOf(ApiCallTimeoutException.class);
     }
 
+    @Test
+    public void sharedTimeoutTimer_SlowResponseHandler_ThrowsApiCallTimeoutException() {
+        stubFor(get(anyUrl())
+                    .willReturn(aResponse().withStatus(200).withBody("{}")));
+        httpClient = testClientBuilder()
+            .retryPolicy(RetryPolicy.none())
+            .apiCallTimeout(API_CALL_TIMEOUT)
+            .sharedTimeoutTimer(true)
+            .build();
+
+        assertThatThrownBy(() -> requestBuilder().execute(combinedSyncResponseHandler(
+            superSlowResponseHandler(API_CALL_TIMEOUT.toMillis()), null)))
+            .isInstanceOf(ApiCallTimeoutException.class);
+    }
+
     @Test
     public void errorResponse_SlowErrorResponseHandler_ThrowsApiCallTimeoutException() {
         stubFor(get(anyUrl())
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.metrics.ApiCallMetricCollectors;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class LowOverheadMetricCollectorTest {
+    private static final SdkMetric<String> CUSTOM_METRIC =
+        SdkMetric.create("LowOverheadMetricCollectorTestCustom", String.class, MetricLevel.INFO, MetricCategory.CUSTOM);
+
+    @Test
+    public void collect_containsReportedValuesInOrder() {
+        MetricCollector collector = LowOverheadMetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "Service");
+        collector.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ofMillis(1));
+        collector.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ofMillis(2));
+        collector.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ofMillis(3));
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.name()).isEqualTo("ApiCall");
+        assertThat(collection.metricValues(CoreMetric.SERVICE_ID)).containsExactly("Service");
+        assertThat(collection.metricValues(CoreMetric.BACKOFF_DELAY_DURATION))
+            .containsExactly(Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(3));
+        assertThat(collection.metricValues(CoreMetric.API_CALL_DURATION)).isEmpty();
+    }
+
+    @Test
+    public void collect_metricWithoutSlot_containsReportedValues() {
+        MetricCollector collector = LowOverheadMetricCollector.create("ApiCall");
+        collector.reportMetric(CUSTOM_METRIC, "a");
+        collector.reportMetric(CUSTOM_METRIC, "b");
+
+        assertThat(collector.collect().metricValues(CUSTOM_METRIC)).containsExactly("a", "b");
+    }
+
+    @Test
+    public void collect_nullValue_isCollectedAsNull() {
+        MetricCollector collector = LowOverheadMetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.AWS_REQUEST_ID, null);
+        collector.reportMetric(CUSTOM_METRIC, null);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(CoreMetric.AWS_REQUEST_ID)).containsExactly((String) null);
+        assertThat(collection.metricValues(CUSTOM_METRIC)).containsExactly((String) null);
+    }
+
+    @Test
+    public void iterator_returnsRecordForEveryValue() {
+        MetricCollector collector = LowOverheadMetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "Operation");
+        collector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 500);
+        collector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+        collector.reportMetric(CUSTOM_METRIC, "custom");
+
+        List<String> records = collector.collect().stream()
+                                        .map(r -> r.metric().name() + "=" + r.value())
+                                        .collect(Collectors.toList());
+
+        assertThat(records).containsExactlyInAnyOrder("OperationName=Operation",
+                                                      "HttpStatusCode=500",
+                                                      "HttpStatusCode=200",
+                                                      "LowOverheadMetricCollectorTestCustom=custom");
+    }
+
+    @Test
+    public void collect_containsChildrenInCreationOrder() {
+        MetricCollector parent = LowOverheadMetricCollector.create("ApiCall");
+        MetricCollector attempt1 = parent.createChild("ApiCallAttempt");
+        MetricCollector attempt2 = parent.createChild("ApiCallAttempt");
+        attempt1.createChild("HttpClient").reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        attempt2.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+
+        MetricCollection collection = parent.collect();
+
+        assertThat(collection.children()).hasSize(2);
+        MetricCollection firstAttempt = collection.children().get(0);
+        assertThat(firstAttempt.childrenWithName("HttpClient").findFirst().get().metricValues(HttpMetric.HTTP_CLIENT_NAME))
+            .containsExactly("Apache");
+        assertThat(collection.children().get(1).metricValues(HttpMetric.HTTP_STATUS_CODE)).containsExactly(200);
+    }
+
+    @Test
+    public void reportMetric_concurrentReports_keepsEveryValue() throws Exception {
+        MetricCollector collector = LowOverheadMetricCollector.create("ApiCall");
+        int threads = 8;
+        int reportsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, thread * reportsPerThread + i);
+                        collector.reportMetric(CUSTOM_METRIC, "value");
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        MetricCollection collection = collector.collect();
+        assertThat(collection.metricValues(HttpMetric.LEASED_CONCURRENCY))
+            .containsExactlyInAnyOrderElementsOf(IntStream.range(0, threads * reportsPerThread)
+                                                          .boxed()
+                                                          .collect(Collectors.toList()));
+        assertThat(collection.metricValues(CUSTOM_METRIC)).hasSize(threads * reportsPerThread);
+    }
+
+    @Test
+    public void apiCallMetricCollectors_lowOverheadMetricCollectionEnabled_createsLowOverheadCollector() {
+        SdkClientConfiguration enabled =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedClientOption.LOW_OVERHEAD_METRIC_COLLECTION, true)
+                                  .build();
+
+        assertThat(ApiCallMetricCollectors.create(enabled)).isInstanceOf(LowOverheadMetricCollector.class);
+        assertThat(ApiCallMetricCollectors.create(SdkClientConfiguration.builder().build()))
+            .isNotInstanceOf(LowOverheadMetricCollector.class)
+            .extracting(MetricCollector::name).isEqualTo("ApiCall");
+    }
+}
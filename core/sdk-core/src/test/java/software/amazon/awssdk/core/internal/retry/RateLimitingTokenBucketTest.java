@@ -18,6 +18,12 @@ package software.amazon.awssdk.core.internal.retry;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -154,4 +160,38 @@ public class RateLimitingTokenBucketTest {
 
         assertThat(tb.tryAcquireCapacity(5.0)).isEqualTo(2.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void acquireNonBlocking_concurrentCallers_acquiresEveryToken() throws Exception {
+        int threads = 16;
+        int acquiresPerThread = 1000;
+
+        // A fixed clock means refills never add capacity, so every acquired token must be accounted for
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket(() -> 1.0);
+        tb.updateClientSendingRate(true);
+        tb.setCurrentCapacity(0.0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < acquiresPerThread; j++) {
+                        assertThat(tb.acquireNonBlocking(1.0, false)).isPresent();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(tb.getCurrentCapacity()).isEqualTo(-1.0 * threads * acquiresPerThread);
+    }
+}
@@ -87,6 +87,7 @@ public class HttpTestUtils {
         private Map<String, String> additionalHeaders = new HashMap<>();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private Boolean sharedTimeoutTimer;
 
         public TestClientBuilder retryPolicy(RetryPolicy retryPolicy) {
             this.retryPolicy = retryPolicy;
@@ -113,6 +114,11 @@ public class HttpTestUtils {
             return this;
         }
 
+        public TestClientBuilder sharedTimeoutTimer(Boolean sharedTimeoutTimer) {
+            this.sharedTimeoutTimer = sharedTimeoutTimer;
+            return this;
+        }
+
         public AmazonSyncHttpClient build() {
             SdkHttpClient sdkHttpClient = this.httpClient != null ? this.httpClient : testSdkHttpClient();
             return new AmazonSyncHttpClient(testClientConfiguration().toBuilder()
@@ -121,6 +127,8 @@ public class HttpTestUtils {
                                                                      .applyMutation(this::configureAdditionalHeaders)
                                                                      .option(SdkClientOption.API_CALL_TIMEOUT, apiCallTimeout)
                                                                      .option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT, apiCallAttemptTimeout)
+                                                                     .option(SdkAdvancedClientOption.SHARED_TIMEOUT_TIMER,
+                                                                             sharedTimeoutTimer)
                                                                      .build());
         }
 
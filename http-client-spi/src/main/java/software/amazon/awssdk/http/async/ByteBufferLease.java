@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Allows an {@link SdkAsyncHttpClient} to publish response content directly from pooled memory, instead of copying every
+ * chunk into a new {@link ByteBuffer}, while letting subscribers that need a buffer after {@link Subscriber#onNext} returns
+ * keep that memory from being reused.
+ *
+ * <p>Publishers deliver a pooled buffer with {@link #publish(ByteBuffer, Runnable, Subscriber)}. Only subscribers that
+ * implement {@link LeaseAwareSubscriber} receive the pooled buffer itself. It is returned to its pool as soon as {@code onNext}
+ * returns, unless the subscriber called {@link #retain()} on the publishing thread while handling it. Subscribers that keep
+ * buffers around, for example to write them asynchronously, call {@link #retain()} from within {@code onNext} and run the
+ * returned {@link Runnable} once they no longer need the buffer. If the buffer being handled is not pooled, {@link #retain()}
+ * returns a no-op.
+ *
+ * <p>Every other subscriber receives a copy of the buffer, and the pooled buffer is released before the copy is delivered, so
+ * a subscriber that is not aware of leases can safely hand buffers to other threads.
+ */
+@SdkProtectedApi
+public final class ByteBufferLease {
+
+    private static final Runnable NO_OP = () -> { };
+
+    private static final ThreadLocal<ByteBufferLease> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final Runnable release;
+
+    private ByteBufferLease(Runnable release) {
+        this.release = release;
+    }
+
+    /**
+     * Deliver a pooled buffer to the provided subscriber. The {@code release} callback is invoked exactly once: after
+     * {@code onNext} has returned or thrown and every {@link #retain() retained} reference was released if the subscriber is a
+     * {@link LeaseAwareSubscriber}, or once the buffer has been copied otherwise.
+     *
+     * @param buffer The view of the pooled memory to deliver.
+     * @param release Returns the pooled memory backing the buffer to its pool.
+     * @param subscriber The subscriber to deliver the buffer to.
+     */
+    public static void publish(ByteBuffer buffer, Runnable release, Subscriber<? super ByteBuffer> subscriber) {
+        if (!(subscriber instanceof LeaseAwareSubscriber)) {
+            ByteBuffer copy;
+            try {
+                copy = copy(buffer);
+            } finally {
+                release.run();
+            }
+            subscriber.onNext(copy);
+            return;
+        }
+
+        ByteBufferLease lease = new ByteBufferLease(release);
+        // Publishing can be re-entrant, because a subscriber may request more data from within onNext
+        ByteBufferLease previous = CURRENT.get();
+        CURRENT.set(lease);
+        try {
+            subscriber.onNext(buffer);
+        } finally {
+            CURRENT.set(previous);
+            lease.release();
+        }
+    }
+
+    /**
+     * Returns true if the buffer that is currently being delivered to {@code onNext} on this thread is pooled, and must be
+     * {@link #retain() retained} if it is used after {@code onNext} returns.
+     */
+    public static boolean isLeased() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Keep the buffer that is currently being delivered to {@code onNext} on this thread from being returned to its pool.
+     * This must be called from within {@code onNext}, before it returns.
+     *
+     * @return A callback to invoke once the buffer is no longer needed. It is safe to invoke more than once. This is a no-op
+     * if the buffer being delivered is not pooled.
+     */
+    public static Runnable retain() {
+        ByteBufferLease lease = CURRENT.get();
+        if (lease == null) {
+            return NO_OP;
+        }
+
+        lease.references.incrementAndGet();
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                lease.release();
+            }
+        };
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer) {
+        ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+        copy.put(buffer.duplicate());
+        copy.flip();
+        return copy;
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            release.run();
+        }
+    }
+
+    /**
+     * A subscriber that may receive pooled buffers from {@link #publish(ByteBuffer, Runnable, Subscriber)}. Implementations
+     * must either be done with each buffer when {@code onNext} returns, or call {@link #retain()} from within {@code onNext},
+     * on the publishing thread, before the buffer is handed to any other thread.
+     */
+    public interface LeaseAwareSubscriber {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class ByteBufferLeaseTest {
+    private static final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[] {1, 2, 3});
+
+    @Test
+    public void publish_NotRetained_ReleasesAfterOnNext() {
+        AtomicInteger releases = new AtomicInteger();
+        ByteBufferLease.publish(BUFFER, releases::incrementAndGet, leaseAware(b -> assertThat(releases).hasValue(0)));
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void publish_OnNextThrows_StillReleases() {
+        AtomicInteger releases = new AtomicInteger();
+        assertThatThrownBy(() -> ByteBufferLease.publish(BUFFER, releases::incrementAndGet, leaseAware(b -> {
+            throw new IllegalStateException();
+        }))).isInstanceOf(IllegalStateException.class);
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void retain_DefersReleaseUntilRetainedReferenceIsReleased() {
+        AtomicInteger releases = new AtomicInteger();
+        AtomicReference<Runnable> retained = new AtomicReference<>();
+        ByteBufferLease.publish(BUFFER, releases::incrementAndGet, leaseAware(b -> retained.set(ByteBufferLease.retain())));
+        assertThat(releases).hasValue(0);
+
+        retained.get().run();
+        retained.get().run();
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void retain_OutsideOfPublish_IsNoOp() {
+        Runnable retained = ByteBufferLease.retain();
+        retained.run();
+    }
+
+    @Test
+    public void publish_Reentrant_RetainsInnermostBuffer() {
+        AtomicInteger outerReleases = new AtomicInteger();
+        AtomicInteger innerReleases = new AtomicInteger();
+        AtomicReference<Runnable> retainedOuter = new AtomicReference<>();
+        ByteBufferLease.publish(BUFFER, outerReleases::incrementAndGet, leaseAware(outer -> {
+            ByteBufferLease.publish(BUFFER, innerReleases::incrementAndGet, leaseAware(inner -> { }));
+            retainedOuter.set(ByteBufferLease.retain());
+        }));
+
+        assertThat(innerReleases).hasValue(1);
+        assertThat(outerReleases).hasValue(0);
+        retainedOuter.get().run();
+        assertThat(outerReleases).hasValue(1);
+    }
+
+    @Test
+    public void publish_NotLeaseAware_DeliversCopyReleasedBeforeOnNext() {
+        AtomicInteger releases = new AtomicInteger();
+        AtomicReference<ByteBuffer> delivered = new AtomicReference<>();
+        ByteBufferLease.publish(BUFFER, releases::incrementAndGet, new ConsumingSubscriber(b -> {
+            assertThat(releases).hasValue(1);
+            delivered.set(b);
+        }));
+
+        assertThat(delivered.get()).isNotSameAs(BUFFER).isEqualTo(BUFFER);
+        assertThat(delivered.get().array()).isNotSameAs(BUFFER.array());
+        assertThat(BUFFER.position()).isZero();
+    }
+
+    @Test
+    public void retain_NotLeaseAware_IsNoOp() {
+        AtomicInteger releases = new AtomicInteger();
+        AtomicReference<Runnable> retained = new AtomicReference<>();
+        ByteBufferLease.publish(BUFFER, releases::incrementAndGet,
+                                new ConsumingSubscriber(b -> retained.set(ByteBufferLease.retain())));
+
+        assertThat(releases).hasValue(1);
+        retained.get().run();
+        assertThat(releases).hasValue(1);
+    }
+
+    private static Subscriber<ByteBuffer> leaseAware(Consumer<ByteBuffer> onNext) {
+        return new LeaseAwareConsumingSubscriber(onNext);
+    }
+
+    private static class ConsumingSubscriber implements Subscriber<ByteBuffer> {
+        private final Consumer<ByteBuffer> onNext;
+
+        private ConsumingSubscriber(Consumer<ByteBuffer> onNext) {
+            this.onNext = onNext;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            onNext.accept(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private static final class LeaseAwareConsumingSubscriber extends ConsumingSubscriber
+        implements ByteBufferLease.LeaseAwareSubscriber {
+
+        private LeaseAwareConsumingSubscriber(Consumer<ByteBuffer> onNext) {
+            super(onNext);
+        }
+    }
+}
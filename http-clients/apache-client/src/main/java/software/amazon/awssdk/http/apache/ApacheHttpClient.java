@@ -81,6 +81,7 @@ import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerF
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ShardedHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
@@ -310,10 +311,20 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private void collectPoolMetric(MetricCollector metricCollector) {
+        if (metricCollector instanceof NoOpMetricCollector) {
+            return;
+        }
+
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
-        if (cm instanceof PoolingHttpClientConnectionManager && !(metricCollector instanceof NoOpMetricCollector)) {
-            PoolingHttpClientConnectionManager poolingCm = (PoolingHttpClientConnectionManager) cm;
-            PoolStats totalStats = poolingCm.getTotalStats();
+        PoolStats totalStats = null;
+        if (cm instanceof PoolingHttpClientConnectionManager) {
+            totalStats = ((PoolingHttpClientConnectionManager) cm).getTotalStats();
+        } else if (cm instanceof ShardedHttpClientConnectionManager) {
+            // The shard the request was served from, since that is the pool the request competed for
+            totalStats = ((ShardedHttpClientConnectionManager) cm).currentShardStats();
+        }
+
+        if (totalStats != null) {
             metricCollector.reportMetric(MAX_CONCURRENCY, totalStats.getMax());
             metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
             metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
@@ -450,6 +461,20 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the number of independent connection pools the connections of this client are split across. Each thread
+         * leases its connections from one of the pools, which reduces lock contention when many threads (hundreds or more)
+         * make requests concurrently. The {@link #maxConnections(Integer)} are divided evenly between the pools, so a single
+         * thread can use at most its pool's share of them.
+         * <p>
+         * When more than one pool is used, the connection pool metrics reported for a request ({@code MAX_CONCURRENCY},
+         * {@code AVAILABLE_CONCURRENCY}, {@code LEASED_CONCURRENCY} and {@code PENDING_CONCURRENCY_ACQUIRES}) describe the
+         * pool the request was served from.
+         * <p>
+         * By default, a single pool is used. Must not be greater than {@link #maxConnections(Integer)}.
+         */
+        Builder connectionPoolShards(Integer connectionPoolShards);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -461,6 +486,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Integer connectionPoolShards;
 
         private DefaultBuilder() {
         }
@@ -641,6 +667,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder connectionPoolShards(Integer connectionPoolShards) {
+            this.connectionPoolShards = connectionPoolShards;
+            return this;
+        }
+
+        public void setConnectionPoolShards(Integer connectionPoolShards) {
+            connectionPoolShards(connectionPoolShards);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -653,19 +689,35 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
-            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            Registry<ConnectionSocketFactory> socketFactoryRegistry =
+                createSocketFactoryRegistry(getPreferredSocketFactory(configuration, standardOptions));
+            int maxConnections = standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+            int shards = Optional.ofNullable(configuration.connectionPoolShards)
+                                 .orElse(DefaultConfiguration.CONNECTION_POOL_SHARDS);
+
+            if (shards == 1) {
+                PoolingHttpClientConnectionManager cm = createPool(configuration, standardOptions, socketFactoryRegistry);
+                cm.setDefaultMaxPerRoute(maxConnections);
+                cm.setMaxTotal(maxConnections);
+                return cm;
+            }
+
+            return ShardedHttpClientConnectionManager.create(
+                shards, maxConnections, () -> createPool(configuration, standardOptions, socketFactoryRegistry));
+        }
 
+        private PoolingHttpClientConnectionManager createPool(ApacheHttpClient.DefaultBuilder configuration,
+                                                              AttributeMap standardOptions,
+                                                              Registry<ConnectionSocketFactory> socketFactoryRegistry) {
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
+                    socketFactoryRegistry,
                     null,
                     DefaultSchemePortResolver.INSTANCE,
                     configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
-            cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
-            cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
             cm.setDefaultSocketConfig(buildSocketConfig(standardOptions));
 
             return cm;
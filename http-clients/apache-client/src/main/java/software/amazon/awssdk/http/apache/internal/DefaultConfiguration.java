@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 @SdkInternalApi
 public final class DefaultConfiguration {
     public static final Boolean EXPECT_CONTINUE_ENABLED = Boolean.TRUE;
+    public static final int CONNECTION_POOL_SHARDS = 1;
 
     private DefaultConfiguration() {
     }
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link HttpClientConnectionManager} that splits the connections of a client across several independent
+ * {@link PoolingHttpClientConnectionManager}s, to reduce contention on the pool lock when many threads lease connections at
+ * the same time.
+ * <p>
+ * Each thread leases its connections from one shard, chosen by its thread ID. Because all threads use the same route for a
+ * single endpoint, sharding by route would not spread the load of a hot endpoint. A connection is always returned to the
+ * shard it was leased from, even when it is released by a different thread.
+ */
+@SdkInternalApi
+public final class ShardedHttpClientConnectionManager implements HttpClientConnectionManager {
+
+    private final List<PoolingHttpClientConnectionManager> shards;
+
+    private final Map<HttpClientConnection, PoolingHttpClientConnectionManager> leasedConnections = new ConcurrentHashMap<>();
+
+    @SdkTestInternalApi
+    ShardedHttpClientConnectionManager(List<PoolingHttpClientConnectionManager> shards) {
+        Validate.notEmpty(shards, "shards must not be empty");
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+    }
+
+    /**
+     * Create a connection manager with the provided number of shards, dividing {@code maxConnections} between them.
+     *
+     * @param shardCount The number of shards. Must be positive and no larger than {@code maxConnections}.
+     * @param maxConnections The maximum number of connections across all shards.
+     * @param shardFactory Creates an unconfigured shard. The maximum number of connections of each shard is set by this
+     * method.
+     */
+    public static ShardedHttpClientConnectionManager create(int shardCount,
+                                                            int maxConnections,
+                                                            Supplier<PoolingHttpClientConnectionManager> shardFactory) {
+        Validate.isPositive(shardCount, "connectionPoolShards");
+        Validate.isTrue(shardCount <= maxConnections,
+                        "connectionPoolShards (%s) must not be greater than maxConnections (%s).", shardCount, maxConnections);
+
+        List<PoolingHttpClientConnectionManager> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            // Spread the remainder over the first shards, so that the shards add up to maxConnections
+            int shardMaxConnections = maxConnections / shardCount + (i < maxConnections % shardCount ? 1 : 0);
+            PoolingHttpClientConnectionManager shard = shardFactory.get();
+            shard.setDefaultMaxPerRoute(shardMaxConnections);
+            shard.setMaxTotal(shardMaxConnections);
+            shards.add(shard);
+        }
+        return new ShardedHttpClientConnectionManager(shards);
+    }
+
+    /**
+     * @return The statistics of the shard used by the current thread.
+     */
+    public PoolStats currentShardStats() {
+        return currentShard().getTotalStats();
+    }
+
+    /**
+     * @return The statistics of each shard, in shard order.
+     */
+    public List<PoolStats> shardStats() {
+        List<PoolStats> stats = new ArrayList<>(shards.size());
+        shards.forEach(shard -> stats.add(shard.getTotalStats()));
+        return stats;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        PoolingHttpClientConnectionManager shard = currentShard();
+        ConnectionRequest request = shard.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                HttpClientConnection connection = request.get(timeout, timeUnit);
+                leasedConnections.put(connection, shard);
+                return connection;
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+        PoolingHttpClientConnectionManager shard = leasedConnections.remove(conn);
+        if (shard == null) {
+            throw new IllegalStateException("Connection not obtained from this manager");
+        }
+        shard.releaseConnection(conn, newState, validDuration, timeUnit);
+    }
+
+    @Override
+    public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+            throws IOException {
+        owner(conn).connect(conn, route, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        owner(conn).upgrade(conn, route, context);
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        owner(conn).routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+        shards.forEach(shard -> shard.closeIdleConnections(idletime, timeUnit));
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        shards.forEach(PoolingHttpClientConnectionManager::closeExpiredConnections);
+    }
+
+    @Override
+    public void shutdown() {
+        shards.forEach(PoolingHttpClientConnectionManager::shutdown);
+        leasedConnections.clear();
+    }
+
+    private PoolingHttpClientConnectionManager currentShard() {
+        return shards.get((int) (Thread.currentThread().getId() % shards.size()));
+    }
+
+    private PoolingHttpClientConnectionManager owner(HttpClientConnection conn) {
+        PoolingHttpClientConnectionManager shard = leasedConnections.get(conn);
+        if (shard == null) {
+            throw new IllegalStateException("Connection not obtained from this manager");
+        }
+        return shard;
+    }
+}
@@ -42,6 +42,7 @@ import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.http.apache.internal.conn.ShardedHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -101,6 +102,26 @@ public class MetricReportingTest {
         assertThat(collected.metricValues(MAX_CONCURRENCY)).isEmpty();
     }
 
+    @Test
+    public void prepareRequest_shardedConnectionManager_callableCalled_currentShardMetricsReported() throws IOException {
+        ApacheHttpClient client = newClient();
+        PoolingHttpClientConnectionManager shard = mock(PoolingHttpClientConnectionManager.class);
+        when(shard.getTotalStats()).thenReturn(new PoolStats(5, 6, 7, 8));
+        ShardedHttpClientConnectionManager shardedCm = ShardedHttpClientConnectionManager.create(1, 1, () -> shard);
+        when(mockHttpClient.getHttpClientConnectionManager()).thenReturn(shardedCm);
+        MetricCollector collector = MetricCollector.create("test");
+        HttpExecuteRequest executeRequest = newRequest(collector);
+
+        client.prepareRequest(executeRequest).call();
+
+        MetricCollection collected = collector.collect();
+
+        assertThat(collected.metricValues(LEASED_CONCURRENCY)).containsExactly(5);
+        assertThat(collected.metricValues(PENDING_CONCURRENCY_ACQUIRES)).containsExactly(6);
+        assertThat(collected.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(7);
+        assertThat(collected.metricValues(MAX_CONCURRENCY)).containsExactly(8);
+    }
+
     private ApacheHttpClient newClient() {
         ApacheHttpRequestConfig config = ApacheHttpRequestConfig.builder()
                 .connectionAcquireTimeout(Duration.ofDays(1))
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.Test;
+
+public class ShardedHttpClientConnectionManagerTest {
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost"));
+
+    @Test
+    public void create_dividesMaxConnectionsBetweenShards() {
+        List<PoolingHttpClientConnectionManager> shards = new ArrayList<>();
+        ShardedHttpClientConnectionManager.create(3, 10, () -> {
+            PoolingHttpClientConnectionManager shard = new PoolingHttpClientConnectionManager();
+            shards.add(shard);
+            return shard;
+        });
+
+        assertThat(shards).extracting(PoolingHttpClientConnectionManager::getMaxTotal).containsExactly(4, 3, 3);
+        assertThat(shards).extracting(PoolingHttpClientConnectionManager::getDefaultMaxPerRoute).containsExactly(4, 3, 3);
+    }
+
+    @Test
+    public void create_moreShardsThanConnections_throwsException() {
+        assertThatThrownBy(() -> ShardedHttpClientConnectionManager.create(4, 2, PoolingHttpClientConnectionManager::new))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("connectionPoolShards");
+    }
+
+    @Test
+    public void create_nonPositiveShards_throwsException() {
+        assertThatThrownBy(() -> ShardedHttpClientConnectionManager.create(0, 2, PoolingHttpClientConnectionManager::new))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void releaseConnection_fromOtherThread_releasedToLeasingShard() throws Exception {
+        PoolingHttpClientConnectionManager first = mock(PoolingHttpClientConnectionManager.class);
+        PoolingHttpClientConnectionManager second = mock(PoolingHttpClientConnectionManager.class);
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        ConnectionRequest request = mock(ConnectionRequest.class);
+        when(request.get(anyLong(), any())).thenReturn(connection);
+        when(first.requestConnection(any(), any())).thenReturn(request);
+        when(second.requestConnection(any(), any())).thenReturn(request);
+
+        ShardedHttpClientConnectionManager cm = new ShardedHttpClientConnectionManager(Arrays.asList(first, second));
+        PoolingHttpClientConnectionManager leasingShard = Thread.currentThread().getId() % 2 == 0 ? first : second;
+        PoolingHttpClientConnectionManager otherShard = leasingShard == first ? second : first;
+
+        HttpClientConnection leased = cm.requestConnection(ROUTE, null).get(1, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> cm.releaseConnection(leased, null, 1, TimeUnit.SECONDS)).join();
+
+        verify(leasingShard).releaseConnection(connection, null, 1, TimeUnit.SECONDS);
+        verify(otherShard, never()).requestConnection(any(), any());
+        verify(otherShard, never()).releaseConnection(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    public void releaseConnection_notLeasedFromManager_throwsException() {
+        ShardedHttpClientConnectionManager cm =
+            new ShardedHttpClientConnectionManager(Arrays.asList(mock(PoolingHttpClientConnectionManager.class)));
+
+        assertThatThrownBy(() -> cm.releaseConnection(mock(HttpClientConnection.class), null, 1, TimeUnit.SECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void poolMaintenance_appliedToAllShards() {
+        PoolingHttpClientConnectionManager first = mock(PoolingHttpClientConnectionManager.class);
+        PoolingHttpClientConnectionManager second = mock(PoolingHttpClientConnectionManager.class);
+        ShardedHttpClientConnectionManager cm = new ShardedHttpClientConnectionManager(Arrays.asList(first, second));
+
+        cm.closeIdleConnections(5, TimeUnit.SECONDS);
+        cm.closeExpiredConnections();
+        cm.shutdown();
+
+        for (PoolingHttpClientConnectionManager shard : Arrays.asList(first, second)) {
+            verify(shard).closeIdleConnections(5, TimeUnit.SECONDS);
+            verify(shard).closeExpiredConnections();
+            verify(shard).shutdown();
+        }
+    }
+}
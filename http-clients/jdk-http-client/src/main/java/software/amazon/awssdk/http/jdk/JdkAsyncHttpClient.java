@@ -0,0 +1,282 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.jdk.internal.JavaHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JavaHttpRequestFactory;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} added to the JDK in Java 11. It has no
+ * dependencies outside of the JDK and, when configured with {@link Protocol#HTTP2}, multiplexes concurrent requests to the
+ * same endpoint over a single connection.
+ *
+ * <p>Request bodies are streamed from the {@link software.amazon.awssdk.http.async.SdkHttpContentPublisher} and response
+ * bodies are delivered to the {@link SdkAsyncHttpResponseHandler} as they are received, without buffering either in
+ * memory.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final AtomicInteger inFlightRequests = new AtomicInteger(0);
+
+    private JdkAsyncHttpClient(AttributeMap options, DefaultBuilder builder) {
+        this.httpClient = JavaHttpClientFactory.create(options, builder.executor);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = JavaHttpRequestFactory.create(request.request(), request.requestContentPublisher(), readTimeout);
+        } catch (RuntimeException e) {
+            responseHandler.onError(e);
+            executeFuture.completeExceptionally(e);
+            return executeFuture;
+        }
+
+        metricCollector.reportMetric(LEASED_CONCURRENCY, inFlightRequests.incrementAndGet());
+        executeFuture.whenComplete((r, t) -> inFlightRequests.decrementAndGet());
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, responseInfo -> {
+                responseHandler.onHeaders(toSdkHttpResponse(responseInfo));
+                return BodySubscribers.ofPublisher();
+            });
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                responseHandler.onError(cause);
+                executeFuture.completeExceptionally(cause);
+            } else {
+                responseHandler.onStream(new ResponseBodyPublisher(response.body(), executeFuture));
+            }
+        });
+
+        // Propagate cancellation of the SDK's future, e.g. because of an API call timeout
+        executeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    /**
+     * Does nothing: the {@link HttpClient} available in Java 11 cannot be closed. Its connections are closed once they are idle
+     * and the client is no longer referenced. If a custom {@link Builder#executor(Executor)} was configured, it remains owned
+     * by the caller.
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private static SdkHttpResponse toSdkHttpResponse(HttpResponse.ResponseInfo responseInfo) {
+        SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(responseInfo.statusCode());
+        responseInfo.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers are part of the protocol framing, not headers of the response
+            if (!name.startsWith(":")) {
+                response.putHeader(name, values);
+            }
+        });
+        return response.build();
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JdkAsyncHttpClient.builder()
+     * .protocol(Protocol.HTTP2)
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The maximum amount of time to wait for the response headers of a request before timing it out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use. With {@link Protocol#HTTP2}, the client negotiates HTTP/2 with the server and falls
+         * back to HTTP/1.1 if the server does not support it.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link Executor} the {@link HttpClient} uses for asynchronous and dependent tasks. By default, the
+         * JDK creates a cached thread pool for each client. The executor is not shut down when the client is closed.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(standardOptions.build()
+                                                         .merge(serviceDefaults)
+                                                         .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                          this);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JavaHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JavaHttpRequestFactory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} added to the JDK in Java 11. Unlike
+ * software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient, it keeps a connection pool per client rather than per
+ * JVM, and supports aborting requests before the response has been received.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final AtomicInteger inFlightRequests = new AtomicInteger(0);
+
+    private JdkHttpClient(AttributeMap options, DefaultBuilder builder) {
+        this.httpClient = JavaHttpClientFactory.create(options, builder.executor);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return a {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        HttpRequest httpRequest = JavaHttpRequestFactory.create(request.httpRequest(), request.contentStreamProvider(),
+                                                                readTimeout);
+        return new RequestCallable(httpRequest, metricCollector);
+    }
+
+    /**
+     * Does nothing: the {@link HttpClient} available in Java 11 cannot be closed. Its connections are closed once they are idle
+     * and the client is no longer referenced. If a custom {@link Builder#executor(Executor)} was configured, it remains owned
+     * by the caller.
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpRequest httpRequest;
+        private final MetricCollector metricCollector;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpRequest httpRequest, MetricCollector metricCollector) {
+            this.httpRequest = httpRequest;
+            this.metricCollector = metricCollector;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            metricCollector.reportMetric(LEASED_CONCURRENCY, inFlightRequests.incrementAndGet());
+            AbortableInputStream responseBody = null;
+            try {
+                if (aborted) {
+                    throw new IOException("The request was aborted.");
+                }
+                // Sending asynchronously and waiting for the result lets abort() release the calling thread, which
+                // HttpClient#send does not allow
+                CompletableFuture<HttpResponse<InputStream>> future = httpClient.sendAsync(httpRequest,
+                                                                                           BodyHandlers.ofInputStream());
+                responseFuture = future;
+                // An abort() that ran before the future was assigned could not cancel it
+                if (aborted) {
+                    future.cancel(true);
+                }
+                HttpResponse<InputStream> response = awaitResponse(future);
+                InputStream body = response.body();
+
+                SdkHttpResponse.Builder sdkResponse = SdkHttpResponse.builder().statusCode(response.statusCode());
+                response.headers().map().forEach((name, values) -> {
+                    // HTTP/2 pseudo-headers are part of the protocol framing, not headers of the response
+                    if (!name.startsWith(":")) {
+                        sdkResponse.putHeader(name, values);
+                    }
+                });
+
+                if (responseHasNoContent(response)) {
+                    body.close();
+                } else {
+                    // The request is in flight until its response body is closed or aborted
+                    responseBody = AbortableInputStream.create(new ReleasingInputStream(body), () -> {
+                        invokeSafely(body::close);
+                        release();
+                    });
+                }
+
+                return HttpExecuteResponse.builder()
+                                          .response(sdkResponse.build())
+                                          .responseBody(responseBody)
+                                          .build();
+            } finally {
+                if (responseBody == null) {
+                    release();
+                }
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlightRequests.decrementAndGet();
+            }
+        }
+
+        private HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> future) throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for the response.");
+                interrupted.initCause(e);
+                throw interrupted;
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new UncheckedIOException(new IOException(cause));
+            }
+        }
+
+        private boolean responseHasNoContent(HttpResponse<InputStream> response) {
+            int responseCode = response.statusCode();
+            return responseCode == 204 || responseCode == 304 || (responseCode >= 100 && responseCode < 200) ||
+                   "HEAD".equals(httpRequest.method()) ||
+                   response.headers().firstValueAsLong("Content-Length").orElse(-1) == 0;
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        private final class ReleasingInputStream extends FilterInputStream {
+            private ReleasingInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    release();
+                }
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created via
+     * {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .readTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The maximum amount of time to wait for the response headers of a request before timing it out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Configure the {@link Executor} the {@link HttpClient} uses for asynchronous and dependent tasks. By default, the
+         * JDK creates a cached thread pool for each client. The executor is not shut down when the client is closed.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(standardOptions.build()
+                                                    .merge(serviceDefaults)
+                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                     this);
+        }
+    }
+}
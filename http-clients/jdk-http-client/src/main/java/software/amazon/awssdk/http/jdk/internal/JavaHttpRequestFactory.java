@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.utils.StringUtils.lowerCase;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * Converts SDK requests into {@link HttpRequest}s.
+ */
+@SdkInternalApi
+public final class JavaHttpRequestFactory {
+    /**
+     * Headers that {@link HttpRequest.Builder} rejects, because the client manages them itself. The values the SDK computed
+     * for them are instead expressed through the body publisher and {@link HttpRequest.Builder#expectContinue(boolean)}.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("connection", "content-length", "expect", "host", "upgrade")));
+
+    private JavaHttpRequestFactory() {
+    }
+
+    /**
+     * Create a request whose body is read from the provided reactive streams publisher.
+     */
+    public static HttpRequest create(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher, Duration readTimeout) {
+        Long contentLength = contentLength(request).orElseGet(() -> contentPublisher.contentLength().orElse(null));
+
+        BodyPublisher bodyPublisher;
+        if (contentLength == null) {
+            bodyPublisher = BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher));
+        } else if (contentLength == 0) {
+            bodyPublisher = BodyPublishers.noBody();
+        } else {
+            bodyPublisher = BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher), contentLength);
+        }
+
+        return create(request, bodyPublisher, readTimeout);
+    }
+
+    /**
+     * Create a request whose body is read from the provided stream provider, if there is one.
+     */
+    public static HttpRequest create(SdkHttpRequest request, Optional<ContentStreamProvider> contentStreamProvider,
+                                     Duration readTimeout) {
+        Optional<Long> contentLength = contentLength(request);
+
+        BodyPublisher bodyPublisher;
+        if (!contentStreamProvider.isPresent() || contentLength.filter(l -> l == 0).isPresent()) {
+            bodyPublisher = BodyPublishers.noBody();
+        } else {
+            ContentStreamProvider provider = contentStreamProvider.get();
+            BodyPublisher streamPublisher = BodyPublishers.ofInputStream(provider::newStream);
+            bodyPublisher = contentLength.map(l -> BodyPublishers.fromPublisher(streamPublisher, l))
+                                         .orElse(streamPublisher);
+        }
+
+        return create(request, bodyPublisher, readTimeout);
+    }
+
+    private static HttpRequest create(SdkHttpRequest request, BodyPublisher bodyPublisher, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), bodyPublisher);
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = lowerCase(name);
+            if (!RESTRICTED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            } else if ("expect".equals(lowerCaseName) && values.stream().anyMatch("100-continue"::equalsIgnoreCase)) {
+                builder.expectContinue(true);
+            }
+        });
+
+        if (JavaHttpClientFactory.isPositive(readTimeout)) {
+            builder.timeout(readTimeout);
+        }
+
+        return builder.build();
+    }
+
+    private static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(Header.CONTENT_LENGTH).map(Long::parseLong);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Exposes the body of a response received through {@link BodySubscribers#ofPublisher()} as the {@link Publisher} of
+ * {@link ByteBuffer}s expected by {@link software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler#onStream(Publisher)}.
+ * <p>
+ * The provided future is completed once the body has been fully delivered, failed or cancelled, which is when the request is
+ * considered complete.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Flow.Publisher<List<ByteBuffer>> body;
+    private final CompletableFuture<Void> completionFuture;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> completionFuture) {
+        this.body = body;
+        this.completionFuture = completionFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        FlowAdapters.toPublisher(body).subscribe(new FlatteningSubscriber<>(new CompletingSubscriber(subscriber)));
+    }
+
+    /**
+     * Completes the request future when the downstream subscriber reaches a terminal state.
+     */
+    private final class CompletingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private CompletingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    completionFuture.complete(null);
+                }
+            });
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            completionFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            completionFuture.complete(null);
+        }
+    }
+}
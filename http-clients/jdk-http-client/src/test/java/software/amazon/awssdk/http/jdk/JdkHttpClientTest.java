@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class JdkHttpClientTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("content")));
+        client = JdkHttpClient.create();
+    }
+
+    @Test
+    public void abortBeforeCall_requestIsNotSent() {
+        ExecutableHttpRequest request = client.prepareRequest(executeRequest(null));
+
+        request.abort();
+
+        assertThatThrownBy(request::call).isInstanceOf(IOException.class);
+        mockServer.verify(0, anyRequestedFor(anyUrl()));
+    }
+
+    @Test
+    public void responseBodyOpen_requestCountsAsLeased() throws IOException {
+        AbortableInputStream firstBody = client.prepareRequest(executeRequest(null)).call().responseBody().get();
+
+        assertThat(leasedConcurrencyOfNextRequest()).isEqualTo(2);
+
+        firstBody.close();
+
+        assertThat(leasedConcurrencyOfNextRequest()).isEqualTo(1);
+    }
+
+    @Test
+    public void responseBodyAborted_requestNoLongerCountsAsLeased() throws IOException {
+        AbortableInputStream firstBody = client.prepareRequest(executeRequest(null)).call().responseBody().get();
+
+        firstBody.abort();
+
+        assertThat(leasedConcurrencyOfNextRequest()).isEqualTo(1);
+    }
+
+    private int leasedConcurrencyOfNextRequest() throws IOException {
+        MetricCollector collector = MetricCollector.create("test");
+        client.prepareRequest(executeRequest(collector)).call().responseBody().get().close();
+        return collector.collect().metricValues(LEASED_CONCURRENCY).get(0);
+    }
+
+    private HttpExecuteRequest executeRequest(MetricCollector collector) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + mockServer.port()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        return HttpExecuteRequest.builder()
+                                 .request(request)
+                                 .metricCollector(collector)
+                                 .build();
+    }
+}
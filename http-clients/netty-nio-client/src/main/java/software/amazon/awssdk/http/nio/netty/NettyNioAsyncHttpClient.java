@@ -84,7 +84,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final NettyConfiguration configuration;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        this.configuration = new NettyConfiguration(serviceDefaultsMap, Boolean.TRUE.equals(builder.zeroCopyResponseContent));
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
@@ -475,6 +475,24 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether response content should be published directly from Netty's pooled buffers, instead of being
+         * copied into a new {@link java.nio.ByteBuffer} for every chunk received. This halves the memory bandwidth used for
+         * large downloads and avoids allocating a heap buffer per chunk.
+         *
+         * <p>Only response subscribers that implement
+         * {@link software.amazon.awssdk.http.async.ByteBufferLease.LeaseAwareSubscriber} receive pooled buffers. Such a buffer
+         * is returned to the pool as soon as {@code onNext} returns, unless the subscriber retains it with
+         * {@link software.amazon.awssdk.http.async.ByteBufferLease#retain()}. Other subscribers still receive a copy of
+         * every chunk, so enabling this is safe for any subscriber.
+         *
+         * <p>By default, this is disabled.
+         *
+         * @param zeroCopyResponseContent Whether to publish response content without copying it.
+         * @return the builder for method chaining.
+         */
+        Builder zeroCopyResponseContent(Boolean zeroCopyResponseContent);
     }
 
     /**
@@ -492,6 +510,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private Http2Configuration http2Configuration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private Boolean zeroCopyResponseContent;
 
         private DefaultBuilder() {
         }
@@ -716,6 +735,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder zeroCopyResponseContent(Boolean zeroCopyResponseContent) {
+            this.zeroCopyResponseContent = zeroCopyResponseContent;
+            return this;
+        }
+
+        public void setZeroCopyResponseContent(Boolean zeroCopyResponseContent) {
+            zeroCopyResponseContent(zeroCopyResponseContent);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.ByteBufferLease;
+
+/**
+ * A {@link ByteBuf} over the array of a heap {@link ByteBuffer} that runs a callback once Netty releases it. This lets
+ * request content that was retained with {@link ByteBufferLease#retain()} go back to its pool only after it has been written.
+ */
+@SdkInternalApi
+final class LeasedHeapByteBuf extends UnpooledHeapByteBuf {
+    private final Runnable release;
+
+    private LeasedHeapByteBuf(byte[] array, Runnable release) {
+        super(UnpooledByteBufAllocator.DEFAULT, array, array.length);
+        this.release = release;
+    }
+
+    /**
+     * Wrap the remaining content of a heap buffer without copying it.
+     *
+     * @param buffer A buffer backed by an accessible array.
+     * @param release Invoked when the returned {@link ByteBuf} is deallocated.
+     */
+    static ByteBuf wrap(ByteBuffer buffer, Runnable release) {
+        return new LeasedHeapByteBuf(buffer.array(), release).slice(buffer.arrayOffset() + buffer.position(),
+                                                                    buffer.remaining());
+    }
+
+    @Override
+    protected void deallocate() {
+        super.deallocate();
+        release.run();
+    }
+}
@@ -43,9 +43,15 @@ public final class NettyConfiguration {
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
     private final AttributeMap configuration;
+    private final boolean zeroCopyResponseContent;
 
     public NettyConfiguration(AttributeMap configuration) {
+        this(configuration, false);
+    }
+
+    public NettyConfiguration(AttributeMap configuration, boolean zeroCopyResponseContent) {
         this.configuration = configuration;
+        this.zeroCopyResponseContent = zeroCopyResponseContent;
     }
 
     public <T> T attribute(AttributeMap.Key<T> key) {
@@ -107,4 +113,8 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean zeroCopyResponseContent() {
+        return zeroCopyResponseContent;
+    }
 }
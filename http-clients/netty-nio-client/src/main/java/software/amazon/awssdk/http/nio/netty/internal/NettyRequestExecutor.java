@@ -60,6 +60,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.ByteBufferLease;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
@@ -431,7 +432,7 @@ public final class NettyRequestExecutor {
 
         @Override
         public void subscribe(Subscriber<? super HttpContent> subscriber) {
-            publisher.subscribe(new Subscriber<ByteBuffer>() {
+            publisher.subscribe(new LeaseAwareContentSubscriber() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
                     StreamedRequest.this.subscription = subscription;
@@ -447,8 +448,7 @@ public final class NettyRequestExecutor {
                     try {
                         int newLimit = clampedBufferLimit(contentBytes.remaining());
                         contentBytes.limit(newLimit);
-                        ByteBuf contentByteBuf = Unpooled.wrappedBuffer(contentBytes);
-                        HttpContent content = new DefaultHttpContent(contentByteBuf);
+                        HttpContent content = new DefaultHttpContent(toByteBuf(contentBytes));
 
                         subscriber.onNext(content);
                         written += newLimit;
@@ -488,6 +488,20 @@ public final class NettyRequestExecutor {
             });
         }
 
+        /**
+         * Netty writes the content after onNext returns, so a pooled request buffer is kept alive until Netty releases it, or
+         * copied if it is not backed by an array.
+         */
+        private static ByteBuf toByteBuf(ByteBuffer contentBytes) {
+            if (!ByteBufferLease.isLeased()) {
+                return Unpooled.wrappedBuffer(contentBytes);
+            }
+            if (contentBytes.hasArray()) {
+                return LeasedHeapByteBuf.wrap(contentBytes, ByteBufferLease.retain());
+            }
+            return Unpooled.copiedBuffer(contentBytes);
+        }
+
         private int clampedBufferLimit(int bufLen) {
             return requestContentLength.map(cl ->
                 (int) Math.min(cl - written, bufLen)
@@ -509,5 +523,13 @@ public final class NettyRequestExecutor {
             }
             return Optional.empty();
         }
+
+        /**
+         * Netty retains the request buffers it receives until they are written, so pooled request content can be published
+         * to this subscriber without a copy.
+         */
+        private abstract static class LeaseAwareContentSubscriber
+            implements Subscriber<ByteBuffer>, ByteBufferLease.LeaseAwareSubscriber {
+        }
     }
 }
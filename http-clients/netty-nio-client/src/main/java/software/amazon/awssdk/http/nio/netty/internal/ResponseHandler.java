@@ -61,6 +61,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ByteBufferLease;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -285,8 +286,20 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.executeFuture = executeFuture;
         }
 
+        /**
+         * Pooled content is only published without a copy when it is enabled and the subscriber is aware of buffer leases,
+         * because any other subscriber may still use a buffer after it has been returned to the pool.
+         */
+        private boolean canPublishWithoutCopy(Subscriber<? super ByteBuffer> subscriber) {
+            NettyConfiguration configuration = requestContext.configuration();
+            return configuration != null
+                   && configuration.zeroCopyResponseContent()
+                   && subscriber instanceof ByteBufferLease.LeaseAwareSubscriber;
+        }
+
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            boolean withoutCopy = canPublishWithoutCopy(subscriber);
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -326,6 +339,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (withoutCopy) {
+                        publishWithoutCopy(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -341,6 +359,24 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publish a view of the pooled buffer, which is released once the subscriber returns from onNext or, if it
+                 * retained the buffer, once it releases it.
+                 */
+                private void publishWithoutCopy(HttpContent httpContent) {
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer();
+                    } catch (Throwable t) {
+                        httpContent.release();
+                        onError(t);
+                        return;
+                    }
+
+                    tryCatch(() -> ByteBufferLease.publish(byteBuffer, httpContent::release, subscriber),
+                             this::notifyError);
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
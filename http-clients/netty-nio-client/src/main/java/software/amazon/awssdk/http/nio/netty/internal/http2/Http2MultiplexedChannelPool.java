@@ -64,8 +64,9 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections by placing each new
+ * stream on a connection with many available streams (see {@link StreamCapacityIndex}), when the max concurrency for every
+ * connection is reached then a new connection will be opened.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -88,9 +89,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private static final AttributeKey<Boolean> RELEASED = NettyUtils.getOrCreateAttributeKey(
         "software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool.RELEASED");
 
+    /**
+     * How many connections at the top of the {@link StreamCapacityIndex} order an acquire compares by their current available
+     * streams, before claiming a stream on the least loaded of them.
+     */
+    private static final int LEAST_LOADED_CANDIDATES = 2;
+
     private final ChannelPool connectionPool;
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
+    private final StreamCapacityIndex connectionsByCapacity;
     private final Duration idleConnectionTimeout;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
@@ -104,6 +112,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
+        this.connectionsByCapacity = new StreamCapacityIndex(connections);
         this.idleConnectionTimeout = idleConnectionTimeout;
     }
 
@@ -114,6 +123,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 Duration idleConnectionTimeout) {
         this(connectionPool, eventLoopGroup, idleConnectionTimeout);
         this.connections.addAll(connections);
+        connectionsByCapacity.markStale();
     }
 
     @Override
@@ -127,10 +137,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
-            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
-                return promise;
-            }
+        if (acquireStreamOnLeastLoadedConnection(promise)) {
+            return promise;
         }
 
         // No available streams on existing connections, establish new connection and add it to list
@@ -138,6 +146,46 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    /**
+     * Acquire a stream on the least loaded of the connections that had the most available streams when the
+     * {@link StreamCapacityIndex} was last ordered. If that fails, because the order is out of date or because other acquires
+     * claimed those streams first, every connection is visited before giving up. This will return false if no connection has
+     * an available stream.
+     */
+    private boolean acquireStreamOnLeastLoadedConnection(Promise<Channel> promise) {
+        StreamCapacityIndex.Snapshot snapshot = connectionsByCapacity.snapshot();
+        int candidates = Math.min(LEAST_LOADED_CANDIDATES, snapshot.size());
+
+        MultiplexedChannelRecord leastLoaded = null;
+        long leastLoadedAvailableStreams = 0;
+        for (int i = 0; i < candidates; i++) {
+            MultiplexedChannelRecord candidate = snapshot.record(i);
+            long availableStreams = candidate.availableStreams();
+            if (availableStreams > leastLoadedAvailableStreams && candidate.isOpenToNewStreams()) {
+                leastLoaded = candidate;
+                leastLoadedAvailableStreams = availableStreams;
+            }
+        }
+
+        if (candidates < snapshot.size() && leastLoadedAvailableStreams < snapshot.availableStreams(candidates) / 2) {
+            // The connections further down the order are now likely to be less loaded than the candidates
+            connectionsByCapacity.markStale();
+        }
+
+        if (leastLoaded != null && acquireStreamOnInitializedConnection(leastLoaded, promise)) {
+            return true;
+        }
+
+        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
+                // The order missed a connection with an available stream
+                connectionsByCapacity.markStale();
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -207,6 +255,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
         parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
         connections.add(multiplexedChannel);
+        connectionsByCapacity.markStale();
 
         if (closed.get()) {
             // Whoops, we were closed while we were setting up. Make sure everything here is cleaned up properly.
@@ -353,6 +402,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                 multiplexedChannel.closeChildChannels(cause);
             }
             connections.remove(multiplexedChannel);
+            connectionsByCapacity.markStale();
         }
 
         parentChannel.close();
@@ -156,6 +156,20 @@ public class MultiplexedChannelRecord {
         }
     }
 
+    /**
+     * The number of streams that can currently be claimed on this connection.
+     */
+    long availableStreams() {
+        return availableChildChannels.get();
+    }
+
+    /**
+     * Whether new streams may still be acquired from this connection, if they are available.
+     */
+    boolean isOpenToNewStreams() {
+        return state == RecordState.OPEN;
+    }
+
     /**
      * Handle a {@link Http2GoAwayFrame} on this connection, preventing new streams from being created on it, and closing any
      * streams newer than the last-stream-id on the go-away frame.
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Orders the connections of an {@link Http2MultiplexedChannelPool} by the number of streams that were available on them, so
+ * that a new stream can be placed on a lightly-loaded connection without visiting every connection.
+ *
+ * <p>The order is best-effort. Claiming and releasing streams does not update it, so it stays off the hot path of acquiring
+ * and releasing streams. Instead, the order is rebuilt from the pool's connections when it is marked as stale, for example
+ * because a connection was added or removed, or because an acquire noticed that the order no longer matches the available
+ * streams. The rebuild sorts every connection, so it costs O(n log n) in the number of connections, and it runs inline on
+ * whichever acquiring thread calls {@link #snapshot()} first after the order was marked as stale. Concurrent acquires do not
+ * wait for it and keep using the previous, stale order in the meantime, so streams can be placed on more heavily loaded
+ * connections until the rebuild is done. {@link Http2MultiplexedChannelPool} bounds the resulting imbalance by marking the
+ * order as stale once the connections it prefers have fewer than half the available streams of the next connection in the
+ * order, so that, without concurrent acquires, no connection has fewer than half the available streams of another, give or
+ * take two streams.
+ *
+ * <p>Because the order is best-effort, callers must check the live state of a connection before using it, and must handle
+ * claiming a stream on it failing.
+ */
+@SdkInternalApi
+final class StreamCapacityIndex {
+    private static final Snapshot EMPTY = new Snapshot(new Candidate[0]);
+    private static final Comparator<Candidate> MOST_AVAILABLE_FIRST =
+        Comparator.comparingLong((Candidate c) -> c.availableStreams).reversed();
+
+    private final Collection<MultiplexedChannelRecord> connections;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = EMPTY;
+    private volatile boolean stale = true;
+
+    /**
+     * @param connections The live connections of the pool. This must be safe to iterate concurrently with modifications.
+     */
+    StreamCapacityIndex(Collection<MultiplexedChannelRecord> connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Retrieve the connections that were open to new streams when the order was last rebuilt, sorted by the number of streams
+     * that were available on them at that time, most available first. The order is rebuilt first if it is stale and no other
+     * thread is already rebuilding it.
+     */
+    Snapshot snapshot() {
+        if (stale && rebuildLock.tryLock()) {
+            try {
+                rebuild();
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Mark the order as no longer matching the connections or their available streams, so that it is rebuilt by the next call
+     * to {@link #snapshot()}.
+     */
+    void markStale() {
+        if (!stale) {
+            stale = true;
+        }
+    }
+
+    private void rebuild() {
+        // Cleared before reading the connections, so that changes made while rebuilding mark the new order as stale again
+        stale = false;
+
+        List<Candidate> candidates = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection.isOpenToNewStreams()) {
+                // The available streams are read once, so that concurrent claims and releases cannot affect the sort
+                candidates.add(new Candidate(connection, connection.availableStreams()));
+            }
+        }
+        candidates.sort(MOST_AVAILABLE_FIRST);
+        snapshot = new Snapshot(candidates.toArray(new Candidate[0]));
+    }
+
+    /**
+     * An immutable view of the connections of a pool, ordered by the streams that were available on them when it was built.
+     */
+    static final class Snapshot {
+        private final Candidate[] candidates;
+
+        private Snapshot(Candidate[] candidates) {
+            this.candidates = candidates;
+        }
+
+        int size() {
+            return candidates.length;
+        }
+
+        MultiplexedChannelRecord record(int position) {
+            return candidates[position].record;
+        }
+
+        /**
+         * The number of streams that were available on the record at the provided position when this snapshot was built.
+         */
+        long availableStreams(int position) {
+            return candidates[position].availableStreams;
+        }
+    }
+
+    private static final class Candidate {
+        private final MultiplexedChannelRecord record;
+        private final long availableStreams;
+
+        private Candidate(MultiplexedChannelRecord record, long availableStreams) {
+            this.record = record;
+            this.availableStreams = availableStreams;
+        }
+    }
+}
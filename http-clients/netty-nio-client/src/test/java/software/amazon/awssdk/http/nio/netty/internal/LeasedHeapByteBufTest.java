@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LeasedHeapByteBufTest {
+
+    @Test
+    public void wrap_exposesRemainingContentWithoutCopying() {
+        ByteBuffer buffer = ByteBuffer.wrap("xxhello worldxx".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        buffer.limit(13);
+
+        ByteBuf byteBuf = LeasedHeapByteBuf.wrap(buffer, () -> { });
+
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8)).isEqualTo("hello world");
+        buffer.put(2, (byte) 'j');
+        assertThat(byteBuf.getByte(0)).isEqualTo((byte) 'j');
+    }
+
+    @Test
+    public void release_runsCallbackOnceWhenNoLongerReferenced() {
+        AtomicInteger released = new AtomicInteger();
+        ByteBuf byteBuf = LeasedHeapByteBuf.wrap(ByteBuffer.allocate(16), released::incrementAndGet);
+
+        byteBuf.retain();
+        byteBuf.release();
+        assertThat(released).hasValue(0);
+
+        byteBuf.release();
+        assertThat(released).hasValue(1);
+    }
+}
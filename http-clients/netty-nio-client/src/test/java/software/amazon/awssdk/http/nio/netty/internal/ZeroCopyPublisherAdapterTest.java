@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.reactivex.Flowable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ByteBufferLease;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
+import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Tests {@link ResponseHandler.PublisherAdapter} with {@link NettyConfiguration#zeroCopyResponseContent()} enabled.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ZeroCopyPublisherAdapterTest {
+
+    @Mock
+    private ChannelHandlerContext ctx;
+
+    @Mock
+    private SdkChannelPool channelPool;
+
+    @Mock
+    private EventLoopGroup eventLoopGroup;
+
+    @Mock
+    private SdkAsyncHttpResponseHandler responseHandler;
+
+    private RequestContext requestContext;
+
+    private CompletableFuture<Void> executeFuture;
+
+    private ByteBuf content;
+
+    @Before
+    public void setUp() throws Exception {
+        executeFuture = new CompletableFuture<>();
+        requestContext = new RequestContext(channelPool,
+                                            eventLoopGroup,
+                                            AsyncExecuteRequest.builder()
+                                                               .request(SdkHttpRequest.builder()
+                                                                                      .uri(URI.create("https://localhost"))
+                                                                                      .method(SdkHttpMethod.GET)
+                                                                                      .build())
+                                                               .responseHandler(responseHandler)
+                                                               .build(),
+                                            new NettyConfiguration(AttributeMap.empty(), true));
+
+        MockChannel channel = new MockChannel();
+        channel.attr(PROTOCOL_FUTURE).set(CompletableFuture.completedFuture(Protocol.HTTP1_1));
+        channel.attr(REQUEST_CONTEXT_KEY).set(requestContext);
+        channel.attr(EXECUTE_FUTURE_KEY).set(executeFuture);
+        when(ctx.channel()).thenReturn(channel);
+
+        DefaultHttpResponse defaultHttpResponse = mock(DefaultHttpResponse.class);
+        when(defaultHttpResponse.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(defaultHttpResponse.status()).thenReturn(HttpResponseStatus.OK);
+        when(defaultHttpResponse.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        ResponseHandler.getInstance().channelRead0(ctx, defaultHttpResponse);
+
+        content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void leaseAwareSubscriber_contentPublishedWithoutCopy_releasedAfterOnNext() {
+        List<Integer> referenceCountsInOnNext = new ArrayList<>();
+        List<Boolean> directBuffers = new ArrayList<>();
+        RecordingSubscriber subscriber = new LeaseAwareRecordingSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                referenceCountsInOnNext.add(content.refCnt());
+                directBuffers.add(byteBuffer.isDirect());
+                super.onNext(byteBuffer);
+            }
+        };
+
+        publisherAdapter().subscribe(subscriber);
+
+        assertThat(referenceCountsInOnNext).containsExactly(1);
+        assertThat(directBuffers).containsExactly(true);
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    @Test
+    public void leaseAwareSubscriber_contentRetained_releasedOnceSubscriberReleasesIt() {
+        List<Runnable> retained = new ArrayList<>();
+        RecordingSubscriber subscriber = new LeaseAwareRecordingSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                retained.add(ByteBufferLease.retain());
+                super.onNext(byteBuffer);
+            }
+        };
+
+        publisherAdapter().subscribe(subscriber);
+
+        assertThat(content.refCnt()).isEqualTo(1);
+        retained.forEach(Runnable::run);
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void subscriberNotLeaseAware_receivesCopy() {
+        List<ByteBuffer> received = new ArrayList<>();
+        List<Integer> referenceCountsInOnNext = new ArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                referenceCountsInOnNext.add(content.refCnt());
+                received.add(byteBuffer);
+                super.onNext(byteBuffer);
+            }
+        };
+
+        publisherAdapter().subscribe(subscriber);
+
+        assertThat(referenceCountsInOnNext).containsExactly(0);
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).isDirect()).isFalse();
+        assertThat(StandardCharsets.UTF_8.decode(received.get(0)).toString()).isEqualTo("hello");
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    private ResponseHandler.PublisherAdapter publisherAdapter() {
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+        return new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, requestContext, executeFuture);
+    }
+
+    private static class RecordingSubscriber implements Subscriber<ByteBuffer> {
+        private Subscription subscription;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
+    private static class LeaseAwareRecordingSubscriber extends RecordingSubscriber
+        implements ByteBufferLease.LeaseAwareSubscriber {
+    }
+}
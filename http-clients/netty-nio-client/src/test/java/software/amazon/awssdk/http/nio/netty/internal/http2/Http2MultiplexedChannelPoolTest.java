@@ -38,7 +38,12 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -260,6 +265,135 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_shouldPlaceStreamsOnLeastLoadedConnection() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 4, null);
+            MultiplexedChannelRecord record2 = new MultiplexedChannelRecord(channel2, 4, null);
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 new HashSet<>(Arrays.asList(record1, record2)),
+                                                                                 null);
+
+            for (int i = 0; i < 4; i++) {
+                assertThat(doAcquire(channel1, channel2, h2Pool)).isNotNull();
+            }
+
+            assertThat(record1.availableStreams()).isEqualTo(2);
+            assertThat(record2.availableStreams()).isEqualTo(2);
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void acquire_shouldSkipConnectionsClosedToNewStreams() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 8, null);
+            MultiplexedChannelRecord record2 = new MultiplexedChannelRecord(channel2, 4, null);
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 new HashSet<>(Arrays.asList(record1, record2)),
+                                                                                 null);
+            record1.closeToNewStreams();
+            runPendingTasks(channel1, channel2);
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(channel2);
+            assertThat(record1.availableStreams()).isEqualTo(8);
+            assertThat(record2.availableStreams()).isEqualTo(3);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void acquire_shouldUseEveryConnectionBeforeOpeningANewOne() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        EmbeddedChannel channel3 = newHttp2Channel();
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            loopGroup.register(channel3).awaitUninterruptibly();
+
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 1, null);
+            MultiplexedChannelRecord record2 = new MultiplexedChannelRecord(channel2, 1, null);
+            MultiplexedChannelRecord record3 = new MultiplexedChannelRecord(channel3, 1, null);
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                new HashSet<>(Arrays.asList(record1, record2, record3)), null);
+
+            // Only the first connections in the order are compared, so the last acquire must find the remaining stream
+            // without the order being rebuilt
+            for (int i = 0; i < 3; i++) {
+                assertThat(doAcquire(channel1, channel2, h2Pool)).isNotNull();
+                channel3.runPendingTasks();
+            }
+
+            assertThat(record1.availableStreams()).isZero();
+            assertThat(record2.availableStreams()).isZero();
+            assertThat(record3.availableStreams()).isZero();
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+            channel3.close();
+        }
+    }
+
+    @Test
+    public void acquire_shouldKeepConnectionsWithinHalfOfEachOthersAvailableStreams() {
+        List<EmbeddedChannel> channels = new ArrayList<>();
+        Set<MultiplexedChannelRecord> records = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            EmbeddedChannel channel = newHttp2Channel();
+            loopGroup.register(channel).awaitUninterruptibly();
+            channels.add(channel);
+            records.add(new MultiplexedChannelRecord(channel, 32, null));
+        }
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, records, null);
+
+            for (int i = 0; i < 192; i++) {
+                Future<Channel> acquire = h2Pool.acquire().awaitUninterruptibly();
+                channels.forEach(EmbeddedChannel::runPendingTasks);
+                assertThat(acquire.getNow()).isNotNull();
+
+                // The order is best-effort, but it is marked as stale once the connections it prefers have fewer than half
+                // the available streams of the next connection in the order. That acquire still uses the stale order, and
+                // the next one rebuilds it.
+                long mostAvailable = records.stream().mapToLong(MultiplexedChannelRecord::availableStreams).max().getAsLong();
+                long leastAvailable = records.stream().mapToLong(MultiplexedChannelRecord::availableStreams).min().getAsLong();
+                assertThat(leastAvailable).isGreaterThanOrEqualTo(mostAvailable / 2 - 2);
+            }
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channels.forEach(EmbeddedChannel::close);
+        }
+    }
+
     @Test
     public void metricsShouldSumAllChildChannels() throws InterruptedException {
         int maxConcurrentStream = 2;
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.nio.netty.internal.http2.utils.Http2TestUtils.newHttp2Channel;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class StreamCapacityIndexTest {
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+
+    @AfterEach
+    public void teardown() {
+        channels.forEach(EmbeddedChannel::close);
+    }
+
+    @Test
+    public void emptyIndexHasEmptySnapshot() {
+        StreamCapacityIndex index = new StreamCapacityIndex(ConcurrentHashMap.newKeySet());
+        assertThat(index.snapshot().size()).isZero();
+    }
+
+    @Test
+    public void snapshotIsOrderedByAvailableStreams() {
+        Set<MultiplexedChannelRecord> connections = ConcurrentHashMap.newKeySet();
+        StreamCapacityIndex index = new StreamCapacityIndex(connections);
+        MultiplexedChannelRecord small = newRecord(2);
+        MultiplexedChannelRecord large = newRecord(8);
+        MultiplexedChannelRecord medium = newRecord(4);
+        connections.addAll(Arrays.asList(small, large, medium));
+
+        StreamCapacityIndex.Snapshot snapshot = index.snapshot();
+
+        assertThat(records(snapshot)).containsExactly(large, medium, small);
+        assertThat(snapshot.availableStreams(0)).isEqualTo(8);
+        assertThat(snapshot.availableStreams(2)).isEqualTo(2);
+    }
+
+    @Test
+    public void snapshotIsOnlyRebuiltWhenStale() {
+        Set<MultiplexedChannelRecord> connections = ConcurrentHashMap.newKeySet();
+        StreamCapacityIndex index = new StreamCapacityIndex(connections);
+        MultiplexedChannelRecord first = newRecord(4);
+        MultiplexedChannelRecord second = newRecord(3);
+        connections.addAll(Arrays.asList(first, second));
+        StreamCapacityIndex.Snapshot snapshot = index.snapshot();
+
+        claim(first);
+        claim(first);
+        assertThat(index.snapshot()).isSameAs(snapshot);
+        assertThat(records(index.snapshot())).containsExactly(first, second);
+
+        index.markStale();
+        assertThat(records(index.snapshot())).containsExactly(second, first);
+    }
+
+    @Test
+    public void snapshotExcludesConnectionsClosedToNewStreams() {
+        Set<MultiplexedChannelRecord> connections = ConcurrentHashMap.newKeySet();
+        StreamCapacityIndex index = new StreamCapacityIndex(connections);
+        MultiplexedChannelRecord open = newRecord(4);
+        MultiplexedChannelRecord closed = newRecord(8);
+        connections.addAll(Arrays.asList(open, closed));
+
+        closed.closeToNewStreams();
+        channels.forEach(EmbeddedChannel::runPendingTasks);
+
+        assertThat(records(index.snapshot())).containsExactly(open);
+    }
+
+    private static List<MultiplexedChannelRecord> records(StreamCapacityIndex.Snapshot snapshot) {
+        List<MultiplexedChannelRecord> records = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            records.add(snapshot.record(i));
+        }
+        return records;
+    }
+
+    private MultiplexedChannelRecord newRecord(long maxStreams) {
+        EmbeddedChannel channel = newHttp2Channel();
+        channels.add(channel);
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, maxStreams, null);
+        return record;
+    }
+
+    private static Channel claim(MultiplexedChannelRecord record) {
+        Promise<Channel> promise = record.getConnection().eventLoop().newPromise();
+        assertThat(record.acquireStream(promise)).isTrue();
+        assertThat(promise.isSuccess()).isTrue();
+        return promise.getNow();
+    }
+}
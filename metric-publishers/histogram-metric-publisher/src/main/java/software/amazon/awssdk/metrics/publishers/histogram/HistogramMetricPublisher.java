@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import static software.amazon.awssdk.metrics.publishers.histogram.internal.HistogramMetricLogger.METRIC_LOGGER;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.HistogramAggregator;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricPublisher} that aggregates duration metrics into in-memory latency histograms and
+ * periodically exports their percentiles to one or more {@link HistogramSink}s.
+ *
+ * <p><b>Overview</b>
+ *
+ * <p>Every duration metric configured with {@link Builder#metrics(Collection)} is recorded into a histogram keyed by the
+ * {@link CoreMetric#SERVICE_ID}, {@link CoreMetric#OPERATION_NAME} and metric, wherever it appears in the published
+ * {@link MetricCollection}. For example, {@link CoreMetric#SERVICE_CALL_DURATION} is recorded once per attempt and
+ * {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION} once per HTTP request.
+ *
+ * <p>Each histogram uses a fixed amount of memory (about 14 KB), regardless of how many values it records, and reports
+ * percentiles within about 1.6% of their true value. Recording is done on the thread that publishes the metrics, without
+ * queuing the collection, so the memory used by the publisher only grows with the number of distinct operations and metrics.
+ * Histograms are reset on every export, so the exported percentiles describe the calls recorded since the previous export.
+ *
+ * <p><b>Configuring AWS SDK clients to publish latency percentiles</b>
+ *
+ * <pre>
+ *     HistogramMetricPublisher histogramPublisher =
+ *         HistogramMetricPublisher.builder()
+ *                                 .addSink(HistogramSink.prometheusTextFile(Paths.get("/var/lib/node_exporter/sdk.prom")))
+ *                                 .addSink(HistogramSink.jmx())
+ *                                 .build();
+ *     S3Client s3 = S3Client.builder()
+ *                           .overrideConfiguration(o -&gt; o.addMetricPublisher(histogramPublisher))
+ *                           .build();
+ * </pre>
+ *
+ * <p>See {@link ClientOverrideConfiguration.Builder#addMetricPublisher(MetricPublisher)}.
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class HistogramMetricPublisher implements MetricPublisher {
+    private static final Duration DEFAULT_EXPORT_FREQUENCY = Duration.ofMinutes(1);
+    private static final List<SdkMetric<Duration>> DEFAULT_METRICS =
+        Collections.unmodifiableList(Arrays.asList(CoreMetric.API_CALL_DURATION,
+                                                   CoreMetric.SERVICE_CALL_DURATION,
+                                                   CoreMetric.MARSHALLING_DURATION,
+                                                   CoreMetric.SIGNING_DURATION,
+                                                   CoreMetric.UNMARSHALLING_DURATION,
+                                                   CoreMetric.CREDENTIALS_FETCH_DURATION,
+                                                   HttpMetric.CONCURRENCY_ACQUIRE_DURATION));
+
+    private final HistogramAggregator aggregator;
+    private final List<HistogramSink> sinks;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private HistogramMetricPublisher(Builder builder) {
+        this.aggregator = new HistogramAggregator(builder.metrics == null ? DEFAULT_METRICS : builder.metrics);
+        this.sinks = builder.sinks.isEmpty() ? Collections.singletonList(HistogramSink.log())
+                                             : Collections.unmodifiableList(new ArrayList<>(builder.sinks));
+
+        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().threadNamePrefix("histogram-metric-publisher").build());
+
+        long exportFrequencyInMillis = resolveExportFrequency(builder).toMillis();
+        this.scheduledExecutor.scheduleAtFixedRate(this::export,
+                                                   exportFrequencyInMillis, exportFrequencyInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private Duration resolveExportFrequency(Builder builder) {
+        return builder.exportFrequency == null ? DEFAULT_EXPORT_FREQUENCY : builder.exportFrequency;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        aggregator.addCollection(metricCollection);
+    }
+
+    /**
+     * Export the values recorded since the previous export to every sink, and reset the histograms. This is called
+     * periodically and when the publisher is closed.
+     */
+    void export() {
+        Collection<HistogramSnapshot> snapshots = Collections.unmodifiableList(aggregator.snapshots());
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        for (HistogramSink sink : sinks) {
+            try {
+                sink.export(snapshots);
+            } catch (RuntimeException e) {
+                METRIC_LOGGER.warn(() -> "Failed to export latency histograms to " + sink + ".", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            // Let an in-progress export finish, rather than interrupting its sinks, before the final export
+            scheduledExecutor.shutdown();
+            if (!scheduledExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+                METRIC_LOGGER.warn(() -> "Timed out waiting for an in-progress export to finish.");
+            }
+            export();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            METRIC_LOGGER.error(() -> "Interrupted during graceful metric publisher shutdown.", e);
+        } finally {
+            sinks.forEach(this::closeQuietly);
+        }
+    }
+
+    private void closeQuietly(HistogramSink sink) {
+        try {
+            sink.close();
+        } catch (RuntimeException e) {
+            METRIC_LOGGER.warn(() -> "Failed while closing " + sink + ".", e);
+        }
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link HistogramMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link HistogramMetricPublisher} using all default values, which logs the latency percentiles of the default
+     * metrics once a minute.
+     */
+    public static HistogramMetricPublisher create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns {@code true} when the internal executor has been shutdown.
+     */
+    boolean isShutdown() {
+        return scheduledExecutor.isShutdown();
+    }
+
+    /**
+     * Builder class to construct {@link HistogramMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private final List<HistogramSink> sinks = new ArrayList<>();
+        private List<SdkMetric<Duration>> metrics;
+        private Duration exportFrequency;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a sink to which the latency percentiles are exported. Sinks are closed when the publisher is closed.
+         *
+         * <p>If no sinks are added, percentiles are logged using {@link HistogramSink#log()}.
+         */
+        public Builder addSink(HistogramSink sink) {
+            this.sinks.add(Validate.paramNotNull(sink, "sink"));
+            return this;
+        }
+
+        /**
+         * Configure the sinks to which the latency percentiles are exported, replacing any sinks previously added.
+         *
+         * @see #addSink(HistogramSink)
+         */
+        public Builder sinks(Collection<HistogramSink> sinks) {
+            this.sinks.clear();
+            sinks.forEach(this::addSink);
+            return this;
+        }
+
+        /**
+         * Configure the duration metrics that should be aggregated into histograms. Metrics with other value types cannot be
+         * aggregated and are ignored.
+         *
+         * <p>If this is not specified, {@link CoreMetric#API_CALL_DURATION}, {@link CoreMetric#SERVICE_CALL_DURATION},
+         * {@link CoreMetric#MARSHALLING_DURATION}, {@link CoreMetric#SIGNING_DURATION},
+         * {@link CoreMetric#UNMARSHALLING_DURATION}, {@link CoreMetric#CREDENTIALS_FETCH_DURATION} and
+         * {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION} are aggregated.
+         */
+        public Builder metrics(Collection<SdkMetric<Duration>> metrics) {
+            this.metrics = new ArrayList<>(metrics);
+            return this;
+        }
+
+        /**
+         * @see #metrics(Collection)
+         */
+        @SafeVarargs
+        public final Builder metrics(SdkMetric<Duration>... metrics) {
+            return metrics(Arrays.asList(metrics));
+        }
+
+        /**
+         * Configure how often the latency percentiles are exported to the sinks. Percentiles are also exported when the
+         * publisher is closed.
+         *
+         * <p>If this is not specified, percentiles are exported every minute.
+         */
+        public Builder exportFrequency(Duration exportFrequency) {
+            this.exportFrequency = Validate.isPositive(exportFrequency, "exportFrequency");
+            return this;
+        }
+
+        /**
+         * Build a {@link HistogramMetricPublisher} using the configuration currently configured on this publisher.
+         */
+        public HistogramMetricPublisher build() {
+            return new HistogramMetricPublisher(this);
+        }
+    }
+}
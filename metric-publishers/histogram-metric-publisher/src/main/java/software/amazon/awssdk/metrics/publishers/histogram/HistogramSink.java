@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.sink.JmxHistogramSink;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.sink.LoggingHistogramSink;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.sink.PrometheusTextFileHistogramSink;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A destination for the latency histograms aggregated by a {@link HistogramMetricPublisher}.
+ *
+ * <p>The publisher calls {@link #export(Collection)} from a single background thread at the configured
+ * {@link HistogramMetricPublisher.Builder#exportFrequency(java.time.Duration)}, and once more when it is closed. Sinks are closed
+ * with the publisher they are configured on.
+ *
+ * <p>The built-in sinks report p50, p90, p99 and p999 for every histogram. Custom sinks can use
+ * {@link HistogramSnapshot#valueAtPercentile(double)} to report any other percentile.
+ */
+@SdkPublicApi
+@FunctionalInterface
+public interface HistogramSink extends SdkAutoCloseable {
+    /**
+     * Export the values recorded since the previous export. Once a histogram has recorded a value, it is included in every
+     * later export, with a {@link HistogramSnapshot#count()} of zero if no values were recorded since the previous export.
+     */
+    void export(Collection<HistogramSnapshot> snapshots);
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Create a sink that logs one line per histogram at the INFO level to the
+     * {@code software.amazon.awssdk.metrics.publishers.histogram} logger.
+     */
+    static HistogramSink log() {
+        return new LoggingHistogramSink();
+    }
+
+    /**
+     * Create a sink that exposes every histogram as an MXBean on the platform MBean server, under the
+     * {@code software.amazon.awssdk.metrics} domain.
+     *
+     * @see #jmx(String)
+     */
+    static HistogramSink jmx() {
+        return jmx(JmxHistogramSink.DEFAULT_DOMAIN);
+    }
+
+    /**
+     * Create a sink that exposes every histogram as an MXBean on the platform MBean server, named
+     * {@code <domain>:type=LatencyHistogram,service=<service>,operation=<operation>,metric=<metric>}. The beans report the
+     * count, minimum, maximum, mean and p50, p90, p99 and p999 of the histogram in milliseconds, and are unregistered when
+     * the sink is closed.
+     *
+     * <p>Use a different domain for each publisher that uses a JMX sink within the same JVM.
+     */
+    static HistogramSink jmx(String domain) {
+        return new JmxHistogramSink(domain);
+    }
+
+    /**
+     * Create a sink that writes every histogram as a Prometheus summary to the provided file, in the text exposition format
+     * read by the node exporter textfile collector. For example, the "ApiCallDuration" metric is written as
+     * {@code aws_sdk_api_call_duration_seconds} with {@code service}, {@code operation} and {@code quantile} labels. The file is
+     * atomically replaced on every export.
+     */
+    static HistogramSink prometheusTextFile(Path file) {
+        return new PrometheusTextFileHistogramSink(file);
+    }
+}
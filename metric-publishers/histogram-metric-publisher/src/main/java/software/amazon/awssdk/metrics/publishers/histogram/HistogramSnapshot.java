@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * A view of the latency histogram of one metric for one service operation, as aggregated by a
+ * {@link HistogramMetricPublisher} since its previous export.
+ *
+ * <p>Percentiles are reported with a precision of about 1.6%: the returned value is the highest value that cannot be
+ * distinguished, within that precision, from the value at the requested percentile.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public interface HistogramSnapshot {
+    /**
+     * The {@link CoreMetric#SERVICE_ID} of the calls that were recorded, or an empty string if it was not reported.
+     */
+    String serviceId();
+
+    /**
+     * The {@link CoreMetric#OPERATION_NAME} of the calls that were recorded, or an empty string if it was not reported.
+     */
+    String operationName();
+
+    /**
+     * The metric whose values were recorded, e.g. {@link CoreMetric#API_CALL_DURATION}.
+     */
+    SdkMetric<Duration> metric();
+
+    /**
+     * The number of values that were recorded.
+     */
+    long count();
+
+    /**
+     * The smallest recorded value, or {@link Duration#ZERO} if no values were recorded.
+     */
+    Duration min();
+
+    /**
+     * The largest recorded value, or {@link Duration#ZERO} if no values were recorded.
+     */
+    Duration max();
+
+    /**
+     * The sum of all recorded values.
+     */
+    Duration sum();
+
+    /**
+     * The arithmetic mean of all recorded values, or {@link Duration#ZERO} if no values were recorded.
+     */
+    Duration mean();
+
+    /**
+     * The value at the requested percentile, e.g. {@code 99.9} for p999.
+     *
+     * @param percentile A percentile between 0 and 100.
+     * @return The value at the percentile, or {@link Duration#ZERO} if no values were recorded.
+     */
+    Duration valueAtPercentile(double percentile);
+}
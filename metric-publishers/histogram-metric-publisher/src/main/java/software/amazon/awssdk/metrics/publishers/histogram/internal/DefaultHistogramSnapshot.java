@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A {@link HistogramSnapshot} of the values recorded in a {@link LatencyHistogram} since its previous snapshot. Creating the
+ * snapshot resets the histogram.
+ */
+@SdkInternalApi
+public final class DefaultHistogramSnapshot implements HistogramSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final SdkMetric<Duration> metric;
+    private final long[] counts;
+    private final long count;
+    private final long minMicros;
+    private final long maxMicros;
+    private final long totalMicros;
+
+    DefaultHistogramSnapshot(String serviceId, String operationName, SdkMetric<Duration> metric, LatencyHistogram histogram) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.metric = metric;
+        this.counts = histogram.drainCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+        this.minMicros = histogram.drainMinMicros();
+        this.maxMicros = histogram.drainMaxMicros();
+        this.totalMicros = histogram.drainTotalMicros();
+    }
+
+    @Override
+    public String serviceId() {
+        return serviceId;
+    }
+
+    @Override
+    public String operationName() {
+        return operationName;
+    }
+
+    @Override
+    public SdkMetric<Duration> metric() {
+        return metric;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public Duration min() {
+        return micros(minMicros);
+    }
+
+    @Override
+    public Duration max() {
+        return micros(maxMicros);
+    }
+
+    @Override
+    public Duration sum() {
+        return micros(totalMicros);
+    }
+
+    @Override
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : micros(totalMicros / count);
+    }
+
+    @Override
+    public Duration valueAtPercentile(double percentile) {
+        return micros(LatencyHistogram.valueAtPercentile(counts, count, maxMicros, percentile));
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.of(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HistogramSnapshot")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("metric", metric.name())
+                       .add("count", count)
+                       .build();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+/**
+ * Records the duration metrics of {@link MetricCollection}s into one {@link LatencyHistogram} per service operation and
+ * metric. Histograms are created the first time a metric is seen for an operation and are never discarded, so memory usage
+ * is bounded by the number of distinct operations and metrics rather than by the number of calls. Taking
+ * {@link #snapshots()} resets them.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HistogramAggregator {
+    private final Map<SdkMetric<?>, SdkMetric<Duration>> metrics;
+    private final Map<OperationKey, OperationHistograms> operations = new ConcurrentHashMap<>();
+
+    public HistogramAggregator(Collection<SdkMetric<Duration>> metrics) {
+        this.metrics = new HashMap<>();
+        metrics.forEach(m -> this.metrics.put(m, m));
+    }
+
+    /**
+     * Record every configured metric found in the collection or any of its children.
+     */
+    public void addCollection(MetricCollection collection) {
+        OperationKey key = new OperationKey(firstValue(collection, CoreMetric.SERVICE_ID),
+                                            firstValue(collection, CoreMetric.OPERATION_NAME));
+        OperationHistograms histograms = operations.computeIfAbsent(key, OperationHistograms::new);
+        record(histograms, collection);
+    }
+
+    /**
+     * Capture the values recorded in every histogram since the previous call, and reset the histograms.
+     */
+    public List<HistogramSnapshot> snapshots() {
+        List<HistogramSnapshot> result = new ArrayList<>();
+        operations.values().forEach(op -> op.histograms.forEach((metric, histogram) -> {
+            result.add(new DefaultHistogramSnapshot(op.key.serviceId, op.key.operationName, metric, histogram));
+        }));
+        return result;
+    }
+
+    private void record(OperationHistograms histograms, MetricCollection collection) {
+        for (MetricRecord<?> record : collection) {
+            SdkMetric<Duration> metric = metrics.get(record.metric());
+            if (metric != null && record.value() instanceof Duration) {
+                histograms.histogram(metric).record((Duration) record.value());
+            }
+        }
+        for (MetricCollection child : collection.children()) {
+            record(histograms, child);
+        }
+    }
+
+    private static String firstValue(MetricCollection collection, SdkMetric<String> metric) {
+        List<String> values = collection.metricValues(metric);
+        return values.isEmpty() || values.get(0) == null ? "" : values.get(0);
+    }
+
+    private static final class OperationHistograms {
+        private final OperationKey key;
+        private final Map<SdkMetric<Duration>, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+        private OperationHistograms(OperationKey key) {
+            this.key = key;
+        }
+
+        private LatencyHistogram histogram(SdkMetric<Duration> metric) {
+            LatencyHistogram histogram = histograms.get(metric);
+            return histogram != null ? histogram : histograms.computeIfAbsent(metric, m -> new LatencyHistogram());
+        }
+    }
+
+    private static final class OperationKey {
+        private final String serviceId;
+        private final String operationName;
+
+        private OperationKey(String serviceId, String operationName) {
+            this.serviceId = serviceId;
+            this.operationName = operationName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            OperationKey that = (OperationKey) o;
+            return serviceId.equals(that.serviceId) && operationName.equals(that.operationName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * serviceId.hashCode() + operationName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A fixed-size, log-linear histogram of durations with microsecond resolution.
+ *
+ * <p>Values below 128 microseconds are counted exactly. Larger values are counted in buckets whose width doubles with every
+ * power of two, each power of two being split into 64 linear sub-buckets, so any recorded value is reported within 1/64 of its
+ * true value. This is the bucketing scheme used by HdrHistogram.
+ *
+ * <p>All counts live in a single pre-allocated array, so the memory used by a histogram does not depend on how many values
+ * are recorded. Values above {@link #MAX_TRACKABLE_MICROS} are recorded as that maximum.
+ *
+ * <p>The {@code drain} methods read a value and reset it, so that successive reads each describe the values recorded in
+ * between.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LatencyHistogram {
+    static final long MAX_TRACKABLE_MICROS = (1L << 32) - 1;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong(0);
+
+    /**
+     * Record a single duration. Negative durations are recorded as zero.
+     */
+    public void record(Duration duration) {
+        long micros = toMicros(duration);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalMicros.add(micros);
+        updateMin(micros);
+        updateMax(micros);
+    }
+
+    /**
+     * Copy the bucket counts and reset them to zero. Values recorded concurrently with the copy may or may not be included,
+     * but every value is counted exactly once across successive copies.
+     */
+    public long[] drainCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        return copy;
+    }
+
+    public long drainTotalMicros() {
+        return totalMicros.sumThenReset();
+    }
+
+    public long drainMinMicros() {
+        long min = minMicros.getAndSet(Long.MAX_VALUE);
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    public long drainMaxMicros() {
+        return maxMicros.getAndSet(0);
+    }
+
+    /**
+     * Resolve the value at the requested percentile of a copy returned by {@link #drainCounts()}.
+     *
+     * @param counts The bucket counts.
+     * @param totalCount The sum of all bucket counts.
+     * @param maxMicros The largest recorded value, which bounds the result.
+     * @param percentile A percentile between 0 and 100.
+     * @return The highest value that is equivalent, within the precision of the histogram, to the value at the percentile.
+     */
+    public static long valueAtPercentile(long[] counts, long totalCount, long maxMicros, double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        double boundedPercentile = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(boundedPercentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+
+        // Shift the value so that its highest bit lands in the upper half of the sub-buckets, then offset by the number of
+        // sub-buckets used by all smaller powers of two.
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (micros >>> shift);
+    }
+
+    static long highestEquivalentValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int shift = bucketIndex / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = bucketIndex - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    static int bucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    private static long toMicros(Duration duration) {
+        if (duration.isNegative()) {
+            return 0;
+        }
+        if (duration.getSeconds() >= TimeUnit.MICROSECONDS.toSeconds(MAX_TRACKABLE_MICROS)) {
+            return MAX_TRACKABLE_MICROS;
+        }
+        return Math.min(TimeUnit.SECONDS.toMicros(duration.getSeconds()) + TimeUnit.NANOSECONDS.toMicros(duration.getNano()),
+                        MAX_TRACKABLE_MICROS);
+    }
+
+    private void updateMin(long micros) {
+        long current = minMicros.get();
+        while (micros < current && !minMicros.compareAndSet(current, micros)) {
+            current = minMicros.get();
+        }
+    }
+
+    private void updateMax(long micros) {
+        long current = maxMicros.get();
+        while (micros > current && !maxMicros.compareAndSet(current, micros)) {
+            current = maxMicros.get();
+        }
+    }
+}
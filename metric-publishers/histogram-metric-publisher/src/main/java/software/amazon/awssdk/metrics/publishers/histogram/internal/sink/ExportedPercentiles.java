@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The percentiles written by the built-in sinks.
+ */
+@SdkInternalApi
+final class ExportedPercentiles {
+    static final double P50 = 50;
+    static final double P90 = 90;
+    static final double P99 = 99;
+    static final double P999 = 99.9;
+
+    private static final double[] ALL = {P50, P90, P99, P999};
+    private static final String[] LABELS = {"p50", "p90", "p99", "p999"};
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+
+    private ExportedPercentiles() {
+    }
+
+    static int count() {
+        return ALL.length;
+    }
+
+    static double percentile(int index) {
+        return ALL[index];
+    }
+
+    /**
+     * The short name of the percentile, e.g. "p999".
+     */
+    static String label(int index) {
+        return LABELS[index];
+    }
+
+    /**
+     * The percentile as a fraction, e.g. "0.999".
+     */
+    static String quantile(int index) {
+        return QUANTILES[index];
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import static software.amazon.awssdk.metrics.publishers.histogram.internal.HistogramMetricLogger.METRIC_LOGGER;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSink;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link HistogramSink} that registers one {@link LatencyHistogramMxBean} per histogram with the platform MBean server. The
+ * beans are named {@code <domain>:type=LatencyHistogram,service=<service>,operation=<operation>,metric=<metric>} and report
+ * the values of the latest export. They are unregistered when the sink is closed.
+ */
+@SdkInternalApi
+public final class JmxHistogramSink implements HistogramSink {
+    public static final String DEFAULT_DOMAIN = "software.amazon.awssdk.metrics";
+
+    private final String domain;
+    private final MBeanServer mbeanServer;
+    private final Map<ObjectName, HistogramBean> beans = new ConcurrentHashMap<>();
+
+    public JmxHistogramSink(String domain) {
+        this(domain, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    JmxHistogramSink(String domain, MBeanServer mbeanServer) {
+        this.domain = Validate.paramNotBlank(domain, "domain");
+        this.mbeanServer = mbeanServer;
+    }
+
+    @Override
+    public void export(Collection<HistogramSnapshot> snapshots) {
+        for (HistogramSnapshot snapshot : snapshots) {
+            ObjectName name = objectName(snapshot);
+            HistogramBean bean = beans.get(name);
+            if (bean == null) {
+                bean = register(name, snapshot);
+            }
+            bean.snapshot = snapshot;
+        }
+    }
+
+    @Override
+    public void close() {
+        beans.forEach((name, bean) -> {
+            if (!bean.registered) {
+                return;
+            }
+            try {
+                mbeanServer.unregisterMBean(name);
+            } catch (JMException e) {
+                METRIC_LOGGER.debug(() -> "Failed to unregister " + name + ".", e);
+            }
+        });
+        beans.clear();
+    }
+
+    private HistogramBean register(ObjectName name, HistogramSnapshot snapshot) {
+        HistogramBean bean = new HistogramBean(snapshot);
+        try {
+            mbeanServer.registerMBean(bean, name);
+            bean.registered = true;
+        } catch (JMException e) {
+            // The bean still tracks the latest snapshot so we do not retry the registration on every export.
+            METRIC_LOGGER.warn(() -> "Failed to register " + name + ". Its percentiles will not be available over JMX.", e);
+        }
+        beans.put(name, bean);
+        return bean;
+    }
+
+    private ObjectName objectName(HistogramSnapshot snapshot) {
+        try {
+            return new ObjectName(domain + ":type=LatencyHistogram"
+                                  + ",service=" + ObjectName.quote(snapshot.serviceId())
+                                  + ",operation=" + ObjectName.quote(snapshot.operationName())
+                                  + ",metric=" + ObjectName.quote(snapshot.metric().name()));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid JMX domain: " + domain, e);
+        }
+    }
+
+    private static final class HistogramBean implements LatencyHistogramMxBean {
+        private volatile HistogramSnapshot snapshot;
+        private volatile boolean registered;
+
+        private HistogramBean(HistogramSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public long getCount() {
+            return snapshot.count();
+        }
+
+        @Override
+        public double getMinMillis() {
+            return millis(snapshot.min());
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return millis(snapshot.max());
+        }
+
+        @Override
+        public double getMeanMillis() {
+            return millis(snapshot.mean());
+        }
+
+        @Override
+        public double getP50Millis() {
+            return percentileMillis(ExportedPercentiles.P50);
+        }
+
+        @Override
+        public double getP90Millis() {
+            return percentileMillis(ExportedPercentiles.P90);
+        }
+
+        @Override
+        public double getP99Millis() {
+            return percentileMillis(ExportedPercentiles.P99);
+        }
+
+        @Override
+        public double getP999Millis() {
+            return percentileMillis(ExportedPercentiles.P999);
+        }
+
+        private double percentileMillis(double percentile) {
+            return millis(snapshot.valueAtPercentile(percentile));
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1_000_000.0;
+        }
+    }
+}
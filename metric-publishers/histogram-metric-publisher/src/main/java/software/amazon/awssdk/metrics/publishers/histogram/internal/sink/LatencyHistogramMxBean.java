@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import javax.management.MXBean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The JMX view of one histogram registered by {@link JmxHistogramSink}. Durations are reported in milliseconds.
+ */
+@SdkInternalApi
+@MXBean
+public interface LatencyHistogramMxBean {
+    long getCount();
+
+    double getMinMillis();
+
+    double getMaxMillis();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP90Millis();
+
+    double getP99Millis();
+
+    double getP999Millis();
+}
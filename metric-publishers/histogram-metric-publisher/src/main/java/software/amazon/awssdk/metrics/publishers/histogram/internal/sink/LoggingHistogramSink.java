@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import static software.amazon.awssdk.metrics.publishers.histogram.internal.HistogramMetricLogger.METRIC_LOGGER;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSink;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+/**
+ * A {@link HistogramSink} that writes one INFO line per histogram that recorded values since the previous export to the
+ * {@code software.amazon.awssdk.metrics.publishers.histogram} logger.
+ */
+@SdkInternalApi
+public final class LoggingHistogramSink implements HistogramSink {
+    @Override
+    public void export(Collection<HistogramSnapshot> snapshots) {
+        for (HistogramSnapshot snapshot : snapshots) {
+            if (snapshot.count() > 0) {
+                METRIC_LOGGER.info(() -> format(snapshot));
+            }
+        }
+    }
+
+    static String format(HistogramSnapshot snapshot) {
+        StringBuilder line = new StringBuilder();
+        line.append(snapshot.serviceId()).append('.').append(snapshot.operationName())
+            .append(' ').append(snapshot.metric().name())
+            .append(": count=").append(snapshot.count());
+        for (int i = 0; i < ExportedPercentiles.count(); i++) {
+            line.append(", ").append(ExportedPercentiles.label(i)).append('=')
+                .append(millis(snapshot.valueAtPercentile(ExportedPercentiles.percentile(i))));
+        }
+        return line.append(", max=").append(millis(snapshot.max()))
+                   .append(", mean=").append(millis(snapshot.mean()))
+                   .toString();
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3fms", duration.toNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSink;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link HistogramSink} that writes every histogram as a Prometheus summary to a file, in the text exposition format read by
+ * the node exporter textfile collector. The file is replaced as a whole on every export, so readers never see a partially
+ * written file.
+ *
+ * <p>The quantiles describe the values recorded since the previous export, and are {@code NaN} if there were none. The
+ * {@code _sum} and {@code _count} series are counters, so they accumulate the values of every export.
+ */
+@SdkInternalApi
+public final class PrometheusTextFileHistogramSink implements HistogramSink {
+    private static final String METRIC_PREFIX = "aws_sdk_";
+    private static final String METRIC_SUFFIX = "_seconds";
+
+    private final Path file;
+    private final Path temporaryFile;
+    private final Map<String, Totals> totals = new HashMap<>();
+
+    public PrometheusTextFileHistogramSink(Path file) {
+        this.file = Validate.paramNotNull(file, "file").toAbsolutePath();
+        Path fileName = Validate.notNull(this.file.getFileName(), "The metrics file must not be a root directory: %s", file);
+        this.temporaryFile = this.file.resolveSibling(fileName + ".tmp");
+    }
+
+    @Override
+    public synchronized void export(Collection<HistogramSnapshot> snapshots) {
+        String content = format(snapshots);
+        try {
+            Files.write(temporaryFile, content.getBytes(UTF_8));
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metrics to " + file, e);
+        }
+    }
+
+    private String format(Collection<HistogramSnapshot> snapshots) {
+        Map<String, List<HistogramSnapshot>> byMetric = new TreeMap<>();
+        for (HistogramSnapshot snapshot : snapshots) {
+            byMetric.computeIfAbsent(metricName(snapshot.metric().name()), n -> new ArrayList<>()).add(snapshot);
+        }
+
+        StringBuilder text = new StringBuilder();
+        byMetric.forEach((name, metricSnapshots) -> {
+            text.append("# HELP ").append(name).append(' ').append(metricSnapshots.get(0).metric().name())
+                .append(" recorded by the AWS SDK for Java.\n");
+            text.append("# TYPE ").append(name).append(" summary\n");
+            for (HistogramSnapshot snapshot : metricSnapshots) {
+                String labels = "service=\"" + escape(snapshot.serviceId()) + "\",operation=\""
+                                + escape(snapshot.operationName()) + "\"";
+                for (int i = 0; i < ExportedPercentiles.count(); i++) {
+                    String value = snapshot.count() == 0
+                                   ? "NaN"
+                                   : seconds(snapshot.valueAtPercentile(ExportedPercentiles.percentile(i)));
+                    text.append(name).append('{').append(labels)
+                        .append(",quantile=\"").append(ExportedPercentiles.quantile(i)).append("\"} ")
+                        .append(value).append('\n');
+                }
+                Totals seriesTotals = totals.computeIfAbsent(name + '{' + labels + '}', k -> new Totals());
+                seriesTotals.add(snapshot);
+                text.append(name).append("_sum{").append(labels).append("} ").append(seconds(seriesTotals.sum))
+                    .append('\n');
+                text.append(name).append("_count{").append(labels).append("} ").append(seriesTotals.count).append('\n');
+            }
+        });
+        return text.toString();
+    }
+
+    /**
+     * Convert a metric name like "ApiCallDuration" to a Prometheus metric name like "aws_sdk_api_call_duration_seconds".
+     */
+    static String metricName(String sdkMetricName) {
+        StringBuilder name = new StringBuilder(METRIC_PREFIX);
+        for (int i = 0; i < sdkMetricName.length(); i++) {
+            char c = sdkMetricName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0 && !Character.isUpperCase(sdkMetricName.charAt(i - 1))) {
+                    name.append('_');
+                }
+                name.append(Character.toLowerCase(c));
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                name.append(c);
+            } else {
+                name.append('_');
+            }
+        }
+        return name.append(METRIC_SUFFIX).toString();
+    }
+
+    private static String seconds(Duration duration) {
+        return Double.toString(duration.toNanos() / 1_000_000_000.0);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Totals {
+        private long count;
+        private Duration sum = Duration.ZERO;
+
+        private void add(HistogramSnapshot snapshot) {
+            count += snapshot.count();
+            sum = sum.plus(snapshot.sum());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class HistogramMetricPublisherTest {
+    private static final SdkMetric<Duration> CUSTOM_DURATION =
+        SdkMetric.create("HistogramMetricPublisherTestDuration", Duration.class, MetricLevel.INFO, MetricCategory.CUSTOM);
+
+    @Test
+    public void noMetricsNoExport() {
+        RecordingSink sink = new RecordingSink();
+        HistogramMetricPublisher.builder().addSink(sink).build().close();
+        assertThat(sink.exports).isEmpty();
+        assertThat(sink.closed).isTrue();
+    }
+
+    @Test
+    public void closeExportsAndClosesSinks() {
+        RecordingSink sink = new RecordingSink();
+        HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                     .addSink(sink)
+                                                                     .exportFrequency(Duration.ofMinutes(60))
+                                                                     .build();
+        publisher.publish(apiCall("S3", "GetObject", 10, 7, 2));
+        publisher.close();
+
+        assertThat(publisher.isShutdown()).isTrue();
+        assertThat(sink.exports).hasSize(1);
+        assertThat(sink.closed).isTrue();
+    }
+
+    @Test
+    public void durationsAreRecordedPerOperationFromAllLevels() {
+        RecordingSink sink = new RecordingSink();
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .addSink(sink)
+                                                                          .exportFrequency(Duration.ofMinutes(60))
+                                                                          .build()) {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("S3", "GetObject", i, i, 1));
+            }
+            publisher.publish(apiCall("S3", "PutObject", 500, 400, 3));
+        }
+
+        Map<String, HistogramSnapshot> snapshots = sink.lastExport();
+        assertThat(snapshots).containsOnlyKeys("S3.GetObject.ApiCallDuration",
+                                               "S3.GetObject.ServiceCallDuration",
+                                               "S3.GetObject.ConcurrencyAcquireDuration",
+                                               "S3.PutObject.ApiCallDuration",
+                                               "S3.PutObject.ServiceCallDuration",
+                                               "S3.PutObject.ConcurrencyAcquireDuration");
+
+        HistogramSnapshot apiCallDuration = snapshots.get("S3.GetObject.ApiCallDuration");
+        assertThat(apiCallDuration.count()).isEqualTo(100);
+        // 50ms is reported with the precision of the histogram
+        assertThat(apiCallDuration.valueAtPercentile(50)).isBetween(Duration.ofMillis(50), Duration.ofMillis(51));
+        assertThat(apiCallDuration.valueAtPercentile(99.9)).isEqualTo(Duration.ofMillis(100));
+        assertThat(apiCallDuration.max()).isEqualTo(Duration.ofMillis(100));
+
+        assertThat(snapshots.get("S3.GetObject.ServiceCallDuration").count()).isEqualTo(100);
+        assertThat(snapshots.get("S3.PutObject.ConcurrencyAcquireDuration").max()).isEqualTo(Duration.ofMillis(3));
+    }
+
+    @Test
+    public void exportsDescribeTheValuesRecordedSinceThePreviousExport() {
+        RecordingSink sink = new RecordingSink();
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .addSink(sink)
+                                                                          .exportFrequency(Duration.ofMinutes(60))
+                                                                          .build()) {
+            publisher.publish(apiCall("S3", "GetObject", 100, 90, 2));
+            publisher.export();
+            assertThat(sink.lastExport().get("S3.GetObject.ApiCallDuration").max()).isEqualTo(Duration.ofMillis(100));
+
+            publisher.publish(apiCall("S3", "GetObject", 10, 9, 2));
+            publisher.export();
+            HistogramSnapshot apiCallDuration = sink.lastExport().get("S3.GetObject.ApiCallDuration");
+            assertThat(apiCallDuration.count()).isEqualTo(1);
+            assertThat(apiCallDuration.max()).isEqualTo(Duration.ofMillis(10));
+        }
+
+        // The final export on close has nothing new to report
+        assertThat(sink.lastExport().get("S3.GetObject.ApiCallDuration").count()).isZero();
+    }
+
+    @Test
+    public void closeWaitsForInProgressExportWithoutInterruptingIt() throws InterruptedException {
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicInteger exports = new AtomicInteger();
+        HistogramSink slowSink = snapshots -> {
+            if (exports.incrementAndGet() == 1) {
+                exportStarted.countDown();
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }
+        };
+        HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                     .addSink(slowSink)
+                                                                     .exportFrequency(Duration.ofMillis(10))
+                                                                     .build();
+        publisher.publish(apiCall("S3", "GetObject", 10, 7, 2));
+        assertThat(exportStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        publisher.close();
+
+        assertThat(interrupted).isFalse();
+        assertThat(exports).hasValue(2);
+    }
+
+    @Test
+    public void onlyConfiguredMetricsAreRecorded() {
+        RecordingSink sink = new RecordingSink();
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .addSink(sink)
+                                                                          .metrics(CoreMetric.SERVICE_CALL_DURATION)
+                                                                          .exportFrequency(Duration.ofMinutes(60))
+                                                                          .build()) {
+            publisher.publish(apiCall("S3", "GetObject", 10, 7, 2));
+        }
+
+        assertThat(sink.lastExport()).containsOnlyKeys("S3.GetObject.ServiceCallDuration");
+    }
+
+    @Test
+    public void histogramsArePeriodicallyExported() throws InterruptedException {
+        CountDownLatch exported = new CountDownLatch(2);
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .addSink(snapshots -> exported.countDown())
+                                                                          .exportFrequency(Duration.ofMillis(10))
+                                                                          .build()) {
+            publisher.publish(apiCall("S3", "GetObject", 10, 7, 2));
+            assertThat(exported.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    public void failingSinkDoesNotPreventOtherSinks() {
+        RecordingSink sink = new RecordingSink();
+        HistogramSink failingSink = snapshots -> {
+            throw new IllegalStateException("Failed");
+        };
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .addSink(failingSink)
+                                                                          .addSink(sink)
+                                                                          .exportFrequency(Duration.ofMinutes(60))
+                                                                          .build()) {
+            publisher.publish(apiCall("S3", "GetObject", 10, 7, 2));
+        }
+
+        assertThat(sink.exports).hasSize(1);
+    }
+
+    @Test
+    public void interruptedShutdownStillTerminates() {
+        RecordingSink sink = new RecordingSink();
+        HistogramMetricPublisher publisher = HistogramMetricPublisher.builder().addSink(sink).build();
+        Thread.currentThread().interrupt();
+        publisher.close();
+        assertThat(publisher.isShutdown()).isTrue();
+        assertThat(sink.closed).isTrue();
+        Thread.interrupted(); // Clear interrupt flag
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, long apiCallMillis,
+                                            long serviceCallMillis, long acquireMillis) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(apiCallMillis));
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, 0);
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(serviceCallMillis));
+        attempt.reportMetric(CUSTOM_DURATION, Duration.ofMillis(1));
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(acquireMillis));
+        return apiCall.collect();
+    }
+
+    private static final class RecordingSink implements HistogramSink {
+        private final List<Collection<HistogramSnapshot>> exports = new ArrayList<>();
+        private volatile boolean closed;
+
+        @Override
+        public synchronized void export(Collection<HistogramSnapshot> snapshots) {
+            exports.add(snapshots);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private synchronized Map<String, HistogramSnapshot> lastExport() {
+            return exports.get(exports.size() - 1)
+                          .stream()
+                          .collect(Collectors.toMap(s -> s.serviceId() + "." + s.operationName() + "." + s.metric().name(),
+                                                    Function.identity()));
+        }
+    }
+}
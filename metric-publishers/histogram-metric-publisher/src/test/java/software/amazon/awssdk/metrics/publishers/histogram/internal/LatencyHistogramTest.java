@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void bucketIndexesAreContiguousAndCoverTheirValues() {
+        int previousIndex = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index).isBetween(previousIndex, previousIndex + 1);
+            assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void highestEquivalentValueIsWithinPrecision() {
+        for (int index = 0; index < LatencyHistogram.bucketCount(); index++) {
+            long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertThat(LatencyHistogram.bucketIndex(highest)).isEqualTo(index);
+            if (index > 0) {
+                long lowest = LatencyHistogram.highestEquivalentValue(index - 1) + 1;
+                assertThat(LatencyHistogram.bucketIndex(lowest)).isEqualTo(index);
+                assertThat((double) (highest - lowest)).isLessThanOrEqualTo(lowest / 64.0);
+            }
+        }
+        assertThat(LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketCount() - 1))
+            .isEqualTo(LatencyHistogram.MAX_TRACKABLE_MICROS);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(Duration.ofNanos(i * 1000 + 999));
+        }
+
+        DefaultHistogramSnapshot snapshot = snapshot(histogram);
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.min()).isEqualTo(Duration.ofNanos(1000));
+        assertThat(snapshot.max()).isEqualTo(Duration.ofNanos(100_000));
+        assertThat(snapshot.valueAtPercentile(50)).isEqualTo(Duration.ofNanos(50_000));
+        assertThat(snapshot.valueAtPercentile(99)).isEqualTo(Duration.ofNanos(99_000));
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(Duration.ofNanos(100_000));
+        assertThat(snapshot.sum()).isEqualTo(Duration.ofNanos(5_050_000));
+        assertThat(snapshot.mean()).isEqualTo(Duration.ofNanos(50_000));
+    }
+
+    @Test
+    public void percentilesOfLargeValuesAreWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(0);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + (long) (Math.abs(random.nextGaussian()) * 50_000_000);
+            histogram.record(Duration.ofNanos(values[i] * 1000));
+        }
+        Arrays.sort(values);
+
+        DefaultHistogramSnapshot snapshot = snapshot(histogram);
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long actual = snapshot.valueAtPercentile(percentile).toNanos() / 1000;
+            assertThat((double) actual).isCloseTo(expected, within(expected / 64.0));
+            assertThat(actual).isGreaterThanOrEqualTo(expected);
+        }
+        assertThat(snapshot.max().toNanos() / 1000).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    public void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofNanos(-5));
+        histogram.record(Duration.ofDays(365));
+
+        DefaultHistogramSnapshot snapshot = snapshot(histogram);
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.min()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.max().toNanos() / 1000).isEqualTo(LatencyHistogram.MAX_TRACKABLE_MICROS);
+        assertThat(snapshot.valueAtPercentile(100).toNanos() / 1000).isEqualTo(LatencyHistogram.MAX_TRACKABLE_MICROS);
+    }
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        DefaultHistogramSnapshot snapshot = snapshot(new LatencyHistogram());
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.min()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.mean()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.valueAtPercentile(99)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void snapshotResetsTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(100));
+        assertThat(snapshot(histogram).max()).isEqualTo(Duration.ofMillis(100));
+
+        histogram.record(Duration.ofMillis(10));
+        DefaultHistogramSnapshot snapshot = snapshot(histogram);
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.min()).isEqualTo(Duration.ofMillis(10));
+        assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(10));
+        assertThat(snapshot.sum()).isEqualTo(Duration.ofMillis(10));
+
+        assertThat(snapshot(histogram).count()).isZero();
+    }
+
+    @Test
+    public void recordsConcurrentWithSnapshotsAreCountedOnce() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread recorder = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                histogram.record(Duration.ofMillis(i % 100));
+            }
+        });
+        recorder.start();
+
+        long count = 0;
+        while (recorder.isAlive()) {
+            count += snapshot(histogram).count();
+        }
+        recorder.join();
+        count += snapshot(histogram).count();
+
+        assertThat(count).isEqualTo(100_000);
+    }
+
+    @Test
+    public void concurrentRecordsAreAllCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(Duration.ofMillis(i % 100));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(snapshot(histogram).count()).isEqualTo(40_000);
+    }
+
+    private static DefaultHistogramSnapshot snapshot(LatencyHistogram histogram) {
+        return new DefaultHistogramSnapshot("Service", "Operation", null, histogram);
+    }
+}
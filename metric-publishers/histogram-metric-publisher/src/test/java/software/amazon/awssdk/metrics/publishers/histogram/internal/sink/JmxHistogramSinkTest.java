@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+
+public class JmxHistogramSinkTest {
+    private MBeanServer mbeanServer;
+
+    @Before
+    public void setup() {
+        mbeanServer = MBeanServerFactory.newMBeanServer();
+    }
+
+    @Test
+    public void snapshotsAreRegisteredAndUpdated() throws Exception {
+        JmxHistogramSink sink = new JmxHistogramSink("test.domain", mbeanServer);
+        ObjectName name =
+            new ObjectName("test.domain:type=LatencyHistogram,service=\"S3\",operation=\"GetObject\",metric=\"ApiCallDuration\"");
+
+        sink.export(Collections.singletonList(
+            new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION, Duration.ofMillis(250))));
+        assertThat(mbeanServer.getAttribute(name, "Count")).isEqualTo(2L);
+        assertThat(mbeanServer.getAttribute(name, "P99Millis")).isEqualTo(250.0);
+        assertThat(mbeanServer.getAttribute(name, "P999Millis")).isEqualTo(250.0);
+
+        sink.export(Collections.singletonList(
+            new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION, Duration.ofMillis(500))));
+        assertThat(mbeanServer.getAttribute(name, "P50Millis")).isEqualTo(500.0);
+        assertThat(mbeanServer.getAttribute(name, "MaxMillis")).isEqualTo(500.0);
+
+        sink.close();
+        assertThat(mbeanServer.isRegistered(name)).isFalse();
+    }
+
+    @Test
+    public void closeDoesNotUnregisterBeansOwnedByOtherSinks() throws Exception {
+        JmxHistogramSink first = new JmxHistogramSink("test.domain", mbeanServer);
+        JmxHistogramSink second = new JmxHistogramSink("test.domain", mbeanServer);
+        TestSnapshot snapshot = new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION, Duration.ofMillis(250));
+
+        first.export(Collections.singletonList(snapshot));
+        second.export(Collections.singletonList(snapshot));
+        second.close();
+
+        assertThat(mbeanServer.queryNames(new ObjectName("test.domain:*"), null)).hasSize(1);
+        first.close();
+        assertThat(mbeanServer.queryNames(new ObjectName("test.domain:*"), null)).isEmpty();
+    }
+}
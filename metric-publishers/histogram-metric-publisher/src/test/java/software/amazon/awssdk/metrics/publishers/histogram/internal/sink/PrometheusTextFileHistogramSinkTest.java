@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+public class PrometheusTextFileHistogramSinkTest {
+    @Test
+    public void metricNamesAreSnakeCaseSeconds() {
+        assertThat(PrometheusTextFileHistogramSink.metricName("ApiCallDuration"))
+            .isEqualTo("aws_sdk_api_call_duration_seconds");
+        assertThat(PrometheusTextFileHistogramSink.metricName("ConcurrencyAcquireDuration"))
+            .isEqualTo("aws_sdk_concurrency_acquire_duration_seconds");
+        assertThat(PrometheusTextFileHistogramSink.metricName("My.HTTPDuration"))
+            .isEqualTo("aws_sdk_my__httpduration_seconds");
+    }
+
+    @Test
+    public void snapshotsAreWrittenAsSummaries() throws IOException {
+        Path directory = Files.createTempDirectory("prometheus-sink");
+        Path file = directory.resolve("sdk.prom");
+        try {
+            new PrometheusTextFileHistogramSink(file).export(Arrays.asList(
+                new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION, Duration.ofMillis(250)),
+                new TestSnapshot("S3", "Put\"Object", CoreMetric.API_CALL_DURATION, Duration.ofMillis(500)),
+                new TestSnapshot("S3", "GetObject", HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(2))));
+
+            String content = new String(Files.readAllBytes(file), UTF_8);
+            assertThat(content).isEqualTo(
+                "# HELP aws_sdk_api_call_duration_seconds ApiCallDuration recorded by the AWS SDK for Java.\n"
+                + "# TYPE aws_sdk_api_call_duration_seconds summary\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.5\"} 0.25\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.9\"} 0.25\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.99\"} 0.25\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.999\"} 0.25\n"
+                + "aws_sdk_api_call_duration_seconds_sum{service=\"S3\",operation=\"GetObject\"} 0.5\n"
+                + "aws_sdk_api_call_duration_seconds_count{service=\"S3\",operation=\"GetObject\"} 2\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"Put\\\"Object\",quantile=\"0.5\"} 0.5\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"Put\\\"Object\",quantile=\"0.9\"} 0.5\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"Put\\\"Object\",quantile=\"0.99\"} 0.5\n"
+                + "aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"Put\\\"Object\",quantile=\"0.999\"} 0.5\n"
+                + "aws_sdk_api_call_duration_seconds_sum{service=\"S3\",operation=\"Put\\\"Object\"} 1.0\n"
+                + "aws_sdk_api_call_duration_seconds_count{service=\"S3\",operation=\"Put\\\"Object\"} 2\n"
+                + "# HELP aws_sdk_concurrency_acquire_duration_seconds ConcurrencyAcquireDuration recorded by the AWS SDK for "
+                + "Java.\n"
+                + "# TYPE aws_sdk_concurrency_acquire_duration_seconds summary\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.5\"} 0.002\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.9\"} 0.002\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.99\"} 0.002\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.999\"} 0.002\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds_sum{service=\"S3\",operation=\"GetObject\"} 0.004\n"
+                + "aws_sdk_concurrency_acquire_duration_seconds_count{service=\"S3\",operation=\"GetObject\"} 2\n");
+
+            new PrometheusTextFileHistogramSink(file).export(Arrays.asList());
+            assertThat(file).hasContent("");
+            assertThat(directory.resolve("sdk.prom.tmp")).doesNotExist();
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void sumAndCountAccumulateAcrossExports() throws IOException {
+        Path directory = Files.createTempDirectory("prometheus-sink");
+        Path file = directory.resolve("sdk.prom");
+        try {
+            PrometheusTextFileHistogramSink sink = new PrometheusTextFileHistogramSink(file);
+            sink.export(Arrays.asList(new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION,
+                                                       Duration.ofMillis(250))));
+            sink.export(Arrays.asList(new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION,
+                                                       Duration.ofMillis(100), 1)));
+
+            assertThat(new String(Files.readAllBytes(file), UTF_8))
+                .contains("aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.5\"} 0.1\n")
+                .contains("aws_sdk_api_call_duration_seconds_sum{service=\"S3\",operation=\"GetObject\"} 0.6\n")
+                .contains("aws_sdk_api_call_duration_seconds_count{service=\"S3\",operation=\"GetObject\"} 3\n");
+
+            sink.export(Arrays.asList(new TestSnapshot("S3", "GetObject", CoreMetric.API_CALL_DURATION, Duration.ZERO, 0)));
+
+            assertThat(new String(Files.readAllBytes(file), UTF_8))
+                .contains("aws_sdk_api_call_duration_seconds{service=\"S3\",operation=\"GetObject\",quantile=\"0.5\"} NaN\n")
+                .contains("aws_sdk_api_call_duration_seconds_sum{service=\"S3\",operation=\"GetObject\"} 0.6\n")
+                .contains("aws_sdk_api_call_duration_seconds_count{service=\"S3\",operation=\"GetObject\"} 3\n");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal.sink;
+
+import java.time.Duration;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+/**
+ * A snapshot of calls that all took the same amount of time, two by default.
+ */
+class TestSnapshot implements HistogramSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final SdkMetric<Duration> metric;
+    private final Duration value;
+    private final long count;
+
+    TestSnapshot(String serviceId, String operationName, SdkMetric<Duration> metric, Duration value) {
+        this(serviceId, operationName, metric, value, 2);
+    }
+
+    TestSnapshot(String serviceId, String operationName, SdkMetric<Duration> metric, Duration value, long count) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.metric = metric;
+        this.value = value;
+        this.count = count;
+    }
+
+    @Override
+    public String serviceId() {
+        return serviceId;
+    }
+
+    @Override
+    public String operationName() {
+        return operationName;
+    }
+
+    @Override
+    public SdkMetric<Duration> metric() {
+        return metric;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public Duration min() {
+        return value;
+    }
+
+    @Override
+    public Duration max() {
+        return value;
+    }
+
+    @Override
+    public Duration sum() {
+        return value.multipliedBy(count);
+    }
+
+    @Override
+    public Duration mean() {
+        return value;
+    }
+
+    @Override
+    public Duration valueAtPercentile(double percentile) {
+        return value;
+    }
+}
@@ -26,6 +26,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedRespo
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -724,6 +727,58 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with a parallel scan: the table is divided into segments that are scanned concurrently, and the pages
+     * of all segments are published by a single publisher, in the order they are retrieved.
+     * <p>
+     * The number of pages that are requested from DynamoDB or buffered for the subscriber at the same time is bounded by
+     * {@link ParallelScanEnhancedRequest#maxPagesInFlight()}, so a subscriber that processes pages slowly also slows down the
+     * scan. The publisher reports the progress of every segment, which can be used to resume an interrupted scan with
+     * {@link ParallelScanEnhancedRequest.Builder#resumeFrom(ParallelScanProgress)}.
+     * <p>
+     * The scan fails as soon as the scan of one segment fails. The segments are scanned with the
+     * {@link ParallelScanEnhancedRequest#scanRequest()}, so each scan call applies its filter expression, projection and limit.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPagePublisher<MyItem> publisher =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(4).maxPagesInFlight(8).build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a publisher {@link ParallelScanPagePublisher} with the pages of all segments (see {@link Page}).
+     */
+    default ParallelScanPagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(4));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and how
+     * to scan them.
+     * @return a publisher {@link ParallelScanPagePublisher} with the pages of all segments (see {@link Page}).
+     */
+    default ParallelScanPagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
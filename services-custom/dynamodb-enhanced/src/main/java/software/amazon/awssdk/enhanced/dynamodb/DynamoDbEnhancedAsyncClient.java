@@ -28,6 +28,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -160,6 +163,66 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Retrieves any number of items from one or more tables, using as many BatchGetItem calls as needed.
+     * <p>
+     * Unlike {@link #batchGetItem(BatchGetItemEnhancedRequest)}, the read batches of the request are read as a stream and can
+     * be of any size: duplicate keys are removed, and the keys are regrouped into calls of at most 100 keys, several of which
+     * are in flight at the same time. Keys that DynamoDB returns as unprocessed, for example because the provisioned
+     * throughput of a table is exceeded, are resubmitted with a jittered backoff delay. The configuration of these behaviors is
+     * defined in the {@link BulkGetItemEnhancedRequest}.
+     * <p>
+     * The results are published as a {@link BatchGetResultPage} per call, as the calls complete, so the items are not in the
+     * order of the keys. New calls are only made as fast as the subscriber consumes the pages. Keys that are still unprocessed
+     * after the last retry are returned by {@link BatchGetResultPage#unprocessedKeysForTable}; keys that were resubmitted are
+     * not. Keys of items that do not exist are not reported. If a BatchGetItem call fails, or the publisher of read batches
+     * signals an error, the publisher signals the error and stops.
+     * <p>
+     * Each subscription to the returned publisher executes the request again.
+     * <p>
+     * This operation calls the low-level DynamoDB API BatchGetItem operation. Consult the BatchGetItem documentation for
+     * further details and constraints.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Iterable<ReadBatch> readBatches = () -> customerIds.stream()
+     *                                                    .map(id -> ReadBatch.builder(Customer.class)
+     *                                                                        .mappedTableResource(customerTable)
+     *                                                                        .addGetItem(Key.builder()
+     *                                                                                       .partitionValue(id)
+     *                                                                                       .build())
+     *                                                                        .build())
+     *                                                    .iterator();
+     *
+     * enhancedClient.bulkGetItem(r -> r.readBatches(readBatches).maxConcurrentBatches(8))
+     *               .resultsForTable(customerTable)
+     *               .subscribe(customer -> process(customer));
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkGetItemEnhancedRequest} containing the read batches to read.
+     * @return a publisher {@link BatchGetResultPagePublisher} with the result of each call.
+     */
+    default BatchGetResultPagePublisher bulkGetItem(BulkGetItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves any number of items from one or more tables, using as many BatchGetItem calls as needed. See
+     * {@link #bulkGetItem(BulkGetItemEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkGetItemEnhancedRequest#builder()}.
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkGetItemEnhancedRequest} containing the read batches to read.
+     * @return a publisher {@link BatchGetResultPagePublisher} with the result of each call.
+     */
+    default BatchGetResultPagePublisher bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Puts and/or deletes multiple items in one or more tables. BatchWriteItem is a composite operation where the request
      * contains one batch of (a mix of) {@link PutItemEnhancedRequest} and {@link DeleteItemEnhancedRequest} per targeted table.
@@ -260,6 +323,68 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts and/or deletes any number of items in one or more tables, using as many BatchWriteItem calls as needed.
+     * <p>
+     * Unlike {@link #batchWriteItem(BatchWriteItemEnhancedRequest)}, the write batches of the request are read as a stream and
+     * can be of any size: their puts and deletes are regrouped into calls of at most 25 requests, several of which are in flight
+     * at the same time. Requests that DynamoDB returns as unprocessed, for example because the provisioned throughput of a table
+     * is exceeded, are resubmitted with a jittered backoff delay. The configuration of these behaviors is defined in the
+     * {@link BulkWriteItemEnhancedRequest}.
+     * <p>
+     * <b>Note: </b>Puts and deletes of different items are not necessarily written in order. Puts and deletes of the same item
+     * are written in the order in which they are published, each one in a separate BatchWriteItem call sent after the call
+     * writing the previous one has completed.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put call is atomic, but the operation as a whole is not. Requests that are still
+     * unprocessed after the last retry can be retrieved through the result, see {@link BulkWriteResult}. If a BatchWriteItem
+     * call fails, or the publisher of write batches signals an error, the operation stops and the returned future completes
+     * exceptionally; the calls that completed before are not undone.
+     * <p>
+     * This operation calls the low-level DynamoDB API BatchWriteItem operation. Consult the BatchWriteItem documentation for
+     * further details and constraints.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Iterable<WriteBatch> writeBatches = () -> items.stream()
+     *                                                .map(item -> WriteBatch.builder(Customer.class)
+     *                                                                       .mappedTableResource(customerTable)
+     *                                                                       .addPutItem(item)
+     *                                                                       .build())
+     *                                                .iterator();
+     *
+     * BulkWriteResult result = enhancedClient.bulkWriteItem(BulkWriteItemEnhancedRequest.builder()
+     *                                                                                   .writeBatches(writeBatches)
+     *                                                                                   .maxConcurrentBatches(8)
+     *                                                                                   .build()).join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteItemEnhancedRequest} containing the write batches to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed requests and statistics about
+     * the operation.
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes any number of items in one or more tables, using as many BatchWriteItem calls as needed. See
+     * {@link #bulkWriteItem(BulkWriteItemEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemEnhancedRequest#builder()}.
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteItemEnhancedRequest} containing the write batches to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed requests and statistics about
+     * the operation.
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItem(Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of up to 25 get requests, each containing a table reference and a
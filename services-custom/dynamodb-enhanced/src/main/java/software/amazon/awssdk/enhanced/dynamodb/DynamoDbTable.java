@@ -26,6 +26,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedRespo
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageStream;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -707,6 +710,56 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with a parallel scan: the table is divided into segments that are scanned concurrently by the threads
+     * of a parallel stream.
+     * <p>
+     * Each segment is scanned page by page by one thread of the stream, so the number of concurrent scan calls is the
+     * parallelism of the stream. The result reports the progress of every segment, which can be used to resume an interrupted
+     * scan with {@link ParallelScanEnhancedRequest.Builder#resumeFrom(ParallelScanProgress)}. The segments are scanned with
+     * the {@link ParallelScanEnhancedRequest#scanRequest()}, so each scan call applies its filter expression, projection and
+     * limit.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPageStream<MyItem> results =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(4).build());
+     * results.items().forEach(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a {@link ParallelScanPageStream} with parallel streams over the pages of all segments (see {@link Page}).
+     */
+    default ParallelScanPageStream<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPageStream<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(4));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and how
+     * to scan them.
+     * @return a {@link ParallelScanPageStream} with parallel streams over the pages of all segments (see {@link Page}).
+     */
+    default ParallelScanPageStream<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
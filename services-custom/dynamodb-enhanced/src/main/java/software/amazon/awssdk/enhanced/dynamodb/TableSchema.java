@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaFinder;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
@@ -110,6 +111,10 @@ public interface TableSchema<T> {
      * This is a moderately expensive operation, and should be performed sparingly. This is usually done once at
      * application startup.
      *
+     * If the class was compiled with the {@link software.amazon.awssdk.enhanced.dynamodb.mapper.processor.TableSchemaProcessor}
+     * annotation processor, the table schema it generated is returned instead, which is much cheaper to create because it does
+     * not use reflection.
+     *
      * If this table schema is not behaving as you expect, enable debug logging for
      * 'software.amazon.awssdk.enhanced.dynamodb.beans'.
      *
@@ -119,11 +124,11 @@ public interface TableSchema<T> {
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
-            return fromImmutableClass(annotatedClass);
+            return GeneratedTableSchemaFinder.find(annotatedClass).orElseGet(() -> fromImmutableClass(annotatedClass));
         }
 
         if (annotatedClass.getAnnotation(DynamoDbBean.class) != null) {
-            return fromBean(annotatedClass);
+            return GeneratedTableSchemaFinder.find(annotatedClass).orElseGet(() -> fromBean(annotatedClass));
         }
 
         throw new IllegalArgumentException("Class does not appear to be a valid DynamoDb annotated class. [class = " +
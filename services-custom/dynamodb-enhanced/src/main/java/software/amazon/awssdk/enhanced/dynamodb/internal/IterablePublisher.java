@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A publisher of the elements of an {@link Iterable}. Elements are read from the iterable on the thread that requests them,
+ * one at a time, so they are only created as fast as the subscriber consumes them.
+ */
+@SdkInternalApi
+public final class IterablePublisher<T> implements SdkPublisher<T> {
+    private final Iterable<T> iterable;
+
+    private IterablePublisher(Iterable<T> iterable) {
+        this.iterable = Validate.paramNotNull(iterable, "iterable");
+    }
+
+    public static <T> IterablePublisher<T> create(Iterable<T> iterable) {
+        return new IterablePublisher<>(iterable);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Validate.paramNotNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    private final class IteratorSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private Iterator<T> iterator;
+
+        private IteratorSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done.get()) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                return;
+            }
+            demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+
+        /**
+         * Emits elements while there is demand. A subscriber that requests more from within onNext only increments the
+         * demand, and the loop that is already running emits the elements, so the stack does not grow with each element.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                try {
+                    emit();
+                } catch (RuntimeException e) {
+                    if (done.compareAndSet(false, true)) {
+                        subscriber.onError(e);
+                    }
+                    return;
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void emit() {
+            if (iterator == null) {
+                iterator = iterable.iterator();
+            }
+            while (!done.get() && demand.get() > 0) {
+                if (!iterator.hasNext()) {
+                    if (done.compareAndSet(false, true)) {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                T next = iterator.next();
+                demand.decrementAndGet();
+                subscriber.onNext(next);
+            }
+            if (!done.get() && !iterator.hasNext() && done.compareAndSet(false, true)) {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
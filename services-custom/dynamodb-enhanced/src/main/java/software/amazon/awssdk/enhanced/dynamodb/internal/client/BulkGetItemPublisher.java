@@ -0,0 +1,429 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Executes a {@link BulkGetItemEnhancedRequest} for each subscriber, and publishes the result of each BatchGetItem call as a
+ * {@link BatchGetResultPage}.
+ * <p>
+ * The keys of the read batches are deduplicated per table and consistent read setting, queued, and sent in BatchGetItem calls
+ * of at most 100 keys, across tables. The next read batch is only requested from the publisher while fewer than 100 keys are
+ * queued, and a new call is only started while the calls in flight and the pages waiting for the subscriber are fewer than
+ * {@code maxConcurrentBatches}, so memory stays bounded by the pace of the subscriber, apart from the keys that are remembered
+ * to remove duplicates.
+ * <p>
+ * The unprocessed keys of a call are resubmitted, after a backoff delay, in place of that call: the call keeps its slot until
+ * all its keys are processed or out of retries. The items retrieved by each attempt are published as they arrive, and only the
+ * keys that are still unprocessed after the last retry are reported as unprocessed.
+ */
+@SdkInternalApi
+public final class BulkGetItemPublisher implements BatchGetResultPagePublisher {
+    static final int MAX_KEYS_PER_CALL = 100;
+
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_MAX_UNPROCESSED_KEY_RETRIES = 10;
+
+    private final BulkGetItemEnhancedRequest request;
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final DynamoDbEnhancedClientExtension extension;
+    private final int maxConcurrentBatches;
+    private final int maxUnprocessedKeyRetries;
+
+    private BulkGetItemPublisher(BulkGetItemEnhancedRequest request,
+                                 DynamoDbAsyncClient dynamoDbClient,
+                                 DynamoDbEnhancedClientExtension extension) {
+        this.request = request;
+        this.dynamoDbClient = dynamoDbClient;
+        this.extension = extension;
+        this.maxConcurrentBatches = request.maxConcurrentBatches() != null ? request.maxConcurrentBatches()
+                                                                           : DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.maxUnprocessedKeyRetries = request.maxUnprocessedKeyRetries() != null ? request.maxUnprocessedKeyRetries()
+                                                                                   : DEFAULT_MAX_UNPROCESSED_KEY_RETRIES;
+    }
+
+    public static BulkGetItemPublisher create(BulkGetItemEnhancedRequest request,
+                                              DynamoDbAsyncClient dynamoDbClient,
+                                              DynamoDbEnhancedClientExtension extension) {
+        return new BulkGetItemPublisher(Validate.paramNotNull(request, "request"), dynamoDbClient, extension);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super BatchGetResultPage> subscriber) {
+        Validate.paramNotNull(subscriber, "subscriber");
+        Execution execution = new Execution(subscriber);
+        subscriber.onSubscribe(execution);
+        execution.start();
+    }
+
+    /**
+     * A single execution of the request, for one subscriber. It is the subscription of that subscriber, and the subscriber of
+     * the read batches.
+     */
+    private final class Execution implements Subscription, Subscriber<ReadBatch> {
+        private final Subscriber<? super BatchGetResultPage> subscriber;
+        private final AtomicInteger drainWip = new AtomicInteger();
+        private final BulkRetryScheduler retryScheduler = new BulkRetryScheduler(request.unprocessedKeyBackoffStrategy(),
+                                                                                 request.scheduledExecutorService(),
+                                                                                 "sdk-bulk-get");
+
+        // The following fields are guarded by this
+        private final Set<TableKey> seenKeys = new HashSet<>();
+        private final Deque<TableKey> queuedKeys = new ArrayDeque<>();
+        private final Deque<BatchGetResultPage> pages = new ArrayDeque<>();
+        private Subscription readBatchSubscription;
+        private boolean readBatchRequested;
+        private boolean readBatchesComplete;
+        private int callsInFlight;
+        private long demand;
+        private boolean started;
+        private boolean done;
+        private Throwable failure;
+
+        private Execution(Subscriber<? super BatchGetResultPage> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Called once onSubscribe has returned, so that nothing is signalled to the subscriber before.
+         */
+        private void start() {
+            synchronized (this) {
+                started = true;
+            }
+            request.readBatches().subscribe(this);
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    recordFailure(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                } else {
+                    demand = Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                queuedKeys.clear();
+                pages.clear();
+            }
+            stop();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            synchronized (this) {
+                if (readBatchSubscription != null || done) {
+                    s.cancel();
+                    return;
+                }
+                readBatchSubscription = s;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(ReadBatch readBatch) {
+            synchronized (this) {
+                readBatchRequested = false;
+                KeysAndAttributes keysAndAttributes = readBatch.keysAndAttributes();
+                if (!done && keysAndAttributes != null) {
+                    for (Map<String, AttributeValue> key : keysAndAttributes.keys()) {
+                        TableKey tableKey = new TableKey(readBatch.tableName(), keysAndAttributes.consistentRead(), key);
+                        if (seenKeys.add(tableKey)) {
+                            queuedKeys.add(tableKey);
+                        }
+                    }
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                readBatchesComplete = true;
+                recordFailure(t);
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                readBatchesComplete = true;
+            }
+            drain();
+        }
+
+        private synchronized void recordFailure(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+
+        private void fail(Throwable t) {
+            recordFailure(t);
+            drain();
+        }
+
+        /**
+         * Delivers pages, sends calls and requests read batches while there is room for them. The loop only runs on one thread
+         * at a time, and signals that arrive while it runs, such as a read batch delivered synchronously from within request(),
+         * make it run again instead of recursing. This also makes all signals to the subscriber serial.
+         */
+        private void drain() {
+            if (drainWip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                drainOnce();
+            } while (drainWip.decrementAndGet() != 0);
+        }
+
+        private void drainOnce() {
+            List<BatchGetResultPage> toDeliver = new ArrayList<>();
+            List<Map<String, KeysAndAttributes>> calls = new ArrayList<>();
+            Subscription toRequest = null;
+            Throwable error;
+            boolean complete = false;
+
+            synchronized (this) {
+                if (!started || done) {
+                    return;
+                }
+
+                error = failure;
+                if (error == null) {
+                    while (demand > 0 && !pages.isEmpty()) {
+                        toDeliver.add(pages.poll());
+                        demand--;
+                    }
+
+                    while (callsInFlight + pages.size() < maxConcurrentBatches
+                           && (queuedKeys.size() >= MAX_KEYS_PER_CALL || readBatchesComplete && !queuedKeys.isEmpty())) {
+                        calls.add(nextCall());
+                        callsInFlight++;
+                    }
+
+                    if (readBatchSubscription != null && !readBatchesComplete && !readBatchRequested
+                        && queuedKeys.size() < MAX_KEYS_PER_CALL) {
+                        readBatchRequested = true;
+                        toRequest = readBatchSubscription;
+                    }
+
+                    complete = readBatchesComplete && queuedKeys.isEmpty() && callsInFlight == 0 && pages.isEmpty();
+                }
+                done = error != null || complete;
+            }
+
+            if (error != null) {
+                stop();
+                subscriber.onError(error);
+                return;
+            }
+
+            toDeliver.forEach(subscriber::onNext);
+            calls.forEach(call -> send(call, 0));
+            if (toRequest != null) {
+                toRequest.request(1);
+            }
+            if (complete) {
+                stop();
+                subscriber.onComplete();
+            }
+        }
+
+        private Map<String, KeysAndAttributes> nextCall() {
+            Map<String, List<Map<String, AttributeValue>>> keys = new LinkedHashMap<>();
+            Map<String, Boolean> consistentReads = new HashMap<>();
+            for (int i = 0; i < MAX_KEYS_PER_CALL && !queuedKeys.isEmpty(); i++) {
+                TableKey next = queuedKeys.peek();
+                // A table has a single consistent read setting per call
+                if (keys.containsKey(next.tableName)
+                    && !Objects.equals(consistentReads.get(next.tableName), next.consistentRead)) {
+                    break;
+                }
+                queuedKeys.poll();
+                keys.computeIfAbsent(next.tableName, ignored -> new ArrayList<>()).add(next.key);
+                consistentReads.put(next.tableName, next.consistentRead);
+            }
+
+            Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+            keys.forEach((tableName, tableKeys) -> {
+                KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder()
+                                                                       .keys(tableKeys)
+                                                                       .consistentRead(consistentReads.get(tableName))
+                                                                       .build();
+                requestItems.put(tableName, keysAndAttributes);
+            });
+            return requestItems;
+        }
+
+        private void send(Map<String, KeysAndAttributes> requestItems, int retriesAttempted) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+            }
+
+            CompletableFuture<BatchGetItemResponse> response;
+            try {
+                response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build());
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            response.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else {
+                    handleResponse(r, retriesAttempted);
+                }
+            });
+        }
+
+        private void handleResponse(BatchGetItemResponse response, int retriesAttempted) {
+            Map<String, KeysAndAttributes> unprocessedKeys = response.unprocessedKeys();
+            boolean retry = count(unprocessedKeys) > 0 && retriesAttempted < maxUnprocessedKeyRetries;
+            boolean hasResults = response.responses().values().stream().anyMatch(items -> !items.isEmpty())
+                                 || count(unprocessedKeys) > 0 && !retry;
+
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (hasResults) {
+                    // Keys that are resubmitted are not reported as unprocessed
+                    BatchGetItemResponse pageResponse =
+                        response.toBuilder()
+                                .unprocessedKeys(retry ? Collections.emptyMap() : unprocessedKeys)
+                                .build();
+                    pages.add(BatchGetResultPage.builder()
+                                                .batchGetItemResponse(pageResponse)
+                                                .mapperExtension(extension)
+                                                .build());
+                }
+                if (!retry) {
+                    callsInFlight--;
+                }
+            }
+
+            if (retry) {
+                try {
+                    retryScheduler.scheduleRetry(() -> send(unprocessedKeys, retriesAttempted + 1), retriesAttempted);
+                } catch (RejectedExecutionException e) {
+                    fail(e);
+                    return;
+                }
+            }
+            drain();
+        }
+
+        /**
+         * Stops reading read batches and shuts down the scheduler, once the execution is done.
+         */
+        private void stop() {
+            Subscription toCancel;
+            synchronized (this) {
+                toCancel = readBatchesComplete ? null : readBatchSubscription;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            retryScheduler.shutdown();
+        }
+    }
+
+    private static int count(Map<String, KeysAndAttributes> keys) {
+        return keys.values().stream().mapToInt(keysAndAttributes -> keysAndAttributes.keys().size()).sum();
+    }
+
+    private static final class TableKey {
+        private final String tableName;
+        private final Boolean consistentRead;
+        private final Map<String, AttributeValue> key;
+
+        private TableKey(String tableName, Boolean consistentRead, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.consistentRead = consistentRead;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TableKey that = (TableKey) o;
+
+            return tableName.equals(that.tableName)
+                   && Objects.equals(consistentRead, that.consistentRead)
+                   && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = tableName.hashCode();
+            result = 31 * result + (consistentRead != null ? consistentRead.hashCode() : 0);
+            result = 31 * result + key.hashCode();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Schedules the resubmission of the unprocessed items or keys of a bulk operation, after the delay computed by its backoff
+ * strategy.
+ * <p>
+ * The caller's {@link ScheduledExecutorService} is used when one is configured. Otherwise a single daemon thread is created the
+ * first time a retry is scheduled, and shut down with this scheduler.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class BulkRetryScheduler {
+    static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        FullJitterBackoffStrategy.builder()
+                                 .baseDelay(Duration.ofMillis(50))
+                                 .maxBackoffTime(Duration.ofSeconds(20))
+                                 .build();
+
+    private final BackoffStrategy backoffStrategy;
+    private final String threadNamePrefix;
+
+    // The following fields are guarded by this
+    private ScheduledExecutorService scheduler;
+    private boolean ownsScheduler;
+    private boolean shutdown;
+
+    /**
+     * @param backoffStrategy The backoff strategy of the operation, or null to use {@link #DEFAULT_BACKOFF_STRATEGY}.
+     * @param scheduler The scheduler configured for the operation, or null to create one when it is first needed.
+     * @param threadNamePrefix The name prefix of the thread created when no scheduler is configured.
+     */
+    BulkRetryScheduler(BackoffStrategy backoffStrategy, ScheduledExecutorService scheduler, String threadNamePrefix) {
+        this.backoffStrategy = backoffStrategy != null ? backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.scheduler = scheduler;
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * Runs the provided retry after the backoff delay for the given number of retries already attempted.
+     *
+     * @throws RejectedExecutionException If this scheduler is shut down, or the retry cannot be scheduled.
+     */
+    void scheduleRetry(Runnable retry, int retriesAttempted) {
+        Duration delay = backoffStrategy.computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                      .retriesAttempted(retriesAttempted)
+                                                                                      .build());
+        scheduler().schedule(retry, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Rejects any further retry, and shuts down the scheduler if it was created by this instance. Retries that are already
+     * scheduled on a configured scheduler are left to run.
+     */
+    void shutdown() {
+        ScheduledExecutorService toShutdown;
+        synchronized (this) {
+            shutdown = true;
+            toShutdown = ownsScheduler ? scheduler : null;
+        }
+        if (toShutdown != null) {
+            toShutdown.shutdownNow();
+        }
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (shutdown) {
+            throw new RejectedExecutionException("The bulk operation has stopped.");
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix)
+                                                                                              .daemonThreads(true)
+                                                                                              .build());
+            ownsScheduler = true;
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Executes a {@link BulkWriteItemEnhancedRequest}.
+ * <p>
+ * The write requests of the write batches are queued, and sent in BatchWriteItem calls of at most 25 requests, across tables,
+ * with up to {@code maxConcurrentBatches} calls in flight. The next write batch is only requested from the publisher while
+ * fewer than 25 write requests are queued, so memory stays bounded regardless of how many items are written.
+ * <p>
+ * DynamoDB rejects a BatchWriteItem call that writes the same item twice, so a write request for an item that is already
+ * written by a call in flight stays queued until that call completes. This also keeps the writes of an item in the order in
+ * which they were published.
+ * <p>
+ * The unprocessed items of a call are resubmitted, after a backoff delay, in place of that call: the call keeps its slot until
+ * all its items are processed or out of retries, so the load automatically slows down while DynamoDB is throttling.
+ */
+@SdkInternalApi
+public final class BulkWriteItemExecutor implements Subscriber<WriteBatch> {
+    static final int MAX_WRITE_REQUESTS_PER_CALL = 25;
+
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES = 10;
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final BulkWriteItemEnhancedRequest request;
+    private final int maxConcurrentBatches;
+    private final int maxUnprocessedItemRetries;
+    private final BulkRetryScheduler retryScheduler;
+    private final CompletableFuture<BulkWriteResult> resultFuture = new CompletableFuture<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    private final AtomicLong writtenRequestCount = new AtomicLong();
+    private final AtomicLong batchWriteItemCallCount = new AtomicLong();
+    private final AtomicLong throttledCallCount = new AtomicLong();
+    private final AtomicLong retriedRequestCount = new AtomicLong();
+    private final long startNanos;
+
+    // The following fields are guarded by this
+    private final Deque<TableWriteRequest> queuedRequests = new ArrayDeque<>();
+    private final Map<String, List<WriteRequest>> unprocessedRequests = new HashMap<>();
+    private final Set<ItemKey> itemKeysInFlight = new HashSet<>();
+    private Subscription subscription;
+    private boolean writeBatchRequested;
+    private boolean writeBatchesComplete;
+    private int callsInFlight;
+    private Throwable failure;
+
+    private BulkWriteItemExecutor(BulkWriteItemEnhancedRequest request, DynamoDbAsyncClient dynamoDbClient) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.request = request;
+        this.maxConcurrentBatches = request.maxConcurrentBatches() != null ? request.maxConcurrentBatches()
+                                                                           : DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.maxUnprocessedItemRetries = request.maxUnprocessedItemRetries() != null ? request.maxUnprocessedItemRetries()
+                                                                                     : DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES;
+        this.retryScheduler = new BulkRetryScheduler(request.unprocessedItemBackoffStrategy(),
+                                                     request.scheduledExecutorService(),
+                                                     "sdk-bulk-write");
+        this.startNanos = System.nanoTime();
+    }
+
+    public static CompletableFuture<BulkWriteResult> execute(BulkWriteItemEnhancedRequest request,
+                                                             DynamoDbAsyncClient dynamoDbClient) {
+        return new BulkWriteItemExecutor(request, dynamoDbClient).start();
+    }
+
+    private CompletableFuture<BulkWriteResult> start() {
+        // Stop reading write batches if the caller cancels the future, or the operation fails
+        resultFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+        request.writeBatches().subscribe(this);
+        return resultFuture;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (this) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(WriteBatch writeBatch) {
+        synchronized (this) {
+            writeBatchRequested = false;
+            if (failure == null) {
+                writeBatch.writeRequests().forEach(r -> queuedRequests.add(new TableWriteRequest(writeBatch, r)));
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            writeBatchesComplete = true;
+        }
+        drain();
+    }
+
+    /**
+     * Sends calls and requests write batches while there is room for them. The loop only runs on one thread at a time, and
+     * signals that arrive while it runs, such as a write batch delivered synchronously from within request(), make it run
+     * again instead of recursing.
+     */
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            drainOnce();
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private void drainOnce() {
+        List<BatchCall> calls = new ArrayList<>();
+        Subscription toRequest = null;
+        boolean complete = false;
+
+        synchronized (this) {
+            if (failure != null || resultFuture.isDone()) {
+                return;
+            }
+
+            while (callsInFlight < maxConcurrentBatches
+                   && (queuedRequests.size() >= MAX_WRITE_REQUESTS_PER_CALL
+                       || writeBatchesComplete && !queuedRequests.isEmpty())) {
+                BatchCall call = nextCall();
+                if (call.requestItems.isEmpty()) {
+                    // Every queued write request is for an item that is written by a call in flight
+                    break;
+                }
+                calls.add(call);
+                callsInFlight++;
+            }
+
+            if (subscription != null && !writeBatchesComplete && !writeBatchRequested
+                && queuedRequests.size() < MAX_WRITE_REQUESTS_PER_CALL) {
+                writeBatchRequested = true;
+                toRequest = subscription;
+            }
+
+            if (writeBatchesComplete && queuedRequests.isEmpty() && callsInFlight == 0) {
+                complete = true;
+            }
+        }
+
+        calls.forEach(call -> send(call.requestItems, call.itemKeys, 0));
+        if (toRequest != null) {
+            toRequest.request(1);
+        }
+        if (complete) {
+            complete();
+        }
+    }
+
+    private BatchCall nextCall() {
+        BatchCall call = new BatchCall();
+        Iterator<TableWriteRequest> queued = queuedRequests.iterator();
+        int requestCount = 0;
+        while (requestCount < MAX_WRITE_REQUESTS_PER_CALL && queued.hasNext()) {
+            TableWriteRequest next = queued.next();
+            if (next.itemKey != null && !itemKeysInFlight.add(next.itemKey)) {
+                continue;
+            }
+            queued.remove();
+            call.requestItems.computeIfAbsent(next.tableName, ignored -> new ArrayList<>()).add(next.writeRequest);
+            if (next.itemKey != null) {
+                call.itemKeys.add(next.itemKey);
+            }
+            requestCount++;
+        }
+        return call;
+    }
+
+    private void send(Map<String, List<WriteRequest>> requestItems, List<ItemKey> itemKeys, int retriesAttempted) {
+        if (resultFuture.isDone()) {
+            return;
+        }
+
+        batchWriteItemCallCount.incrementAndGet();
+        CompletableFuture<BatchWriteItemResponse> response;
+        try {
+            response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build());
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            } else {
+                handleResponse(requestItems, r.unprocessedItems(), itemKeys, retriesAttempted);
+            }
+        });
+    }
+
+    private void handleResponse(Map<String, List<WriteRequest>> requestItems,
+                                Map<String, List<WriteRequest>> unprocessedItems,
+                                List<ItemKey> itemKeys,
+                                int retriesAttempted) {
+        if (resultFuture.isDone()) {
+            return;
+        }
+
+        int unprocessedCount = count(unprocessedItems);
+        writtenRequestCount.addAndGet(count(requestItems) - unprocessedCount);
+
+        if (unprocessedCount == 0) {
+            callCompleted(itemKeys);
+            return;
+        }
+
+        throttledCallCount.incrementAndGet();
+        if (retriesAttempted >= maxUnprocessedItemRetries) {
+            synchronized (this) {
+                unprocessedItems.forEach((table, requests) -> unprocessedRequests.computeIfAbsent(table, t -> new ArrayList<>())
+                                                                                 .addAll(requests));
+            }
+            callCompleted(itemKeys);
+            return;
+        }
+
+        retriedRequestCount.addAndGet(unprocessedCount);
+        try {
+            retryScheduler.scheduleRetry(() -> send(unprocessedItems, itemKeys, retriesAttempted + 1), retriesAttempted);
+        } catch (RejectedExecutionException e) {
+            fail(e);
+        }
+    }
+
+    private void callCompleted(List<ItemKey> itemKeys) {
+        synchronized (this) {
+            callsInFlight--;
+            itemKeysInFlight.removeAll(itemKeys);
+        }
+        drain();
+    }
+
+    private void complete() {
+        BulkWriteResult result;
+        synchronized (this) {
+            result = BulkWriteResult.builder()
+                                    .unprocessedRequests(new HashMap<>(unprocessedRequests))
+                                    .writtenRequestCount(writtenRequestCount.get())
+                                    .batchWriteItemCallCount(batchWriteItemCallCount.get())
+                                    .throttledCallCount(throttledCallCount.get())
+                                    .retriedRequestCount(retriedRequestCount.get())
+                                    .duration(Duration.ofNanos(System.nanoTime() - startNanos))
+                                    .build();
+        }
+        retryScheduler.shutdown();
+        resultFuture.complete(result);
+    }
+
+    private void fail(Throwable t) {
+        Subscription toCancel;
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = t;
+            queuedRequests.clear();
+            toCancel = writeBatchesComplete ? null : subscription;
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+        retryScheduler.shutdown();
+        resultFuture.completeExceptionally(t);
+    }
+
+    private static int count(Map<String, List<WriteRequest>> requestItems) {
+        return requestItems.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static final class TableWriteRequest {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final ItemKey itemKey;
+
+        private TableWriteRequest(WriteBatch writeBatch, WriteRequest writeRequest) {
+            this.tableName = writeBatch.tableName();
+            this.writeRequest = writeRequest;
+            this.itemKey = ItemKey.of(writeBatch.tableName(), writeBatch.primaryKeys(), writeRequest);
+        }
+    }
+
+    private static final class BatchCall {
+        private final Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+        private final List<ItemKey> itemKeys = new ArrayList<>();
+    }
+
+    /**
+     * The table and primary key of the item written by a write request.
+     */
+    private static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        /**
+         * Returns the key of the item written by the provided write request, or null if it cannot be determined because the
+         * table schema does not define a primary key.
+         */
+        private static ItemKey of(String tableName, Collection<String> primaryKeys, WriteRequest writeRequest) {
+            if (writeRequest.deleteRequest() != null) {
+                return new ItemKey(tableName, writeRequest.deleteRequest().key());
+            }
+            if (writeRequest.putRequest() == null || primaryKeys.isEmpty()) {
+                return null;
+            }
+            Map<String, AttributeValue> item = writeRequest.putRequest().item();
+            Map<String, AttributeValue> key = new HashMap<>();
+            primaryKeys.forEach(k -> key.put(k, item.get(k)));
+            return new ItemKey(tableName, key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey itemKey = (ItemKey) o;
+            return Objects.equals(tableName, itemKey.tableName) && Objects.equals(key, itemKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(tableName) + Objects.hashCode(key);
+        }
+    }
+}
@@ -42,6 +42,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -247,6 +249,18 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public ParallelScanPagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return DefaultParallelScanPagePublisher.create(request, this::scan);
+    }
+
+    @Override
+    public ParallelScanPagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -34,6 +34,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedReques
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -72,6 +75,18 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchGetItem(builder.build());
     }
 
+    @Override
+    public BatchGetResultPagePublisher bulkGetItem(BulkGetItemEnhancedRequest request) {
+        return BulkGetItemPublisher.create(request, dynamoDbClient, extension);
+    }
+
+    @Override
+    public BatchGetResultPagePublisher bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        BulkGetItemEnhancedRequest.Builder builder = BulkGetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkGetItem(builder.build());
+    }
+
     @Override
     public CompletableFuture<BatchWriteResult> batchWriteItem(BatchWriteItemEnhancedRequest request) {
         BatchWriteItemOperation operation = BatchWriteItemOperation.create(request);
@@ -87,6 +102,18 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        return BulkWriteItemExecutor.execute(request, dynamoDbClient);
+    }
+
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWriteItem(Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+        BulkWriteItemEnhancedRequest.Builder builder = BulkWriteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWriteItem(builder.build());
+    }
+
     @Override
     public CompletableFuture<List<Document>> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -41,6 +41,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageStream;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -246,6 +248,18 @@ public class DefaultDynamoDbTable<T> implements DynamoDbTable<T> {
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public ParallelScanPageStream<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return DefaultParallelScanPageStream.create(request, this::scan);
+    }
+
+    @Override
+    public ParallelScanPageStream<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public T updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
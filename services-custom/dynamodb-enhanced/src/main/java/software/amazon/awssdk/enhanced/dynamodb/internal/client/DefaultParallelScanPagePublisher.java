@@ -0,0 +1,356 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Merges the paginated scans of all the segments of a parallel scan into a single publisher of pages.
+ * <p>
+ * Each segment is scanned by its own page publisher, one page at a time. The number of pages that are requested from the
+ * segments or buffered for the subscriber is bounded by maxPagesInFlight, which bounds both the number of concurrent scan
+ * calls and the memory used. When there is room for another page, the segments that are waiting are asked in turn, and a new
+ * segment is only started when all started segments already have a page in flight. Pages are delivered in the order they
+ * arrive, and pages are prefetched up to the budget even when the subscriber has no demand.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultParallelScanPagePublisher<T> implements ParallelScanPagePublisher<T> {
+    private static final int DEFAULT_MAX_PAGES_IN_FLIGHT = 8;
+
+    private final Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> scan;
+    private final ParallelScanProgressTracker tracker;
+    private final int maxPagesInFlight;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private DefaultParallelScanPagePublisher(ParallelScanEnhancedRequest request,
+                                             Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> scan) {
+        this.scan = scan;
+        this.tracker = new ParallelScanProgressTracker(request);
+        this.maxPagesInFlight = request.maxPagesInFlight() != null
+                                ? request.maxPagesInFlight()
+                                : Math.min(request.totalSegments(), DEFAULT_MAX_PAGES_IN_FLIGHT);
+    }
+
+    /**
+     * Creates a publisher for the given parallel scan.
+     *
+     * @param request the parallel scan
+     * @param scan the function that scans a single segment
+     */
+    public static <T> DefaultParallelScanPagePublisher<T> create(
+        ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> scan) {
+        return new DefaultParallelScanPagePublisher<>(Validate.paramNotNull(request, "request"),
+                                                      Validate.paramNotNull(scan, "scan"));
+    }
+
+    @Override
+    public ParallelScanProgress progress() {
+        return tracker.snapshot();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        Validate.paramNotNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A parallel scan can only be subscribed to once."));
+            return;
+        }
+        MergeSubscription subscription = new MergeSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private final class MergeSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // Guarded by this
+        private final Deque<Integer> pendingSegments;
+        private final Deque<SegmentSubscriber> idleSegments = new ArrayDeque<>();
+        private final Set<SegmentSubscriber> activeSegments = new HashSet<>();
+        private final Deque<SegmentEvent<T>> events = new ArrayDeque<>();
+        private int startingSegments;
+        private int pagesInFlight;
+        private long demand;
+        private Throwable error;
+        private boolean started;
+        private boolean done;
+
+        private MergeSubscription(Subscriber<? super Page<T>> subscriber) {
+            this.subscriber = subscriber;
+            this.pendingSegments = new ArrayDeque<>(tracker.remainingSegments());
+        }
+
+        /**
+         * Called once onSubscribe has returned, so that nothing is signalled to the subscriber before.
+         */
+        private void start() {
+            synchronized (this) {
+                started = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                } else {
+                    demand = Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            List<SegmentSubscriber> toCancel;
+            synchronized (this) {
+                done = true;
+                toCancel = clear();
+            }
+            toCancel.forEach(SegmentSubscriber::cancel);
+        }
+
+        /**
+         * Records a failure, which is signalled by the next drain. Only the first failure is kept.
+         */
+        private synchronized void fail(Throwable t) {
+            if (error == null) {
+                error = t;
+            }
+        }
+
+        private synchronized List<SegmentSubscriber> clear() {
+            List<SegmentSubscriber> segments = new ArrayList<>(activeSegments);
+            activeSegments.clear();
+            idleSegments.clear();
+            pendingSegments.clear();
+            events.clear();
+            return segments;
+        }
+
+        /**
+         * Runs the drain loop, unless it is already running on another thread, in which case that thread runs it again.
+         * This makes all signals to the subscriber serial, including the ones caused by a subscriber that requests more
+         * from within onNext.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainEvents();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainEvents() {
+            while (true) {
+                List<SegmentSubscriber> toRequest = new ArrayList<>();
+                List<Integer> toStart = new ArrayList<>();
+                SegmentEvent<T> event = null;
+                Throwable failure;
+                boolean complete = false;
+
+                synchronized (this) {
+                    if (!started || done) {
+                        return;
+                    }
+
+                    failure = error;
+                    if (failure == null) {
+                        while (pagesInFlight < maxPagesInFlight) {
+                            SegmentSubscriber idle = idleSegments.poll();
+                            if (idle != null) {
+                                idle.pageRequested = true;
+                                toRequest.add(idle);
+                            } else if (!pendingSegments.isEmpty()) {
+                                toStart.add(pendingSegments.poll());
+                                startingSegments++;
+                            } else {
+                                break;
+                            }
+                            pagesInFlight++;
+                        }
+
+                        SegmentEvent<T> next = events.peek();
+                        if (next != null && (next.page == null || demand > 0)) {
+                            event = events.poll();
+                            if (event.page != null) {
+                                demand--;
+                                pagesInFlight--;
+                            }
+                        }
+
+                        complete = event == null && events.isEmpty() && pendingSegments.isEmpty()
+                                   && activeSegments.isEmpty() && startingSegments == 0;
+                    }
+                    done = failure != null || complete;
+                }
+
+                if (failure != null) {
+                    clear().forEach(SegmentSubscriber::cancel);
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+
+                toStart.forEach(this::startSegment);
+                toRequest.forEach(segment -> segment.subscription.request(1));
+
+                if (event == null) {
+                    if (toStart.isEmpty() && toRequest.isEmpty()) {
+                        return;
+                    }
+                } else if (event.page == null) {
+                    tracker.segmentCompleted(event.segment);
+                } else {
+                    subscriber.onNext(event.page);
+                    tracker.pageProcessed(event.segment, event.page.lastEvaluatedKey());
+                }
+            }
+        }
+
+        private void startSegment(int segment) {
+            SegmentSubscriber segmentSubscriber = new SegmentSubscriber(segment);
+            try {
+                scan.apply(tracker.segmentRequest(segment)).subscribe(segmentSubscriber);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private final int segment;
+            private volatile Subscription subscription;
+
+            // Guarded by the enclosing MergeSubscription
+            private boolean pageRequested = true;
+
+            private SegmentSubscriber(int segment) {
+                this.segment = segment;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                boolean cancelled;
+                synchronized (MergeSubscription.this) {
+                    startingSegments--;
+                    cancelled = done;
+                    if (!cancelled) {
+                        activeSegments.add(this);
+                    }
+                }
+                if (cancelled) {
+                    s.cancel();
+                } else {
+                    // The page was reserved in the budget when the segment was started
+                    s.request(1);
+                }
+            }
+
+            @Override
+            public void onNext(Page<T> page) {
+                synchronized (MergeSubscription.this) {
+                    if (!activeSegments.contains(this)) {
+                        return;
+                    }
+                    pageRequested = false;
+                    events.add(new SegmentEvent<>(segment, page));
+                    idleSegments.add(this);
+                }
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+                drain();
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (MergeSubscription.this) {
+                    if (!activeSegments.remove(this)) {
+                        return;
+                    }
+                    idleSegments.remove(this);
+                    if (pageRequested) {
+                        pagesInFlight--;
+                    }
+                    events.add(new SegmentEvent<>(segment, null));
+                }
+                drain();
+            }
+
+            private void cancel() {
+                Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * A page of a segment, or the completion of the segment when the page is null.
+     */
+    private static final class SegmentEvent<T> {
+        private final int segment;
+        private final Page<T> page;
+
+        private SegmentEvent(int segment, Page<T> page) {
+            this.segment = segment;
+            this.page = page;
+        }
+    }
+}
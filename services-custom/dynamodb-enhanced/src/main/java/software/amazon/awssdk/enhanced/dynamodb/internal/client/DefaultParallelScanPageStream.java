@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageStream;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Scans the segments of a parallel scan with a parallel stream over the segments, each segment being scanned page by page
+ * by its own sequential stream.
+ * <p>
+ * The pages of a segment are read from an iterator that the stream only advances once the operation applied to the previous
+ * page has returned, which is when the previous page is recorded as processed.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultParallelScanPageStream<T> implements ParallelScanPageStream<T> {
+    private final Function<ScanEnhancedRequest, ? extends Iterable<Page<T>>> scan;
+    private final ParallelScanProgressTracker tracker;
+    private final AtomicBoolean streamed = new AtomicBoolean();
+
+    private DefaultParallelScanPageStream(ParallelScanEnhancedRequest request,
+                                          Function<ScanEnhancedRequest, ? extends Iterable<Page<T>>> scan) {
+        this.scan = scan;
+        this.tracker = new ParallelScanProgressTracker(request);
+    }
+
+    /**
+     * Creates the streams of the given parallel scan.
+     *
+     * @param request the parallel scan
+     * @param scan the function that scans a single segment
+     */
+    public static <T> DefaultParallelScanPageStream<T> create(
+        ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, ? extends Iterable<Page<T>>> scan) {
+        return new DefaultParallelScanPageStream<>(Validate.paramNotNull(request, "request"),
+                                                   Validate.paramNotNull(scan, "scan"));
+    }
+
+    @Override
+    public Stream<Page<T>> stream() {
+        Validate.validState(streamed.compareAndSet(false, true), "A parallel scan can only be streamed once.");
+        return tracker.remainingSegments().parallelStream().flatMap(this::segmentPages);
+    }
+
+    @Override
+    public ParallelScanProgress progress() {
+        return tracker.snapshot();
+    }
+
+    private Stream<Page<T>> segmentPages(int segment) {
+        Iterator<Page<T>> pages = new SegmentPageIterator(segment, scan.apply(tracker.segmentRequest(segment)).iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+                                    false);
+    }
+
+    private final class SegmentPageIterator implements Iterator<Page<T>> {
+        private final int segment;
+        private final Iterator<Page<T>> delegate;
+        private Page<T> delivered;
+        private boolean completed;
+
+        private SegmentPageIterator(int segment, Iterator<Page<T>> delegate) {
+            this.segment = segment;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // The stream asks for the next page once it is done with the page it was given
+            if (delivered != null) {
+                tracker.pageProcessed(segment, delivered.lastEvaluatedKey());
+                delivered = null;
+            }
+            if (completed) {
+                return false;
+            }
+            if (!delegate.hasNext()) {
+                completed = true;
+                tracker.segmentCompleted(segment);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            delivered = delegate.next();
+            return delivered;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Tracks the progress of a parallel scan, and creates the scan request of each segment from the progress it resumes from.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ParallelScanProgressTracker {
+    private final ParallelScanEnhancedRequest request;
+    private final ParallelScanProgress.Builder progress;
+
+    ParallelScanProgressTracker(ParallelScanEnhancedRequest request) {
+        this.request = request;
+        this.progress = request.resumeFrom() != null
+                        ? request.resumeFrom().toBuilder()
+                        : ParallelScanProgress.builder().totalSegments(request.totalSegments());
+    }
+
+    /**
+     * Returns the segments that are not completed yet, in ascending order.
+     */
+    synchronized List<Integer> remainingSegments() {
+        ParallelScanProgress current = progress.build();
+        List<Integer> segments = new ArrayList<>();
+        for (int segment = 0; segment < request.totalSegments(); segment++) {
+            if (!current.isSegmentComplete(segment)) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the request that scans the given segment, starting after its last processed page.
+     */
+    synchronized ScanEnhancedRequest segmentRequest(int segment) {
+        return request.scanRequest()
+                      .toBuilder()
+                      .segment(segment)
+                      .totalSegments(request.totalSegments())
+                      .exclusiveStartKey(progress.build().lastEvaluatedKey(segment))
+                      .build();
+    }
+
+    synchronized void pageProcessed(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+        // The last page of a segment has no key, the segment is marked completed instead
+        if (lastEvaluatedKey != null) {
+            progress.lastEvaluatedKey(segment, lastEvaluatedKey);
+        }
+    }
+
+    synchronized void segmentCompleted(int segment) {
+        progress.lastEvaluatedKey(segment, null).addCompletedSegment(segment);
+    }
+
+    synchronized ParallelScanProgress snapshot() {
+        return progress.build();
+    }
+}
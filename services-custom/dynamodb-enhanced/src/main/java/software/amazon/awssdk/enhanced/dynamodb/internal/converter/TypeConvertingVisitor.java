@@ -98,6 +98,63 @@ public abstract class TypeConvertingVisitor<T> {
         }
     }
 
+    /**
+     * Convert the provided generated {@link AttributeValue} into the target type.
+     *
+     * <p>
+     * This is equivalent to {@code convert(EnhancedAttributeValue.fromAttributeValue(value))}, but dispatches on the
+     * generated value directly so that no intermediate {@link EnhancedAttributeValue} is created for every attribute that is
+     * read.
+     *
+     * <p>
+     * Reasons this call may fail with a {@link RuntimeException}:
+     * <ol>
+     *     <li>If the value is null, or contains a null map key, list value or set value.</li>
+     *     <li>If the value cannot be converted by this visitor.</li>
+     * </ol>
+     */
+    public final T convert(AttributeValue value) {
+        Validate.notNull(value, "Generated attribute value must not contain null values. " +
+                                "Use AttributeValue#nul() instead.");
+        if (value.s() != null) {
+            return convertString(value.s());
+        }
+        if (value.n() != null) {
+            return convertNumber(value.n());
+        }
+        if (value.bool() != null) {
+            return convertBoolean(value.bool());
+        }
+        if (Boolean.TRUE.equals(value.nul())) {
+            return convertNull();
+        }
+        if (value.b() != null) {
+            return convertBytes(value.b());
+        }
+        if (value.hasM()) {
+            Validate.noNullElements(value.m().keySet(), "Map must not have null keys.");
+            return convertMap(value.m());
+        }
+        if (value.hasL()) {
+            Validate.noNullElements(value.l(), "List must not have null values.");
+            return convertListOfAttributeValues(value.l());
+        }
+        if (value.hasBs()) {
+            Validate.noNullElements(value.bs(), "Set must not have null values.");
+            return convertSetOfBytes(value.bs());
+        }
+        if (value.hasSs()) {
+            Validate.noNullElements(value.ss(), "Set must not have null values.");
+            return convertSetOfStrings(value.ss());
+        }
+        if (value.hasNs()) {
+            Validate.noNullElements(value.ns(), "Set must not have null values.");
+            return convertSetOfNumbers(value.ns());
+        }
+
+        throw new IllegalStateException("Unable to convert attribute value: " + value);
+    }
+
     /**
      * Invoked when visiting an attribute in which {@link EnhancedAttributeValue#isNull()} is true.
      */
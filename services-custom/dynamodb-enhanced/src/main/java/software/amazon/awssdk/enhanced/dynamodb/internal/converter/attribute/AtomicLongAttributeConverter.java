@@ -81,7 +81,7 @@ public final class AtomicLongAttributeConverter implements AttributeConverter<At
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<AtomicLong> {
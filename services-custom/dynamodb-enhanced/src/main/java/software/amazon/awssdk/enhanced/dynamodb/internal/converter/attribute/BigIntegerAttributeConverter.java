@@ -78,7 +78,7 @@ public final class BigIntegerAttributeConverter implements AttributeConverter<Bi
         if (input.n() != null) {
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<BigInteger> {
@@ -74,7 +74,7 @@ public final class BooleanAttributeConverter implements AttributeConverter<Boole
         if (input.bool() != null) {
             return EnhancedAttributeValue.fromBoolean(input.bool()).convert(VISITOR);
         }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
@@ -72,7 +72,7 @@ public final class ByteArrayAttributeConverter implements AttributeConverter<byt
             return EnhancedAttributeValue.fromBytes(input.b()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<byte[]> {
@@ -64,7 +64,7 @@ public final class ByteAttributeConverter implements AttributeConverter<Byte>, P
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
@@ -74,7 +74,7 @@ public final class ByteBufferAttributeConverter implements AttributeConverter<By
             return EnhancedAttributeValue.fromBytes(input.b()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<ByteBuffer> {
@@ -74,7 +74,7 @@ public final class CharacterAttributeConverter implements AttributeConverter<Cha
             return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
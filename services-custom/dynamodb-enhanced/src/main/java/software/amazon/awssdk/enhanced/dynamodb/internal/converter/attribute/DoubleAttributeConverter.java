@@ -81,7 +81,7 @@ public final class DoubleAttributeConverter implements AttributeConverter<Double
         if (input.n() != null) {
             result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         } else {
-            result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            result = VISITOR.convert(input);
         }
 
         ConverterUtils.validateDouble(result);
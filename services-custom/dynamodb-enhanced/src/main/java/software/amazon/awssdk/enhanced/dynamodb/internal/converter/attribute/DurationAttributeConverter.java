@@ -91,7 +91,7 @@ public final class DurationAttributeConverter implements AttributeConverter<Dura
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<Duration> {
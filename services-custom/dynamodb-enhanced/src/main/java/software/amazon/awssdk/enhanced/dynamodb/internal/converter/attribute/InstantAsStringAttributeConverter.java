@@ -97,7 +97,7 @@ public final class InstantAsStringAttributeConverter implements AttributeConvert
                 return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
             }
 
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
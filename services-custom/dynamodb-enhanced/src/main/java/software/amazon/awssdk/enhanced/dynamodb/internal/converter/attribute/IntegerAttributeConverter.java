@@ -78,7 +78,7 @@ public final class IntegerAttributeConverter implements AttributeConverter<Integ
             return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     @Override
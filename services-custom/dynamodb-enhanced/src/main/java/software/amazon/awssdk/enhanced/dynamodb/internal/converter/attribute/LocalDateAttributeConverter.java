@@ -94,7 +94,7 @@ public final class LocalDateAttributeConverter implements AttributeConverter<Loc
                 return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
             }
 
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -110,7 +110,7 @@ public final class LocalDateTimeAttributeConverter implements AttributeConverter
                 return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
             }
 
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -90,7 +90,7 @@ public final class LocalTimeAttributeConverter implements AttributeConverter<Loc
             return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<LocalTime> {
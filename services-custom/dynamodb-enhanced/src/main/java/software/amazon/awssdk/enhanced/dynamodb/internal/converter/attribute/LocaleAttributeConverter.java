@@ -60,7 +60,7 @@ public final class LocaleAttributeConverter implements AttributeConverter<Locale
 
     @Override
     public Locale transformTo(AttributeValue input) {
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<Locale> {
@@ -78,7 +78,7 @@ public final class LongAttributeConverter implements AttributeConverter<Long>, P
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
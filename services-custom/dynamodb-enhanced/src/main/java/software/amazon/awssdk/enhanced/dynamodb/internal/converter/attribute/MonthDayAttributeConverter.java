@@ -87,7 +87,7 @@ public final class MonthDayAttributeConverter implements AttributeConverter<Mont
                 return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
             }
 
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -100,7 +100,7 @@ public final class OffsetDateTimeAsStringAttributeConverter implements Attribute
                 return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
             }
 
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
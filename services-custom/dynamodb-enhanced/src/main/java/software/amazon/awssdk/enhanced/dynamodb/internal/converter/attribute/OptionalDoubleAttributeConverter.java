@@ -91,7 +91,7 @@ public final class OptionalDoubleAttributeConverter implements AttributeConverte
         if (input.n() != null) {
             result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         } else {
-            result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            result = VISITOR.convert(input);
         }
         result.ifPresent(ConverterUtils::validateDouble);
         return result;
@@ -88,7 +88,7 @@ public final class OptionalIntAttributeConverter implements AttributeConverter<O
             return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<OptionalInt> {
@@ -68,7 +68,7 @@ public final class PeriodAttributeConverter implements AttributeConverter<Period
     @Override
     public Period transformTo(AttributeValue input) {
         try {
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(e);
         }
@@ -73,7 +73,7 @@ public final class ShortAttributeConverter implements AttributeConverter<Short>,
             return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
         }
 
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     @Override
@@ -139,7 +139,7 @@ public final class StringAttributeConverter implements AttributeConverter<String
         }
 
         public static String toString(AttributeValue attributeValue) {
-            return EnhancedAttributeValue.fromAttributeValue(attributeValue).convert(Visitor.INSTANCE);
+            return Visitor.INSTANCE.convert(attributeValue);
         }
     }
 }
@@ -59,7 +59,7 @@ public final class UuidAttributeConverter implements AttributeConverter<UUID> {
 
     @Override
     public UUID transformTo(AttributeValue input) {
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<UUID> {
@@ -64,7 +64,7 @@ public final class ZoneOffsetAttributeConverter implements AttributeConverter<Zo
     @Override
     public ZoneOffset transformTo(AttributeValue input) {
         try {
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+            return Visitor.INSTANCE.convert(input);
         } catch (DateTimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Finds the {@link TableSchema}s that the
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.processor.TableSchemaProcessor} generated at build time, so that
+ * {@link TableSchema#fromClass(Class)} can use them instead of introspecting the class at runtime.
+ * <p>
+ * The schema for a class {@code com.example.Customer} is generated as {@code com.example.Customer_TableSchema}, with a
+ * public static {@code create()} method that returns the schema.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemaFinder {
+    public static final String CLASS_NAME_SUFFIX = "_TableSchema";
+    public static final String FACTORY_METHOD_NAME = "create";
+
+    private static final ClassValue<Optional<Method>> FACTORY_METHODS = new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> itemClass) {
+            return findFactoryMethod(itemClass);
+        }
+    };
+
+    private GeneratedTableSchemaFinder() {
+    }
+
+    /**
+     * Returns the name of the class generated for the class with the given binary name, e.g. {@code com.example.Customer}
+     * or {@code com.example.Outer$Inner}.
+     */
+    public static String generatedClassName(String binaryName) {
+        int packageEnd = binaryName.lastIndexOf('.') + 1;
+        return binaryName.substring(0, packageEnd) + binaryName.substring(packageEnd).replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Returns the table schema that was generated for the given class, or empty if none was generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> find(Class<T> itemClass) {
+        Optional<Method> factoryMethod = FACTORY_METHODS.get(itemClass);
+        if (!factoryMethod.isPresent()) {
+            return Optional.empty();
+        }
+
+        TableSchema<T> tableSchema;
+        try {
+            tableSchema = (TableSchema<T>) factoryMethod.get().invoke(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to create the generated table schema for " + itemClass, e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Unable to create the generated table schema for " + itemClass, cause);
+        }
+
+        if (tableSchema == null || tableSchema.itemType().rawClass() != itemClass) {
+            BEAN_LOGGER.debug(() -> itemClass.getTypeName() + " - Ignoring generated table schema, because it is for a "
+                                    + "different class.");
+            return Optional.empty();
+        }
+
+        BEAN_LOGGER.debug(() -> itemClass.getTypeName() + " - Using generated table schema");
+        return Optional.of(tableSchema);
+    }
+
+    private static Optional<Method> findFactoryMethod(Class<?> itemClass) {
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName(itemClass.getName()), true, itemClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        try {
+            Method method = generatedClass.getMethod(FACTORY_METHOD_NAME);
+            if (Modifier.isStatic(method.getModifiers()) && TableSchema.class.isAssignableFrom(method.getReturnType())) {
+                return Optional.of(method);
+            }
+        } catch (NoSuchMethodException e) {
+            // Not a generated table schema, fall through
+        }
+        return Optional.empty();
+    }
+}
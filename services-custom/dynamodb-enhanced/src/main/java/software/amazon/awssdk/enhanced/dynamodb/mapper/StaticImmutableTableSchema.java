@@ -451,7 +451,9 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             builder = constructNewBuilder();
         }
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
+        // Only allocated once a flattened attribute is encountered, so that the common case of reading an item without
+        // flattened attributes does not create an extra map per item
+        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = null;
         
         for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
             String key = entry.getKey();
@@ -470,6 +472,10 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
                     FlattenedMapper<T, B, ?> flattenedMapper = this.indexedFlattenedMappers.get(key);
 
                     if (flattenedMapper != null) {
+                        if (flattenedAttributeValuesMap == null) {
+                            flattenedAttributeValuesMap = new LinkedHashMap<>();
+                        }
+
                         Map<String, AttributeValue> flattenedAttributeValues = 
                             flattenedAttributeValuesMap.get(flattenedMapper);
                         
@@ -484,9 +490,11 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             }
         }
 
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
-                flattenedAttributeValuesMap.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+        if (flattenedAttributeValuesMap != null) {
+            for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
+                    flattenedAttributeValuesMap.entrySet()) {
+                builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            }
         }
         
         return builder == null ? null : buildItemFunction.apply(builder);
@@ -0,0 +1,597 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the mappable properties of {@code @DynamoDbBean} and {@code @DynamoDbImmutable} classes at compile time, following the
+ * same rules as {@link software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema} and
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema} do at runtime.
+ * <p>
+ * Anything that the generated code could not reproduce exactly, like custom attribute tag annotations or properties whose
+ * type is a type variable, is reported as an {@link UnsupportedItemException} so that the class is introspected at runtime.
+ */
+@SdkInternalApi
+final class ItemIntrospector {
+    static final String DYNAMO_DB_BEAN = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean";
+    static final String DYNAMO_DB_IMMUTABLE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable";
+
+    private static final String ANNOTATIONS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    private static final String EXTENSION_ANNOTATIONS_PACKAGE =
+        "software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.";
+    private static final String ATTRIBUTE = ANNOTATIONS_PACKAGE + "DynamoDbAttribute";
+    private static final String CONVERTED_BY = ANNOTATIONS_PACKAGE + "DynamoDbConvertedBy";
+    private static final String FLATTEN = ANNOTATIONS_PACKAGE + "DynamoDbFlatten";
+    private static final String IGNORE = ANNOTATIONS_PACKAGE + "DynamoDbIgnore";
+    private static final String IGNORE_NULLS = ANNOTATIONS_PACKAGE + "DynamoDbIgnoreNulls";
+    private static final String PRESERVE_EMPTY_OBJECT = ANNOTATIONS_PACKAGE + "DynamoDbPreserveEmptyObject";
+    private static final String ATTRIBUTE_TAG = ANNOTATIONS_PACKAGE + "BeanTableSchemaAttributeTag";
+    private static final String TRANSIENT = "java.beans.Transient";
+
+    private static final String ENHANCED_TYPE = "software.amazon.awssdk.enhanced.dynamodb.EnhancedType";
+    private static final String TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.TableSchema";
+    private static final String STATIC_ATTRIBUTE_TAGS = "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags";
+
+    /**
+     * Methods that are never mapped on immutable classes, matching the ImmutableIntrospector.
+     */
+    private static final Set<String> IMMUTABLE_METHODS_TO_EXCLUDE = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "getClass", "hashCode", "equals", "toString", "notify", "notifyAll", "wait", "toBuilder")));
+
+    private final Elements elements;
+    private final Types types;
+
+    ItemIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    static boolean isItemType(Element element) {
+        return annotation(element, DYNAMO_DB_BEAN).isPresent() || annotation(element, DYNAMO_DB_IMMUTABLE).isPresent();
+    }
+
+    ItemModel introspect(TypeElement type) throws UnsupportedItemException {
+        PackageElement itemPackage = elements.getPackageOf(type);
+        validateItemClass(type, itemPackage);
+
+        Optional<AnnotationMirror> immutable = annotation(type, DYNAMO_DB_IMMUTABLE);
+        if (immutable.isPresent()) {
+            return introspectImmutable(type, immutable.get(), itemPackage);
+        }
+        return introspectBean(type, itemPackage);
+    }
+
+    private ItemModel introspectBean(TypeElement type, PackageElement itemPackage) throws UnsupportedItemException {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !hasAccessibleNoArgConstructor(type, itemPackage)) {
+            throw new UnsupportedItemException("the class does not have a public no-argument constructor");
+        }
+
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(type, false)) {
+            String name = method.getSimpleName().toString();
+            int parameters = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+
+            if (parameters == 0 && name.length() > 3 && name.startsWith("get") && returnKind != TypeKind.VOID) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (parameters == 0 && name.length() > 2 && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+                // Like the Introspector, an "is" getter takes precedence over a "get" getter
+                getters.put(decapitalize(name.substring(2)), method);
+            } else if (parameters == 1 && name.length() > 3 && name.startsWith("set") && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), k -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<ItemModel.Property> properties = new ArrayList<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        for (Map.Entry<String, ExecutableElement> getter : getters.entrySet()) {
+            TypeMirror propertyType = getter.getValue().getReturnType();
+            Optional<ExecutableElement> setter =
+                setters.getOrDefault(getter.getKey(), Collections.emptyList())
+                       .stream()
+                       .filter(s -> types.isSameType(types.erasure(s.getParameters().get(0).asType()),
+                                                     types.erasure(propertyType)))
+                       .findFirst();
+
+            if (!setter.isPresent() || isIgnored(getter.getValue()) || isIgnored(setter.get())) {
+                continue;
+            }
+
+            properties.add(property(getter.getKey(), getter.getValue(), setter.get(), itemPackage, referencedItemTypes));
+        }
+
+        AnnotationMirror dynamoDbBean = annotation(type, DYNAMO_DB_BEAN).get();
+        return new ItemModel(type, canonicalName(type, itemPackage), null, null,
+                             converterProviders(dynamoDbBean, itemPackage), properties, referencedItemTypes);
+    }
+
+    private ItemModel introspectImmutable(TypeElement type, AnnotationMirror dynamoDbImmutable, PackageElement itemPackage)
+            throws UnsupportedItemException {
+        TypeMirror builderType = (TypeMirror) annotationValue(dynamoDbImmutable, "builder").getValue();
+        if (builderType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("the builder class could not be resolved");
+        }
+        TypeElement builder = (TypeElement) types.asElement(builderType);
+        validateItemClass(builder, itemPackage);
+        String builderTypeName = canonicalName(builder, itemPackage);
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(builder, true)) {
+            if (isMappableImmutableMethod(method)) {
+                builderMethods.put(normalizeSetterName(method.getSimpleName().toString()), method);
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove("build");
+        if (buildMethod == null || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(buildMethod.getReturnType(), type.asType())) {
+            throw new UnsupportedItemException("the builder does not have a 'build()' method that returns the immutable class");
+        }
+
+        List<ExecutableElement> getters = new ArrayList<>();
+        for (ExecutableElement method : publicInstanceMethods(type, true)) {
+            if (isMappableImmutableMethod(method)) {
+                getters.add(method);
+            }
+        }
+        getters.sort(Comparator.comparing(m -> normalizeGetterName(m)));
+
+        List<ItemModel.Property> properties = new ArrayList<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        for (ExecutableElement getter : getters) {
+            if (!getter.getParameters().isEmpty() || getter.getReturnType().getKind() == TypeKind.VOID) {
+                throw new UnsupportedItemException("'" + getter + "' is not a valid getter");
+            }
+
+            String propertyName = normalizeGetterName(getter);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidImmutableSetter(setter, getter.getReturnType(), builder)) {
+                throw new UnsupportedItemException("'" + getter + "' does not have a matching setter on the builder");
+            }
+
+            properties.add(property(propertyName, getter, setter, itemPackage, referencedItemTypes));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedItemException("'" + builderMethods.values().iterator().next()
+                                               + "' does not have a matching getter on the immutable class");
+        }
+
+        return new ItemModel(type, canonicalName(type, itemPackage), builderTypeName,
+                             newBuilderExpression(type, builder, builderTypeName, itemPackage),
+                             converterProviders(dynamoDbImmutable, itemPackage), properties, referencedItemTypes);
+    }
+
+    private String newBuilderExpression(TypeElement type, TypeElement builder, String builderTypeName,
+                                        PackageElement itemPackage) throws UnsupportedItemException {
+        Optional<ExecutableElement> staticBuilderMethod =
+            ElementFilter.methodsIn(elements.getAllMembers(type))
+                         .stream()
+                         .filter(m -> m.getSimpleName().contentEquals("builder")
+                                      && m.getParameters().isEmpty()
+                                      && m.getModifiers().contains(Modifier.PUBLIC)
+                                      && m.getModifiers().contains(Modifier.STATIC)
+                                      && types.isAssignable(builder.asType(), m.getReturnType()))
+                         .findFirst();
+
+        if (staticBuilderMethod.isPresent()) {
+            return "() -> (" + builderTypeName + ") " + canonicalName(type, itemPackage) + ".builder()";
+        }
+
+        if (builder.getModifiers().contains(Modifier.ABSTRACT) || !hasAccessibleNoArgConstructor(builder, itemPackage)) {
+            throw new UnsupportedItemException("the builder class has no public no-argument constructor and the immutable "
+                                               + "class has no static 'builder()' method");
+        }
+        return builderTypeName + "::new";
+    }
+
+    private ItemModel.Property property(String propertyName, ExecutableElement getter, ExecutableElement setter,
+                                        PackageElement itemPackage, Set<TypeElement> referencedItemTypes)
+            throws UnsupportedItemException {
+        TypeMirror propertyType = getter.getReturnType();
+        String attributeName = propertyAnnotation(getter, setter, ATTRIBUTE)
+            .map(a -> (String) annotationValue(a, "value").getValue())
+            .orElse(propertyName);
+
+        if (propertyAnnotation(getter, setter, FLATTEN).isPresent()) {
+            TypeElement flattenedType = nonGenericClass(propertyType, itemPackage)
+                .orElseThrow(() -> new UnsupportedItemException("the flattened property '" + propertyName
+                                                                + "' is not a non-generic class"));
+            referencedItemTypes.add(flattenedType);
+            String flattenedTypeName = canonicalName(flattenedType, itemPackage);
+            return new ItemModel.Property(attributeName, getter.getSimpleName().toString(), setter.getSimpleName().toString(),
+                                          null, TABLE_SCHEMA + ".fromClass(" + flattenedTypeName + ".class)", null,
+                                          Collections.emptyList());
+        }
+
+        boolean preserveEmptyObject = propertyAnnotation(getter, setter, PRESERVE_EMPTY_OBJECT).isPresent();
+        boolean ignoreNulls = propertyAnnotation(getter, setter, IGNORE_NULLS).isPresent();
+        String enhancedType = enhancedType(propertyType, preserveEmptyObject, ignoreNulls, itemPackage, referencedItemTypes);
+
+        String converter = null;
+        Optional<AnnotationMirror> convertedBy = propertyAnnotation(getter, setter, CONVERTED_BY);
+        if (convertedBy.isPresent()) {
+            converter = newInstanceExpression((TypeMirror) annotationValue(convertedBy.get(), "value").getValue(),
+                                              itemPackage);
+        }
+
+        List<String> tags = new ArrayList<>();
+        for (AnnotationMirror annotation : Stream.concat(getter.getAnnotationMirrors().stream(),
+                                                         setter.getAnnotationMirrors().stream())
+                                                 .collect(Collectors.toList())) {
+            tagExpression(annotation).ifPresent(tags::add);
+        }
+
+        return new ItemModel.Property(attributeName, getter.getSimpleName().toString(), setter.getSimpleName().toString(),
+                                      enhancedType, null, converter, tags);
+    }
+
+    /**
+     * Renders the EnhancedType of a property, the same way as convertTypeToEnhancedType in the runtime table schemas.
+     */
+    private String enhancedType(TypeMirror type, boolean preserveEmptyObject, boolean ignoreNulls,
+                                PackageElement itemPackage, Set<TypeElement> referencedItemTypes)
+            throws UnsupportedItemException {
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.ARRAY) {
+            return ENHANCED_TYPE + ".of(" + typeName(types.erasure(type), itemPackage) + ".class)";
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("the type '" + type + "' is not supported");
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        String qualifiedName = element.getQualifiedName().toString();
+
+        if (qualifiedName.equals("java.util.List") && typeArguments.size() == 1) {
+            return ENHANCED_TYPE + ".listOf("
+                   + enhancedType(typeArguments.get(0), preserveEmptyObject, ignoreNulls, itemPackage, referencedItemTypes)
+                   + ")";
+        }
+
+        if (qualifiedName.equals("java.util.Map") && typeArguments.size() == 2) {
+            return ENHANCED_TYPE + ".mapOf(" + typeToken(typeArguments.get(0), itemPackage) + ", "
+                   + enhancedType(typeArguments.get(1), preserveEmptyObject, ignoreNulls, itemPackage, referencedItemTypes)
+                   + ")";
+        }
+
+        if (isItemType(element)) {
+            if (!typeArguments.isEmpty()) {
+                throw new UnsupportedItemException("the generic document type '" + type + "' is not supported");
+            }
+            referencedItemTypes.add(element);
+            String typeName = canonicalName(element, itemPackage);
+            return ENHANCED_TYPE + ".documentOf(" + typeName + ".class, " + TABLE_SCHEMA + ".fromClass(" + typeName
+                   + ".class), c -> c.preserveEmptyObject(" + preserveEmptyObject + ").ignoreNulls(" + ignoreNulls + "))";
+        }
+
+        return typeToken(type, itemPackage);
+    }
+
+    /**
+     * Renders the equivalent of {@code EnhancedType.of(type)}.
+     */
+    private String typeToken(TypeMirror type, PackageElement itemPackage) throws UnsupportedItemException {
+        if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return ENHANCED_TYPE + ".of(" + typeName(type, itemPackage) + ".class)";
+        }
+        return "new " + ENHANCED_TYPE + "<" + typeName(type, itemPackage) + ">() { }";
+    }
+
+    private String typeName(TypeMirror type, PackageElement itemPackage) throws UnsupportedItemException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ENGLISH);
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType(), itemPackage) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(canonicalName((TypeElement) declaredType.asElement(), itemPackage));
+                if (!declaredType.getTypeArguments().isEmpty()) {
+                    List<String> arguments = new ArrayList<>();
+                    for (TypeMirror argument : declaredType.getTypeArguments()) {
+                        arguments.add(typeName(argument, itemPackage));
+                    }
+                    name.append('<').append(String.join(", ", arguments)).append('>');
+                }
+                return name.toString();
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcardType.getExtendsBound(), itemPackage);
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    return "? super " + typeName(wildcardType.getSuperBound(), itemPackage);
+                }
+                return "?";
+            default:
+                throw new UnsupportedItemException("the type '" + type + "' is not supported");
+        }
+    }
+
+    private Optional<String> tagExpression(AnnotationMirror annotation) throws UnsupportedItemException {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        String name = annotationType.getQualifiedName().toString();
+
+        switch (name) {
+            case ANNOTATIONS_PACKAGE + "DynamoDbPartitionKey":
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".primaryPartitionKey()");
+            case ANNOTATIONS_PACKAGE + "DynamoDbSortKey":
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".primarySortKey()");
+            case ANNOTATIONS_PACKAGE + "DynamoDbSecondaryPartitionKey":
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".secondaryPartitionKey(" + indexNames(annotation) + ")");
+            case ANNOTATIONS_PACKAGE + "DynamoDbSecondarySortKey":
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".secondarySortKey(" + indexNames(annotation) + ")");
+            case ANNOTATIONS_PACKAGE + "DynamoDbUpdateBehavior":
+                VariableElement updateBehavior = (VariableElement) annotationValue(annotation, "value").getValue();
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".updateBehavior("
+                                   + "software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior."
+                                   + updateBehavior.getSimpleName() + ")");
+            case EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbAtomicCounter":
+                return Optional.of(STATIC_ATTRIBUTE_TAGS + ".atomicCounter("
+                                   + elements.getConstantExpression(annotationValue(annotation, "delta").getValue()) + ", "
+                                   + elements.getConstantExpression(annotationValue(annotation, "startValue").getValue())
+                                   + ")");
+            case EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbVersionAttribute":
+                return Optional.of("software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension.AttributeTags"
+                                   + ".versionAttribute()");
+            case EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbAutoGeneratedTimestampAttribute":
+                return Optional.of("software.amazon.awssdk.enhanced.dynamodb.extensions.AutoGeneratedTimestampRecordExtension"
+                                   + ".AttributeTags.autoGeneratedTimestampAttribute()");
+            default:
+                if (annotation(annotationType, ATTRIBUTE_TAG).isPresent()) {
+                    throw new UnsupportedItemException("the custom attribute tag annotation @" + name + " is not supported");
+                }
+                return Optional.empty();
+        }
+    }
+
+    private String indexNames(AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> indexNames =
+            (List<? extends AnnotationValue>) annotationValue(annotation, "indexNames").getValue();
+        return "java.util.Arrays.asList("
+               + indexNames.stream()
+                           .map(v -> elements.getConstantExpression(v.getValue()))
+                           .collect(Collectors.joining(", "))
+               + ")";
+    }
+
+    private List<String> converterProviders(AnnotationMirror itemAnnotation, PackageElement itemPackage)
+            throws UnsupportedItemException {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) annotationValue(itemAnnotation, "converterProviders").getValue();
+
+        List<String> expressions = new ArrayList<>();
+        for (AnnotationValue provider : providers) {
+            expressions.add(newInstanceExpression((TypeMirror) provider.getValue(), itemPackage));
+        }
+        return expressions;
+    }
+
+    private String newInstanceExpression(TypeMirror type, PackageElement itemPackage) throws UnsupportedItemException {
+        TypeElement element = nonGenericClass(type, itemPackage)
+            .filter(e -> !e.getModifiers().contains(Modifier.ABSTRACT) && hasAccessibleNoArgConstructor(e, itemPackage))
+            .orElseThrow(() -> new UnsupportedItemException("'" + type + "' does not have a public no-argument constructor"));
+        return "new " + canonicalName(element, itemPackage) + "()";
+    }
+
+    private Optional<TypeElement> nonGenericClass(TypeMirror type, PackageElement itemPackage) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        TypeElement element = (TypeElement) types.asElement(type);
+        if (!element.getTypeParameters().isEmpty() || !isAccessible(element, itemPackage)) {
+            return Optional.empty();
+        }
+        return Optional.of(element);
+    }
+
+    private void validateItemClass(TypeElement type, PackageElement itemPackage) throws UnsupportedItemException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("generic classes are not supported");
+        }
+        if (!isAccessible(type, itemPackage)) {
+            throw new UnsupportedItemException("'" + type + "' is not accessible from its package");
+        }
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            NestingKind nestingKind = ((TypeElement) e).getNestingKind();
+            if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                throw new UnsupportedItemException("local and anonymous classes are not supported");
+            }
+            if (nestingKind == NestingKind.MEMBER && !e.getModifiers().contains(Modifier.STATIC)
+                && e.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                throw new UnsupportedItemException("inner classes must be static");
+            }
+        }
+    }
+
+    private boolean isValidImmutableSetter(ExecutableElement setter, TypeMirror propertyType, TypeElement builder) {
+        if (setter.getParameters().size() != 1
+            || !types.isSameType(types.erasure(setter.getParameters().get(0).asType()), types.erasure(propertyType))) {
+            return false;
+        }
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || isDeclaredType(returnType, "java.lang.Void")
+               || types.isAssignable(types.erasure(builder.asType()), types.erasure(returnType));
+    }
+
+    private boolean isMappableImmutableMethod(ExecutableElement method) {
+        return !isIgnored(method) && !IMMUTABLE_METHODS_TO_EXCLUDE.contains(method.getSimpleName().toString());
+    }
+
+    private boolean isIgnored(ExecutableElement method) {
+        return annotation(method, IGNORE).isPresent() || annotation(method, TRANSIENT).isPresent();
+    }
+
+    /**
+     * Returns the public instance methods of a class, excluding those declared by Object. Interface methods are only included
+     * for immutables, matching Class#getMethods, which the ImmutableIntrospector uses.
+     */
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type, boolean includeInterfaces) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            Element declaringType = method.getEnclosingElement();
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                || method.getModifiers().contains(Modifier.STATIC)
+                || ((TypeElement) declaringType).getQualifiedName().contentEquals("java.lang.Object")
+                || (!includeInterfaces && declaringType.getKind() == ElementKind.INTERFACE
+                    && type.getKind() != ElementKind.INTERFACE)) {
+                continue;
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private boolean hasAccessibleNoArgConstructor(TypeElement type, PackageElement fromPackage) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty()
+                                           && (c.getModifiers().contains(Modifier.PUBLIC)
+                                               || isSamePackage(type, fromPackage)
+                                                  && !c.getModifiers().contains(Modifier.PRIVATE)));
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = isSamePackage(type, fromPackage);
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSamePackage(TypeElement type, PackageElement fromPackage) {
+        return elements.getPackageOf(type).equals(fromPackage);
+    }
+
+    private String canonicalName(TypeElement type, PackageElement itemPackage) throws UnsupportedItemException {
+        if (!isAccessible(type, itemPackage)) {
+            throw new UnsupportedItemException("'" + type + "' is not accessible from " + itemPackage);
+        }
+        return type.getQualifiedName().toString();
+    }
+
+    private static boolean isDeclaredType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static Optional<AnnotationMirror> propertyAnnotation(ExecutableElement getter, ExecutableElement setter,
+                                                                 String annotationName) {
+        Optional<AnnotationMirror> getterAnnotation = annotation(getter, annotationName);
+        return getterAnnotation.isPresent() ? getterAnnotation : annotation(setter, annotationName);
+    }
+
+    private static Optional<AnnotationMirror> annotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName()
+                                                                                   .contentEquals(annotationName))
+                      .map(a -> (AnnotationMirror) a)
+                      .findFirst();
+    }
+
+    private AnnotationValue annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .map(Map.Entry::getValue)
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalStateException("No value for " + name + " on " + annotation));
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter) {
+        String name = getter.getSimpleName().toString();
+        TypeMirror returnType = getter.getReturnType();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN || isDeclaredType(returnType, "java.lang.Boolean");
+
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith("is") && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("get")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeSetterName(String name) {
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("set")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * The same as {@link java.beans.Introspector#decapitalize(String)}, which is used to name bean properties.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
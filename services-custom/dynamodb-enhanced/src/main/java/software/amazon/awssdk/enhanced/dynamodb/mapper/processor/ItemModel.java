@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.processor;
+
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The mappable structure of a {@code @DynamoDbBean} or {@code @DynamoDbImmutable} class, with every type and value already
+ * rendered as Java source.
+ */
+@SdkInternalApi
+final class ItemModel {
+    private final TypeElement type;
+    private final String typeName;
+    private final String builderTypeName;
+    private final String newBuilderExpression;
+    private final List<String> converterProviderExpressions;
+    private final List<Property> properties;
+    private final Set<TypeElement> referencedItemTypes;
+
+    ItemModel(TypeElement type, String typeName, String builderTypeName, String newBuilderExpression,
+              List<String> converterProviderExpressions, List<Property> properties, Set<TypeElement> referencedItemTypes) {
+        this.type = type;
+        this.typeName = typeName;
+        this.builderTypeName = builderTypeName;
+        this.newBuilderExpression = newBuilderExpression;
+        this.converterProviderExpressions = converterProviderExpressions;
+        this.properties = properties;
+        this.referencedItemTypes = referencedItemTypes;
+    }
+
+    TypeElement type() {
+        return type;
+    }
+
+    /**
+     * The canonical name of the item class.
+     */
+    String typeName() {
+        return typeName;
+    }
+
+    /**
+     * The canonical name of the builder class for immutable items, or null for beans.
+     */
+    String builderTypeName() {
+        return builderTypeName;
+    }
+
+    /**
+     * A supplier of new builders for immutable items, or null for beans.
+     */
+    String newBuilderExpression() {
+        return newBuilderExpression;
+    }
+
+    List<String> converterProviderExpressions() {
+        return converterProviderExpressions;
+    }
+
+    List<Property> properties() {
+        return properties;
+    }
+
+    /**
+     * The annotated classes whose table schemas this item's schema depends on, through nested documents or flattening.
+     */
+    Set<TypeElement> referencedItemTypes() {
+        return referencedItemTypes;
+    }
+
+    static final class Property {
+        private final String attributeName;
+        private final String getterName;
+        private final String setterName;
+        private final String enhancedTypeExpression;
+        private final String flattenedSchemaExpression;
+        private final String converterExpression;
+        private final List<String> tagExpressions;
+
+        Property(String attributeName, String getterName, String setterName, String enhancedTypeExpression,
+                 String flattenedSchemaExpression, String converterExpression, List<String> tagExpressions) {
+            this.attributeName = attributeName;
+            this.getterName = getterName;
+            this.setterName = setterName;
+            this.enhancedTypeExpression = enhancedTypeExpression;
+            this.flattenedSchemaExpression = flattenedSchemaExpression;
+            this.converterExpression = converterExpression;
+            this.tagExpressions = tagExpressions;
+        }
+
+        String attributeName() {
+            return attributeName;
+        }
+
+        String getterName() {
+            return getterName;
+        }
+
+        String setterName() {
+            return setterName;
+        }
+
+        /**
+         * The EnhancedType of the attribute, or null if the property is flattened.
+         */
+        String enhancedTypeExpression() {
+            return enhancedTypeExpression;
+        }
+
+        /**
+         * The TableSchema to flatten into the item, or null if the property is a regular attribute.
+         */
+        String flattenedSchemaExpression() {
+            return flattenedSchemaExpression;
+        }
+
+        /**
+         * The AttributeConverter from {@code @DynamoDbConvertedBy}, or null if there is none.
+         */
+        String converterExpression() {
+            return converterExpression;
+        }
+
+        List<String> tagExpressions() {
+            return tagExpressions;
+        }
+    }
+}
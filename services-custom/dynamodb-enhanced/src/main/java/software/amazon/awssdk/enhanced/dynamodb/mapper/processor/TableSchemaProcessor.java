@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaFinder;
+
+/**
+ * An annotation processor that generates a {@link software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema} for
+ * every class annotated with {@link software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean}, and a
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema} for every class annotated with
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable}.
+ * <p>
+ * {@link TableSchema#fromClass(Class)} returns the generated table schema when one exists, instead of introspecting the class
+ * with reflection at runtime. This makes creating table schemas much cheaper, which matters for short-lived applications such
+ * as AWS Lambda functions, and avoids the reflection configuration otherwise needed to build GraalVM native images.
+ * <p>
+ * The generated table schema maps the class exactly as {@link TableSchema#fromBean(Class)} or
+ * {@link TableSchema#fromImmutableClass(Class)} would. Classes that use features the processor cannot reproduce at compile
+ * time, such as custom attribute tag annotations, generic properties, or classes that reference themselves, are skipped with a
+ * note, and are still introspected at runtime.
+ * <p>
+ * The processor is not registered automatically, to avoid running on every project that depends on the enhanced client. To
+ * enable it with Maven:
+ * <pre>
+ * {@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessors>
+ *             <annotationProcessor>
+ *                 software.amazon.awssdk.enhanced.dynamodb.mapper.processor.TableSchemaProcessor
+ *             </annotationProcessor>
+ *         </annotationProcessors>
+ *     </configuration>
+ * </plugin>
+ * }
+ * </pre>
+ * Or with {@code javac} directly, using
+ * {@code -processor software.amazon.awssdk.enhanced.dynamodb.mapper.processor.TableSchemaProcessor}.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private ItemIntrospector introspector;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new ItemIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new LinkedHashSet<>();
+        annotationTypes.add(ItemIntrospector.DYNAMO_DB_BEAN);
+        annotationTypes.add(ItemIntrospector.DYNAMO_DB_IMMUTABLE);
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> itemTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    itemTypes.add((TypeElement) element);
+                }
+            }
+        }
+
+        Map<TypeElement, Optional<ItemModel>> models = new HashMap<>();
+        for (TypeElement itemType : itemTypes) {
+            ItemModel model;
+            try {
+                model = introspector.introspect(itemType);
+            } catch (UnsupportedItemException e) {
+                skip(itemType, e.getMessage());
+                continue;
+            }
+            models.put(itemType, Optional.of(model));
+
+            if (referencesItself(model, models)) {
+                skip(itemType, "it references itself through its attributes");
+                continue;
+            }
+
+            generate(model);
+        }
+
+        // Let other processors see the DynamoDb annotations too
+        return false;
+    }
+
+    /**
+     * Creating the generated table schema of such an item would recurse forever, because the schemas of nested documents are
+     * created eagerly. The runtime table schemas handle these with a placeholder for the schema being created instead.
+     */
+    private boolean referencesItself(ItemModel item, Map<TypeElement, Optional<ItemModel>> models) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>(item.referencedItemTypes());
+        while (!toVisit.isEmpty()) {
+            TypeElement type = toVisit.pop();
+            if (type.equals(item.type())) {
+                return true;
+            }
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            Optional<ItemModel> model = models.computeIfAbsent(type, this::tryIntrospect);
+            // Items that cannot be generated are introspected at runtime, which does not call back into generated schemas
+            model.ifPresent(m -> toVisit.addAll(m.referencedItemTypes()));
+        }
+        return false;
+    }
+
+    private Optional<ItemModel> tryIntrospect(TypeElement type) {
+        if (!ItemIntrospector.isItemType(type)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(introspector.introspect(type));
+        } catch (UnsupportedItemException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void generate(ItemModel item) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(item.type()).toString();
+        String generatedClassName = GeneratedTableSchemaFinder.generatedClassName(binaryName);
+        int packageEnd = generatedClassName.lastIndexOf('.');
+        String packageName = packageEnd < 0 ? "" : generatedClassName.substring(0, packageEnd);
+        String simpleName = generatedClassName.substring(packageEnd + 1);
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(generatedClassName, item.type());
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(TableSchemaSourceWriter.write(item, packageName, simpleName));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Unable to write " + generatedClassName + ": " + e.getMessage(),
+                                                     item.type());
+        }
+    }
+
+    private void skip(TypeElement itemType, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                 "Not generating a table schema for " + itemType.getQualifiedName()
+                                                 + ", because " + reason + ". It will be introspected at runtime instead.",
+                                                 itemType);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.processor;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaFinder;
+
+/**
+ * Renders an {@link ItemModel} as the source of a class with a static factory method for its
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema} or
+ * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema}.
+ */
+@SdkInternalApi
+final class TableSchemaSourceWriter {
+    private static final String INDENT = "    ";
+    private static final String MAPPER_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.";
+
+    private TableSchemaSourceWriter() {
+    }
+
+    static String write(ItemModel item, String packageName, String simpleName) {
+        StringBuilder source = new StringBuilder();
+        source.append("// Generated by ").append(TableSchemaProcessor.class.getName()).append(". Do not edit.\n");
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("public final class ").append(simpleName).append(" {\n")
+              .append(INDENT).append("private ").append(simpleName).append("() {\n")
+              .append(INDENT).append("}\n\n")
+              .append(INDENT).append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append(INDENT).append("public static software.amazon.awssdk.enhanced.dynamodb.TableSchema<")
+              .append(item.typeName()).append("> ").append(GeneratedTableSchemaFinder.FACTORY_METHOD_NAME).append("() {\n");
+
+        String statement = INDENT + INDENT;
+        String chain = statement + INDENT + INDENT;
+        boolean immutable = item.builderTypeName() != null;
+
+        if (immutable) {
+            source.append(statement).append("return ").append(MAPPER_PACKAGE).append("StaticImmutableTableSchema.builder(")
+                  .append(item.typeName()).append(".class, ").append(item.builderTypeName()).append(".class)\n")
+                  .append(chain).append(".newItemBuilder(").append(item.newBuilderExpression()).append(", ")
+                  .append(item.builderTypeName()).append("::build)\n");
+        } else {
+            source.append(statement).append("return ").append(MAPPER_PACKAGE).append("StaticTableSchema.builder(")
+                  .append(item.typeName()).append(".class)\n")
+                  .append(chain).append(".newItemSupplier(").append(item.typeName()).append("::new)\n");
+        }
+
+        source.append(chain).append(".attributeConverterProviders(")
+              .append(String.join(", ", item.converterProviderExpressions())).append(")\n");
+
+        String setterOwner = immutable ? item.builderTypeName() : item.typeName();
+        for (ItemModel.Property property : item.properties()) {
+            String getter = item.typeName() + "::" + property.getterName();
+            String setter = setterOwner + "::" + property.setterName();
+
+            if (property.flattenedSchemaExpression() != null) {
+                source.append(chain).append(".flatten(").append(property.flattenedSchemaExpression()).append(", ")
+                      .append(getter).append(", ").append(setter).append(")\n");
+                continue;
+            }
+
+            source.append(chain).append(".addAttribute(").append(property.enhancedTypeExpression()).append(",\n")
+                  .append(chain).append(INDENT).append("a -> a.name(").append(stringLiteral(property.attributeName()))
+                  .append(")\n")
+                  .append(chain).append(INDENT).append(INDENT).append(".getter(").append(getter).append(")\n")
+                  .append(chain).append(INDENT).append(INDENT).append(".setter(").append(setter).append(")");
+            if (!property.tagExpressions().isEmpty()) {
+                source.append("\n").append(chain).append(INDENT).append(INDENT).append(".tags(")
+                      .append(String.join(", ", property.tagExpressions())).append(")");
+            }
+            if (property.converterExpression() != null) {
+                source.append("\n").append(chain).append(INDENT).append(INDENT)
+                      .append(".attributeConverter((software.amazon.awssdk.enhanced.dynamodb.AttributeConverter) ")
+                      .append(property.converterExpression()).append(")");
+            }
+            source.append(")\n");
+        }
+
+        source.append(chain).append(".build();\n")
+              .append(INDENT).append("}\n")
+              .append("}\n");
+        return source.toString();
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.concurrent.ScheduledExecutorService;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.internal.IterablePublisher;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkGetItem() operation (such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkGetItem(BulkGetItemEnhancedRequest)}).
+ * <p>
+ * A request contains a stream of {@link ReadBatch} objects, for any number of tables. Unlike a
+ * {@link BatchGetItemEnhancedRequest}, the read batches can contain any number of keys; duplicate keys are removed and
+ * the keys are regrouped into as many BatchGetItem calls as needed.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkGetItemEnhancedRequest {
+    private final SdkPublisher<ReadBatch> readBatches;
+    private final Integer maxConcurrentBatches;
+    private final Integer maxUnprocessedKeyRetries;
+    private final BackoffStrategy unprocessedKeyBackoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private BulkGetItemEnhancedRequest(Builder builder) {
+        this.readBatches = Validate.paramNotNull(builder.readBatches, "readBatches");
+        this.maxConcurrentBatches = builder.maxConcurrentBatches == null
+                                    ? null : Validate.isPositive(builder.maxConcurrentBatches, "maxConcurrentBatches");
+        this.maxUnprocessedKeyRetries = builder.maxUnprocessedKeyRetries == null
+                                         ? null : Validate.isNotNegative(builder.maxUnprocessedKeyRetries,
+                                                                         "maxUnprocessedKeyRetries");
+        this.unprocessedKeyBackoffStrategy = builder.unprocessedKeyBackoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.readBatches = readBatches;
+        return builder.maxConcurrentBatches(maxConcurrentBatches)
+                      .maxUnprocessedKeyRetries(maxUnprocessedKeyRetries)
+                      .unprocessedKeyBackoffStrategy(unprocessedKeyBackoffStrategy)
+                      .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the publisher of {@link ReadBatch} in this request object.
+     */
+    public SdkPublisher<ReadBatch> readBatches() {
+        return readBatches;
+    }
+
+    /**
+     * Returns the maximum number of BatchGetItem calls that are in flight at the same time, or null if it is not set.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of times an unprocessed key is resubmitted, or null if it is not set.
+     */
+    public Integer maxUnprocessedKeyRetries() {
+        return maxUnprocessedKeyRetries;
+    }
+
+    /**
+     * Returns the backoff strategy used before resubmitting unprocessed keys, or null if it is not set.
+     */
+    public BackoffStrategy unprocessedKeyBackoffStrategy() {
+        return unprocessedKeyBackoffStrategy;
+    }
+
+    /**
+     * Returns the executor used to schedule the resubmission of unprocessed keys, or null if it is not set.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkGetItemEnhancedRequest that = (BulkGetItemEnhancedRequest) o;
+
+        if (!readBatches.equals(that.readBatches)) {
+            return false;
+        }
+        if (maxConcurrentBatches != null ? !maxConcurrentBatches.equals(that.maxConcurrentBatches)
+                                         : that.maxConcurrentBatches != null) {
+            return false;
+        }
+        if (maxUnprocessedKeyRetries != null ? !maxUnprocessedKeyRetries.equals(that.maxUnprocessedKeyRetries)
+                                              : that.maxUnprocessedKeyRetries != null) {
+            return false;
+        }
+        if (unprocessedKeyBackoffStrategy != null ? !unprocessedKeyBackoffStrategy.equals(that.unprocessedKeyBackoffStrategy)
+                                                   : that.unprocessedKeyBackoffStrategy != null) {
+            return false;
+        }
+        return scheduledExecutorService != null ? scheduledExecutorService.equals(that.scheduledExecutorService)
+                                                : that.scheduledExecutorService == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = readBatches.hashCode();
+        result = 31 * result + (maxConcurrentBatches != null ? maxConcurrentBatches.hashCode() : 0);
+        result = 31 * result + (maxUnprocessedKeyRetries != null ? maxUnprocessedKeyRetries.hashCode() : 0);
+        result = 31 * result + (unprocessedKeyBackoffStrategy != null ? unprocessedKeyBackoffStrategy.hashCode() : 0);
+        result = 31 * result + (scheduledExecutorService != null ? scheduledExecutorService.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the read batches to read.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private SdkPublisher<ReadBatch> readBatches;
+        private Integer maxConcurrentBatches;
+        private Integer maxUnprocessedKeyRetries;
+        private BackoffStrategy unprocessedKeyBackoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the publisher of the read batches to read. The publisher is only asked for more read batches when there
+         * is room for their keys, so a large or unbounded stream of keys can be read with bounded memory, apart from the keys
+         * that are remembered to remove duplicates.
+         *
+         * @param readBatches the publisher of read batches
+         * @return a builder of this type
+         */
+        @SuppressWarnings("unchecked")
+        public Builder readBatches(Publisher<ReadBatch> readBatches) {
+            if (readBatches == null || readBatches instanceof SdkPublisher) {
+                this.readBatches = (SdkPublisher<ReadBatch>) readBatches;
+            } else {
+                this.readBatches = SdkPublisher.adapt(readBatches);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the read batches to read. The iterable is read lazily, as the read batches are needed.
+         *
+         * @param readBatches the read batches
+         * @return a builder of this type
+         */
+        public Builder readBatches(Iterable<ReadBatch> readBatches) {
+            this.readBatches = readBatches != null ? IterablePublisher.create(readBatches) : null;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of BatchGetItem calls that are in flight at the same time. Defaults to 4. A new call is
+         * only started when the pages of results that were not yet delivered to the subscriber leave room for it.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent calls, must be positive
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times a key that DynamoDB returned as unprocessed is resubmitted. Keys that are
+         * still unprocessed after the last retry are returned by {@link BatchGetResultPage#unprocessedKeysForTable}. Defaults
+         * to 10.
+         *
+         * @param maxUnprocessedKeyRetries the maximum number of retries, must not be negative
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedKeyRetries(Integer maxUnprocessedKeyRetries) {
+            this.maxUnprocessedKeyRetries = maxUnprocessedKeyRetries;
+            return this;
+        }
+
+        /**
+         * Sets the backoff strategy used to compute the delay before unprocessed keys are resubmitted. Defaults to full
+         * jitter, with a base delay of 50 milliseconds and a maximum delay of 20 seconds.
+         *
+         * @param unprocessedKeyBackoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder unprocessedKeyBackoffStrategy(BackoffStrategy unprocessedKeyBackoffStrategy) {
+            this.unprocessedKeyBackoffStrategy = unprocessedKeyBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to schedule the resubmission of unprocessed keys. The executor is not shut down when the
+         * operation completes. By default, a single daemon thread is created when the first unprocessed keys are retried, and
+         * stopped when the operation completes.
+         *
+         * @param scheduledExecutorService the executor
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public BulkGetItemEnhancedRequest build() {
+            return new BulkGetItemEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.concurrent.ScheduledExecutorService;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.internal.IterablePublisher;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkWriteItem() operation (such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}).
+ * <p>
+ * A request contains a stream of {@link WriteBatch} objects, for any number of tables. Unlike a
+ * {@link BatchWriteItemEnhancedRequest}, the write batches can contain any number of put and delete actions; they are
+ * regrouped into as many BatchWriteItem calls as needed.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItemEnhancedRequest {
+    private final SdkPublisher<WriteBatch> writeBatches;
+    private final Integer maxConcurrentBatches;
+    private final Integer maxUnprocessedItemRetries;
+    private final BackoffStrategy unprocessedItemBackoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private BulkWriteItemEnhancedRequest(Builder builder) {
+        this.writeBatches = Validate.paramNotNull(builder.writeBatches, "writeBatches");
+        this.maxConcurrentBatches = builder.maxConcurrentBatches == null
+                                    ? null : Validate.isPositive(builder.maxConcurrentBatches, "maxConcurrentBatches");
+        this.maxUnprocessedItemRetries = builder.maxUnprocessedItemRetries == null
+                                         ? null : Validate.isNotNegative(builder.maxUnprocessedItemRetries,
+                                                                         "maxUnprocessedItemRetries");
+        this.unprocessedItemBackoffStrategy = builder.unprocessedItemBackoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.writeBatches = writeBatches;
+        return builder.maxConcurrentBatches(maxConcurrentBatches)
+                      .maxUnprocessedItemRetries(maxUnprocessedItemRetries)
+                      .unprocessedItemBackoffStrategy(unprocessedItemBackoffStrategy)
+                      .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the publisher of {@link WriteBatch} in this request object.
+     */
+    public SdkPublisher<WriteBatch> writeBatches() {
+        return writeBatches;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls that are in flight at the same time, or null if it is not set.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of times an unprocessed item is resubmitted, or null if it is not set.
+     */
+    public Integer maxUnprocessedItemRetries() {
+        return maxUnprocessedItemRetries;
+    }
+
+    /**
+     * Returns the backoff strategy used before resubmitting unprocessed items, or null if it is not set.
+     */
+    public BackoffStrategy unprocessedItemBackoffStrategy() {
+        return unprocessedItemBackoffStrategy;
+    }
+
+    /**
+     * Returns the executor used to schedule the resubmission of unprocessed items, or null if it is not set.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItemEnhancedRequest that = (BulkWriteItemEnhancedRequest) o;
+
+        if (!writeBatches.equals(that.writeBatches)) {
+            return false;
+        }
+        if (maxConcurrentBatches != null ? !maxConcurrentBatches.equals(that.maxConcurrentBatches)
+                                         : that.maxConcurrentBatches != null) {
+            return false;
+        }
+        if (maxUnprocessedItemRetries != null ? !maxUnprocessedItemRetries.equals(that.maxUnprocessedItemRetries)
+                                              : that.maxUnprocessedItemRetries != null) {
+            return false;
+        }
+        if (unprocessedItemBackoffStrategy != null ? !unprocessedItemBackoffStrategy.equals(that.unprocessedItemBackoffStrategy)
+                                                   : that.unprocessedItemBackoffStrategy != null) {
+            return false;
+        }
+        return scheduledExecutorService != null ? scheduledExecutorService.equals(that.scheduledExecutorService)
+                                                : that.scheduledExecutorService == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = writeBatches.hashCode();
+        result = 31 * result + (maxConcurrentBatches != null ? maxConcurrentBatches.hashCode() : 0);
+        result = 31 * result + (maxUnprocessedItemRetries != null ? maxUnprocessedItemRetries.hashCode() : 0);
+        result = 31 * result + (unprocessedItemBackoffStrategy != null ? unprocessedItemBackoffStrategy.hashCode() : 0);
+        result = 31 * result + (scheduledExecutorService != null ? scheduledExecutorService.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the write batches to write.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private SdkPublisher<WriteBatch> writeBatches;
+        private Integer maxConcurrentBatches;
+        private Integer maxUnprocessedItemRetries;
+        private BackoffStrategy unprocessedItemBackoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the publisher of the write batches to write. The publisher is only asked for more write batches when there
+         * is room for them, so a large or unbounded stream of items can be written with bounded memory.
+         *
+         * @param writeBatches the publisher of write batches
+         * @return a builder of this type
+         */
+        @SuppressWarnings("unchecked")
+        public Builder writeBatches(Publisher<WriteBatch> writeBatches) {
+            if (writeBatches == null || writeBatches instanceof SdkPublisher) {
+                this.writeBatches = (SdkPublisher<WriteBatch>) writeBatches;
+            } else {
+                this.writeBatches = SdkPublisher.adapt(writeBatches);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the write batches to write. The iterable is read lazily, as the write batches are needed.
+         *
+         * @param writeBatches the write batches
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Iterable<WriteBatch> writeBatches) {
+            this.writeBatches = writeBatches != null ? IterablePublisher.create(writeBatches) : null;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of BatchWriteItem calls that are in flight at the same time. Defaults to 4.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent calls, must be positive
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times an item that DynamoDB returned as unprocessed is resubmitted. Items that are
+         * still unprocessed after the last retry are returned in the {@link BulkWriteResult}. Defaults to 10.
+         *
+         * @param maxUnprocessedItemRetries the maximum number of retries, must not be negative
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedItemRetries(Integer maxUnprocessedItemRetries) {
+            this.maxUnprocessedItemRetries = maxUnprocessedItemRetries;
+            return this;
+        }
+
+        /**
+         * Sets the backoff strategy used to compute the delay before unprocessed items are resubmitted. Defaults to full
+         * jitter, with a base delay of 50 milliseconds and a maximum delay of 20 seconds.
+         *
+         * @param unprocessedItemBackoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder unprocessedItemBackoffStrategy(BackoffStrategy unprocessedItemBackoffStrategy) {
+            this.unprocessedItemBackoffStrategy = unprocessedItemBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to schedule the resubmission of unprocessed items. The executor is not shut down when the
+         * operation completes. By default, a single daemon thread is created when the first unprocessed items are retried, and
+         * stopped when the operation completes.
+         *
+         * @param scheduledExecutorService the executor
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public BulkWriteItemEnhancedRequest build() {
+            return new BulkWriteItemEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Defines the result of the bulkWriteItem() operation, such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}.
+ * <p>
+ * The result contains the requests that were still unprocessed after the last retry, and statistics about the operation,
+ * such as the number of items written and how often DynamoDB throttled the writes.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult {
+    private final BatchWriteResult unprocessedRequests;
+    private final long unprocessedRequestCount;
+    private final long writtenRequestCount;
+    private final long batchWriteItemCallCount;
+    private final long throttledCallCount;
+    private final long retriedRequestCount;
+    private final Duration duration;
+
+    private BulkWriteResult(Builder builder) {
+        this.unprocessedRequests = BatchWriteResult.builder().unprocessedRequests(builder.unprocessedRequests).build();
+        this.unprocessedRequestCount = builder.unprocessedRequests.values().stream().mapToLong(List::size).sum();
+        this.writtenRequestCount = builder.writtenRequestCount;
+        this.batchWriteItemCallCount = builder.batchWriteItemCallCount;
+        this.throttledCallCount = builder.throttledCallCount;
+        this.retriedRequestCount = builder.retriedRequestCount;
+        this.duration = builder.duration;
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve any unprocessed put action items belonging to the supplied table from the result.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for
+     * @param <T> the type of the table items
+     * @return a list of items
+     * @see BatchWriteResult#unprocessedPutItemsForTable(MappedTableResource)
+     */
+    public <T> List<T> unprocessedPutItemsForTable(MappedTableResource<T> mappedTable) {
+        return unprocessedRequests.unprocessedPutItemsForTable(mappedTable);
+    }
+
+    /**
+     * Retrieve any unprocessed delete action keys belonging to the supplied table from the result.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for
+     * @return a list of keys that were not processed as part of the bulk delete operation
+     * @see BatchWriteResult#unprocessedDeleteItemsForTable(MappedTableResource)
+     */
+    public List<Key> unprocessedDeleteItemsForTable(MappedTableResource<?> mappedTable) {
+        return unprocessedRequests.unprocessedDeleteItemsForTable(mappedTable);
+    }
+
+    /**
+     * Returns the number of put and delete requests that were still unprocessed after the last retry.
+     */
+    public long unprocessedRequestCount() {
+        return unprocessedRequestCount;
+    }
+
+    /**
+     * Returns the number of put and delete requests that were written.
+     */
+    public long writtenRequestCount() {
+        return writtenRequestCount;
+    }
+
+    /**
+     * Returns the number of BatchWriteItem calls made, including the calls that resubmitted unprocessed items.
+     */
+    public long batchWriteItemCallCount() {
+        return batchWriteItemCallCount;
+    }
+
+    /**
+     * Returns the number of BatchWriteItem calls that returned unprocessed items, which DynamoDB does when the provisioned
+     * throughput of a table is exceeded.
+     */
+    public long throttledCallCount() {
+        return throttledCallCount;
+    }
+
+    /**
+     * Returns the number of times a put or delete request was resubmitted because it was unprocessed.
+     */
+    public long retriedRequestCount() {
+        return retriedRequestCount;
+    }
+
+    /**
+     * Returns the time the operation took, from the subscription to the write batches to the completion of the last call.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the average number of put and delete requests written per second.
+     */
+    public double writtenRequestsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : writtenRequestCount * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult{"
+               + "writtenRequestCount=" + writtenRequestCount
+               + ", unprocessedRequestCount=" + unprocessedRequestCount
+               + ", batchWriteItemCallCount=" + batchWriteItemCallCount
+               + ", throttledCallCount=" + throttledCallCount
+               + ", retriedRequestCount=" + retriedRequestCount
+               + ", duration=" + duration
+               + '}';
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Map<String, List<WriteRequest>> unprocessedRequests = Collections.emptyMap();
+        private long writtenRequestCount;
+        private long batchWriteItemCallCount;
+        private long throttledCallCount;
+        private long retriedRequestCount;
+        private Duration duration = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        public Builder unprocessedRequests(Map<String, List<WriteRequest>> unprocessedRequests) {
+            this.unprocessedRequests = unprocessedRequests;
+            return this;
+        }
+
+        public Builder writtenRequestCount(long writtenRequestCount) {
+            this.writtenRequestCount = writtenRequestCount;
+            return this;
+        }
+
+        public Builder batchWriteItemCallCount(long batchWriteItemCallCount) {
+            this.batchWriteItemCallCount = batchWriteItemCallCount;
+            return this;
+        }
+
+        public Builder throttledCallCount(long throttledCallCount) {
+            this.throttledCallCount = throttledCallCount;
+            return this;
+        }
+
+        public Builder retriedRequestCount(long retriedRequestCount) {
+            this.retriedRequestCount = retriedRequestCount;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkWriteResult build() {
+            return new BulkWriteResult(this);
+        }
+    }
+}
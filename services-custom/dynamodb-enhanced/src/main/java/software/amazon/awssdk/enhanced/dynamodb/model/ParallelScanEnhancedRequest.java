@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} and
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The table is divided into {@link #totalSegments()} segments that are scanned concurrently. Each segment is scanned with
+ * the parameters of the {@link #scanRequest()}, such as the filter expression, the projection and the page size.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private final ScanEnhancedRequest scanRequest;
+    private final int totalSegments;
+    private final Integer maxPagesInFlight;
+    private final ParallelScanProgress resumeFrom;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The segment and totalSegments of the scanRequest are set by the parallel scan.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "The exclusiveStartKey of the scanRequest cannot be set, use resumeFrom to continue a parallel scan.");
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        this.maxPagesInFlight = builder.maxPagesInFlight == null
+                                ? null : Validate.isPositive(builder.maxPagesInFlight, "maxPagesInFlight");
+        this.resumeFrom = builder.resumeFrom;
+        Validate.isTrue(resumeFrom == null || resumeFrom.totalSegments() == totalSegments,
+                        "The progress to resume from has %s segments, but totalSegments is %s. The number of segments "
+                        + "cannot change when resuming a parallel scan.",
+                        resumeFrom == null ? null : resumeFrom.totalSegments(), totalSegments);
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxPagesInFlight(maxPagesInFlight)
+                        .resumeFrom(resumeFrom);
+    }
+
+    /**
+     * Returns the request each segment is scanned with. The segment parameters of this request are not set.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of pages that are requested or buffered at the same time, or null if it is not set.
+     */
+    public Integer maxPagesInFlight() {
+        return maxPagesInFlight;
+    }
+
+    /**
+     * Returns the progress the scan resumes from, or null if the scan starts from the beginning of every segment.
+     */
+    public ParallelScanProgress resumeFrom() {
+        return resumeFrom;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (maxPagesInFlight != null ? !maxPagesInFlight.equals(that.maxPagesInFlight) : that.maxPagesInFlight != null) {
+            return false;
+        }
+        return resumeFrom != null ? resumeFrom.equals(that.resumeFrom) : that.resumeFrom == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments;
+        result = 31 * result + (maxPagesInFlight != null ? maxPagesInFlight.hashCode() : 0);
+        result = 31 * result + (resumeFrom != null ? resumeFrom.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the number of segments.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxPagesInFlight;
+        private ParallelScanProgress resumeFrom;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the request each segment is scanned with. The segment, totalSegments and exclusiveStartKey of the request
+         * must not be set. By default, the segments are scanned with the default scan parameters.
+         *
+         * @param scanRequest the request each segment is scanned with
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * Sets the request each segment is scanned with, by customizing a new {@link ScanEnhancedRequest.Builder}.
+         *
+         * @param scanRequest a consumer of the builder of the request each segment is scanned with
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * Sets the number of segments the table is divided into. See the DynamoDB documentation of parallel scans for how
+         * to choose it.
+         *
+         * @param totalSegments the number of segments, must be positive
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pages that are requested from DynamoDB or buffered for the subscriber at the same time,
+         * which bounds both the number of concurrent scan calls and the memory used. Only used by
+         * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}, the synchronous parallel scan is bounded by
+         * the parallelism of the stream instead. Defaults to the smaller of totalSegments and 8.
+         *
+         * @param maxPagesInFlight the maximum number of pages in flight, must be positive
+         * @return a builder of this type
+         */
+        public Builder maxPagesInFlight(Integer maxPagesInFlight) {
+            this.maxPagesInFlight = maxPagesInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the progress of a previous parallel scan to resume from. Completed segments are skipped and the other segments
+         * continue after their last processed page. The progress must have the same number of segments as this request.
+         *
+         * @param resumeFrom the progress to resume from
+         * @return a builder of this type
+         */
+        public Builder resumeFrom(ParallelScanProgress resumeFrom) {
+            this.resumeFrom = resumeFrom;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+
+/**
+ * The result of {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}: a publisher of the pages of all
+ * segments, in the order they are retrieved, that also reports the progress of the scan.
+ * <p>
+ * The publisher can only be subscribed to once. A page is considered processed when the {@code onNext} call that delivered it
+ * returns, so a subscriber that processes pages asynchronously should read the {@link #progress()} only after the pages it
+ * was given are done.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(4));
+ * publisher.subscribe(page -> page.items().forEach(item -> System.out.println(item)))
+ *          .whenComplete((r, failure) -> saveProgress(publisher.progress()));
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPagePublisher<T> extends PagePublisher<T> {
+
+    /**
+     * Returns a snapshot of the progress of the scan, which can be used to resume it with
+     * {@link ParallelScanEnhancedRequest.Builder#resumeFrom(ParallelScanProgress)}.
+     */
+    ParallelScanProgress progress();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+/**
+ * The result of {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}: parallel streams over the pages of all
+ * segments, that also report the progress of the scan.
+ * <p>
+ * Each segment is scanned page by page by one thread of the stream; the segments are spread over the threads of the
+ * stream, so the number of concurrent scan calls is the parallelism of the stream. By default, that is the parallelism of the
+ * common {@link java.util.concurrent.ForkJoinPool}; run the terminal operation inside another pool to change it. A page is
+ * considered processed when the operation applied to it returns.
+ * <p>
+ * Only one stream can be created, either with {@link #stream()} or {@link #items()}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPageStream<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(4));
+ * try {
+ *     results.items().forEach(item -> process(item));
+ * } finally {
+ *     saveProgress(results.progress());
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPageStream<T> {
+
+    /**
+     * Returns a parallel stream of the pages of all segments. The pages of one segment are in order, the pages of different
+     * segments are not.
+     */
+    Stream<Page<T>> stream();
+
+    /**
+     * Returns a parallel stream of the items of all pages of all segments.
+     */
+    default Stream<T> items() {
+        return stream().flatMap(page -> page.items().stream());
+    }
+
+    /**
+     * Returns a snapshot of the progress of the scan, which can be used to resume it with
+     * {@link ParallelScanEnhancedRequest.Builder#resumeFrom(ParallelScanProgress)}.
+     */
+    ParallelScanProgress progress();
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The position reached by a parallel scan, per segment. It can be passed to
+ * {@link ParallelScanEnhancedRequest.Builder#resumeFrom(ParallelScanProgress)} to continue an interrupted scan without
+ * scanning the segments that were already completed again.
+ * <p>
+ * For each segment, the progress holds the last evaluated key of the last page that was fully processed, and whether the
+ * segment was completely processed. A segment that has neither is scanned from the start when resuming. Pages that were
+ * delivered but not fully processed when the scan was interrupted are scanned again, so each item is processed at least once.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanProgress {
+    private final int totalSegments;
+    private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys;
+    private final Set<Integer> completedSegments;
+
+    private ParallelScanProgress(Builder builder) {
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        builder.lastEvaluatedKeys.keySet().forEach(this::validateSegment);
+        builder.completedSegments.forEach(this::validateSegment);
+        Map<Integer, Map<String, AttributeValue>> keys = new TreeMap<>();
+        builder.lastEvaluatedKeys.forEach((segment, key) -> {
+            if (!builder.completedSegments.contains(segment)) {
+                keys.put(segment, Collections.unmodifiableMap(new HashMap<>(key)));
+            }
+        });
+        this.lastEvaluatedKeys = Collections.unmodifiableMap(keys);
+        this.completedSegments = Collections.unmodifiableSet(new TreeSet<>(builder.completedSegments));
+    }
+
+    /**
+     * Creates a newly initialized builder for a progress object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the progress object.
+     */
+    public Builder toBuilder() {
+        Builder builder = builder().totalSegments(totalSegments);
+        lastEvaluatedKeys.forEach(builder::lastEvaluatedKey);
+        completedSegments.forEach(builder::addCompletedSegment);
+        return builder;
+    }
+
+    /**
+     * Returns the number of segments of the scan this progress belongs to.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the last evaluated key of the last fully processed page of the given segment, or null if the segment is either
+     * completed or has not processed any page yet.
+     */
+    public Map<String, AttributeValue> lastEvaluatedKey(int segment) {
+        return lastEvaluatedKeys.get(segment);
+    }
+
+    /**
+     * Returns the last evaluated keys of the segments that are started but not completed, by segment.
+     */
+    public Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys() {
+        return lastEvaluatedKeys;
+    }
+
+    /**
+     * Returns the segments whose pages were all processed.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns whether all pages of the given segment were processed.
+     */
+    public boolean isSegmentComplete(int segment) {
+        return completedSegments.contains(segment);
+    }
+
+    /**
+     * Returns whether all pages of all segments were processed.
+     */
+    public boolean isComplete() {
+        return completedSegments.size() == totalSegments;
+    }
+
+    private void validateSegment(Integer segment) {
+        Validate.isTrue(segment != null && segment >= 0 && segment < totalSegments,
+                        "Segment %s is not between 0 and totalSegments - 1 (%s).", segment, totalSegments - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanProgress that = (ParallelScanProgress) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (!lastEvaluatedKeys.equals(that.lastEvaluatedKeys)) {
+            return false;
+        }
+        return completedSegments.equals(that.completedSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments;
+        result = 31 * result + lastEvaluatedKeys.hashCode();
+        result = 31 * result + completedSegments.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanProgress")
+                       .add("totalSegments", totalSegments)
+                       .add("lastEvaluatedKeys", lastEvaluatedKeys)
+                       .add("completedSegments", completedSegments)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a progress object, for instance from a progress that was persisted.
+     * <p>
+     * A valid builder must define the total number of segments.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer totalSegments;
+        private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys = new HashMap<>();
+        private final Set<Integer> completedSegments = new TreeSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of segments of the scan.
+         *
+         * @param totalSegments the number of segments, must be positive
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Sets the last evaluated key of the last fully processed page of a segment. A null key removes the key of the segment.
+         *
+         * @param segment the segment, between 0 and totalSegments - 1
+         * @param lastEvaluatedKey the last evaluated key of the segment
+         * @return a builder of this type
+         */
+        public Builder lastEvaluatedKey(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+            if (lastEvaluatedKey == null) {
+                lastEvaluatedKeys.remove(segment);
+            } else {
+                lastEvaluatedKeys.put(segment, lastEvaluatedKey);
+            }
+            return this;
+        }
+
+        /**
+         * Marks a segment as completely processed. Any last evaluated key of the segment is ignored.
+         *
+         * @param segment the segment, between 0 and totalSegments - 1
+         * @return a builder of this type
+         */
+        public Builder addCompletedSegment(int segment) {
+            completedSegments.add(segment);
+            return this;
+        }
+
+        public ParallelScanProgress build() {
+            return new ParallelScanProgress(this);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUt
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -28,6 +29,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchableWriteOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
@@ -47,10 +49,13 @@ import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 public final class WriteBatch {
     private final String tableName;
     private final List<WriteRequest> writeRequests;
+    private final Collection<String> primaryKeys;
 
     private WriteBatch(BuilderImpl<?> builder) {
         this.tableName = builder.mappedTableResource != null ? builder.mappedTableResource.tableName() : null;
         this.writeRequests = getItemsFromSupplier(builder.itemSupplierList);
+        this.primaryKeys = builder.mappedTableResource != null ? primaryKeys(builder.mappedTableResource)
+                                                               : Collections.emptyList();
     }
 
     /**
@@ -78,6 +83,14 @@ public final class WriteBatch {
         return writeRequests;
     }
 
+    /**
+     * Returns the names of the attributes that make up the primary key of the table associated with this batch, or an
+     * empty collection if the table schema of that table does not define a primary key.
+     */
+    public Collection<String> primaryKeys() {
+        return primaryKeys;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -104,6 +117,16 @@ public final class WriteBatch {
         return result;
     }
 
+    private static Collection<String> primaryKeys(MappedTableResource<?> mappedTableResource) {
+        TableMetadata tableMetadata = mappedTableResource.tableSchema().tableMetadata();
+        try {
+            return tableMetadata.primaryKeys();
+        } catch (IllegalArgumentException e) {
+            // The table schema does not define a primary key
+            return Collections.emptyList();
+        }
+    }
+
     /**
      * A builder that is used to create a request with the desired parameters.
      * <p>
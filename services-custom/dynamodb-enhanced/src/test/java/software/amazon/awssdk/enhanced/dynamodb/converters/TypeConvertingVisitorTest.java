@@ -18,11 +18,16 @@ package software.amazon.awssdk.enhanced.dynamodb.converters;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.TypeConvertingVisitor;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.EnhancedAttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class TypeConvertingVisitorTest {
     @Test
@@ -44,6 +49,55 @@ public class TypeConvertingVisitorTest {
         assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(attributeValue)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    public void generatedAttributeValueConversionMatchesEnhancedAttributeValueConversion() {
+        SdkBytes bytes = SdkBytes.fromUtf8String("foo");
+        List<AttributeValue> attributeValues = Arrays.asList(
+            AttributeValue.builder().s("foo").build(),
+            AttributeValue.builder().n("1").build(),
+            AttributeValue.builder().bool(false).build(),
+            AttributeValue.builder().nul(true).build(),
+            AttributeValue.builder().b(bytes).build(),
+            AttributeValue.builder().m(Collections.singletonMap("foo", AttributeValue.builder().s("bar").build())).build(),
+            AttributeValue.builder().l(AttributeValue.builder().n("1").build()).build(),
+            AttributeValue.builder().bs(bytes, bytes).build(),
+            AttributeValue.builder().ss("foo", "bar").build(),
+            AttributeValue.builder().ns("1", "2").build(),
+            AttributeValue.builder().n("1").bool(true).ss("foo").build(),
+            AttributeValue.builder().nul(false).ss("foo").build());
+
+        for (AttributeValue attributeValue : attributeValues) {
+            assertThat(DescribingVisitor.INSTANCE.convert(attributeValue))
+                .isEqualTo(DescribingVisitor.INSTANCE.convert(EnhancedAttributeValue.fromAttributeValue(attributeValue)));
+        }
+    }
+
+    @Test
+    public void generatedAttributeValueDefaultConvertersThrowExceptions() {
+        assertThat(DefaultVisitor.INSTANCE.convert(AttributeValue.builder().nul(true).build())).isEqualTo(null);
+
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(AttributeValue.builder().s("foo").build()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(AttributeValue.builder().ss("foo").build()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void invalidGeneratedAttributeValuesThrowExceptions() {
+        Map<String, AttributeValue> mapWithNullKey = new HashMap<>();
+        mapWithNullKey.put(null, AttributeValue.builder().s("foo").build());
+
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert((AttributeValue) null))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(AttributeValue.builder().build()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Unable to convert attribute value");
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(AttributeValue.builder().m(mapWithNullKey).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DefaultVisitor.INSTANCE.convert(AttributeValue.builder().ss(Arrays.asList("foo", null)).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
 
     private static class DefaultVisitor extends TypeConvertingVisitor<Void> {
         private static final DefaultVisitor INSTANCE = new DefaultVisitor();
@@ -53,4 +107,62 @@ public class TypeConvertingVisitorTest {
         }
     }
 
+    private static class DescribingVisitor extends TypeConvertingVisitor<String> {
+        private static final DescribingVisitor INSTANCE = new DescribingVisitor();
+
+        protected DescribingVisitor() {
+            super(String.class);
+        }
+
+        @Override
+        public String convertNull() {
+            return "NULL";
+        }
+
+        @Override
+        public String convertMap(Map<String, AttributeValue> value) {
+            return "M:" + value;
+        }
+
+        @Override
+        public String convertString(String value) {
+            return "S:" + value;
+        }
+
+        @Override
+        public String convertNumber(String value) {
+            return "N:" + value;
+        }
+
+        @Override
+        public String convertBytes(SdkBytes value) {
+            return "B:" + value.asUtf8String();
+        }
+
+        @Override
+        public String convertBoolean(Boolean value) {
+            return "BOOL:" + value;
+        }
+
+        @Override
+        public String convertSetOfStrings(List<String> value) {
+            return "SS:" + value;
+        }
+
+        @Override
+        public String convertSetOfNumbers(List<String> value) {
+            return "NS:" + value;
+        }
+
+        @Override
+        public String convertSetOfBytes(List<SdkBytes> value) {
+            return "BS:" + value.size();
+        }
+
+        @Override
+        public String convertListOfAttributeValues(List<AttributeValue> value) {
+            return "L:" + value;
+        }
+    }
+
 }
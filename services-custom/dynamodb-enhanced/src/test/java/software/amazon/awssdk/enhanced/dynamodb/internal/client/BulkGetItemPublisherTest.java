@@ -0,0 +1,417 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkGetItemPublisherTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final String OTHER_TABLE_NAME = "other-table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> table;
+    private DynamoDbAsyncTable<FakeItem> otherTable;
+    private List<BatchGetItemRequest> calls;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                   .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                   .extensions()
+                                                   .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        otherTable = enhancedClient.table(OTHER_TABLE_NAME, FakeItem.getTableSchema());
+        calls = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void bulkGetItem_regroupsKeysIntoCallsOfAtMost100() {
+        respondWithUnprocessedKeys(call -> Collections.emptyMap());
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, null, ids("a", 150)),
+                                                    readBatch(otherTable, null, ids("b", 60)),
+                                                    readBatch(table, null, ids("c", 40)));
+
+        BatchGetResultPagePublisher publisher = enhancedClient.bulkGetItem(r -> r.readBatches(readBatches));
+        List<String> ids = new ArrayList<>();
+        List<String> otherIds = new ArrayList<>();
+        publisher.subscribe(page -> {
+            page.resultsForTable(table).forEach(item -> ids.add(item.getId()));
+            page.resultsForTable(otherTable).forEach(item -> otherIds.add(item.getId()));
+        }).join();
+
+        assertThat(calls.stream().map(BulkGetItemPublisherTest::count).collect(Collectors.toList()), contains(100, 100, 50));
+        assertThat(calls.get(1).requestItems().keySet(), containsInAnyOrder(TABLE_NAME, OTHER_TABLE_NAME));
+        List<String> expectedIds = new ArrayList<>(ids("a", 150));
+        expectedIds.addAll(ids("c", 40));
+        assertThat(ids, containsInAnyOrder(expectedIds.toArray()));
+        assertThat(otherIds, containsInAnyOrder(ids("b", 60).toArray()));
+    }
+
+    @Test
+    public void bulkGetItem_removesDuplicateKeys() {
+        respondWithUnprocessedKeys(call -> Collections.emptyMap());
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, null, Arrays.asList("a", "b", "a")),
+                                                    readBatch(table, null, Arrays.asList("b", "c")),
+                                                    readBatch(otherTable, null, Arrays.asList("a")));
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(page -> { }).join();
+
+        assertThat(calls.size(), is(1));
+        assertThat(calls.get(0).requestItems().get(TABLE_NAME).keys().size(), is(3));
+        assertThat(calls.get(0).requestItems().get(OTHER_TABLE_NAME).keys().size(), is(1));
+    }
+
+    @Test
+    public void bulkGetItem_doesNotMixConsistentReadSettingsOfATableInACall() {
+        respondWithUnprocessedKeys(call -> Collections.emptyMap());
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, true, Arrays.asList("a", "b")),
+                                                    readBatch(table, false, Arrays.asList("a", "c")));
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(page -> { }).join();
+
+        assertThat(calls.size(), is(2));
+        assertThat(calls.get(0).requestItems().get(TABLE_NAME).consistentRead(), is(true));
+        assertThat(calls.get(0).requestItems().get(TABLE_NAME).keys().size(), is(2));
+        assertThat(calls.get(1).requestItems().get(TABLE_NAME).consistentRead(), is(false));
+        assertThat(calls.get(1).requestItems().get(TABLE_NAME).keys().size(), is(2));
+    }
+
+    @Test
+    public void bulkGetItem_resubmitsUnprocessedKeys() {
+        AtomicInteger callCount = new AtomicInteger();
+        respondWithUnprocessedKeys(call -> {
+            if (callCount.getAndIncrement() == 0) {
+                KeysAndAttributes keys = call.requestItems().get(TABLE_NAME);
+                return Collections.singletonMap(TABLE_NAME, keys.toBuilder().keys(keys.keys().subList(0, 3)).build());
+            }
+            return Collections.emptyMap();
+        });
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(Collections.singletonList(readBatch(table, null, ids("a", 10))))
+                                         .unprocessedKeyBackoffStrategy(FixedDelayBackoffStrategy.create(Duration.ZERO)))
+                      .subscribe(pages::add)
+                      .join();
+
+        assertThat(calls.size(), is(2));
+        assertThat(calls.get(1).requestItems().get(TABLE_NAME).keys(),
+                   is(calls.get(0).requestItems().get(TABLE_NAME).keys().subList(0, 3)));
+        List<String> ids = pages.stream()
+                                .flatMap(page -> page.resultsForTable(table).stream())
+                                .map(FakeItem::getId)
+                                .collect(Collectors.toList());
+        assertThat(ids, containsInAnyOrder(ids("a", 10).toArray()));
+        pages.forEach(page -> assertThat(page.unprocessedKeysForTable(table), is(empty())));
+    }
+
+    @Test
+    public void bulkGetItem_unprocessedAfterLastRetry_returnsUnprocessedKeys() {
+        respondWithUnprocessedKeys(BatchGetItemRequest::requestItems);
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(Collections.singletonList(readBatch(table, null, ids("a", 2))))
+                                         .maxUnprocessedKeyRetries(2)
+                                         .unprocessedKeyBackoffStrategy(FixedDelayBackoffStrategy.create(Duration.ZERO)))
+                      .subscribe(pages::add)
+                      .join();
+
+        assertThat(calls.size(), is(3));
+        assertThat(pages.size(), is(1));
+        assertThat(pages.get(0).unprocessedKeysForTable(table),
+                   containsInAnyOrder(ids("a", 2).stream().map(id -> Key.builder().partitionValue(id).build()).toArray()));
+    }
+
+    @Test
+    public void bulkGetItem_limitsCallsByThePaceOfTheSubscriber() {
+        respondWithUnprocessedKeys(call -> Collections.emptyMap());
+        List<ReadBatch> readBatches = IntStream.range(0, 10)
+                                               .mapToObj(i -> readBatch(table, null, ids("a" + i, 100)))
+                                               .collect(Collectors.toList());
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        Subscription[] subscription = new Subscription[1];
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches).maxConcurrentBatches(2))
+                      .subscribe(new Subscriber<BatchGetResultPage>() {
+                          @Override
+                          public void onSubscribe(Subscription s) {
+                              subscription[0] = s;
+                          }
+
+                          @Override
+                          public void onNext(BatchGetResultPage page) {
+                              pages.add(page);
+                          }
+
+                          @Override
+                          public void onError(Throwable t) {
+                          }
+
+                          @Override
+                          public void onComplete() {
+                              completions.incrementAndGet();
+                          }
+                      });
+
+        // Without demand, the results of at most maxConcurrentBatches calls are buffered
+        assertThat(calls.size(), is(2));
+        subscription[0].request(1);
+        assertThat(pages.size(), is(1));
+        assertThat(calls.size(), is(3));
+        subscription[0].request(Long.MAX_VALUE);
+        assertThat(calls.size(), is(10));
+        assertThat(pages.size(), is(10));
+        assertThat(completions.get(), is(1));
+    }
+
+    @Test
+    public void bulkGetItem_callFails_failsAndCancelsReadBatches() {
+        CompletableFuture<BatchGetItemResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(DynamoDbException.builder().message("boom").build());
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(failed);
+        Subscription mockSubscription = mock(Subscription.class);
+        SdkPublisher<ReadBatch> readBatches = new SdkPublisher<ReadBatch>() {
+            @Override
+            public void subscribe(Subscriber<? super ReadBatch> subscriber) {
+                subscriber.onSubscribe(mockSubscription);
+                subscriber.onNext(readBatch(table, null, ids("a", 100)));
+            }
+        };
+
+        try {
+            enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(page -> { }).join();
+            fail("Expected the bulk get to fail");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(DynamoDbException.class));
+        }
+        verify(mockSubscription).cancel();
+    }
+
+    @Test
+    public void bulkGetItem_readBatchesFail_fails() {
+        SdkPublisher<ReadBatch> readBatches = new SdkPublisher<ReadBatch>() {
+            @Override
+            public void subscribe(Subscriber<? super ReadBatch> subscriber) {
+                subscriber.onSubscribe(mock(Subscription.class));
+                subscriber.onError(new IllegalStateException("boom"));
+            }
+        };
+
+        CompletableFuture<Void> result = enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(page -> { });
+
+        assertThat(result.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void bulkGetItem_keysAndAttributesOfEachTable_onlyCarryTheKeysAndConsistentReadOfThatTable() {
+        respondWithUnprocessedKeys(call -> Collections.emptyMap());
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, true, Arrays.asList("a", "b")),
+                                                    readBatch(otherTable, null, Arrays.asList("c")));
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(page -> { }).join();
+
+        assertThat(calls.size(), is(1));
+        KeysAndAttributes keysAndAttributes = calls.get(0).requestItems().get(TABLE_NAME);
+        KeysAndAttributes otherKeysAndAttributes = calls.get(0).requestItems().get(OTHER_TABLE_NAME);
+        assertThat(keysAndAttributes.keys(), contains(key("a"), key("b")));
+        assertThat(keysAndAttributes.consistentRead(), is(true));
+        assertThat(otherKeysAndAttributes.keys(), contains(key("c")));
+        assertThat(otherKeysAndAttributes.consistentRead(), is(nullValue()));
+        for (KeysAndAttributes tableKeysAndAttributes : Arrays.asList(keysAndAttributes, otherKeysAndAttributes)) {
+            assertThat(tableKeysAndAttributes.projectionExpression(), is(nullValue()));
+            assertThat(tableKeysAndAttributes.hasAttributesToGet(), is(false));
+            assertThat(tableKeysAndAttributes.hasExpressionAttributeNames(), is(false));
+        }
+    }
+
+    @Test
+    public void bulkGetItem_unprocessedKeys_areResubmittedWithTheKeysAndAttributesReturnedByDynamoDb() {
+        AtomicInteger callCount = new AtomicInteger();
+        respondWithUnprocessedKeys(call -> {
+            if (callCount.getAndIncrement() == 0) {
+                KeysAndAttributes keys = call.requestItems().get(TABLE_NAME);
+                return Collections.singletonMap(TABLE_NAME, keys.toBuilder()
+                                                                .keys(keys.keys().subList(0, 1))
+                                                                .projectionExpression("id")
+                                                                .build());
+            }
+            return Collections.emptyMap();
+        });
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, true, Arrays.asList("a", "b")),
+                                                    readBatch(otherTable, null, Arrays.asList("c")));
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)
+                                         .unprocessedKeyBackoffStrategy(FixedDelayBackoffStrategy.create(Duration.ZERO)))
+                      .subscribe(page -> { })
+                      .join();
+
+        assertThat(calls.size(), is(2));
+        assertThat(calls.get(1).requestItems().keySet(), contains(TABLE_NAME));
+        KeysAndAttributes resubmitted = calls.get(1).requestItems().get(TABLE_NAME);
+        assertThat(resubmitted.keys(), contains(key("a")));
+        assertThat(resubmitted.consistentRead(), is(true));
+        assertThat(resubmitted.projectionExpression(), is("id"));
+    }
+
+    @Test
+    public void bulkGetItem_unprocessedKeysOfSeveralTables_areReportedForEachTable() {
+        respondWithUnprocessedKeys(call -> {
+            Map<String, KeysAndAttributes> unprocessed = new HashMap<>();
+            unprocessed.put(TABLE_NAME, KeysAndAttributes.builder().keys(key("a")).build());
+            unprocessed.put(OTHER_TABLE_NAME, KeysAndAttributes.builder().keys(key("d")).build());
+            return unprocessed;
+        });
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, null, Arrays.asList("a", "b")),
+                                                    readBatch(otherTable, null, Arrays.asList("c", "d")));
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches).maxUnprocessedKeyRetries(0))
+                      .subscribe(pages::add)
+                      .join();
+
+        assertThat(calls.size(), is(1));
+        assertThat(pages.size(), is(1));
+        assertThat(pages.get(0).unprocessedKeysForTable(table), contains(Key.builder().partitionValue("a").build()));
+        assertThat(pages.get(0).unprocessedKeysForTable(otherTable), contains(Key.builder().partitionValue("d").build()));
+        assertThat(pages.get(0).resultsForTable(table).stream().map(FakeItem::getId).collect(Collectors.toList()),
+                   contains("b"));
+        assertThat(pages.get(0).resultsForTable(otherTable).stream().map(FakeItem::getId).collect(Collectors.toList()),
+                   contains("c"));
+    }
+
+    @Test
+    public void bulkGetItem_returnedAttributes_areProjectedOntoTheItemsOfEachTable() {
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(i -> {
+            BatchGetItemRequest call = i.getArgument(0);
+            calls.add(call);
+            Map<String, AttributeValue> itemWithVersion = new HashMap<>(key("a"));
+            itemWithVersion.put("version", AttributeValue.builder().n("7").build());
+            itemWithVersion.put("unmapped", AttributeValue.builder().s("ignored").build());
+            Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+            responses.put(TABLE_NAME, Collections.singletonList(itemWithVersion));
+            responses.put(OTHER_TABLE_NAME, Collections.singletonList(key("a")));
+            return CompletableFuture.completedFuture(BatchGetItemResponse.builder().responses(responses).build());
+        });
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, null, Arrays.asList("a")),
+                                                    readBatch(otherTable, null, Arrays.asList("a")));
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatches)).subscribe(pages::add).join();
+
+        assertThat(pages.size(), is(1));
+        List<FakeItem> items = pages.get(0).resultsForTable(table);
+        List<FakeItem> otherItems = pages.get(0).resultsForTable(otherTable);
+        assertThat(items.size(), is(1));
+        assertThat(items.get(0).getId(), is("a"));
+        assertThat(items.get(0).getVersion(), is(7));
+        assertThat(otherItems.size(), is(1));
+        assertThat(otherItems.get(0).getId(), is("a"));
+        assertThat(otherItems.get(0).getVersion(), is(nullValue()));
+    }
+
+    /**
+     * Responds with an item for each requested key that is not returned as unprocessed.
+     */
+    private void respondWithUnprocessedKeys(Function<BatchGetItemRequest, Map<String, KeysAndAttributes>> unprocessedKeys) {
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(i -> {
+            BatchGetItemRequest call = i.getArgument(0);
+            calls.add(call);
+            Map<String, KeysAndAttributes> unprocessed = unprocessedKeys.apply(call);
+            Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+            call.requestItems().forEach((tableName, keys) -> {
+                List<Map<String, AttributeValue>> processed = new ArrayList<>(keys.keys());
+                if (unprocessed.containsKey(tableName)) {
+                    processed.removeAll(unprocessed.get(tableName).keys());
+                }
+                responses.put(tableName, processed);
+            });
+            return CompletableFuture.completedFuture(BatchGetItemResponse.builder()
+                                                                         .responses(responses)
+                                                                         .unprocessedKeys(unprocessed)
+                                                                         .build());
+        });
+    }
+
+    private static ReadBatch readBatch(DynamoDbAsyncTable<FakeItem> table, Boolean consistentRead, List<String> ids) {
+        ReadBatch.Builder<FakeItem> builder = ReadBatch.builder(FakeItem.class).mappedTableResource(table);
+        ids.forEach(id -> builder.addGetItem(r -> r.key(k -> k.partitionValue(id)).consistentRead(consistentRead)));
+        return builder.build();
+    }
+
+    private static Map<String, AttributeValue> key(String id) {
+        return Collections.singletonMap("id", AttributeValue.builder().s(id).build());
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "-" + i).collect(Collectors.toList());
+    }
+
+    private static int count(BatchGetItemRequest call) {
+        return call.requestItems().values().stream().mapToInt(keys -> keys.keys().size()).sum();
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriteItemExecutorTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final String OTHER_TABLE_NAME = "other-table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> table;
+    private DynamoDbAsyncTable<FakeItem> otherTable;
+    private List<BatchWriteItemRequest> calls;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                   .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                   .extensions()
+                                                   .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        otherTable = enhancedClient.table(OTHER_TABLE_NAME, FakeItem.getTableSchema());
+        calls = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void bulkWriteItem_regroupsWriteRequestsIntoCallsOfAtMost25() {
+        respondWithUnprocessedItems(call -> Collections.emptyMap());
+        List<WriteBatch> writeBatches = new ArrayList<>();
+        writeBatches.add(putBatch(table, 40));
+        writeBatches.add(putBatch(otherTable, 15));
+        writeBatches.add(putBatch(table, 5));
+
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.writeBatches(writeBatches)).join();
+
+        assertThat(calls.stream().map(BulkWriteItemExecutorTest::count).collect(Collectors.toList()), contains(25, 25, 10));
+        assertThat(calls.get(1).requestItems().keySet(), containsInAnyOrder(TABLE_NAME, OTHER_TABLE_NAME));
+        assertThat(result.writtenRequestCount(), is(60L));
+        assertThat(result.batchWriteItemCallCount(), is(3L));
+        assertThat(result.unprocessedRequestCount(), is(0L));
+        assertThat(result.throttledCallCount(), is(0L));
+        assertThat(result.unprocessedPutItemsForTable(table), is(empty()));
+    }
+
+    @Test
+    public void bulkWriteItem_emptyWriteBatches_completesWithoutCalls() {
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.writeBatches(Collections.emptyList())).join();
+
+        assertThat(result.writtenRequestCount(), is(0L));
+        assertThat(result.batchWriteItemCallCount(), is(0L));
+    }
+
+    @Test
+    public void bulkWriteItem_limitsCallsInFlight() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(Collections.singletonList(putBatch(table, 100)))
+                                               .maxConcurrentBatches(2));
+
+        assertThat(responses.size(), is(2));
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertThat(responses.size(), is(3));
+        responses.forEach(r -> r.complete(BatchWriteItemResponse.builder().build()));
+        responses.get(3).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(result.join().writtenRequestCount(), is(100L));
+        assertThat(responses.size(), is(4));
+    }
+
+    @Test
+    public void bulkWriteItem_readsWriteBatchesLazily() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        AtomicInteger read = new AtomicInteger();
+        Iterable<WriteBatch> writeBatches = () -> new Iterator<WriteBatch>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < 1_000;
+            }
+
+            @Override
+            public WriteBatch next() {
+                read.incrementAndGet();
+                return putBatch(table, 1);
+            }
+        };
+
+        enhancedClient.bulkWriteItem(r -> r.writeBatches(writeBatches).maxConcurrentBatches(1));
+
+        assertThat(responses.size(), is(1));
+        assertThat(read.get(), lessThan(60));
+    }
+
+    @Test
+    public void bulkWriteItem_sameItemInTwoWriteBatches_writesItInSeparateCallsInOrder() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            calls.add(i.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        FakeItem otherItem = FakeItem.createUniqueFakeItem();
+        List<WriteBatch> writeBatches = new ArrayList<>();
+        writeBatches.add(WriteBatch.builder(FakeItem.class).mappedTableResource(table).addPutItem(item).build());
+        writeBatches.add(WriteBatch.builder(FakeItem.class).mappedTableResource(table)
+                                   .addDeleteItem(item)
+                                   .addPutItem(otherItem)
+                                   .build());
+
+        CompletableFuture<BulkWriteResult> result = enhancedClient.bulkWriteItem(r -> r.writeBatches(writeBatches));
+
+        assertThat(calls.size(), is(1));
+        List<WriteRequest> firstCall = calls.get(0).requestItems().get(TABLE_NAME);
+        assertThat(firstCall.size(), is(2));
+        assertThat(firstCall.get(0).putRequest().item().get("id").s(), is(item.getId()));
+        assertThat(firstCall.get(1).putRequest().item().get("id").s(), is(otherItem.getId()));
+
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(calls.size(), is(2));
+        List<WriteRequest> secondCall = calls.get(1).requestItems().get(TABLE_NAME);
+        assertThat(secondCall.size(), is(1));
+        assertThat(secondCall.get(0).deleteRequest().key().get("id").s(), is(item.getId()));
+
+        responses.get(1).complete(BatchWriteItemResponse.builder().build());
+        assertThat(result.join().writtenRequestCount(), is(3L));
+    }
+
+    @Test
+    public void bulkWriteItem_resubmitsUnprocessedItems() {
+        AtomicInteger callCount = new AtomicInteger();
+        respondWithUnprocessedItems(call -> {
+            if (callCount.getAndIncrement() == 0) {
+                return Collections.singletonMap(TABLE_NAME, call.requestItems().get(TABLE_NAME).subList(0, 3));
+            }
+            return Collections.emptyMap();
+        });
+
+        BulkWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(Collections.singletonList(putBatch(table, 10)))
+                                               .unprocessedItemBackoffStrategy(FixedDelayBackoffStrategy.create(Duration.ZERO)))
+                          .join();
+
+        assertThat(calls.size(), is(2));
+        assertThat(calls.get(1).requestItems().get(TABLE_NAME), is(calls.get(0).requestItems().get(TABLE_NAME).subList(0, 3)));
+        assertThat(result.writtenRequestCount(), is(10L));
+        assertThat(result.throttledCallCount(), is(1L));
+        assertThat(result.retriedRequestCount(), is(3L));
+        assertThat(result.unprocessedRequestCount(), is(0L));
+    }
+
+    @Test
+    public void bulkWriteItem_unprocessedAfterLastRetry_returnsUnprocessedItems() {
+        respondWithUnprocessedItems(BatchWriteItemRequest::requestItems);
+        WriteBatch writeBatch = putBatch(table, 2);
+
+        BulkWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(Collections.singletonList(writeBatch))
+                                               .maxUnprocessedItemRetries(2)
+                                               .unprocessedItemBackoffStrategy(FixedDelayBackoffStrategy.create(Duration.ZERO)))
+                          .join();
+
+        assertThat(calls.size(), is(3));
+        assertThat(result.writtenRequestCount(), is(0L));
+        assertThat(result.throttledCallCount(), is(3L));
+        assertThat(result.retriedRequestCount(), is(4L));
+        assertThat(result.unprocessedRequestCount(), is(2L));
+        assertThat(result.unprocessedPutItemsForTable(table).size(), is(2));
+    }
+
+    @Test
+    public void bulkWriteItem_callFails_failsAndCancelsWriteBatches() throws Exception {
+        CompletableFuture<BatchWriteItemResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(DynamoDbException.builder().message("boom").build());
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(failed);
+        Subscription mockSubscription = mock(Subscription.class);
+        SdkPublisher<WriteBatch> writeBatches = new SdkPublisher<WriteBatch>() {
+            @Override
+            public void subscribe(Subscriber<? super WriteBatch> subscriber) {
+                subscriber.onSubscribe(mockSubscription);
+                subscriber.onNext(putBatch(table, 30));
+            }
+        };
+
+        CompletableFuture<BulkWriteResult> result = enhancedClient.bulkWriteItem(r -> r.writeBatches(writeBatches));
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Expected the bulk write to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(DynamoDbException.class));
+        }
+        verify(mockSubscription).cancel();
+        verify(mockDynamoDbAsyncClient, times(1)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void bulkWriteItem_writeBatchesFail_fails() {
+        SdkPublisher<WriteBatch> writeBatches = new SdkPublisher<WriteBatch>() {
+            @Override
+            public void subscribe(Subscriber<? super WriteBatch> subscriber) {
+                subscriber.onSubscribe(mock(Subscription.class));
+                subscriber.onError(new IllegalStateException("boom"));
+            }
+        };
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItem(BulkWriteItemEnhancedRequest.builder().writeBatches(writeBatches).build());
+
+        assertThat(result.isCompletedExceptionally(), is(true));
+    }
+
+    private void respondWithUnprocessedItems(
+        Function<BatchWriteItemRequest, Map<String, List<WriteRequest>>> unprocessedItems) {
+
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            BatchWriteItemRequest call = i.getArgument(0);
+            calls.add(call);
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                                                                           .unprocessedItems(unprocessedItems.apply(call))
+                                                                           .build());
+        });
+    }
+
+    private static WriteBatch putBatch(DynamoDbAsyncTable<FakeItem> table, int itemCount) {
+        WriteBatch.Builder<FakeItem> builder = WriteBatch.builder(FakeItem.class).mappedTableResource(table);
+        IntStream.range(0, itemCount).forEach(i -> builder.addPutItem(FakeItem.createUniqueFakeItem()));
+        return builder.build();
+    }
+
+    private static int count(BatchWriteItemRequest call) {
+        return call.requestItems().values().stream().mapToInt(List::size).sum();
+    }
+}
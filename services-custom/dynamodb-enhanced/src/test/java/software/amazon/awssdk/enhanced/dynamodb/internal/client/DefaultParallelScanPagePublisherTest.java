@@ -0,0 +1,376 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanPublisher;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultParallelScanPagePublisherTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final int PAGES_PER_SEGMENT = 3;
+    private static final int ITEMS_PER_PAGE = 2;
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DynamoDbAsyncTable<FakeItem> table;
+    private List<ScanRequest> calls;
+
+    @Before
+    public void setupMappedTable() {
+        table = DynamoDbEnhancedAsyncClient.builder()
+                                           .dynamoDbClient(mockDynamoDbAsyncClient)
+                                           .extensions()
+                                           .build()
+                                           .table(TABLE_NAME, FakeItem.getTableSchema());
+        calls = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void parallelScan_publishesThePagesOfAllSegments() {
+        stubScan();
+        Expression filter = Expression.builder().expression("attribute_exists(id)").build();
+
+        ParallelScanPagePublisher<FakeItem> publisher =
+            table.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.filterExpression(filter).limit(ITEMS_PER_PAGE)));
+        List<String> ids = new ArrayList<>();
+        publisher.items().subscribe(item -> ids.add(item.getId())).join();
+
+        assertThat(ids, containsInAnyOrder(allIds(0, 1, 2, 3).toArray()));
+        assertThat(calls.size(), is(4 * PAGES_PER_SEGMENT));
+        calls.forEach(call -> {
+            assertThat(call.totalSegments(), is(4));
+            assertThat(call.filterExpression(), is("attribute_exists(id)"));
+            assertThat(call.limit(), is(ITEMS_PER_PAGE));
+        });
+        assertThat(publisher.progress().isComplete(), is(true));
+    }
+
+    @Test
+    public void parallelScan_keepsThePagesOfASegmentInOrder() {
+        stubScan();
+
+        List<Page<FakeItem>> pages = new ArrayList<>();
+        table.parallelScan(r -> r.totalSegments(2)).subscribe(pages::add).join();
+
+        List<String> segmentOneIds = pages.stream()
+                                          .flatMap(page -> page.items().stream())
+                                          .map(FakeItem::getId)
+                                          .filter(id -> id.startsWith("1-"))
+                                          .collect(Collectors.toList());
+        assertThat(segmentOneIds, contains(allIds(1).toArray()));
+    }
+
+    @Test
+    public void parallelScan_resumesFromProgress() {
+        stubScan();
+        ParallelScanProgress progress = ParallelScanProgress.builder()
+                                                            .totalSegments(3)
+                                                            .addCompletedSegment(0)
+                                                            .lastEvaluatedKey(1, key(1, 0))
+                                                            .build();
+
+        List<String> ids = new ArrayList<>();
+        table.parallelScan(r -> r.totalSegments(3).resumeFrom(progress))
+             .items()
+             .subscribe(item -> ids.add(item.getId()))
+             .join();
+
+        List<String> expected = allIds(1, 2).stream().filter(id -> !id.startsWith("1-0-")).collect(Collectors.toList());
+        assertThat(ids, containsInAnyOrder(expected.toArray()));
+        assertThat(calls.stream().map(ScanRequest::segment).distinct().collect(Collectors.toList()),
+                   containsInAnyOrder(1, 2));
+    }
+
+    @Test
+    public void parallelScan_progressOnlyCoversProcessedPages() {
+        stubScan();
+        ParallelScanPagePublisher<FakeItem> publisher = table.parallelScan(r -> r.totalSegments(1));
+        List<Page<FakeItem>> pages = new ArrayList<>();
+
+        publisher.subscribe(new Subscriber<Page<FakeItem>>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Page<FakeItem> page) {
+                pages.add(page);
+                if (pages.size() == 2) {
+                    subscription.cancel();
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        ParallelScanProgress progress = publisher.progress();
+        assertThat(progress.isSegmentComplete(0), is(false));
+        assertThat(progress.lastEvaluatedKey(0), is(key(0, 1)));
+    }
+
+    @Test
+    public void parallelScan_boundsPagesInFlight() {
+        List<ManualSegmentPublisher> segments = new ArrayList<>();
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder().totalSegments(4).maxPagesInFlight(2).build();
+        ParallelScanPagePublisher<FakeItem> publisher = DefaultParallelScanPagePublisher.create(request, scanRequest -> {
+            ManualSegmentPublisher segment = new ManualSegmentPublisher(scanRequest);
+            segments.add(segment);
+            return segment;
+        });
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        // Pages are prefetched up to the budget, even without demand
+        assertThat(segments.size(), is(2));
+        segments.forEach(segment -> assertThat(segment.requested, is(1L)));
+        segments.forEach(ManualSegmentPublisher::emitPage);
+        assertThat(segments.size(), is(2));
+        segments.forEach(segment -> assertThat(segment.requested, is(1L)));
+
+        // Each page delivered to the subscriber makes room for another page
+        subscriber.subscription.request(1);
+        assertThat(subscriber.pages.size(), is(1));
+        assertThat(segments.size(), is(2));
+        assertThat(segments.get(0).requested + segments.get(1).requested, is(3L));
+    }
+
+    @Test
+    public void parallelScan_startsNewSegmentsAsOthersComplete() {
+        List<ManualSegmentPublisher> segments = new ArrayList<>();
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder().totalSegments(3).maxPagesInFlight(1).build();
+        ParallelScanPagePublisher<FakeItem> publisher = DefaultParallelScanPagePublisher.create(request, scanRequest -> {
+            ManualSegmentPublisher segment = new ManualSegmentPublisher(scanRequest);
+            segments.add(segment);
+            return segment;
+        });
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(segments.size(), is(i + 1));
+            segments.get(i).emitLastPage();
+        }
+
+        assertThat(segments.stream().map(segment -> segment.scanRequest.segment()).collect(Collectors.toList()),
+                   contains(0, 1, 2));
+        assertThat(subscriber.pages.size(), is(3));
+        assertThat(subscriber.completed, is(true));
+        assertThat(publisher.progress().isComplete(), is(true));
+    }
+
+    @Test
+    public void parallelScan_segmentFails_failsAndCancelsOtherSegments() {
+        List<ManualSegmentPublisher> segments = new ArrayList<>();
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder().totalSegments(2).build();
+        ParallelScanPagePublisher<FakeItem> publisher = DefaultParallelScanPagePublisher.create(request, scanRequest -> {
+            ManualSegmentPublisher segment = new ManualSegmentPublisher(scanRequest);
+            segments.add(segment);
+            return segment;
+        });
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        segments.get(0).subscriber.onError(DynamoDbException.builder().message("boom").build());
+
+        assertThat(subscriber.error, is(instanceOf(DynamoDbException.class)));
+        assertThat(segments.get(1).cancelled, is(true));
+        assertThat(publisher.progress().completedSegments(), is(empty()));
+    }
+
+    @Test
+    public void parallelScan_subscribedTwice_failsSecondSubscriber() {
+        stubScan();
+        ParallelScanPagePublisher<FakeItem> publisher = table.parallelScan(r -> r.totalSegments(1));
+        publisher.subscribe(page -> { }).join();
+
+        CompletableFuture<Void> second = publisher.subscribe(page -> { });
+
+        try {
+            second.join();
+            fail("Expected the second subscription to fail");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    private void stubScan() {
+        when(mockDynamoDbAsyncClient.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanPublisher(mockDynamoDbAsyncClient, invocation.getArgument(0)));
+        when(mockDynamoDbAsyncClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest call = invocation.getArgument(0);
+            calls.add(call);
+            return CompletableFuture.completedFuture(respond(call));
+        });
+    }
+
+    /**
+     * Each segment has three pages of two items, whose ids are segment-page-item. The last evaluated key of a page is the id
+     * segment-page.
+     */
+    private static ScanResponse respond(ScanRequest call) {
+        int segment = call.segment();
+        int page = call.exclusiveStartKey() == null || call.exclusiveStartKey().isEmpty()
+                   ? 0 : Integer.parseInt(call.exclusiveStartKey().get("id").s().split("-")[1]) + 1;
+        List<Map<String, AttributeValue>> items =
+            IntStream.range(0, ITEMS_PER_PAGE)
+                     .mapToObj(item -> Collections.singletonMap("id", stringValue(segment + "-" + page + "-" + item)))
+                     .collect(Collectors.toList());
+        ScanResponse.Builder response = ScanResponse.builder().items(items);
+        if (page < PAGES_PER_SEGMENT - 1) {
+            response.lastEvaluatedKey(key(segment, page));
+        }
+        return response.build();
+    }
+
+    private static Map<String, AttributeValue> key(int segment, int page) {
+        return Collections.singletonMap("id", stringValue(segment + "-" + page));
+    }
+
+    private static List<String> allIds(int... segments) {
+        List<String> ids = new ArrayList<>();
+        for (int segment : segments) {
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                for (int item = 0; item < ITEMS_PER_PAGE; item++) {
+                    ids.add(segment + "-" + page + "-" + item);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * A segment publisher whose pages are emitted by the test.
+     */
+    private static final class ManualSegmentPublisher implements SdkPublisher<Page<FakeItem>> {
+        private final ScanEnhancedRequest scanRequest;
+        private Subscriber<? super Page<FakeItem>> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        private ManualSegmentPublisher(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Page<FakeItem>> s) {
+            subscriber = s;
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        private void emitPage() {
+            subscriber.onNext(Page.create(Collections.emptyList(), key(scanRequest.segment(), 0)));
+        }
+
+        private void emitLastPage() {
+            subscriber.onNext(Page.create(Collections.emptyList()));
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Page<FakeItem>> {
+        private final List<Page<FakeItem>> pages = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(Page<FakeItem> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageStream;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgress;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultParallelScanPageStreamTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final int PAGES_PER_SEGMENT = 3;
+    private static final int ITEMS_PER_PAGE = 2;
+
+    @Mock
+    private DynamoDbClient mockDynamoDbClient;
+
+    private DynamoDbTable<FakeItem> table;
+    private List<ScanRequest> calls;
+
+    @Before
+    public void setupMappedTable() {
+        table = DynamoDbEnhancedClient.builder()
+                                      .dynamoDbClient(mockDynamoDbClient)
+                                      .extensions()
+                                      .build()
+                                      .table(TABLE_NAME, FakeItem.getTableSchema());
+        calls = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void parallelScan_streamsTheItemsOfAllSegments() {
+        stubScan();
+        ParallelScanPageStream<FakeItem> results = table.parallelScan(r -> r.totalSegments(4)
+                                                                            .scanRequest(s -> s.consistentRead(true)));
+
+        List<String> ids = results.items().map(FakeItem::getId).collect(Collectors.toList());
+
+        assertThat(ids, containsInAnyOrder(allIds(0, 1, 2, 3).toArray()));
+        assertThat(calls.size(), is(4 * PAGES_PER_SEGMENT));
+        calls.forEach(call -> {
+            assertThat(call.totalSegments(), is(4));
+            assertThat(call.consistentRead(), is(true));
+        });
+        assertThat(results.progress().isComplete(), is(true));
+    }
+
+    @Test
+    public void parallelScan_resumesFromProgress() {
+        stubScan();
+        ParallelScanProgress progress = ParallelScanProgress.builder()
+                                                            .totalSegments(3)
+                                                            .addCompletedSegment(0)
+                                                            .lastEvaluatedKey(1, key(1, 1))
+                                                            .build();
+
+        List<String> ids = table.parallelScan(r -> r.totalSegments(3).resumeFrom(progress))
+                                .items()
+                                .map(FakeItem::getId)
+                                .collect(Collectors.toList());
+
+        List<String> expected = allIds(1, 2).stream()
+                                            .filter(id -> !id.startsWith("1-0-") && !id.startsWith("1-1-"))
+                                            .collect(Collectors.toList());
+        assertThat(ids, containsInAnyOrder(expected.toArray()));
+    }
+
+    @Test
+    public void parallelScan_failedPage_isNotRecordedAsProcessed() {
+        stubScan();
+        ParallelScanPageStream<FakeItem> results = table.parallelScan(r -> r.totalSegments(1));
+
+        try {
+            results.items().forEach(item -> {
+                if (item.getId().startsWith("0-2-")) {
+                    throw new IllegalStateException("Failed to process " + item.getId());
+                }
+            });
+            fail("Expected the processing of the last page to fail");
+        } catch (IllegalStateException expected) {
+            // The last page failed, so the scan resumes from the end of the second page
+        }
+
+        ParallelScanProgress progress = results.progress();
+        assertThat(progress.isSegmentComplete(0), is(false));
+        assertThat(progress.lastEvaluatedKey(0), is(key(0, 1)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void parallelScan_streamedTwice_throws() {
+        ParallelScanPageStream<FakeItem> results = table.parallelScan(r -> r.totalSegments(1));
+        results.stream();
+
+        results.stream();
+    }
+
+    private void stubScan() {
+        when(mockDynamoDbClient.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanIterable(mockDynamoDbClient, invocation.getArgument(0)));
+        when(mockDynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest call = invocation.getArgument(0);
+            calls.add(call);
+            return respond(call);
+        });
+    }
+
+    private static ScanResponse respond(ScanRequest call) {
+        int segment = call.segment();
+        int page = call.exclusiveStartKey() == null || call.exclusiveStartKey().isEmpty()
+                   ? 0 : Integer.parseInt(call.exclusiveStartKey().get("id").s().split("-")[1]) + 1;
+        List<Map<String, AttributeValue>> items =
+            IntStream.range(0, ITEMS_PER_PAGE)
+                     .mapToObj(item -> Collections.singletonMap("id", stringValue(segment + "-" + page + "-" + item)))
+                     .collect(Collectors.toList());
+        ScanResponse.Builder response = ScanResponse.builder().items(items);
+        if (page < PAGES_PER_SEGMENT - 1) {
+            response.lastEvaluatedKey(key(segment, page));
+        }
+        return response.build();
+    }
+
+    private static Map<String, AttributeValue> key(int segment, int page) {
+        return Collections.singletonMap("id", stringValue(segment + "-" + page));
+    }
+
+    private static List<String> allIds(int... segments) {
+        List<String> ids = new ArrayList<>();
+        for (int segment : segments) {
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                for (int item = 0; item < ITEMS_PER_PAGE; item++) {
+                    ids.add(segment + "-" + page + "-" + item);
+                }
+            }
+        }
+        return ids;
+    }
+}
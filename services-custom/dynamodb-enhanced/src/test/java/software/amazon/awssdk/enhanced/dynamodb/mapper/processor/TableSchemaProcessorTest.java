@@ -0,0 +1,437 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.FlattenedBeanBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NestedBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SecondaryIndexBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleImmutable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Compiles items with the {@link TableSchemaProcessor}, and checks that the generated table schemas are found by
+ * {@link TableSchema#fromClass(Class)}, and map items exactly as the table schemas introspected at runtime do.
+ */
+public class TableSchemaProcessorTest {
+    private static final String PACKAGE = "com.example.items";
+    private static final Path TEST_BEANS_DIR =
+        Paths.get("src", "test", "java", "software", "amazon", "awssdk", "enhanced", "dynamodb", "mapper", "testbeans");
+
+    private static Path sourceDir;
+    private static Path classDir;
+    private static Path testBeansClassDir;
+    private static URLClassLoader classLoader;
+    private static URLClassLoader testBeansClassLoader;
+
+    @BeforeClass
+    public static void compileItems() throws IOException {
+        sourceDir = Files.createTempDirectory("items-src");
+        classDir = Files.createTempDirectory("items-classes");
+        testBeansClassDir = Files.createTempDirectory("testbeans-classes");
+
+        List<File> sources = new ArrayList<>();
+        sources.add(writeSource("Order",
+            "import java.time.Instant;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Map;\n"
+            + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;\n"
+            + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+            + "@DynamoDbBean\n"
+            + "public class Order {\n"
+            + "    private String id;\n"
+            + "    private Instant createdDate;\n"
+            + "    private String customer;\n"
+            + "    private Long version;\n"
+            + "    private String ignored;\n"
+            + "    private boolean express;\n"
+            + "    private List<String> tags;\n"
+            + "    private Map<String, Integer> quantities;\n"
+            + "    private Address address;\n"
+            + "    private List<Address> previousAddresses;\n"
+            + "    private Audit audit;\n"
+            + "    private String note;\n"
+            + "    @DynamoDbPartitionKey public String getId() { return id; }\n"
+            + "    public void setId(String id) { this.id = id; }\n"
+            + "    @DynamoDbSortKey @DynamoDbSecondarySortKey(indexNames = \"by-customer\")\n"
+            + "    public Instant getCreatedDate() { return createdDate; }\n"
+            + "    public void setCreatedDate(Instant createdDate) { this.createdDate = createdDate; }\n"
+            + "    @DynamoDbSecondaryPartitionKey(indexNames = \"by-customer\") @DynamoDbAttribute(\"customer_name\")\n"
+            + "    public String getCustomer() { return customer; }\n"
+            + "    public void setCustomer(String customer) { this.customer = customer; }\n"
+            + "    @DynamoDbVersionAttribute public Long getVersion() { return version; }\n"
+            + "    public void setVersion(Long version) { this.version = version; }\n"
+            + "    @DynamoDbIgnore public String getIgnored() { return ignored; }\n"
+            + "    public void setIgnored(String ignored) { this.ignored = ignored; }\n"
+            + "    public boolean isExpress() { return express; }\n"
+            + "    public void setExpress(boolean express) { this.express = express; }\n"
+            + "    public List<String> getTags() { return tags; }\n"
+            + "    public void setTags(List<String> tags) { this.tags = tags; }\n"
+            + "    public Map<String, Integer> getQuantities() { return quantities; }\n"
+            + "    public void setQuantities(Map<String, Integer> quantities) { this.quantities = quantities; }\n"
+            + "    @DynamoDbPreserveEmptyObject public Address getAddress() { return address; }\n"
+            + "    public void setAddress(Address address) { this.address = address; }\n"
+            + "    public List<Address> getPreviousAddresses() { return previousAddresses; }\n"
+            + "    public void setPreviousAddresses(List<Address> previousAddresses) {\n"
+            + "        this.previousAddresses = previousAddresses;\n"
+            + "    }\n"
+            + "    @DynamoDbFlatten public Audit getAudit() { return audit; }\n"
+            + "    public void setAudit(Audit audit) { this.audit = audit; }\n"
+            + "    @DynamoDbConvertedBy(UpperCaseConverter.class) public String getNote() { return note; }\n"
+            + "    public void setNote(String note) { this.note = note; }\n"
+            + "}\n"));
+        sources.add(writeSource("Address",
+            "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;\n"
+            + "@DynamoDbBean\n"
+            + "public class Address {\n"
+            + "    private String city;\n"
+            + "    public String getCity() { return city; }\n"
+            + "    public void setCity(String city) { this.city = city; }\n"
+            + "}\n"));
+        sources.add(writeSource("Audit",
+            "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;\n"
+            + "@DynamoDbBean\n"
+            + "public class Audit {\n"
+            + "    private String createdBy;\n"
+            + "    public String getCreatedBy() { return createdBy; }\n"
+            + "    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }\n"
+            + "}\n"));
+        sources.add(writeSource("UpperCaseConverter",
+            "import software.amazon.awssdk.enhanced.dynamodb.*;\n"
+            + "import software.amazon.awssdk.services.dynamodb.model.AttributeValue;\n"
+            + "public class UpperCaseConverter implements AttributeConverter<String> {\n"
+            + "    public AttributeValue transformFrom(String input) {\n"
+            + "        return AttributeValue.builder().s(input.toUpperCase()).build();\n"
+            + "    }\n"
+            + "    public String transformTo(AttributeValue input) { return input.s().toLowerCase(); }\n"
+            + "    public EnhancedType<String> type() { return EnhancedType.of(String.class); }\n"
+            + "    public AttributeValueType attributeValueType() { return AttributeValueType.S; }\n"
+            + "}\n"));
+        sources.add(writeSource("Customer",
+            "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+            + "@DynamoDbImmutable(builder = Customer.Builder.class)\n"
+            + "public final class Customer {\n"
+            + "    private final String id;\n"
+            + "    private final Integer age;\n"
+            + "    private Customer(Builder b) { this.id = b.id; this.age = b.age; }\n"
+            + "    @DynamoDbPartitionKey public String id() { return id; }\n"
+            + "    public Integer age() { return age; }\n"
+            + "    public static Builder builder() { return new Builder(); }\n"
+            + "    public static final class Builder {\n"
+            + "        private String id;\n"
+            + "        private Integer age;\n"
+            + "        private Builder() { }\n"
+            + "        public Builder id(String id) { this.id = id; return this; }\n"
+            + "        public Builder age(Integer age) { this.age = age; return this; }\n"
+            + "        public Customer build() { return new Customer(this); }\n"
+            + "    }\n"
+            + "}\n"));
+        sources.add(writeSource("TreeNode",
+            "import java.util.List;\n"
+            + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+            + "@DynamoDbBean\n"
+            + "public class TreeNode {\n"
+            + "    private String id;\n"
+            + "    private List<TreeNode> children;\n"
+            + "    @DynamoDbPartitionKey public String getId() { return id; }\n"
+            + "    public void setId(String id) { this.id = id; }\n"
+            + "    public List<TreeNode> getChildren() { return children; }\n"
+            + "    public void setChildren(List<TreeNode> children) { this.children = children; }\n"
+            + "}\n"));
+
+        compile(classDir, sources);
+        classLoader = new URLClassLoader(new URL[] {classDir.toUri().toURL()},
+                                         TableSchemaProcessorTest.class.getClassLoader());
+
+        // The test beans are already loaded by the test class loader, so only the generated table schemas are loaded by this
+        // one. The table schemas introspected at runtime can only map classes visible to the enhanced client's class loader.
+        List<File> testBeans;
+        try (Stream<Path> paths = Files.list(TEST_BEANS_DIR)) {
+            testBeans = paths.map(Path::toFile).collect(Collectors.toList());
+        }
+        compile(testBeansClassDir, testBeans);
+        testBeansClassLoader = new URLClassLoader(new URL[] {testBeansClassDir.toUri().toURL()},
+                                                  TableSchemaProcessorTest.class.getClassLoader());
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        classLoader.close();
+        testBeansClassLoader.close();
+        deleteRecursively(sourceDir);
+        deleteRecursively(classDir);
+        deleteRecursively(testBeansClassDir);
+    }
+
+    @Test
+    public void generatesTableSchemasForSupportedItems() {
+        assertThat(Files.exists(classDir.resolve("com/example/items/Order_TableSchema.java"))).isTrue();
+        assertThat(Files.exists(classDir.resolve("com/example/items/Customer_TableSchema.java"))).isTrue();
+        assertThat(Files.exists(classDir.resolve("com/example/items/TreeNode_TableSchema.java"))).isFalse();
+    }
+
+    @Test
+    public void fromClass_bean_usesGeneratedTableSchema() throws Exception {
+        Class<Object> orderClass = loadClass("Order");
+        TableSchema<Object> tableSchema = TableSchema.fromClass(orderClass);
+
+        assertThat(tableSchema).isInstanceOf(StaticTableSchema.class);
+        assertThat(tableSchema.itemType().rawClass()).isEqualTo(orderClass);
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey()).isEqualTo("id");
+        assertThat(tableSchema.tableMetadata().primarySortKey()).hasValue("createdDate");
+        assertThat(tableSchema.tableMetadata().indexPartitionKey("by-customer")).isEqualTo("customer_name");
+        assertThat(tableSchema.attributeNames()).contains("createdBy", "note").doesNotContain("ignored", "audit");
+    }
+
+    @Test
+    public void fromClass_bean_generatedTableSchemaMapsItem() throws Exception {
+        TableSchema<Object> tableSchema = TableSchema.fromClass(loadClass("Order"));
+        Map<String, AttributeValue> item = orderItem();
+
+        Object order = tableSchema.mapToItem(item);
+
+        assertThat(tableSchema.itemToMap(order, true)).isEqualTo(item);
+        assertThat(tableSchema.attributeValue(order, "note")).isEqualTo(AttributeValue.builder().s("FRAGILE").build());
+    }
+
+    @Test
+    public void fromClass_immutable_usesGeneratedTableSchema() throws Exception {
+        Class<Object> customerClass = loadClass("Customer");
+        TableSchema<Object> tableSchema = TableSchema.fromClass(customerClass);
+
+        assertThat(tableSchema).isInstanceOf(StaticImmutableTableSchema.class);
+        assertThat(tableSchema).isNotInstanceOf(ImmutableTableSchema.class);
+
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.builder().s("customer-1").build());
+        item.put("age", AttributeValue.builder().n("42").build());
+        assertThat(tableSchema.itemToMap(tableSchema.mapToItem(item), true)).isEqualTo(item);
+    }
+
+    @Test
+    public void fromClass_itemReferencingItself_fallsBackToBeanTableSchema() throws Exception {
+        assertThat(TableSchema.fromClass(loadClass("TreeNode"))).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @Test
+    public void generatedTableSchemas_haveSameMetadataAsIntrospectedTableSchemas() throws Exception {
+        Path generatedDir = testBeansClassDir.resolve(SimpleBean.class.getPackage().getName().replace('.', '/'));
+        List<String> generated;
+        try (Stream<Path> paths = Files.list(generatedDir)) {
+            generated = paths.map(path -> path.getFileName().toString())
+                             .filter(name -> name.endsWith("_TableSchema.class"))
+                             .map(name -> name.substring(0, name.length() - "_TableSchema.class".length()))
+                             .sorted()
+                             .collect(Collectors.toList());
+        }
+        assertThat(generated).contains("SimpleBean", "SimpleImmutable", "NestedBean", "FlattenedBeanBean",
+                                       "AttributeConverterBean", "SecondaryIndexBean", "DocumentImmutable");
+
+        for (String simpleName : generated) {
+            Class<?> itemClass = Class.forName(SimpleBean.class.getPackage().getName() + "." + simpleName);
+            TableSchema<?> introspected;
+            try {
+                introspected = TableSchema.fromClass(itemClass);
+            } catch (RuntimeException e) {
+                // Beans that cannot be introspected at runtime are expected to fail when the generated schema is created
+                assertThatThrownBy(() -> generatedTableSchema(itemClass)).isInstanceOf(e.getClass());
+                continue;
+            }
+            assertSameMetadata(generatedTableSchema(itemClass), introspected);
+        }
+    }
+
+    @Test
+    public void generatedBeanTableSchema_mapsItemsAsBeanTableSchema() throws Exception {
+        Map<String, AttributeValue> abstractBean = new HashMap<>();
+        abstractBean.put("attribute2", AttributeValue.builder().s("two").build());
+
+        Map<String, AttributeValue> simple = new HashMap<>();
+        simple.put("id", AttributeValue.builder().s("id-1").build());
+        simple.put("integerAttribute", AttributeValue.builder().n("7").build());
+        assertSameMapping(SimpleBean.class, simple);
+
+        Map<String, AttributeValue> nested = new HashMap<>();
+        nested.put("id", AttributeValue.builder().s("id-1").build());
+        nested.put("innerBean", AttributeValue.builder().m(abstractBean).build());
+        assertSameMapping(NestedBean.class, nested);
+
+        Map<String, AttributeValue> flattened = new HashMap<>(abstractBean);
+        flattened.put("id", AttributeValue.builder().s("id-1").build());
+        flattened.put("attribute1", AttributeValue.builder().s("one").build());
+        assertSameMapping(FlattenedBeanBean.class, flattened);
+
+        Map<String, AttributeValue> secondaryIndex = new HashMap<>();
+        secondaryIndex.put("id", AttributeValue.builder().s("id-1").build());
+        secondaryIndex.put("sort", AttributeValue.builder().n("3").build());
+        secondaryIndex.put("attribute", AttributeValue.builder().s("value").build());
+        assertSameMapping(SecondaryIndexBean.class, secondaryIndex);
+    }
+
+    @Test
+    public void generatedImmutableTableSchema_mapsItemsAsImmutableTableSchema() throws Exception {
+        Map<String, AttributeValue> simple = new HashMap<>();
+        simple.put("id", AttributeValue.builder().s("id-1").build());
+        simple.put("integerAttribute", AttributeValue.builder().n("7").build());
+        assertSameMapping(SimpleImmutable.class, simple);
+    }
+
+    private static <T> void assertSameMapping(Class<T> itemClass, Map<String, AttributeValue> item) throws Exception {
+        TableSchema<T> generated = generatedTableSchema(itemClass);
+        TableSchema<T> introspected = TableSchema.fromClass(itemClass);
+
+        T generatedItem = generated.mapToItem(item);
+        T introspectedItem = introspected.mapToItem(item);
+
+        assertThat(introspected.itemToMap(generatedItem, true)).isEqualTo(item);
+        assertThat(generated.itemToMap(generatedItem, true)).isEqualTo(item);
+        assertThat(generated.itemToMap(introspectedItem, false)).isEqualTo(introspected.itemToMap(introspectedItem, false));
+        assertThat(generated.itemToMap(generatedItem, Collections.singletonList("id")))
+            .isEqualTo(introspected.itemToMap(introspectedItem, Collections.singletonList("id")));
+    }
+
+    private static void assertSameMetadata(TableSchema<?> generated, TableSchema<?> introspected) {
+        TableMetadata generatedMetadata = generated.tableMetadata();
+        TableMetadata introspectedMetadata = introspected.tableMetadata();
+
+        assertThat(generated.itemType()).isEqualTo(introspected.itemType());
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+        assertThat(generated.isAbstract()).isEqualTo(introspected.isAbstract());
+        assertThat(generatedMetadata.customMetadata()).isEqualTo(introspectedMetadata.customMetadata());
+        assertThat(indexKeys(generatedMetadata)).isEqualTo(indexKeys(introspectedMetadata));
+        for (String attributeName : introspected.attributeNames()) {
+            AttributeConverter<?> generatedConverter = generated.converterForAttribute(attributeName);
+            AttributeConverter<?> introspectedConverter = introspected.converterForAttribute(attributeName);
+            if (introspectedConverter == null) {
+                // Attributes of flattened items are not exposed by the parent table schema
+                assertThat(generatedConverter).isNull();
+                continue;
+            }
+
+            // Document types are only equal if their table schemas are the same instance, so compare their descriptions
+            EnhancedType<?> generatedType = generatedConverter.type();
+            EnhancedType<?> introspectedType = introspectedConverter.type();
+            assertThat(generatedType.toString()).isEqualTo(introspectedType.toString());
+            assertThat(generatedType.documentConfiguration()).isEqualTo(introspectedType.documentConfiguration());
+        }
+    }
+
+    private static Map<String, String> indexKeys(TableMetadata tableMetadata) {
+        return tableMetadata.indices()
+                            .stream()
+                            .collect(Collectors.toMap(index -> index.name(),
+                                                      index -> index.partitionKey().map(Object::toString).orElse("") + "/"
+                                                               + index.sortKey().map(Object::toString).orElse("")));
+    }
+
+    private static Map<String, AttributeValue> orderItem() {
+        Map<String, AttributeValue> address = new HashMap<>();
+        address.put("city", AttributeValue.builder().s("Seattle").build());
+
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.builder().s("order-1").build());
+        item.put("createdDate", AttributeValue.builder().s("2022-01-01T00:00:00Z").build());
+        item.put("customer_name", AttributeValue.builder().s("customer-1").build());
+        item.put("version", AttributeValue.builder().n("3").build());
+        item.put("express", AttributeValue.builder().bool(true).build());
+        item.put("tags", AttributeValue.builder().l(AttributeValue.builder().s("gift").build()).build());
+        item.put("quantities", AttributeValue.builder()
+                                             .m(Collections.singletonMap("widget", AttributeValue.builder().n("2").build()))
+                                             .build());
+        item.put("address", AttributeValue.builder().m(address).build());
+        item.put("previousAddresses", AttributeValue.builder().l(AttributeValue.builder().m(address).build()).build());
+        item.put("createdBy", AttributeValue.builder().s("admin").build());
+        item.put("note", AttributeValue.builder().s("FRAGILE").build());
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TableSchema<T> generatedTableSchema(Class<T> itemClass) throws Exception {
+        Class<?> generatedClass = Class.forName(itemClass.getName() + "_TableSchema", true, testBeansClassLoader);
+        try {
+            return (TableSchema<T>) generatedClass.getMethod("create").invoke(null);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> loadClass(String simpleName) throws ClassNotFoundException {
+        return (Class<Object>) Class.forName(PACKAGE + "." + simpleName, true, classLoader);
+    }
+
+    private static void compile(Path outputDir, List<File> sources) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+            "-classpath", System.getProperty("surefire.test.class.path", System.getProperty("java.class.path")),
+            "-processor", TableSchemaProcessor.class.getName(),
+            "-d", outputDir.toString(),
+            "-s", outputDir.toString()));
+        sources.forEach(source -> arguments.add(source.getPath()));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isZero();
+    }
+
+    private static File writeSource(String simpleName, String body) throws IOException {
+        Path packageDir = sourceDir.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        Path source = packageDir.resolve(simpleName + ".java");
+        Files.write(source, ("package " + PACKAGE + ";\n" + body).getBytes(StandardCharsets.UTF_8));
+        return source.toFile();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
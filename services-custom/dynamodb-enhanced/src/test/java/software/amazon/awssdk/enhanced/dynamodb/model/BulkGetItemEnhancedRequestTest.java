@@ -0,0 +1,257 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkGetItemEnhancedRequestTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final String OTHER_TABLE_NAME = "other-table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    @Mock
+    private SdkPublisher<ReadBatch> mockReadBatches;
+
+    @Mock
+    private BackoffStrategy mockBackoffStrategy;
+
+    @Mock
+    private ScheduledExecutorService mockScheduledExecutorService;
+
+    private DynamoDbAsyncTable<FakeItem> table;
+    private DynamoDbAsyncTable<FakeItem> otherTable;
+
+    @Before
+    public void setupMappedTables() {
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                                                .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        otherTable = enhancedClient.table(OTHER_TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void builder_withoutReadBatches_throws() {
+        BulkGetItemEnhancedRequest.builder().build();
+    }
+
+    @Test
+    public void builder_minimal() {
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(mockReadBatches)
+                                      .build();
+
+        assertThat(builtObject.readBatches(), is(sameInstance(mockReadBatches)));
+        assertThat(builtObject.maxConcurrentBatches(), is(nullValue()));
+        assertThat(builtObject.maxUnprocessedKeyRetries(), is(nullValue()));
+        assertThat(builtObject.unprocessedKeyBackoffStrategy(), is(nullValue()));
+        assertThat(builtObject.scheduledExecutorService(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(mockReadBatches)
+                                      .maxConcurrentBatches(8)
+                                      .maxUnprocessedKeyRetries(0)
+                                      .unprocessedKeyBackoffStrategy(mockBackoffStrategy)
+                                      .scheduledExecutorService(mockScheduledExecutorService)
+                                      .build();
+
+        assertThat(builtObject.readBatches(), is(sameInstance(mockReadBatches)));
+        assertThat(builtObject.maxConcurrentBatches(), is(8));
+        assertThat(builtObject.maxUnprocessedKeyRetries(), is(0));
+        assertThat(builtObject.unprocessedKeyBackoffStrategy(), is(mockBackoffStrategy));
+        assertThat(builtObject.scheduledExecutorService(), is(mockScheduledExecutorService));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_nonPositiveMaxConcurrentBatches_throws() {
+        BulkGetItemEnhancedRequest.builder().readBatches(mockReadBatches).maxConcurrentBatches(0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_negativeMaxUnprocessedKeyRetries_throws() {
+        BulkGetItemEnhancedRequest.builder().readBatches(mockReadBatches).maxUnprocessedKeyRetries(-1).build();
+    }
+
+    @Test
+    public void builder_iterable_publishesTheKeysAndAttributesOfEachReadBatchInOrder() {
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, true, "a", "b"),
+                                                    readBatch(otherTable, null, "c"),
+                                                    readBatch(table, false, "d"));
+
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(readBatches)
+                                      .build();
+
+        List<ReadBatch> published = new ArrayList<>();
+        builtObject.readBatches().subscribe(published::add).join();
+
+        assertThat(published.stream().map(ReadBatch::tableName).collect(Collectors.toList()),
+                   contains(TABLE_NAME, OTHER_TABLE_NAME, TABLE_NAME));
+        assertThat(published.stream().map(batch -> batch.keysAndAttributes().consistentRead()).collect(Collectors.toList()),
+                   contains(true, null, false));
+        assertThat(ids(published.get(0)), contains("a", "b"));
+        assertThat(ids(published.get(1)), contains("c"));
+        assertThat(ids(published.get(2)), contains("d"));
+    }
+
+    @Test
+    public void builder_iterable_isReadAsTheReadBatchesAreRequested() {
+        AtomicInteger readCount = new AtomicInteger();
+        List<ReadBatch> readBatches = Arrays.asList(readBatch(table, null, "a"), readBatch(table, null, "b"));
+        Iterable<ReadBatch> countingReadBatches = () -> {
+            Iterator<ReadBatch> iterator = readBatches.iterator();
+            return new Iterator<ReadBatch>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public ReadBatch next() {
+                    readCount.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        };
+        Subscription[] subscription = new Subscription[1];
+
+        BulkGetItemEnhancedRequest.builder()
+                                  .readBatches(countingReadBatches)
+                                  .build()
+                                  .readBatches()
+                                  .subscribe(new Subscriber<ReadBatch>() {
+                                      @Override
+                                      public void onSubscribe(Subscription s) {
+                                          subscription[0] = s;
+                                      }
+
+                                      @Override
+                                      public void onNext(ReadBatch readBatch) {
+                                      }
+
+                                      @Override
+                                      public void onError(Throwable t) {
+                                      }
+
+                                      @Override
+                                      public void onComplete() {
+                                      }
+                                  });
+
+        assertThat(readCount.get(), is(0));
+        subscription[0].request(1);
+        assertThat(readCount.get(), is(1));
+    }
+
+    @Test
+    public void builder_publisher_isAdaptedToAnSdkPublisher() {
+        Publisher<ReadBatch> readBatches = subscriber -> { };
+
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(readBatches)
+                                      .build();
+
+        assertThat(builtObject.readBatches(), is(instanceOf(SdkPublisher.class)));
+        assertThat(builtObject.readBatches(), is(not(sameInstance(readBatches))));
+    }
+
+    @Test
+    public void equals_differentReadBatches_isNotEqual() {
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(mockReadBatches)
+                                      .build();
+        BulkGetItemEnhancedRequest otherObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(Arrays.asList(readBatch(table, null, "a")))
+                                      .build();
+
+        assertThat(builtObject, is(not(otherObject)));
+    }
+
+    @Test
+    public void toBuilder() {
+        BulkGetItemEnhancedRequest builtObject =
+            BulkGetItemEnhancedRequest.builder()
+                                      .readBatches(mockReadBatches)
+                                      .maxConcurrentBatches(2)
+                                      .maxUnprocessedKeyRetries(3)
+                                      .unprocessedKeyBackoffStrategy(mockBackoffStrategy)
+                                      .scheduledExecutorService(mockScheduledExecutorService)
+                                      .build();
+
+        BulkGetItemEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+        assertThat(copiedObject.hashCode(), is(builtObject.hashCode()));
+    }
+
+    private static ReadBatch readBatch(DynamoDbAsyncTable<FakeItem> table, Boolean consistentRead, String... ids) {
+        ReadBatch.Builder<FakeItem> builder = ReadBatch.builder(FakeItem.class).mappedTableResource(table);
+        Arrays.stream(ids).forEach(id -> builder.addGetItem(r -> r.key(k -> k.partitionValue(id))
+                                                                  .consistentRead(consistentRead)));
+        return builder.build();
+    }
+
+    private static List<String> ids(ReadBatch readBatch) {
+        return readBatch.keysAndAttributes()
+                        .keys()
+                        .stream()
+                        .map(key -> key.get("id"))
+                        .map(AttributeValue::s)
+                        .collect(Collectors.toList());
+    }
+}
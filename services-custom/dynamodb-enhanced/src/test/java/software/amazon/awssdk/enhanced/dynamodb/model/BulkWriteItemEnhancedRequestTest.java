@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriteItemEnhancedRequestTest {
+
+    @Mock
+    private SdkPublisher<WriteBatch> mockWriteBatches;
+
+    @Mock
+    private BackoffStrategy mockBackoffStrategy;
+
+    @Mock
+    private ScheduledExecutorService mockScheduledExecutorService;
+
+    @Test(expected = NullPointerException.class)
+    public void builder_withoutWriteBatches_throws() {
+        BulkWriteItemEnhancedRequest.builder().build();
+    }
+
+    @Test
+    public void builder_minimal() {
+        BulkWriteItemEnhancedRequest builtObject = BulkWriteItemEnhancedRequest.builder()
+                                                                               .writeBatches(mockWriteBatches)
+                                                                               .build();
+
+        assertThat(builtObject.writeBatches(), is(sameInstance(mockWriteBatches)));
+        assertThat(builtObject.maxConcurrentBatches(), is(nullValue()));
+        assertThat(builtObject.maxUnprocessedItemRetries(), is(nullValue()));
+        assertThat(builtObject.unprocessedItemBackoffStrategy(), is(nullValue()));
+        assertThat(builtObject.scheduledExecutorService(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        BulkWriteItemEnhancedRequest builtObject =
+            BulkWriteItemEnhancedRequest.builder()
+                                        .writeBatches(mockWriteBatches)
+                                        .maxConcurrentBatches(8)
+                                        .maxUnprocessedItemRetries(0)
+                                        .unprocessedItemBackoffStrategy(mockBackoffStrategy)
+                                        .scheduledExecutorService(mockScheduledExecutorService)
+                                        .build();
+
+        assertThat(builtObject.writeBatches(), is(sameInstance(mockWriteBatches)));
+        assertThat(builtObject.maxConcurrentBatches(), is(8));
+        assertThat(builtObject.maxUnprocessedItemRetries(), is(0));
+        assertThat(builtObject.unprocessedItemBackoffStrategy(), is(mockBackoffStrategy));
+        assertThat(builtObject.scheduledExecutorService(), is(mockScheduledExecutorService));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_nonPositiveMaxConcurrentBatches_throws() {
+        BulkWriteItemEnhancedRequest.builder().writeBatches(mockWriteBatches).maxConcurrentBatches(0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_negativeMaxUnprocessedItemRetries_throws() {
+        BulkWriteItemEnhancedRequest.builder().writeBatches(mockWriteBatches).maxUnprocessedItemRetries(-1).build();
+    }
+
+    @Test
+    public void builder_iterable_isPublished() {
+        BulkWriteItemEnhancedRequest builtObject = BulkWriteItemEnhancedRequest.builder()
+                                                                               .writeBatches(Collections.emptyList())
+                                                                               .build();
+
+        assertThat(builtObject.writeBatches(), is(notNullValue()));
+    }
+
+    @Test
+    public void toBuilder() {
+        BulkWriteItemEnhancedRequest builtObject = BulkWriteItemEnhancedRequest.builder()
+                                                                               .writeBatches(mockWriteBatches)
+                                                                               .maxConcurrentBatches(2)
+                                                                               .build();
+
+        BulkWriteItemEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelScanEnhancedRequestTest {
+    private static final Map<String, AttributeValue> KEY = Collections.singletonMap("id", stringValue("id-value"));
+
+    @Test(expected = NullPointerException.class)
+    public void builder_withoutTotalSegments_throws() {
+        ParallelScanEnhancedRequest.builder().build();
+    }
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.maxPagesInFlight(), is(nullValue()));
+        assertThat(builtObject.resumeFrom(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ParallelScanProgress progress = ParallelScanProgress.builder().totalSegments(4).addCompletedSegment(1).build();
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(r -> r.limit(10))
+                                                                             .totalSegments(4)
+                                                                             .maxPagesInFlight(2)
+                                                                             .resumeFrom(progress)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().limit(10).build()));
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.maxPagesInFlight(), is(2));
+        assertThat(builtObject.resumeFrom(), is(progress));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_scanRequestWithSegment_throws() {
+        ParallelScanEnhancedRequest.builder().scanRequest(r -> r.segment(0).totalSegments(4)).totalSegments(4).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_scanRequestWithExclusiveStartKey_throws() {
+        ParallelScanEnhancedRequest.builder().scanRequest(r -> r.exclusiveStartKey(KEY)).totalSegments(4).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_nonPositiveMaxPagesInFlight_throws() {
+        ParallelScanEnhancedRequest.builder().totalSegments(4).maxPagesInFlight(0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_resumeFromDifferentTotalSegments_throws() {
+        ParallelScanEnhancedRequest.builder()
+                                   .totalSegments(4)
+                                   .resumeFrom(ParallelScanProgress.builder().totalSegments(2).build())
+                                   .build();
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(r -> r.consistentRead(true))
+                                                                             .totalSegments(4)
+                                                                             .maxPagesInFlight(2)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+        assertThat(copiedObject.hashCode(), is(builtObject.hashCode()));
+    }
+
+    @Test
+    public void progress_completedSegmentDropsItsKey() {
+        ParallelScanProgress progress = ParallelScanProgress.builder()
+                                                            .totalSegments(2)
+                                                            .lastEvaluatedKey(0, KEY)
+                                                            .lastEvaluatedKey(1, KEY)
+                                                            .addCompletedSegment(1)
+                                                            .build();
+
+        assertThat(progress.lastEvaluatedKey(0), is(KEY));
+        assertThat(progress.lastEvaluatedKey(1), is(nullValue()));
+        assertThat(progress.completedSegments(), contains(1));
+        assertThat(progress.isSegmentComplete(1), is(true));
+        assertThat(progress.isComplete(), is(false));
+        assertThat(progress.toBuilder().addCompletedSegment(0).build().isComplete(), is(true));
+        assertThat(progress.toBuilder().build(), is(progress));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void progress_segmentOutOfRange_throws() {
+        ParallelScanProgress.builder().totalSegments(2).addCompletedSegment(2).build();
+    }
+}
@@ -16,7 +16,9 @@
 package software.amazon.awssdk.enhanced.dynamodb.model;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
@@ -59,6 +61,7 @@ public class WriteBatchTest {
 
         assertThat(builtObject.tableName(), is(nullValue()));
         assertThat(builtObject.writeRequests(), is(nullValue()));
+        assertThat(builtObject.primaryKeys(), is(empty()));
     }
 
     @Test
@@ -76,6 +79,7 @@ public class WriteBatchTest {
 
         assertThat(builtObject.tableName(), is(TABLE_NAME));
         assertThat(builtObject.writeRequests(), containsInAnyOrder(putRequest(fakeItemMap), deleteRequest(fakeItemMap)));
+        assertThat(builtObject.primaryKeys(), contains("id"));
     }
 
     @Test
@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -41,6 +42,7 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
     private final Double targetThroughputInGbps;
     private final Integer maxConcurrency;
     private final URI endpointOverride;
+    private final Long maxBufferSizeInBytes;
 
     private S3ClientConfiguration(DefaultBuilder builder) {
         this.credentialsProvider = builder.credentialsProvider;
@@ -50,6 +52,7 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
         this.maxConcurrency = Validate.isPositiveOrNull(builder.maxConcurrency,
                                                         "maxConcurrency");
         this.endpointOverride = builder.endpointOverride;
+        this.maxBufferSizeInBytes = Validate.isPositiveOrNull(builder.maxBufferSizeInBytes, "maxBufferSizeInBytes");
     }
 
     /**
@@ -94,6 +97,14 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
         return Optional.ofNullable(endpointOverride);
     }
 
+    /**
+     * @return the optional maximum number of bytes the transfer manager may hold in memory for parts that are being
+     * transferred.
+     */
+    public Optional<Long> maxBufferSizeInBytes() {
+        return Optional.ofNullable(maxBufferSizeInBytes);
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -125,7 +136,10 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
         if (!Objects.equals(maxConcurrency, that.maxConcurrency)) {
             return false;
         }
-        return Objects.equals(endpointOverride, that.endpointOverride);
+        if (!Objects.equals(endpointOverride, that.endpointOverride)) {
+            return false;
+        }
+        return Objects.equals(maxBufferSizeInBytes, that.maxBufferSizeInBytes);
     }
 
     @Override
@@ -136,6 +150,7 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
         result = 31 * result + (targetThroughputInGbps != null ? targetThroughputInGbps.hashCode() : 0);
         result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
         result = 31 * result + (endpointOverride != null ? endpointOverride.hashCode() : 0);
+        result = 31 * result + (maxBufferSizeInBytes != null ? maxBufferSizeInBytes.hashCode() : 0);
         return result;
     }
 
@@ -238,6 +253,21 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
          * @return this builder for method chaining.
          */
         Builder endpointOverride(URI endpointOverride);
+
+        /**
+         * Specifies the maximum number of bytes that the transfer manager may hold in memory for parts that are being
+         * uploaded or downloaded, across all transfers. Transfers wait for buffered parts to be sent or consumed before
+         * reading further parts once this limit is reached.
+         *
+         * <p>
+         * This only applies when the transfer manager splits transfers into parts itself, that is, when it is built with
+         * {@link S3TransferManager.Builder#s3AsyncClient(S3AsyncClient)}. By default, it is enough to keep
+         * {@link #maxConcurrency} parts in flight, up to 256MB.
+         *
+         * @param maxBufferSizeInBytes the maximum number of bytes to buffer
+         * @return this builder for method chaining.
+         */
+        Builder maxBufferSizeInBytes(Long maxBufferSizeInBytes);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -247,6 +277,7 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
         private Double targetThroughputInGbps;
         private Integer maxConcurrency;
         private URI endpointOverride;
+        private Long maxBufferSizeInBytes;
 
         private DefaultBuilder() {
         }
@@ -258,6 +289,7 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
             this.targetThroughputInGbps = configuration.targetThroughputInGbps;
             this.maxConcurrency = configuration.maxConcurrency;
             this.endpointOverride = configuration.endpointOverride;
+            this.maxBufferSizeInBytes = configuration.maxBufferSizeInBytes;
         }
 
         @Override
@@ -296,6 +328,12 @@ public final class S3ClientConfiguration implements ToCopyableBuilder<S3ClientCo
             return this;
         }
 
+        @Override
+        public Builder maxBufferSizeInBytes(Long maxBufferSizeInBytes) {
+            this.maxBufferSizeInBytes = maxBufferSizeInBytes;
+            return this;
+        }
+
         @Override
         public S3ClientConfiguration build() {
             return new S3ClientConfiguration(this);
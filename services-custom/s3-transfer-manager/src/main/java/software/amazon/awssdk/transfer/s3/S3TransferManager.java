@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -561,6 +562,28 @@ public interface S3TransferManager extends SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Configure an existing {@link S3AsyncClient}, such as one using the Netty HTTP client, to make all requests with,
+         * instead of creating a CRT-based S3 client.
+         *
+         * <p>
+         * The {@link S3TransferManager} then splits transfers into parts itself: uploads larger than one part are sent as
+         * multipart uploads, and downloads are fetched with parallel ranged requests and reassembled in order. The part
+         * size, the maximum number of part requests in flight and the memory available for buffered parts are configured
+         * with {@link S3ClientConfiguration#minimumPartSizeInBytes()}, {@link S3ClientConfiguration#maxConcurrency()} and
+         * {@link S3ClientConfiguration#maxBufferSizeInBytes()}, which default to 8MB, 50 requests and enough memory to keep
+         * every request busy, up to 256MB. The other values of {@link #s3ClientConfiguration(S3ClientConfiguration)} only
+         * apply to the CRT-based client and are ignored.
+         *
+         * <p>
+         * <b>This client must be closed by the user when it is ready to be disposed. The SDK will not close the client
+         * when the s3 transfer manager is closed.</b>
+         *
+         * @param s3AsyncClient the client to use
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder s3AsyncClient(S3AsyncClient s3AsyncClient);
+
         /**
          * Build an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
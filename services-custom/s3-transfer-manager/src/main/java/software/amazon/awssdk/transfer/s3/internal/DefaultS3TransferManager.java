@@ -25,6 +25,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
@@ -56,6 +57,7 @@ import software.amazon.awssdk.transfer.s3.Upload;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.UploadRequest;
+import software.amazon.awssdk.transfer.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
 import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -66,27 +68,27 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultS3TransferManager implements S3TransferManager {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
-    private final S3CrtAsyncClient s3CrtAsyncClient;
+    private final S3AsyncClient s3AsyncClient;
     private final TransferManagerConfiguration transferConfiguration;
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
 
     public DefaultS3TransferManager(DefaultBuilder tmBuilder) {
         transferConfiguration = resolveTransferManagerConfiguration(tmBuilder);
-        s3CrtAsyncClient = initializeS3CrtClient(tmBuilder);
+        s3AsyncClient = initializeS3Client(tmBuilder);
         uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
-        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3CrtAsyncClient::listObjectsV2);
+        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
     }
 
     @SdkTestInternalApi
-    DefaultS3TransferManager(S3CrtAsyncClient s3CrtAsyncClient,
+    DefaultS3TransferManager(S3AsyncClient s3AsyncClient,
                              UploadDirectoryHelper uploadDirectoryHelper,
                              TransferManagerConfiguration configuration,
                              DownloadDirectoryHelper downloadDirectoryHelper) {
-        this.s3CrtAsyncClient = s3CrtAsyncClient;
+        this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
@@ -100,7 +102,11 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         return transferConfigBuilder.build();
     }
 
-    private static S3CrtAsyncClient initializeS3CrtClient(DefaultBuilder tmBuilder) {
+    private static S3AsyncClient initializeS3Client(DefaultBuilder tmBuilder) {
+        if (tmBuilder.s3AsyncClient != null) {
+            return MultipartS3AsyncClient.create(tmBuilder.s3AsyncClient, tmBuilder.s3ClientConfiguration);
+        }
+
         S3CrtAsyncClient.S3CrtAsyncClientBuilder clientBuilder = S3CrtAsyncClient.builder();
         tmBuilder.s3ClientConfiguration.credentialsProvider().ifPresent(clientBuilder::credentialsProvider);
         tmBuilder.s3ClientConfiguration.maxConcurrency().ifPresent(clientBuilder::maxConcurrency);
@@ -128,13 +134,13 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(uploadRequest.putObjectRequest().bucket(), "upload");
 
-            CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadRequest.putObjectRequest(), requestBody);
+            CompletableFuture<PutObjectResponse> s3Future =
+                s3AsyncClient.putObject(uploadRequest.putObjectRequest(), requestBody);
 
-            // Forward upload cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+            // Forward upload cancellation to the S3 client future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, s3Future);
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+            CompletableFutureUtils.forwardTransformedResultTo(s3Future, returnFuture,
                                                               r -> CompletedUpload.builder()
                                                                                   .response(r)
                                                                                   .build());
@@ -161,13 +167,13 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(uploadFileRequest.putObjectRequest().bucket(), "upload");
 
-            CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadFileRequest.putObjectRequest(), requestBody);
+            CompletableFuture<PutObjectResponse> s3Future =
+                s3AsyncClient.putObject(uploadFileRequest.putObjectRequest(), requestBody);
 
-            // Forward upload cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+            // Forward upload cancellation to the S3 client future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, s3Future);
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+            CompletableFutureUtils.forwardTransformedResultTo(s3Future, returnFuture,
                                                               r -> CompletedFileUpload.builder()
                                                                                       .response(r)
                                                                                       .build());
@@ -208,13 +214,13 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<ResultT> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
+            CompletableFuture<ResultT> s3Future =
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
 
-            // Forward download cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+            // Forward download cancellation to the S3 client future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, s3Future);
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+            CompletableFutureUtils.forwardTransformedResultTo(s3Future, returnFuture,
                                                               r -> CompletedDownload.builder()
                                                                                     .result(r)
                                                                                     .build());
@@ -252,14 +258,14 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<GetObjectResponse> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(),
-                                           responseTransformer);
+            CompletableFuture<GetObjectResponse> s3Future =
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(),
+                                        responseTransformer);
 
-            // Forward download cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+            // Forward download cancellation to the S3 client future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, s3Future);
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+            CompletableFutureUtils.forwardTransformedResultTo(s3Future, returnFuture,
                                                               res -> CompletedFileDownload.builder()
                                                                                           .response(res)
                                                                                           .build());
@@ -278,24 +284,24 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         CompletableFuture<TransferProgress> progressFuture = new CompletableFuture<>();
         CompletableFuture<DownloadFileRequest> newDownloadFileRequestFuture = new CompletableFuture<>();
 
-        s3CrtAsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
-                        .thenAccept(headObjectResponse -> {
-                            Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
-                                requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
-                                                                                  originalDownloadRequest);
-
-                            DownloadFileRequest newDownloadFileRequest = requestPair.left();
-                            newDownloadFileRequestFuture.complete(newDownloadFileRequest);
-                            log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
-
-                            TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
-                                                                                     requestPair.right(),
-                                                                                     returnFuture);
-                            progressFuture.complete(progressUpdater.progress());
-                        }).exceptionally(throwable -> {
-                            handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
-                            return null;
-                        });
+        s3AsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
+                     .thenAccept(headObjectResponse -> {
+                         Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
+                             requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
+                                                                               originalDownloadRequest);
+
+                         DownloadFileRequest newDownloadFileRequest = requestPair.left();
+                         newDownloadFileRequestFuture.complete(newDownloadFileRequest);
+                         log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
+
+                         TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
+                                                                                  requestPair.right(),
+                                                                                  returnFuture);
+                         progressFuture.complete(progressUpdater.progress());
+                     }).exceptionally(throwable -> {
+                         handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
+                         return null;
+                     });
 
         return new DefaultFileDownload(returnFuture, progressFuture, newDownloadFileRequestFuture);
     }
@@ -337,13 +343,13 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(copyRequest.copyObjectRequest().sourceBucket(), "copy sourceBucket");
             assertNotUnsupportedArn(copyRequest.copyObjectRequest().destinationBucket(), "copy destinationBucket");
 
-            CompletableFuture<CopyObjectResponse> crtFuture =
-                s3CrtAsyncClient.copyObject(copyRequest.copyObjectRequest());
+            CompletableFuture<CopyObjectResponse> s3Future =
+                s3AsyncClient.copyObject(copyRequest.copyObjectRequest());
 
-            // Forward transfer cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+            // Forward transfer cancellation to the S3 client future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, s3Future);
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+            CompletableFutureUtils.forwardTransformedResultTo(s3Future, returnFuture,
                                                               r -> CompletedCopy.builder()
                                                                                 .response(r)
                                                                                 .build());
@@ -356,7 +362,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
     @Override
     public void close() {
-        s3CrtAsyncClient.close();
+        s3AsyncClient.close();
         transferConfiguration.close();
     }
 
@@ -405,6 +411,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         private S3ClientConfiguration s3ClientConfiguration = S3ClientConfiguration.builder().build();
         private S3TransferManagerOverrideConfiguration transferManagerConfiguration =
             S3TransferManagerOverrideConfiguration.builder().build();
+        private S3AsyncClient s3AsyncClient;
 
         private DefaultBuilder() {
         }
@@ -421,6 +428,12 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             return this;
         }
 
+        @Override
+        public Builder s3AsyncClient(S3AsyncClient s3AsyncClient) {
+            this.s3AsyncClient = s3AsyncClient;
+            return this;
+        }
+
         @Override
         public S3TransferManager build() {
             return new DefaultS3TransferManager(this);
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A counting semaphore whose {@link #acquire(long)} completes a future instead of blocking the calling thread. Waiters are
+ * granted permits in the order they asked for them, so a large request is not starved by a stream of small ones.
+ *
+ * <p>Requests for more permits than the semaphore holds in total are capped to the total, so that a single oversized
+ * request can still proceed once every other holder has released its permits. {@link #release(long)} applies the same cap,
+ * so callers must release the same number of permits they asked for.
+ */
+@SdkInternalApi
+final class AsyncPermits {
+    private final long totalPermits;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private long availablePermits;
+
+    AsyncPermits(long totalPermits) {
+        this.totalPermits = Validate.isPositive(totalPermits, "totalPermits");
+        this.availablePermits = totalPermits;
+    }
+
+    /**
+     * Acquire the given number of permits.
+     *
+     * @return A future that completes once the permits have been granted to the caller. Completion callbacks run on the
+     * thread that released the permits.
+     */
+    CompletableFuture<Void> acquire(long permits) {
+        long needed = Math.min(permits, totalPermits);
+        Waiter waiter;
+        synchronized (this) {
+            if (waiters.isEmpty() && availablePermits >= needed) {
+                availablePermits -= needed;
+                return CompletableFuture.completedFuture(null);
+            }
+            waiter = new Waiter(needed);
+            waiters.addLast(waiter);
+        }
+        return waiter.future;
+    }
+
+    /**
+     * Return the given number of permits, granting them to waiting callers if possible.
+     */
+    void release(long permits) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (this) {
+            availablePermits += Math.min(permits, totalPermits);
+            while (!waiters.isEmpty() && waiters.peekFirst().permits <= availablePermits) {
+                Waiter waiter = waiters.pollFirst();
+                availablePermits -= waiter.permits;
+                granted.add(waiter.future);
+            }
+        }
+        // Complete outside the lock, since waiters continue their work from these callbacks
+        granted.forEach(f -> f.complete(null));
+    }
+
+    /**
+     * Run an asynchronous action once the given number of permits has been acquired, and release them once the action
+     * completes.
+     */
+    <T> CompletableFuture<T> runWithPermits(long permits, Supplier<CompletableFuture<T>> action) {
+        return acquire(permits).thenCompose(ignored -> {
+            CompletableFuture<T> future;
+            try {
+                future = action.get();
+            } catch (Throwable t) {
+                future = CompletableFutureUtils.failedFuture(t);
+            }
+            return future.whenComplete((r, t) -> release(permits));
+        });
+    }
+
+    synchronized long availablePermits() {
+        return availablePermits;
+    }
+
+    private static final class Waiter {
+        private final long permits;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Waiter(long permits) {
+            this.permits = permits;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ByteBufferLease;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Downloads an object with parallel ranged {@code GetObject} requests and delivers the parts, in order, to a single
+ * {@link AsyncResponseTransformer}, so any transformer can consume a parallel download as if it were one response.
+ *
+ * <p>The first part is requested before the object size is known; its {@code Content-Range} gives the size and its ETag
+ * pins the remaining requests to the same version of the object. Each part holds {@code partSize} permits of the shared
+ * memory budget from before it is requested until the transformer has consumed it, so a slow consumer limits how far
+ * ahead parts are fetched.
+ */
+@SdkInternalApi
+final class MultipartDownloadHelper {
+    private static final int INVALID_RANGE_STATUS_CODE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final AsyncPermits requestPermits;
+    private final AsyncPermits memoryPermits;
+
+    MultipartDownloadHelper(S3AsyncClient s3AsyncClient,
+                            long partSizeInBytes,
+                            AsyncPermits requestPermits,
+                            AsyncPermits memoryPermits) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.requestPermits = requestPermits;
+        this.memoryPermits = memoryPermits;
+    }
+
+    <T> CompletableFuture<T> download(GetObjectRequest getObjectRequest,
+                                      AsyncResponseTransformer<GetObjectResponse, T> responseTransformer) {
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            // The caller asked for a specific part of the object, so download it as is
+            return requestPermits.runWithPermits(1, () -> s3AsyncClient.getObject(getObjectRequest, responseTransformer));
+        }
+
+        CompletableFuture<T> returnFuture = new CompletableFuture<>();
+        memoryPermits.acquire(partSizeInBytes)
+                     .thenCompose(ignored -> getPart(getObjectRequest, 0, partSizeInBytes - 1))
+                     .whenComplete((firstPart, t) -> {
+                         if (t != null) {
+                             memoryPermits.release(partSizeInBytes);
+                             if (isInvalidRange(t)) {
+                                 // Empty objects cannot be downloaded by range
+                                 CompletableFutureUtils.forwardTransformedResultTo(
+                                     requestPermits.runWithPermits(1, () -> s3AsyncClient.getObject(getObjectRequest,
+                                                                                                    responseTransformer)),
+                                     returnFuture,
+                                     Function.identity());
+                             } else {
+                                 returnFuture.completeExceptionally(t);
+                             }
+                             return;
+                         }
+
+                         if (returnFuture.isDone()) {
+                             memoryPermits.release(partSizeInBytes);
+                             return;
+                         }
+
+                         PartDownload<T> download;
+                         try {
+                             download = new PartDownload<>(getObjectRequest, responseTransformer, firstPart, returnFuture);
+                         } catch (Throwable throwable) {
+                             memoryPermits.release(partSizeInBytes);
+                             returnFuture.completeExceptionally(throwable);
+                             return;
+                         }
+                         download.start();
+                     });
+        return returnFuture;
+    }
+
+    private CompletableFuture<ResponseBytes<GetObjectResponse>> getPart(GetObjectRequest request, long start, long end) {
+        GetObjectRequest rangeRequest = request.toBuilder().range("bytes=" + start + "-" + end).build();
+        return requestPermits.runWithPermits(1, () -> s3AsyncClient.getObject(rangeRequest, new PartBytesTransformer()));
+    }
+
+    private static boolean isInvalidRange(Throwable t) {
+        Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+        return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == INVALID_RANGE_STATUS_CODE;
+    }
+
+    private static long objectLength(GetObjectResponse firstPartResponse) {
+        String contentRange = firstPartResponse.contentRange();
+        if (contentRange == null) {
+            // The service ignored the range and returned the whole object
+            return firstPartResponse.contentLength();
+        }
+
+        // Content-Range: bytes <first>-<last>/<length>
+        int separator = contentRange.lastIndexOf('/');
+        try {
+            return Long.parseLong(contentRange.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            throw SdkClientException.create("Unable to determine the object size from Content-Range: " + contentRange, e);
+        }
+    }
+
+    private final class PartDownload<T> implements SdkPublisher<ByteBuffer>, Subscription {
+        private final GetObjectRequest getObjectRequest;
+        private final AsyncResponseTransformer<GetObjectResponse, T> responseTransformer;
+        private final GetObjectResponse firstPartResponse;
+        private final CompletableFuture<T> returnFuture;
+        private final long objectLength;
+        private final int partCount;
+        private final AtomicReferenceArray<ByteBuffer> parts;
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+
+        private volatile Subscriber<? super ByteBuffer> subscriber;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+        private volatile boolean terminated;
+
+        // Only advanced by whichever thread is scheduling parts, which is handed over through the memory permits
+        private final AtomicInteger nextPartToFetch = new AtomicInteger(1);
+
+        // Only accessed from the drain loop
+        private int nextPartToEmit;
+
+        private PartDownload(GetObjectRequest getObjectRequest,
+                             AsyncResponseTransformer<GetObjectResponse, T> responseTransformer,
+                             ResponseBytes<GetObjectResponse> firstPart,
+                             CompletableFuture<T> returnFuture) {
+            this.getObjectRequest = getObjectRequest;
+            this.responseTransformer = responseTransformer;
+            this.firstPartResponse = firstPart.response();
+            this.returnFuture = returnFuture;
+            this.objectLength = objectLength(firstPartResponse);
+            this.partCount = Math.max(1, Math.toIntExact((objectLength + partSizeInBytes - 1) / partSizeInBytes));
+
+            ByteBuffer firstPartBytes = firstPart.asByteBuffer();
+            long expectedLength = firstPartResponse.contentRange() == null ? objectLength : partLength(0);
+            if (firstPartBytes.remaining() != expectedLength) {
+                throw SdkClientException.create("Expected the first part to be " + expectedLength + " bytes, but received "
+                                                + firstPartBytes.remaining() + " bytes");
+            }
+            this.parts = new AtomicReferenceArray<>(partCount);
+            this.parts.set(0, firstPartBytes);
+        }
+
+        private void start() {
+            try {
+                startTransformer();
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private void startTransformer() {
+            CompletableFuture<T> transformFuture = responseTransformer.prepare();
+            CompletableFutureUtils.forwardTransformedResultTo(transformFuture, returnFuture, Function.identity());
+            // Stop fetching parts if the download fails or is cancelled
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                }
+            });
+
+            responseTransformer.onResponse(firstPartResponse.toBuilder()
+                                                            .contentLength(objectLength)
+                                                            .contentRange(null)
+                                                            .build());
+            responseTransformer.onStream(this);
+            scheduleParts();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            if (!subscribed.compareAndSet(false, true)) {
+                s.onSubscribe(new NoOpSubscription());
+                s.onError(new IllegalStateException("The parts of a download can only be subscribed to once."));
+                return;
+            }
+            s.onSubscribe(this);
+            subscriber = s;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                return;
+            }
+            demand.getAndUpdate(current -> Long.MAX_VALUE - current > n ? current + n : Long.MAX_VALUE);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+            drain();
+        }
+
+        private void scheduleParts() {
+            while (nextPartToFetch.get() < partCount && !terminated) {
+                int part = nextPartToFetch.getAndIncrement();
+                CompletableFuture<Void> permit = memoryPermits.acquire(partSizeInBytes);
+                if (!permit.isDone()) {
+                    permit.thenRun(() -> {
+                        fetchPart(part);
+                        scheduleParts();
+                    });
+                    return;
+                }
+                fetchPart(part);
+            }
+        }
+
+        private void fetchPart(int part) {
+            if (terminated) {
+                memoryPermits.release(partSizeInBytes);
+                return;
+            }
+
+            long start = part * partSizeInBytes;
+            long length = partLength(part);
+            GetObjectRequest request = getObjectRequest;
+            if (request.ifMatch() == null && firstPartResponse.eTag() != null) {
+                // Fail rather than mix parts of different versions if the object is overwritten during the download
+                request = request.toBuilder().ifMatch(firstPartResponse.eTag()).build();
+            }
+
+            getPart(request, start, start + length - 1).whenComplete((bytes, t) -> {
+                if (t != null) {
+                    memoryPermits.release(partSizeInBytes);
+                    fail(t);
+                    return;
+                }
+                ByteBuffer buffer = bytes.asByteBuffer();
+                if (buffer.remaining() != length) {
+                    memoryPermits.release(partSizeInBytes);
+                    fail(SdkClientException.create("Expected part " + part + " to be " + length + " bytes, but received "
+                                                   + buffer.remaining() + " bytes"));
+                    return;
+                }
+                parts.set(part, buffer);
+                drain();
+            });
+        }
+
+        private long partLength(int part) {
+            long start = part * partSizeInBytes;
+            return Math.min(partSizeInBytes, objectLength - start);
+        }
+
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainLoop();
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (true) {
+                if (terminated) {
+                    releaseBufferedParts();
+                    return;
+                }
+
+                if (cancelled) {
+                    terminated = true;
+                    continue;
+                }
+
+                Subscriber<? super ByteBuffer> s = subscriber;
+                Throwable t = failure;
+                if (t != null) {
+                    terminated = true;
+                    releaseBufferedParts();
+                    if (s != null) {
+                        s.onError(t);
+                    }
+                    responseTransformer.exceptionOccurred(t);
+                    returnFuture.completeExceptionally(t);
+                    return;
+                }
+
+                if (s == null) {
+                    return;
+                }
+
+                if (nextPartToEmit == partCount) {
+                    terminated = true;
+                    s.onComplete();
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ByteBuffer part = parts.getAndSet(nextPartToEmit, null);
+                if (part == null) {
+                    return;
+                }
+                nextPartToEmit++;
+                demand.decrementAndGet();
+                if (s instanceof ByteBufferLease.LeaseAwareSubscriber) {
+                    // The part stays in the memory budget until the subscriber is done with it, which may be after onNext
+                    // returns if it retains the buffer
+                    ByteBufferLease.publish(part, () -> memoryPermits.release(partSizeInBytes), s);
+                } else {
+                    // Parts are never reused, so they are delivered without a copy. The memory budget is only approximate
+                    // for subscribers that keep parts after onNext returns
+                    try {
+                        s.onNext(part);
+                    } finally {
+                        memoryPermits.release(partSizeInBytes);
+                    }
+                }
+            }
+        }
+
+        private void releaseBufferedParts() {
+            int end = Math.min(nextPartToFetch.get(), partCount);
+            for (int i = nextPartToEmit; i < end; i++) {
+                if (parts.getAndSet(i, null) != null) {
+                    memoryPermits.release(partSizeInBytes);
+                }
+            }
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.DelegatingS3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.transfer.s3.S3ClientConfiguration;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link S3AsyncClient} that splits {@code PutObject} into a multipart upload and {@code GetObject} into parallel ranged
+ * requests, on top of any other {@link S3AsyncClient}. This gives the transfer manager parallel transfers without depending
+ * on the CRT-based client.
+ *
+ * <p>All transfers made through this client share one limit on the number of part requests in flight and one memory budget
+ * for buffered parts. The wrapped client is owned by the caller and is not closed with this client.
+ */
+@SdkInternalApi
+public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
+    static final long DEFAULT_PART_SIZE_IN_BYTES = 8 * MB;
+
+    /**
+     * Matches the default maximum number of connections of the SDK's asynchronous HTTP clients, so that part requests do not
+     * queue up waiting for a connection.
+     */
+    static final int DEFAULT_MAX_CONCURRENCY = 50;
+
+    static final long MAX_DEFAULT_BUFFER_SIZE_IN_BYTES = 256 * MB;
+
+    private final MultipartUploadHelper uploadHelper;
+    private final MultipartDownloadHelper downloadHelper;
+
+    private MultipartS3AsyncClient(S3AsyncClient delegate, long partSizeInBytes, int maxConcurrency,
+                                   long maxBufferSizeInBytes) {
+        super(delegate);
+        AsyncPermits requestPermits = new AsyncPermits(maxConcurrency);
+        AsyncPermits memoryPermits = new AsyncPermits(maxBufferSizeInBytes);
+        this.uploadHelper = new MultipartUploadHelper(delegate, partSizeInBytes, requestPermits, memoryPermits);
+        this.downloadHelper = new MultipartDownloadHelper(delegate, partSizeInBytes, requestPermits, memoryPermits);
+    }
+
+    /**
+     * Create a client that transfers objects through the provided client, using the part size, concurrency and memory budget
+     * of the provided configuration. Settings that only apply to the CRT-based client are ignored.
+     */
+    public static MultipartS3AsyncClient create(S3AsyncClient delegate, S3ClientConfiguration configuration) {
+        Validate.paramNotNull(delegate, "delegate");
+        long partSizeInBytes = configuration.minimumPartSizeInBytes().orElse(DEFAULT_PART_SIZE_IN_BYTES);
+        Validate.isTrue(partSizeInBytes <= Integer.MAX_VALUE, "minimumPartSizeInBytes must not exceed %s bytes.",
+                        Integer.MAX_VALUE);
+        int maxConcurrency = configuration.maxConcurrency().orElse(DEFAULT_MAX_CONCURRENCY);
+        long maxBufferSizeInBytes = configuration.maxBufferSizeInBytes().orElseGet(
+            () -> Math.min(partSizeInBytes * maxConcurrency, MAX_DEFAULT_BUFFER_SIZE_IN_BYTES));
+        return new MultipartS3AsyncClient(delegate, partSizeInBytes, maxConcurrency, maxBufferSizeInBytes);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        return uploadHelper.upload(putObjectRequest, requestBody);
+    }
+
+    @Override
+    public <ReturnT> CompletableFuture<ReturnT> getObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+        return downloadHelper.download(getObjectRequest, asyncResponseTransformer);
+    }
+
+    @Override
+    public void close() {
+        // The wrapped client is owned by the caller
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import static software.amazon.awssdk.transfer.s3.internal.multipart.SdkPojoConversionUtils.toAbortMultipartUploadRequest;
+import static software.amazon.awssdk.transfer.s3.internal.multipart.SdkPojoConversionUtils.toCompleteMultipartUploadRequest;
+import static software.amazon.awssdk.transfer.s3.internal.multipart.SdkPojoConversionUtils.toCreateMultipartUploadRequest;
+import static software.amazon.awssdk.transfer.s3.internal.multipart.SdkPojoConversionUtils.toPutObjectResponse;
+import static software.amazon.awssdk.transfer.s3.internal.multipart.SdkPojoConversionUtils.toUploadPartRequest;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Uploads an object as a multipart upload, reading the request body into part-sized buffers and sending each part as soon
+ * as it is full. Bodies that turn out to fit in a single part are sent with a plain {@code PutObject} instead.
+ *
+ * <p>Every buffered part holds {@code partSize} permits of the shared memory budget from before its first byte is read
+ * until it has been uploaded, so a slow upload applies back-pressure to the request body rather than buffering it.
+ */
+@SdkInternalApi
+final class MultipartUploadHelper {
+    static final int MAX_PARTS = 10_000;
+
+    private static final Logger log = Logger.loggerFor(MultipartUploadHelper.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final AsyncPermits requestPermits;
+    private final AsyncPermits memoryPermits;
+
+    MultipartUploadHelper(S3AsyncClient s3AsyncClient,
+                          long partSizeInBytes,
+                          AsyncPermits requestPermits,
+                          AsyncPermits memoryPermits) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.requestPermits = requestPermits;
+        this.memoryPermits = memoryPermits;
+    }
+
+    CompletableFuture<PutObjectResponse> upload(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        Long contentLength = requestBody.contentLength().orElseGet(putObjectRequest::contentLength);
+        if (contentLength != null && contentLength <= partSizeInBytes) {
+            return requestPermits.runWithPermits(1, () -> s3AsyncClient.putObject(putObjectRequest, requestBody));
+        }
+
+        CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
+        requestBody.subscribe(new UploadSubscriber(putObjectRequest, contentLength, returnFuture));
+        return returnFuture;
+    }
+
+    private int partSizeFor(Long contentLength) {
+        if (contentLength == null) {
+            return (int) partSizeInBytes;
+        }
+        // Grow the parts of very large objects so that the object fits in the maximum number of parts. Parts are buffered in
+        // a single array, so an object too large for that fails once it runs out of parts.
+        long minimumPartSize = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+        return (int) Math.min(Math.max(partSizeInBytes, minimumPartSize), Integer.MAX_VALUE);
+    }
+
+    private final class UploadSubscriber implements Subscriber<ByteBuffer> {
+        private final PutObjectRequest putObjectRequest;
+        private final boolean knownToBeMultipart;
+        private final int partSize;
+        private final CompletableFuture<PutObjectResponse> returnFuture;
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        private volatile ByteBuffer pending;
+        private volatile boolean upstreamDone;
+        private volatile boolean permitGranted;
+        private volatile Throwable failure;
+
+        // The fields below are only accessed from the drain loop
+        private Subscription subscription;
+        private ByteBuffer currentPart;
+        private boolean awaitingPermit;
+        private boolean awaitingData;
+        private boolean finished;
+        private CompletableFuture<String> uploadId;
+
+        private UploadSubscriber(PutObjectRequest putObjectRequest,
+                                 Long contentLength,
+                                 CompletableFuture<PutObjectResponse> returnFuture) {
+            this.putObjectRequest = putObjectRequest;
+            this.knownToBeMultipart = contentLength != null;
+            this.partSize = partSizeFor(contentLength);
+            this.returnFuture = returnFuture;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            // Forward cancellation of the upload to the request body
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                }
+            });
+            if (knownToBeMultipart) {
+                // Overlap creating the upload with reading the first part
+                uploadId = createMultipartUpload();
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (byteBuffer == null) {
+                throw new NullPointerException("Element must not be null");
+            }
+            pending = byteBuffer;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        private void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainLoop();
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (true) {
+                if (finished) {
+                    releaseUnusedPermit();
+                    return;
+                }
+
+                Throwable t = failure;
+                if (t != null) {
+                    abort(t);
+                    return;
+                }
+
+                if (currentPart == null) {
+                    if (permitGranted) {
+                        permitGranted = false;
+                        awaitingPermit = false;
+                        currentPart = ByteBuffer.allocate(partSize);
+                        continue;
+                    }
+                    if (awaitingPermit) {
+                        return;
+                    }
+                    if (upstreamDone && !hasRemaining(pending)) {
+                        complete();
+                        return;
+                    }
+                    // Reserve memory for the next part before asking for the bytes that will fill it
+                    awaitingPermit = true;
+                    memoryPermits.acquire(partSize).thenRun(() -> {
+                        permitGranted = true;
+                        drain();
+                    });
+                    continue;
+                }
+
+                ByteBuffer data = pending;
+                if (data != null) {
+                    if (data.hasRemaining()) {
+                        fillCurrentPart(data);
+                        if (!currentPart.hasRemaining()) {
+                            sendCurrentPart();
+                        }
+                    } else {
+                        pending = null;
+                        awaitingData = false;
+                    }
+                    continue;
+                }
+
+                if (upstreamDone) {
+                    complete();
+                    return;
+                }
+
+                if (awaitingData) {
+                    return;
+                }
+                awaitingData = true;
+                subscription.request(1);
+            }
+        }
+
+        private void fillCurrentPart(ByteBuffer data) {
+            int length = Math.min(currentPart.remaining(), data.remaining());
+            ByteBuffer slice = data.duplicate();
+            slice.limit(slice.position() + length);
+            currentPart.put(slice);
+            data.position(data.position() + length);
+        }
+
+        private void sendCurrentPart() {
+            ByteBuffer part = currentPart;
+            currentPart = null;
+            part.flip();
+
+            int partNumber = parts.size() + 1;
+            if (partNumber > MAX_PARTS) {
+                memoryPermits.release(partSize);
+                failure = SdkClientException.create("The object is too large to upload in " + MAX_PARTS + " parts of "
+                                                    + partSize + " bytes. Configure a larger part size to upload it.");
+                return;
+            }
+
+            if (uploadId == null) {
+                uploadId = createMultipartUpload();
+            }
+
+            CompletableFuture<CompletedPart> partFuture = uploadId.thenCompose(id -> uploadPart(id, partNumber, part));
+            partFuture.whenComplete((r, t) -> {
+                memoryPermits.release(partSize);
+                if (t != null) {
+                    fail(t);
+                }
+            });
+            parts.add(partFuture);
+        }
+
+        private CompletableFuture<String> createMultipartUpload() {
+            return s3AsyncClient.createMultipartUpload(toCreateMultipartUploadRequest(putObjectRequest))
+                                .thenApply(CreateMultipartUploadResponse::uploadId);
+        }
+
+        private CompletableFuture<CompletedPart> uploadPart(String id, int partNumber, ByteBuffer part) {
+            UploadPartRequest request = toUploadPartRequest(putObjectRequest, id, partNumber, part.remaining());
+            return requestPermits.runWithPermits(1, () -> s3AsyncClient.uploadPart(request, new PartRequestBody(part)))
+                                 .thenApply(r -> CompletedPart.builder()
+                                                              .partNumber(partNumber)
+                                                              .eTag(r.eTag())
+                                                              .checksumCRC32(r.checksumCRC32())
+                                                              .checksumCRC32C(r.checksumCRC32C())
+                                                              .checksumSHA1(r.checksumSHA1())
+                                                              .checksumSHA256(r.checksumSHA256())
+                                                              .build());
+        }
+
+        private void complete() {
+            finished = true;
+            ByteBuffer lastPart = currentPart;
+
+            if (parts.isEmpty()) {
+                // The whole body fit in the first part, so the multipart upload is not needed
+                putSinglePart(lastPart);
+                if (uploadId != null) {
+                    abortMultipartUpload(uploadId);
+                }
+                return;
+            }
+
+            if (lastPart != null) {
+                if (lastPart.position() > 0) {
+                    sendCurrentPart();
+                } else {
+                    currentPart = null;
+                    memoryPermits.release(partSize);
+                }
+            }
+
+            Throwable t = failure;
+            if (t != null) {
+                abort(t);
+                return;
+            }
+
+            List<CompletableFuture<CompletedPart>> sentParts = new ArrayList<>(parts);
+            CompletableFuture.allOf(sentParts.toArray(new CompletableFuture[0]))
+                             .thenCompose(ignored -> uploadId)
+                             .thenCompose(id -> {
+                                 List<CompletedPart> completedParts = sentParts.stream()
+                                                                               .map(CompletableFuture::join)
+                                                                               .collect(Collectors.toList());
+                                 return s3AsyncClient.completeMultipartUpload(
+                                     toCompleteMultipartUploadRequest(putObjectRequest, id, completedParts));
+                             })
+                             .whenComplete((r, e) -> {
+                                 if (e != null) {
+                                     abortAfterFailure(e, sentParts);
+                                     return;
+                                 }
+                                 try {
+                                     returnFuture.complete(toPutObjectResponse(r));
+                                 } catch (Throwable conversionFailure) {
+                                     returnFuture.completeExceptionally(conversionFailure);
+                                 }
+                             });
+        }
+
+        private void putSinglePart(ByteBuffer part) {
+            ByteBuffer body;
+            if (part == null) {
+                body = ByteBuffer.allocate(0);
+            } else {
+                part.flip();
+                body = part;
+                currentPart = null;
+            }
+
+            requestPermits.runWithPermits(1, () -> s3AsyncClient.putObject(putObjectRequest, new PartRequestBody(body)))
+                          .whenComplete((r, t) -> {
+                              if (part != null) {
+                                  memoryPermits.release(partSize);
+                              }
+                              if (t != null) {
+                                  returnFuture.completeExceptionally(t);
+                              } else {
+                                  returnFuture.complete(r);
+                              }
+                          });
+        }
+
+        private void abort(Throwable t) {
+            finished = true;
+            subscription.cancel();
+            if (currentPart != null) {
+                currentPart = null;
+                memoryPermits.release(partSize);
+            }
+            releaseUnusedPermit();
+            abortAfterFailure(t, new ArrayList<>(parts));
+        }
+
+        private void releaseUnusedPermit() {
+            if (permitGranted) {
+                permitGranted = false;
+                memoryPermits.release(partSize);
+            }
+        }
+
+        private void abortAfterFailure(Throwable t, List<CompletableFuture<CompletedPart>> sentParts) {
+            returnFuture.completeExceptionally(t);
+            if (uploadId == null) {
+                return;
+            }
+
+            // Parts that are still being uploaded when the upload is aborted may be stored anyway, so wait for them first
+            CompletableFuture.allOf(sentParts.toArray(new CompletableFuture[0]))
+                             .handle((r, e) -> null)
+                             .thenRun(() -> abortMultipartUpload(uploadId));
+        }
+
+        private void abortMultipartUpload(CompletableFuture<String> createdUpload) {
+            createdUpload.thenCompose(id -> s3AsyncClient.abortMultipartUpload(toAbortMultipartUploadRequest(putObjectRequest,
+                                                                                                             id)))
+                         .whenComplete((r, t) -> {
+                             if (t != null && createdUpload.isDone() && !createdUpload.isCompletedExceptionally()) {
+                                 log.warn(() -> "Failed to abort multipart upload of " + putObjectRequest.key()
+                                                + ". Parts that were uploaded may still be stored and billed.", t);
+                             }
+                         });
+        }
+
+        private boolean hasRemaining(ByteBuffer buffer) {
+            return buffer != null && buffer.hasRemaining();
+        }
+    }
+}
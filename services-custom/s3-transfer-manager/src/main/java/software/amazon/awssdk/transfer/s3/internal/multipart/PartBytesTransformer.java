@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Reads one part of a ranged download into a single array sized from the part's Content-Length, so that, unlike
+ * {@link AsyncResponseTransformer#toBytes()}, the bytes are copied exactly once.
+ */
+@SdkInternalApi
+final class PartBytesTransformer
+    implements AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> {
+
+    private volatile CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+    private volatile GetObjectResponse response;
+
+    @Override
+    public CompletableFuture<ResponseBytes<GetObjectResponse>> prepare() {
+        future = new CompletableFuture<>();
+        return future;
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        publisher.subscribe(new PartSubscriber(response, future));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        future.completeExceptionally(error);
+    }
+
+    private static final class PartSubscriber implements Subscriber<ByteBuffer> {
+        private final GetObjectResponse response;
+        private final CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+        private Subscription subscription;
+        private byte[] bytes;
+        private int position;
+
+        private PartSubscriber(GetObjectResponse response, CompletableFuture<ResponseBytes<GetObjectResponse>> future) {
+            this.response = response;
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+
+            Long contentLength = response.contentLength();
+            if (contentLength == null || contentLength > Integer.MAX_VALUE) {
+                s.cancel();
+                future.completeExceptionally(SdkClientException.create("Unable to buffer part of length " + contentLength));
+                return;
+            }
+            bytes = new byte[contentLength.intValue()];
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            int length = byteBuffer.remaining();
+            if (length > bytes.length - position) {
+                subscription.cancel();
+                future.completeExceptionally(SdkClientException.create("Received more bytes than the Content-Length of "
+                                                                       + bytes.length + " of the part"));
+                return;
+            }
+            byteBuffer.get(bytes, position, length);
+            position += length;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (position != bytes.length) {
+                future.completeExceptionally(SdkClientException.create("Received " + position + " bytes, but the "
+                                                                       + "Content-Length of the part is " + bytes.length));
+                return;
+            }
+            future.complete(ResponseBytes.fromByteArrayUnsafe(response, bytes));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Converts a {@link PutObjectRequest} into the requests of the equivalent multipart upload, and the result of that upload
+ * back into a {@link PutObjectResponse}. Members are copied by name, so any member that the multipart operations share with
+ * {@code PutObject} is carried over without listing it here.
+ */
+@SdkInternalApi
+final class SdkPojoConversionUtils {
+    /**
+     * Members that describe the whole object in a {@code PutObject} request and would be wrong for a single part.
+     */
+    private static final Set<String> WHOLE_OBJECT_MEMBERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "ContentLength", "ContentMD5", "ChecksumCRC32", "ChecksumCRC32C", "ChecksumSHA1", "ChecksumSHA256")));
+
+    private SdkPojoConversionUtils() {
+    }
+
+    static CreateMultipartUploadRequest toCreateMultipartUploadRequest(PutObjectRequest putObjectRequest) {
+        CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder();
+        copyMembers(putObjectRequest, builder, WHOLE_OBJECT_MEMBERS);
+        putObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.build();
+    }
+
+    static UploadPartRequest toUploadPartRequest(PutObjectRequest putObjectRequest, String uploadId, int partNumber,
+                                                 long contentLength) {
+        UploadPartRequest.Builder builder = UploadPartRequest.builder();
+        copyMembers(putObjectRequest, builder, WHOLE_OBJECT_MEMBERS);
+        putObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.uploadId(uploadId)
+                      .partNumber(partNumber)
+                      .contentLength(contentLength)
+                      .build();
+    }
+
+    static CompleteMultipartUploadRequest toCompleteMultipartUploadRequest(PutObjectRequest putObjectRequest,
+                                                                           String uploadId,
+                                                                           Collection<CompletedPart> parts) {
+        CompleteMultipartUploadRequest.Builder builder = CompleteMultipartUploadRequest.builder();
+        copyMembers(putObjectRequest, builder, WHOLE_OBJECT_MEMBERS);
+        putObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.uploadId(uploadId)
+                      .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                      .build();
+    }
+
+    static AbortMultipartUploadRequest toAbortMultipartUploadRequest(PutObjectRequest putObjectRequest, String uploadId) {
+        AbortMultipartUploadRequest.Builder builder = AbortMultipartUploadRequest.builder();
+        copyMembers(putObjectRequest, builder, WHOLE_OBJECT_MEMBERS);
+        putObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.uploadId(uploadId).build();
+    }
+
+    static PutObjectResponse toPutObjectResponse(CompleteMultipartUploadResponse response) {
+        PutObjectResponse.Builder builder = PutObjectResponse.builder();
+        copyMembers(response, builder, Collections.emptySet());
+        if (response.responseMetadata() != null) {
+            builder.responseMetadata(response.responseMetadata());
+        }
+        builder.sdkHttpResponse(response.sdkHttpResponse());
+        return builder.build();
+    }
+
+    private static void copyMembers(SdkPojo source, SdkPojo targetBuilder, Set<String> skippedMembers) {
+        Map<String, SdkField<?>> sourceFields = new HashMap<>();
+        source.sdkFields().forEach(f -> sourceFields.put(f.memberName(), f));
+
+        for (SdkField<?> targetField : targetBuilder.sdkFields()) {
+            SdkField<?> sourceField = sourceFields.get(targetField.memberName());
+            if (sourceField == null || skippedMembers.contains(targetField.memberName())) {
+                continue;
+            }
+            Object value = sourceField.getValueOrDefault(source);
+            if (value != null) {
+                targetField.set(targetBuilder, value);
+            }
+        }
+    }
+}
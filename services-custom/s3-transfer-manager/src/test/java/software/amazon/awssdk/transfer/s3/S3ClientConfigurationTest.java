@@ -65,6 +65,18 @@ public class S3ClientConfigurationTest {
             .hasMessageContaining("must be positive");
     }
 
+    @Test
+    public void nonPositiveMaxBufferSize_shouldThrowException() {
+        assertThatThrownBy(() -> S3ClientConfiguration.builder()
+                                                      .maxBufferSizeInBytes(-10L)
+                                                      .build())
+            .hasMessageContaining("must be positive");
+        assertThatThrownBy(() -> S3ClientConfiguration.builder()
+                                                      .maxBufferSizeInBytes(0L)
+                                                      .build())
+            .hasMessageContaining("must be positive");
+    }
+
     @Test
     public void build_allProperties() {
         AwsCredentialsProvider credentials = () -> AwsBasicCredentials.create("test"
@@ -77,6 +89,7 @@ public class S3ClientConfigurationTest {
                                                                    .endpointOverride(URI.create(
                                                                        "http://s3.us-west-1.amazonaws.com:80"))
                                                                    .minimumPartSizeInBytes(5 * MB)
+                                                                   .maxBufferSizeInBytes(64 * MB)
                                                                    .build();
 
         assertThat(configuration.credentialsProvider()).contains(credentials);
@@ -85,6 +98,7 @@ public class S3ClientConfigurationTest {
         assertThat(configuration.endpointOverride().toString()).contains("http://s3.us-west-1.amazonaws.com:80");
         assertThat(configuration.targetThroughputInGbps()).contains(10.0);
         assertThat(configuration.minimumPartSizeInBytes()).contains(5 * MB);
+        assertThat(configuration.maxBufferSizeInBytes()).contains(64 * MB);
     }
 
     @Test
@@ -98,6 +112,7 @@ public class S3ClientConfigurationTest {
         assertThat(configuration.endpointOverride()).isEmpty();
         assertThat(configuration.targetThroughputInGbps()).isEmpty();
         assertThat(configuration.minimumPartSizeInBytes()).isEmpty();
+        assertThat(configuration.maxBufferSizeInBytes()).isEmpty();
     }
 
     @Test
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
@@ -76,6 +78,24 @@ class S3TransferManagerTest {
         transferManager.close();
     }
 
+    @Test
+    void s3AsyncClientConfigured_transfersThroughClientAndLeavesItOpen() {
+        S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        PutObjectResponse response = PutObjectResponse.builder().build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        S3TransferManager transferManager = S3TransferManager.builder().s3AsyncClient(s3AsyncClient).build();
+        CompletedUpload completedUpload = transferManager.upload(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                                                      .requestBody(AsyncRequestBody.fromString("foo")))
+                                                         .completionFuture()
+                                                         .join();
+        transferManager.close();
+
+        assertThat(completedUpload.response()).isEqualTo(response);
+        verify(s3AsyncClient, never()).close();
+    }
+
     @Test
     void uploadFile_returnsResponse() {
         PutObjectResponse response = PutObjectResponse.builder().build();
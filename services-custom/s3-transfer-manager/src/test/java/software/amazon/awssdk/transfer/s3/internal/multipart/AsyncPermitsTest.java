@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class AsyncPermitsTest {
+
+    @Test
+    void acquire_permitsAvailable_completesImmediately() {
+        AsyncPermits permits = new AsyncPermits(10);
+
+        assertThat(permits.acquire(4)).isDone();
+        assertThat(permits.acquire(6)).isDone();
+        assertThat(permits.availablePermits()).isZero();
+    }
+
+    @Test
+    void acquire_notEnoughPermits_completesOnceReleased() {
+        AsyncPermits permits = new AsyncPermits(10);
+        permits.acquire(8);
+
+        CompletableFuture<Void> waiting = permits.acquire(5);
+        assertThat(waiting).isNotDone();
+
+        permits.release(8);
+        assertThat(waiting).isDone();
+        assertThat(permits.availablePermits()).isEqualTo(5);
+    }
+
+    @Test
+    void acquire_grantsWaitersInOrder() {
+        AsyncPermits permits = new AsyncPermits(10);
+        permits.acquire(10);
+
+        CompletableFuture<Void> large = permits.acquire(8);
+        CompletableFuture<Void> small = permits.acquire(1);
+
+        permits.release(2);
+        assertThat(large).isNotDone();
+        assertThat(small).as("Small requests must not overtake a waiting large request").isNotDone();
+
+        permits.release(8);
+        assertThat(large).isDone();
+        assertThat(small).isDone();
+    }
+
+    @Test
+    void acquire_moreThanTotal_isCappedToTotal() {
+        AsyncPermits permits = new AsyncPermits(10);
+
+        assertThat(permits.acquire(100)).isDone();
+        assertThat(permits.acquire(1)).isNotDone();
+
+        permits.release(100);
+        assertThat(permits.availablePermits()).isEqualTo(9);
+    }
+
+    @Test
+    void runWithPermits_releasesPermitsWhenActionCompletes() {
+        AsyncPermits permits = new AsyncPermits(1);
+        CompletableFuture<String> action = new CompletableFuture<>();
+
+        CompletableFuture<String> result = permits.runWithPermits(1, () -> action);
+        assertThat(permits.availablePermits()).isZero();
+
+        action.complete("done");
+        assertThat(result).isCompletedWithValue("done");
+        assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void runWithPermits_actionFails_releasesPermits() {
+        AsyncPermits permits = new AsyncPermits(1);
+
+        CompletableFuture<String> failed = permits.runWithPermits(1, () -> CompletableFutureUtils.failedFuture(
+            new RuntimeException("boom")));
+        CompletableFuture<String> thrown = permits.runWithPermits(1, () -> {
+            throw new RuntimeException("boom");
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(thrown).isCompletedExceptionally();
+        assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.multipart;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.transfer.s3.S3ClientConfiguration;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class MultipartS3AsyncClientTest {
+    private static final long PART_SIZE = 10;
+    private static final String UPLOAD_ID = "upload-id";
+    private static final String ETAG = "\"object-etag\"";
+
+    private S3AsyncClient mockS3;
+    private MultipartS3AsyncClient client;
+    private Map<Integer, byte[]> uploadedParts;
+
+    @BeforeEach
+    void methodSetup() {
+        mockS3 = mock(S3AsyncClient.class);
+        client = clientWithBuffer(1000);
+        uploadedParts = new ConcurrentHashMap<>();
+    }
+
+    @Test
+    void upload_knownLengthWithinPart_usesPutObject() {
+        PutObjectResponse response = PutObjectResponse.builder().eTag(ETAG).build();
+        when(mockS3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        PutObjectResponse result = client.putObject(putObjectRequest(), AsyncRequestBody.fromString("0123456789")).join();
+
+        assertThat(result).isEqualTo(response);
+        verify(mockS3, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_knownLengthLargerThanPart_uploadsPartsAndCompletes() {
+        stubMultipartUpload();
+
+        PutObjectRequest request = putObjectRequest().toBuilder()
+                                                     .contentType("text/plain")
+                                                     .serverSideEncryption(ServerSideEncryption.AES256)
+                                                     .build();
+        PutObjectResponse result = client.putObject(request, AsyncRequestBody.fromString(content(25))).join();
+
+        assertThat(result.eTag()).isEqualTo(ETAG);
+        assertThat(uploadedParts.keySet()).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(concatenateParts()).isEqualTo(content(25));
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createRequest =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(mockS3).createMultipartUpload(createRequest.capture());
+        assertThat(createRequest.getValue().contentType()).isEqualTo("text/plain");
+        assertThat(createRequest.getValue().serverSideEncryption()).isEqualTo(ServerSideEncryption.AES256);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(mockS3).completeMultipartUpload(completeRequest.capture());
+        assertThat(completeRequest.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(completeRequest.getValue().multipartUpload().parts())
+            .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+            .containsExactly(tuple(1, "etag-1"),
+                             tuple(2, "etag-2"),
+                             tuple(3, "etag-3"));
+    }
+
+    @Test
+    void upload_unknownLengthWithinPart_usesSinglePutObject() {
+        List<byte[]> putBodies = new ArrayList<>();
+        when(mockS3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            putBodies.add(read(i.getArgument(1)));
+            return CompletableFuture.completedFuture(PutObjectResponse.builder().eTag(ETAG).build());
+        });
+
+        PutObjectResponse result = client.putObject(putObjectRequest(), unknownLengthBody("01234", "567")).join();
+
+        assertThat(result.eTag()).isEqualTo(ETAG);
+        assertThat(putBodies).hasSize(1);
+        assertThat(new String(putBodies.get(0), UTF_8)).isEqualTo("01234567");
+        verify(mockS3, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_unknownLengthLargerThanPart_usesMultipartUpload() {
+        stubMultipartUpload();
+        String body = content(32);
+
+        client.putObject(putObjectRequest(), unknownLengthBody(body.substring(0, 7), body.substring(7, 19), body.substring(19)))
+              .join();
+
+        assertThat(uploadedParts.keySet()).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(concatenateParts()).isEqualTo(body);
+    }
+
+    @Test
+    void upload_partFails_abortsUpload() {
+        stubMultipartUpload();
+        S3Exception failure = (S3Exception) S3Exception.builder().message("failed").statusCode(500).build();
+        when(mockS3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(failure));
+
+        assertThatThrownBy(() -> client.putObject(putObjectRequest(), AsyncRequestBody.fromString(content(25))).join())
+            .hasCause(failure);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortRequest = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(mockS3).abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(mockS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void download_reassemblesPartsInOrder() {
+        String object = content(35);
+        List<Runnable> deferredParts = stubGetObject(object, true);
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> result =
+            client.getObject(getObjectRequest(), AsyncResponseTransformer.toBytes());
+
+        // Complete the remaining parts in reverse order
+        assertThat(deferredParts).hasSize(3);
+        Collections.reverse(deferredParts);
+        deferredParts.forEach(Runnable::run);
+
+        ResponseBytes<GetObjectResponse> bytes = result.join();
+        assertThat(bytes.asUtf8String()).isEqualTo(object);
+        assertThat(bytes.response().contentLength()).isEqualTo(35L);
+        assertThat(bytes.response().contentRange()).isNull();
+
+        ArgumentCaptor<GetObjectRequest> requests = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockS3, times(4)).getObject(requests.capture(), any(AsyncResponseTransformer.class));
+        assertThat(requests.getAllValues()).extracting(GetObjectRequest::range)
+                                           .containsExactly("bytes=0-9", "bytes=10-19", "bytes=20-29", "bytes=30-34");
+        assertThat(requests.getAllValues()).extracting(GetObjectRequest::ifMatch)
+                                           .containsExactly(null, ETAG, ETAG, ETAG);
+    }
+
+    @Test
+    void download_memoryBudgetExhausted_waitsForPartsToBeConsumed() {
+        client = clientWithBuffer(2 * PART_SIZE);
+        String object = content(50);
+        List<Runnable> deferredParts = stubGetObject(object, true);
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> result =
+            client.getObject(getObjectRequest(), AsyncResponseTransformer.toBytes());
+
+        // The first part has been consumed, so two more parts fit in the budget and the rest wait for them
+        assertThat(deferredParts).hasSize(2);
+        while (!deferredParts.isEmpty()) {
+            deferredParts.remove(0).run();
+        }
+
+        assertThat(result.join().asUtf8String()).isEqualTo(object);
+    }
+
+    @Test
+    void download_objectWithinFirstPart_makesSingleRequest() {
+        stubGetObject("01234", false);
+
+        ResponseBytes<GetObjectResponse> result = client.getObject(getObjectRequest(), AsyncResponseTransformer.toBytes())
+                                                        .join();
+
+        assertThat(result.asUtf8String()).isEqualTo("01234");
+        verify(mockS3).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+
+    @Test
+    void download_emptyObject_fallsBackToGetObject() {
+        S3Exception invalidRange = (S3Exception) S3Exception.builder().message("InvalidRange").statusCode(416).build();
+        when(mockS3.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            if (request.range() != null) {
+                return CompletableFutureUtils.failedFuture(invalidRange);
+            }
+            return respond(i.getArgument(1), GetObjectResponse.builder().contentLength(0L).build(), new byte[0]);
+        });
+
+        ResponseBytes<GetObjectResponse> result = client.getObject(getObjectRequest(), AsyncResponseTransformer.toBytes())
+                                                        .join();
+
+        assertThat(result.asByteArray()).isEmpty();
+    }
+
+    @Test
+    void download_requestWithRange_isNotSplit() {
+        stubGetObject(content(35), false);
+
+        GetObjectRequest request = getObjectRequest().toBuilder().range("bytes=0-4").build();
+        client.getObject(request, AsyncResponseTransformer.toBytes()).join();
+
+        ArgumentCaptor<GetObjectRequest> requests = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockS3).getObject(requests.capture(), any(AsyncResponseTransformer.class));
+        assertThat(requests.getValue()).isEqualTo(request);
+    }
+
+    @Test
+    void download_partFails_failsDownload() {
+        S3Exception failure = (S3Exception) S3Exception.builder().message("PreconditionFailed").statusCode(412).build();
+        when(mockS3.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            if (request.range().equals("bytes=0-9")) {
+                return respond(i.getArgument(1), rangeResponse(0, 9, 25), content(10).getBytes(UTF_8));
+            }
+            return CompletableFutureUtils.failedFuture(failure);
+        });
+
+        assertThatThrownBy(() -> client.getObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join())
+            .hasCause(failure);
+    }
+
+    @Test
+    void create_partSizeLargerThanMaxArraySize_throws() {
+        S3ClientConfiguration configuration = S3ClientConfiguration.builder()
+                                                                   .minimumPartSizeInBytes(Integer.MAX_VALUE + 1L)
+                                                                   .build();
+
+        assertThatThrownBy(() -> MultipartS3AsyncClient.create(mockS3, configuration))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("minimumPartSizeInBytes");
+    }
+
+    @Test
+    void close_doesNotCloseWrappedClient() {
+        client.close();
+
+        verify(mockS3, never()).close();
+    }
+
+    private MultipartS3AsyncClient clientWithBuffer(long maxBufferSizeInBytes) {
+        return MultipartS3AsyncClient.create(mockS3, S3ClientConfiguration.builder()
+                                                                          .minimumPartSizeInBytes(PART_SIZE)
+                                                                          .maxConcurrency(4)
+                                                                          .maxBufferSizeInBytes(maxBufferSizeInBytes)
+                                                                          .build());
+    }
+
+    private void stubMultipartUpload() {
+        when(mockS3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()));
+        when(mockS3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            UploadPartRequest request = i.getArgument(0);
+            byte[] part = read(i.getArgument(1));
+            assertThat(request.contentLength()).isEqualTo(part.length);
+            uploadedParts.put(request.partNumber(), part);
+            return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build());
+        });
+        when(mockS3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().eTag(ETAG).build()));
+        when(mockS3.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+    }
+
+    /**
+     * Serve ranged requests for the given object. The first part is served immediately; when {@code deferred} is set, the
+     * other parts are only served when the returned runnables are run.
+     */
+    private List<Runnable> stubGetObject(String object, boolean deferred) {
+        byte[] bytes = object.getBytes(UTF_8);
+        List<Runnable> deferredParts = Collections.synchronizedList(new ArrayList<>());
+        when(mockS3.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            AsyncResponseTransformer<GetObjectResponse, Object> transformer = i.getArgument(1);
+            int start = 0;
+            int end = bytes.length - 1;
+            if (request.range() != null) {
+                String[] range = request.range().substring("bytes=".length()).split("-");
+                start = Integer.parseInt(range[0]);
+                end = Math.min(Integer.parseInt(range[1]), bytes.length - 1);
+            }
+            GetObjectResponse response = rangeResponse(start, end, bytes.length);
+            byte[] part = Arrays.copyOfRange(bytes, start, end + 1);
+            if (!deferred || start == 0) {
+                return respond(transformer, response, part);
+            }
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            deferredParts.add(() -> CompletableFutureUtils.forwardTransformedResultTo(respond(transformer, response, part),
+                                                                                       future,
+                                                                                       r -> r));
+            return future;
+        });
+        return deferredParts;
+    }
+
+    private static GetObjectResponse rangeResponse(int start, int end, int length) {
+        return GetObjectResponse.builder()
+                                .eTag(ETAG)
+                                .contentLength((long) end - start + 1)
+                                .contentRange("bytes " + start + "-" + end + "/" + length)
+                                .build();
+    }
+
+    private static <T> CompletableFuture<T> respond(AsyncResponseTransformer<GetObjectResponse, T> transformer,
+                                                    GetObjectResponse response,
+                                                    byte[] body) {
+        CompletableFuture<T> future = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(body))));
+        return future;
+    }
+
+    private static AsyncRequestBody unknownLengthBody(String... chunks) {
+        List<ByteBuffer> buffers = Arrays.stream(chunks)
+                                         .map(c -> ByteBuffer.wrap(c.getBytes(UTF_8)))
+                                         .collect(Collectors.toList());
+        return AsyncRequestBody.fromPublisher(Flowable.fromIterable(buffers));
+    }
+
+    private static byte[] read(AsyncRequestBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body).blockingForEach(b -> {
+            byte[] bytes = new byte[b.remaining()];
+            b.get(bytes);
+            out.write(bytes, 0, bytes.length);
+        });
+        return out.toByteArray();
+    }
+
+    private String concatenateParts() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 1; i <= uploadedParts.size(); i++) {
+            result.append(new String(uploadedParts.get(i), UTF_8));
+        }
+        return result.toString();
+    }
+
+    private static String content(int length) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            content.append((char) ('a' + i % 26));
+        }
+        return content.toString();
+    }
+
+    private static PutObjectRequest putObjectRequest() {
+        return PutObjectRequest.builder().bucket("bucket").key("key").build();
+    }
+
+    private static GetObjectRequest getObjectRequest() {
+        return GetObjectRequest.builder().bucket("bucket").key("key").build();
+    }
+}
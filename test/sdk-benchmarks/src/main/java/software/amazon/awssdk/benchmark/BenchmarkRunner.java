@@ -57,11 +57,15 @@ public class BenchmarkRunner {
     private static final List<String> ASYNC_BENCHMARKS = Arrays.asList(
         NettyHttpClientH2Benchmark.class.getSimpleName(),
         NettyHttpClientH1Benchmark.class.getSimpleName(),
-        AwsCrtClientBenchmark.class.getSimpleName());
+        AwsCrtClientBenchmark.class.getSimpleName(),
+        // Referenced by name, because the JDK HttpClient benchmarks are only compiled when building with Java 11+
+        "JdkAsyncHttpClientH2Benchmark",
+        "JdkAsyncHttpClientH1Benchmark");
 
     private static final List<String> SYNC_BENCHMARKS = Arrays.asList(
         ApacheHttpClientBenchmark.class.getSimpleName(),
-        UrlConnectionHttpClientBenchmark.class.getSimpleName());
+        UrlConnectionHttpClientBenchmark.class.getSimpleName(),
+        "JdkHttpClientBenchmark");
 
     private static final List<String> COLD_START_BENCHMARKS = Arrays.asList(
         V2OptimizedClientCreationBenchmark.class.getSimpleName(),
@@ -19,6 +19,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
@@ -48,6 +50,9 @@ import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOpe
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class MetricsEnabledBenchmark {
+    @Param({"DEFAULT", "LOW_OVERHEAD"})
+    private CollectorType collector;
+
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
@@ -61,7 +66,11 @@ public class MetricsEnabledBenchmark {
     }
 
     private <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
-        return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher()));
+        boolean lowOverhead = collector == CollectorType.LOW_OVERHEAD;
+        return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher())
+                                                             .putAdvancedOption(
+                                                                 SdkAdvancedClientOption.LOW_OVERHEAD_METRIC_COLLECTION,
+                                                                 lowOverhead));
     }
 
     private ProtocolRestJsonClientBuilder syncClientBuilder() {
@@ -128,6 +137,11 @@ public class MetricsEnabledBenchmark {
         new Runner(opt).run();
     }
 
+    public enum CollectorType {
+        DEFAULT,
+        LOW_OVERHEAD
+    }
+
     private static final class EnabledPublisher implements MetricPublisher {
         @Override
         public void publish(MetricCollection metricCollection) {
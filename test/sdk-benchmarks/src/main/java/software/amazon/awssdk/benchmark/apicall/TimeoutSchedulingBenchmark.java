@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_JSON_BODY;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_BODY;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Measures the overhead of API call and API call attempt timeouts, comparing the client's scheduled executor service with the
+ * timer shared by all clients. A mock HTTP client is used, so that the cost of scheduling and cancelling the timeouts is not
+ * hidden by network I/O. Run with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class TimeoutSchedulingBenchmark {
+
+    @Param({"NONE", "CONFIGURED"})
+    private TimeoutSetting timeouts;
+
+    @Param({"EXECUTOR", "SHARED_TIMER"})
+    private Scheduler scheduler;
+
+    private ProtocolRestJsonClient client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = ProtocolRestJsonClient.builder()
+                                       .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
+                                       .overrideConfiguration(this::configureTimeouts)
+                                       .build();
+    }
+
+    private void configureTimeouts(ClientOverrideConfiguration.Builder configuration) {
+        if (timeouts == TimeoutSetting.CONFIGURED) {
+            configuration.apiCallTimeout(Duration.ofSeconds(30))
+                         .apiCallAttemptTimeout(Duration.ofSeconds(10));
+        }
+        configuration.putAdvancedOption(SdkAdvancedClientOption.SHARED_TIMEOUT_TIMER, scheduler == Scheduler.SHARED_TIMER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void sequentialApiCall(Blackhole blackhole) {
+        blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void concurrentApiCall(Blackhole blackhole) {
+        blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TimeoutSchedulingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+
+    public enum TimeoutSetting {
+        NONE,
+        CONFIGURED
+    }
+
+    public enum Scheduler {
+        EXECUTOR,
+        SHARED_TIMER
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.async;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockH2Server;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.Http2Configuration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+
+/**
+ * Using netty client to test against local http2 server with a large number of open connections, to measure how the cost of
+ * choosing a connection for each new stream grows with the size of the HTTP/2 connection pool.
+ *
+ * <p>Every connection is limited to a single stream, and all connections are opened before the measurement starts, so each
+ * concurrent call has to find an idle connection among {@code connectionCount} open ones.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NettyHttpClientH2ConnectionCountBenchmark extends BaseNettyBenchmark {
+
+    private MockH2Server mockServer;
+    private SdkAsyncHttpClient sdkHttpClient;
+
+    @Param({"16", "128", "512"})
+    private int connectionCount;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockH2Server(false);
+        mockServer.start();
+
+        sdkHttpClient = NettyNioAsyncHttpClient.builder()
+                                               .maxConcurrency(connectionCount)
+                                               .http2Configuration(Http2Configuration.builder().maxStreams(1L).build())
+                                               .buildWithDefaults(trustAllTlsAttributeMapBuilder()
+                                                                      .put(PROTOCOL, Protocol.HTTP2)
+                                                                      .build());
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .endpointOverride(mockServer.getHttpsUri())
+                                            .httpClient(sdkHttpClient)
+                                            .build();
+
+        openAllConnections();
+    }
+
+    private void openAllConnections() {
+        CountDownLatch countDownLatch = new CountDownLatch(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            CompletableFuture<?> call = client.allTypes();
+            call.whenComplete((r, t) -> countDownLatch.countDown());
+        }
+        awaitCountdownLatchUninterruptibly(countDownLatch, 60, TimeUnit.SECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mockServer.stop();
+        sdkHttpClient.close();
+        client.close();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(NettyHttpClientH2ConnectionCountBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -33,6 +33,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -59,23 +60,35 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 @Fork(2) // To reduce difference between each run
 @BenchmarkMode(Mode.Throughput)
 public class ApacheHttpClientBenchmark implements SdkHttpClientBenchmark {
+    private static final int HIGH_CONCURRENCY_THREADS = 500;
+    private static final int HIGH_CONCURRENCY_CALLS = 5_000;
+
+    /**
+     * The number of connection pools the client's connections are split across.
+     */
+    @Param({"1", "8"})
+    private int connectionPoolShards;
 
     private MockServer mockServer;
     private SdkHttpClient sdkHttpClient;
     private ProtocolRestJsonClient client;
     private ExecutorService executorService;
+    private ExecutorService highConcurrencyExecutorService;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
         mockServer.start();
         sdkHttpClient = ApacheHttpClient.builder()
+                                        .maxConnections(HIGH_CONCURRENCY_THREADS)
+                                        .connectionPoolShards(connectionPoolShards)
                                         .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonClient.builder()
                                        .endpointOverride(mockServer.getHttpsUri())
                                        .httpClient(sdkHttpClient)
                                        .build();
         executorService = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+        highConcurrencyExecutorService = Executors.newFixedThreadPool(HIGH_CONCURRENCY_THREADS);
 
         client.allTypes();
     }
@@ -83,6 +96,7 @@ public class ApacheHttpClientBenchmark implements SdkHttpClientBenchmark {
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         executorService.shutdown();
+        highConcurrencyExecutorService.shutdown();
         mockServer.stop();
         sdkHttpClient.close();
         client.close();
@@ -107,6 +121,23 @@ public class ApacheHttpClientBenchmark implements SdkHttpClientBenchmark {
         awaitCountdownLatchUninterruptibly(countDownLatch, 10, TimeUnit.SECONDS);
     }
 
+    /**
+     * Enough threads for every call to lease a connection at the same time, so that the time spent is dominated by contention
+     * on the connection pool.
+     */
+    @Benchmark
+    @OperationsPerInvocation(HIGH_CONCURRENCY_CALLS)
+    public void highConcurrencyApiCall(Blackhole blackhole) {
+        CountDownLatch countDownLatch = new CountDownLatch(HIGH_CONCURRENCY_CALLS);
+        for (int i = 0; i < HIGH_CONCURRENCY_CALLS; i++) {
+            countDownUponCompletion(blackhole,
+                                    CompletableFuture.runAsync(() -> client.allTypes(), highConcurrencyExecutorService),
+                                    countDownLatch);
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 60, TimeUnit.SECONDS);
+    }
+
     public static void main(String... args) throws Exception {
 
         Options opt = new OptionsBuilder()
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.sync;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.countDownUponCompletion;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Makes 10,000 concurrent synchronous calls against a local mock server, each from its own thread, comparing platform
+ * threads with virtual threads. Metrics and an API call timeout are enabled, so that every call reports metrics and schedules
+ * a timeout task.
+ * <p>
+ * The VIRTUAL thread type requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class VirtualThreadSyncClientBenchmark {
+    private static final int CONCURRENT_CALLS = 10_000;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadType threadType;
+
+    @Param({"false", "true"})
+    private boolean optimizeForVirtualThreads;
+
+    private MockServer mockServer;
+    private ProtocolRestJsonClient client;
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+        client = ProtocolRestJsonClient.builder()
+                                       .endpointOverride(mockServer.getHttpUri())
+                                       // Calls beyond the pool size wait for a connection
+                                       .httpClientBuilder(ApacheHttpClient.builder().maxConnections(200))
+                                       .overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher())
+                                                                    .apiCallTimeout(Duration.ofMinutes(1))
+                                                                    .putAdvancedOption(
+                                                                        SdkAdvancedClientOption.OPTIMIZE_FOR_VIRTUAL_THREADS,
+                                                                        optimizeForVirtualThreads))
+                                       .build();
+        executorService = threadType == ThreadType.VIRTUAL ? newVirtualThreadPerTaskExecutor()
+                                                           : Executors.newFixedThreadPool(CONCURRENT_CALLS);
+
+        // Making sure the request actually succeeds
+        client.allTypes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+        mockServer.stop();
+        client.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public void concurrentApiCall(Blackhole blackhole) {
+        CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            countDownUponCompletion(blackhole,
+                                    CompletableFuture.runAsync(() -> client.allTypes(), executorService), countDownLatch);
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Looked up reflectively, because the benchmarks are compiled for Java 8.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later.", e);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(VirtualThreadSyncClientBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    public enum ThreadType {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private static final class EnabledPublisher implements MetricPublisher {
+        @Override
+        public void publish(MetricCollection metricCollection) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
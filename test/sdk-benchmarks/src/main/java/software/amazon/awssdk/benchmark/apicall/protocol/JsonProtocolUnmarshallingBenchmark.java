@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Compares unmarshalling a DynamoDB Query page through a {@code JsonNode} tree against binding the JSON tokens directly to
+ * the model builders. Run with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class JsonProtocolUnmarshallingBenchmark {
+
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    @Param({"TREE", "STREAMING"})
+    private UnmarshallingMode mode;
+
+    private JsonProtocolUnmarshaller unmarshaller;
+
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JsonProtocolUnmarshaller.Builder builder = JsonProtocolUnmarshaller.builder()
+                                                                           .parser(JsonNodeParser.create())
+                                                                           .defaultTimestampFormats(Collections.emptyMap());
+        if (mode == UnmarshallingMode.STREAMING) {
+            builder.jsonFactory(JsonNodeParser.DEFAULT_JSON_FACTORY);
+        }
+        unmarshaller = builder.build();
+        body = queryPage(itemCount).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void queryResponse(Blackhole blackhole) throws Exception {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                                                          .build();
+        blackhole.consume(unmarshaller.<QueryResponse>unmarshall(QueryResponse.builder(), response));
+    }
+
+    private static String queryPage(int itemCount) {
+        StringBuilder json = new StringBuilder("{\"Count\":").append(itemCount)
+                                                             .append(",\"ScannedCount\":").append(itemCount)
+                                                             .append(",\"Items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":{\"S\":\"item-").append(i).append("\"},")
+                .append("\"sort\":{\"N\":\"").append(i).append("\"},")
+                .append("\"payload\":{\"B\":\"aGVsbG8gd29ybGQ=\"},")
+                .append("\"tags\":{\"L\":[{\"S\":\"a\"},{\"S\":\"b\"},{\"S\":\"c\"}]},")
+                .append("\"attrs\":{\"M\":{\"enabled\":{\"BOOL\":true},\"owner\":{\"S\":\"owner-").append(i).append("\"}}}}");
+        }
+        return json.append("],\"LastEvaluatedKey\":{\"id\":{\"S\":\"item-").append(itemCount - 1).append("\"}}}")
+                   .toString();
+    }
+
+    public enum UnmarshallingMode {
+        TREE,
+        STREAMING
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JsonProtocolUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+
+/**
+ * Compares unmarshalling an EC2 DescribeInstances page through an {@code XmlElement} tree against binding the StAX events
+ * directly to the model builders. Run with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class QueryProtocolUnmarshallingBenchmark {
+
+    @Param({"10", "1000"})
+    private int instanceCount;
+
+    @Param({"DOM", "STREAMING"})
+    private UnmarshallingMode mode;
+
+    private QueryProtocolUnmarshaller unmarshaller;
+
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        unmarshaller = QueryProtocolUnmarshaller.builder().hasResultWrapper(false).build();
+        body = describeInstancesPage(instanceCount).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void describeInstancesResponse(Blackhole blackhole) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                                                          .build();
+        DescribeInstancesResponse.Builder builder = DescribeInstancesResponse.builder();
+        if (mode == UnmarshallingMode.DOM) {
+            blackhole.consume(unmarshaller.<DescribeInstancesResponse>unmarshall(builder,
+                                                                                 XmlDomParser.parse(response.content().get()),
+                                                                                 response));
+        } else {
+            blackhole.consume(unmarshaller.<DescribeInstancesResponse>unmarshall(builder, response));
+        }
+    }
+
+    private static String describeInstancesPage(int instanceCount) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">")
+            .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId>")
+            .append("<reservationSet>");
+        for (int i = 0; i < instanceCount; i++) {
+            xml.append("<item>")
+                .append("<reservationId>r-").append(i).append("</reservationId>")
+                .append("<ownerId>123456789012</ownerId>")
+                .append("<instancesSet><item>")
+                .append("<instanceId>i-").append(i).append("</instanceId>")
+                .append("<imageId>ami-0abcdef1234567890</imageId>")
+                .append("<instanceState><code>16</code><name>running</name></instanceState>")
+                .append("<privateDnsName>ip-10-0-0-").append(i % 256).append(".ec2.internal</privateDnsName>")
+                .append("<instanceType>t3.micro</instanceType>")
+                .append("<launchTime>2023-01-01T00:00:00.000Z</launchTime>")
+                .append("<placement><availabilityZone>us-east-1a</availabilityZone><tenancy>default</tenancy></placement>")
+                .append("<tagSet>")
+                .append("<item><key>Name</key><value>instance-").append(i).append("</value></item>")
+                .append("<item><key>team</key><value>benchmarks</value></item>")
+                .append("</tagSet>")
+                .append("</item></instancesSet>")
+                .append("</item>");
+        }
+        return xml.append("</reservationSet>")
+                  .append("</DescribeInstancesResponse>")
+                  .toString();
+    }
+
+    public enum UnmarshallingMode {
+        DOM,
+        STREAMING
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(QueryProtocolUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
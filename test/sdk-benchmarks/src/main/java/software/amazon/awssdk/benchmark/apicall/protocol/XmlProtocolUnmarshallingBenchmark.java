@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlProtocolUnmarshaller;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+
+/**
+ * Compares unmarshalling an S3 ListObjectsV2 page through an {@code XmlElement} tree against binding the StAX events
+ * directly to the model builders. Run with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class XmlProtocolUnmarshallingBenchmark {
+
+    @Param({"10", "1000"})
+    private int keyCount;
+
+    @Param({"DOM", "STREAMING"})
+    private UnmarshallingMode mode;
+
+    private XmlProtocolUnmarshaller unmarshaller;
+
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        unmarshaller = XmlProtocolUnmarshaller.create();
+        body = listObjectsPage(keyCount).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void listObjectsV2Response(Blackhole blackhole) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                                                          .build();
+        ListObjectsV2Response.Builder builder = ListObjectsV2Response.builder();
+        if (mode == UnmarshallingMode.DOM) {
+            blackhole.consume(unmarshaller.<ListObjectsV2Response>unmarshall(builder,
+                                                                             XmlDomParser.parse(response.content().get()),
+                                                                             response));
+        } else {
+            blackhole.consume(unmarshaller.<ListObjectsV2Response>unmarshall(builder, response));
+        }
+    }
+
+    private static String listObjectsPage(int keyCount) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+            .append("<Name>benchmark-bucket</Name><Prefix>logs/</Prefix>")
+            .append("<KeyCount>").append(keyCount).append("</KeyCount>")
+            .append("<MaxKeys>").append(keyCount).append("</MaxKeys>")
+            .append("<IsTruncated>true</IsTruncated>");
+        for (int i = 0; i < keyCount; i++) {
+            xml.append("<Contents>")
+                .append("<Key>logs/2023/01/01/object-").append(i).append(".gz</Key>")
+                .append("<LastModified>2023-01-01T00:00:00.000Z</LastModified>")
+                .append("<ETag>&quot;d41d8cd98f00b204e9800998ecf8427e&quot;</ETag>")
+                .append("<Size>").append(1024 + i).append("</Size>")
+                .append("<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>")
+                .append("<StorageClass>STANDARD</StorageClass>")
+                .append("</Contents>");
+        }
+        return xml.append("<NextContinuationToken>token-").append(keyCount).append("</NextContinuationToken>")
+                  .append("</ListBucketResult>")
+                  .toString();
+    }
+
+    public enum UnmarshallingMode {
+        DOM,
+        STREAMING
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(XmlProtocolUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.metrics.ApiCallMetricCollectors;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+
+/**
+ * Compares the cost of collecting the metrics of a single-attempt API call with the default collector and the collector
+ * enabled by {@link SdkAdvancedClientOption#LOW_OVERHEAD_METRIC_COLLECTION}. Run with the GC profiler to compare allocation
+ * rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class MetricCollectorBenchmark {
+    private static final Duration DURATION = Duration.ofMillis(12);
+
+    private static final SdkClientConfiguration DEFAULT_CONFIGURATION = SdkClientConfiguration.builder().build();
+
+    private static final SdkClientConfiguration LOW_OVERHEAD_CONFIGURATION =
+        SdkClientConfiguration.builder()
+                              .option(SdkAdvancedClientOption.LOW_OVERHEAD_METRIC_COLLECTION, true)
+                              .build();
+
+    @Param({"DEFAULT", "LOW_OVERHEAD"})
+    private CollectorType collector;
+
+    @Benchmark
+    public void collectApiCall(Blackhole blackhole) {
+        blackhole.consume(apiCall().collect());
+    }
+
+    @Benchmark
+    public void collectAndPublishApiCall(Blackhole blackhole) {
+        // Publishers typically visit every record of every collection
+        publish(apiCall().collect(), blackhole);
+    }
+
+    private MetricCollector apiCall() {
+        MetricCollector apiCall = ApiCallMetricCollectors.create(collector == CollectorType.LOW_OVERHEAD
+                                                                 ? LOW_OVERHEAD_CONFIGURATION
+                                                                 : DEFAULT_CONFIGURATION);
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.MARSHALLING_DURATION, DURATION);
+        attempt.reportMetric(CoreMetric.CREDENTIALS_FETCH_DURATION, DURATION);
+        attempt.reportMetric(CoreMetric.SIGNING_DURATION, DURATION);
+        attempt.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ZERO);
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "NettyNio");
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+        http.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 10);
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, 40);
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0);
+        http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, DURATION);
+
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, DURATION);
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+        attempt.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-id");
+        attempt.reportMetric(CoreMetric.AWS_EXTENDED_REQUEST_ID, "extended-request-id");
+        attempt.reportMetric(CoreMetric.UNMARSHALLING_DURATION, DURATION);
+
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, DURATION);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, 0);
+        return apiCall;
+    }
+
+    private static void publish(MetricCollection collection, Blackhole blackhole) {
+        for (MetricRecord<?> record : collection) {
+            blackhole.consume(record.value());
+        }
+        collection.children().forEach(c -> publish(c, blackhole));
+    }
+
+    public enum CollectorType {
+        DEFAULT,
+        LOW_OVERHEAD
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(MetricCollectorBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
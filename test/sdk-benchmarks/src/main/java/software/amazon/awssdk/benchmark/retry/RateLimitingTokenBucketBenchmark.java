@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retry;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+
+/**
+ * Measures the throughput of the adaptive retry mode token bucket when it is shared by many threads, the way it is shared
+ * by every request of a client. Each invocation does what a single attempt does: acquire a token before sending the request
+ * and update the sending rate with the response.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@Threads(256)
+@BenchmarkMode(Mode.Throughput)
+public class RateLimitingTokenBucketBenchmark {
+
+    /**
+     * Whether the bucket has seen a throttling error. Until it has, acquiring capacity does not limit the caller.
+     */
+    @Param({"false", "true"})
+    private boolean throttled;
+
+    private RateLimitingTokenBucket tokenBucket;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tokenBucket = new RateLimitingTokenBucket();
+        if (throttled) {
+            tokenBucket.updateClientSendingRate(true);
+        }
+    }
+
+    @Benchmark
+    public void requestAttempt(Blackhole blackhole) {
+        // Do not sleep for the returned delay; this measures the cost of the bookkeeping alone
+        blackhole.consume(tokenBucket.acquireNonBlocking(1.0, false));
+        tokenBucket.updateClientSendingRate(false);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RateLimitingTokenBucketBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
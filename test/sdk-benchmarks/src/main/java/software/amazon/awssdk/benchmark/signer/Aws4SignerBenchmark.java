@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures the throughput of {@link Aws4Signer#sign} when many threads sign requests concurrently, which exercises the
+ * shared signing key cache. Each thread signs with one of {@code credentialCount} sets of credentials.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+public class Aws4SignerBenchmark {
+
+    @Param({"1", "16"})
+    private int credentialCount;
+
+    private Aws4Signer signer;
+
+    private SdkHttpFullRequest request;
+
+    private Aws4SignerParams[] signerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signer = Aws4Signer.create();
+        request = SdkHttpFullRequest.builder()
+                                    .method(SdkHttpMethod.POST)
+                                    .protocol("https")
+                                    .host("dynamodb.us-west-2.amazonaws.com")
+                                    .encodedPath("/")
+                                    .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                    .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                    .contentStreamProvider(RequestBody.fromString("{\"TableName\":\"table\",\"Key\":{\"id\":"
+                                                                                  + "{\"S\":\"item\"}}}")
+                                                                      .contentStreamProvider())
+                                    .build();
+        signerParams = new Aws4SignerParams[credentialCount];
+        for (int i = 0; i < credentialCount; i++) {
+            signerParams[i] = Aws4SignerParams.builder()
+                                              .awsCredentials(AwsBasicCredentials.create("akid-" + i, "secret-" + i))
+                                              .signingName("dynamodb")
+                                              .signingRegion(Region.US_WEST_2)
+                                              .build();
+        }
+    }
+
+    @Benchmark
+    public void sign(ThreadState threadState, Blackhole blackhole) {
+        blackhole.consume(signer.sign(request, signerParams[threadState.index % credentialCount]));
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            index = NEXT_INDEX.getAndIncrement();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures the cost of building and hashing the SigV4 canonical request and string to sign for typical requests. The
+ * payload hash is not part of the measurement: the S3 request uses an unsigned payload and the JSON payload is small. Run
+ * with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class Aws4SignerCanonicalizationBenchmark {
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "secret");
+
+    @Param({"SMALL_JSON", "S3_PUT", "PRESIGN"})
+    private SigningCase signingCase;
+
+    private Aws4Signer signer;
+    private AwsS3V4Signer s3Signer;
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams signerParams;
+    private AwsS3V4SignerParams s3SignerParams;
+    private Aws4PresignerParams presignerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signer = Aws4Signer.create();
+        s3Signer = AwsS3V4Signer.create();
+
+        switch (signingCase) {
+            case SMALL_JSON:
+                request = smallJsonRequest();
+                signerParams = Aws4SignerParams.builder()
+                                               .awsCredentials(CREDENTIALS)
+                                               .signingName("dynamodb")
+                                               .signingRegion(Region.US_WEST_2)
+                                               .build();
+                break;
+            case S3_PUT:
+                request = s3PutRequest();
+                s3SignerParams = AwsS3V4SignerParams.builder()
+                                                    .awsCredentials(CREDENTIALS)
+                                                    .signingName("s3")
+                                                    .signingRegion(Region.US_WEST_2)
+                                                    .enablePayloadSigning(false)
+                                                    .build();
+                break;
+            case PRESIGN:
+                request = s3GetRequest();
+                presignerParams = Aws4PresignerParams.builder()
+                                                     .awsCredentials(CREDENTIALS)
+                                                     .signingName("s3")
+                                                     .signingRegion(Region.US_WEST_2)
+                                                     .expirationTime(Instant.now().plus(Duration.ofDays(1)))
+                                                     .build();
+                break;
+            default:
+                throw new IllegalStateException("Unknown signing case " + signingCase);
+        }
+    }
+
+    @Benchmark
+    public void sign(Blackhole blackhole) {
+        switch (signingCase) {
+            case SMALL_JSON:
+                blackhole.consume(signer.sign(request, signerParams));
+                break;
+            case S3_PUT:
+                blackhole.consume(s3Signer.sign(request, s3SignerParams));
+                break;
+            case PRESIGN:
+                blackhole.consume(signer.presign(request, presignerParams));
+                break;
+            default:
+                throw new IllegalStateException("Unknown signing case " + signingCase);
+        }
+    }
+
+    private static SdkHttpFullRequest smallJsonRequest() {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.POST)
+                                 .protocol("https")
+                                 .host("dynamodb.us-west-2.amazonaws.com")
+                                 .encodedPath("/")
+                                 .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                 .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                 .putHeader("amz-sdk-invocation-id", "4f1a2b3c-5d6e-7f80-91a2-b3c4d5e6f708")
+                                 .putHeader("amz-sdk-request", "attempt=1; max=4")
+                                 .contentStreamProvider(RequestBody.fromString("{\"TableName\":\"table\",\"Key\":{\"id\":"
+                                                                               + "{\"S\":\"item\"}}}")
+                                                                   .contentStreamProvider())
+                                 .build();
+    }
+
+    private static SdkHttpFullRequest s3PutRequest() {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.PUT)
+                                 .protocol("https")
+                                 .host("benchmark-bucket.s3.us-west-2.amazonaws.com")
+                                 .encodedPath("/logs/2023/01/01/object-0001.gz")
+                                 .putHeader("Content-Type", "application/octet-stream")
+                                 .putHeader("Content-Length", "1048576")
+                                 .putHeader("Content-MD5", "1B2M2Y8AsgTpgAmY7PhCfg==")
+                                 .putHeader("x-amz-storage-class", "STANDARD")
+                                 .putHeader("x-amz-meta-owner", "benchmarks")
+                                 .putHeader("amz-sdk-invocation-id", "4f1a2b3c-5d6e-7f80-91a2-b3c4d5e6f708")
+                                 .putHeader("amz-sdk-request", "attempt=1; max=4")
+                                 .build();
+    }
+
+    private static SdkHttpFullRequest s3GetRequest() {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.GET)
+                                 .protocol("https")
+                                 .host("benchmark-bucket.s3.us-west-2.amazonaws.com")
+                                 .encodedPath("/logs/2023/01/01/object-0001.gz")
+                                 .putRawQueryParameter("response-content-type", "application/octet-stream")
+                                 .putRawQueryParameter("versionId", "3HL4kqtJlcpXroDTDmJ+rmSpXd3dIbrHY")
+                                 .build();
+    }
+
+    public enum SigningCase {
+        SMALL_JSON,
+        S3_PUT,
+        PRESIGN
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerCanonicalizationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}